@@ -0,0 +1,56 @@
+package ua.com.foxminded.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.service.GroupService;
+import ua.com.foxminded.service.LecturerService;
+
+/**
+ * Reading groups and lecturers by id, which every edit form and schedule
+ * search does, by several threads at once, so contention on anything shared
+ * by all calls shows up in the throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class FindByIdBenchmark {
+    private GroupService groupService;
+    private LecturerService lecturerService;
+    private List<Integer> groupIds;
+    private List<Integer> lecturerIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void init(UniversityState universityState) {
+        groupService = universityState.getBean(GroupService.class);
+        lecturerService = universityState.getBean(LecturerService.class);
+        groupIds = universityState.getUniversity().getGroupIds();
+        lecturerIds = universityState.getUniversity().getLecturerIds();
+    }
+
+    @Benchmark
+    public Group getGroupById() {
+        next = (next + 1) % groupIds.size();
+        return groupService.getById(groupIds.get(next));
+    }
+
+    @Benchmark
+    public Lecturer getLecturerById() {
+        next = (next + 1) % lecturerIds.size();
+        return lecturerService.getById(lecturerIds.get(next));
+    }
+}
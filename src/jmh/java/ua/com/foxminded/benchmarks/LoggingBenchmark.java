@@ -0,0 +1,88 @@
+package ua.com.foxminded.benchmarks;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.LessonView;
+import ua.com.foxminded.service.GroupService;
+import ua.com.foxminded.service.LessonService;
+import ua.com.foxminded.service.cache.ReferenceDataCache;
+import ua.com.foxminded.service.cache.ScheduleCache;
+
+/**
+ * Service calls of a schedule page and of a form page with the repository and
+ * service loggers switched {@code OFF} and at {@code DEBUG}, which is the
+ * level set by {@code logback-spring.xml}. Caches are cleared before every
+ * call, so every call goes down to the database and is logged by all layers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoggingBenchmark {
+    private static final String[] LOGGERS = { "ua.com.foxminded.repositories", "ua.com.foxminded.service" };
+
+    @Param({ "OFF", "DEBUG" })
+    public String level;
+
+    private LoggingSystem loggingSystem;
+    private Map<String, LogLevel> configuredLevels;
+    private LessonService lessonService;
+    private GroupService groupService;
+    private ScheduleCache scheduleCache;
+    private ReferenceDataCache referenceDataCache;
+    private List<Integer> groupIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void init(UniversityState universityState) {
+        loggingSystem = universityState.getBean(LoggingSystem.class);
+        lessonService = universityState.getBean(LessonService.class);
+        groupService = universityState.getBean(GroupService.class);
+        scheduleCache = universityState.getBean(ScheduleCache.class);
+        referenceDataCache = universityState.getBean(ReferenceDataCache.class);
+        groupIds = universityState.getUniversity().getGroupIds();
+
+        configuredLevels = new HashMap<>();
+        for (String logger : LOGGERS) {
+            configuredLevels.put(logger, loggingSystem.getLoggerConfiguration(logger).getConfiguredLevel());
+            loggingSystem.setLogLevel(logger, LogLevel.valueOf(level));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreLevels() {
+        for (Map.Entry<String, LogLevel> configuredLevel : configuredLevels.entrySet()) {
+            loggingSystem.setLogLevel(configuredLevel.getKey(), configuredLevel.getValue());
+        }
+    }
+
+    @Benchmark
+    public Map<LocalDate, List<LessonView>> getGroupMonthLessons() {
+        scheduleCache.invalidateAll();
+        next = (next + 1) % groupIds.size();
+        return lessonService.getGroupMonthLessons(groupIds.get(next), UniversityState.MONTH);
+    }
+
+    @Benchmark
+    public List<Group> getAllGroups() {
+        referenceDataCache.invalidateAll();
+        return groupService.getAll();
+    }
+}
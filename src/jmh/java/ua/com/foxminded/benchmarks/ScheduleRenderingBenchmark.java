@@ -0,0 +1,77 @@
+package ua.com.foxminded.benchmarks;
+
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.LessonView;
+import ua.com.foxminded.service.GroupService;
+import ua.com.foxminded.service.LessonService;
+
+/**
+ * Turning a month schedule of a group into a response: the JSON of the REST
+ * API and the page of the web interface. The schedule is read once, so only
+ * the rendering is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleRenderingBenchmark {
+    private ObjectMapper objectMapper;
+    private SpringTemplateEngine templateEngine;
+    private Map<LocalDate, List<LessonView>> monthLessons;
+    private WebContext webContext;
+
+    @Setup(Level.Trial)
+    public void init(UniversityState universityState) {
+        objectMapper = universityState.getBean(ObjectMapper.class);
+        templateEngine = universityState.getBean(SpringTemplateEngine.class);
+        int groupId = universityState.getUniversity().getGroupIds().get(0);
+        monthLessons = universityState.getBean(LessonService.class).getGroupMonthLessons(groupId,
+                UniversityState.MONTH);
+        Group group = universityState.getBean(GroupService.class).getById(groupId);
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("group", group);
+        variables.put("monthLessons", monthLessons);
+        variables.put("pageTitle", "Schedule of a group " + group.getName() + " for a month");
+        variables.put("month", UniversityState.MONTH.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH));
+        variables.put("year", UniversityState.MONTH.getYear());
+
+        MockServletContext servletContext = new MockServletContext();
+        webContext = new WebContext(new MockHttpServletRequest(servletContext), new MockHttpServletResponse(),
+                servletContext, Locale.ENGLISH, variables);
+    }
+
+    @Benchmark
+    public byte[] serializeGroupMonthLessons() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(monthLessons);
+    }
+
+    @Benchmark
+    public String renderGroupMonthSchedule() {
+        return templateEngine.process("schedule/search-schedule/group-month-schedule", webContext);
+    }
+}
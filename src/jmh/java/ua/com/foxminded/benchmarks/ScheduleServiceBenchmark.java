@@ -0,0 +1,90 @@
+package ua.com.foxminded.benchmarks;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.LessonView;
+import ua.com.foxminded.service.GroupService;
+import ua.com.foxminded.service.LessonService;
+import ua.com.foxminded.service.cache.ReferenceDataCache;
+import ua.com.foxminded.service.cache.ScheduleCache;
+
+/**
+ * Service calls made for every schedule page, each through the whole chain
+ * of aspects down to the database. With a {@code cold} cache every call
+ * builds a schedule from the database, with a {@code warm} one the schedules
+ * are read from {@link ScheduleCache} and lists of all groups from
+ * {@link ReferenceDataCache}. Every call asks for the next group or lecturer
+ * of the university.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleServiceBenchmark {
+
+    @Param({ "cold", "warm" })
+    public String cache;
+
+    private LessonService lessonService;
+    private GroupService groupService;
+    private ScheduleCache scheduleCache;
+    private ReferenceDataCache referenceDataCache;
+    private List<Integer> groupIds;
+    private List<Integer> lecturerIds;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void init(UniversityState universityState) {
+        lessonService = universityState.getBean(LessonService.class);
+        groupService = universityState.getBean(GroupService.class);
+        scheduleCache = universityState.getBean(ScheduleCache.class);
+        referenceDataCache = universityState.getBean(ReferenceDataCache.class);
+        groupIds = universityState.getUniversity().getGroupIds();
+        lecturerIds = universityState.getUniversity().getLecturerIds();
+    }
+
+    @Benchmark
+    public Map<LocalDate, List<LessonView>> getGroupMonthLessons() {
+        clearCacheIfCold();
+        return lessonService.getGroupMonthLessons(nextId(groupIds), UniversityState.MONTH);
+    }
+
+    @Benchmark
+    public Map<DayOfWeek, List<LessonView>> getLecturerWeekLessons() {
+        clearCacheIfCold();
+        return lessonService.getLecturerWeekLessons(nextId(lecturerIds));
+    }
+
+    @Benchmark
+    public List<Group> getAllGroups() {
+        if ("cold".equals(cache)) {
+            referenceDataCache.invalidateAll();
+        }
+        return groupService.getAll();
+    }
+
+    private void clearCacheIfCold() {
+        if ("cold".equals(cache)) {
+            scheduleCache.invalidateAll();
+        }
+    }
+
+    private int nextId(List<Integer> ids) {
+        next = (next + 1) % ids.size();
+        return ids.get(next);
+    }
+}
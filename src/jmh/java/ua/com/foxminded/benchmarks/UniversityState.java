@@ -0,0 +1,78 @@
+package ua.com.foxminded.benchmarks;
+
+import java.time.YearMonth;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import ua.com.foxminded.Launcher;
+import ua.com.foxminded.repositories.generator.GeneratedUniversity;
+import ua.com.foxminded.repositories.generator.UniversityDataGenerator;
+import ua.com.foxminded.repositories.generator.UniversitySize;
+
+/**
+ * The application started on an embedded H2 database which holds a synthetic
+ * university. Its size is set by JMH parameters, e.g.
+ * {@code -p groupsPerFaculty=100 -p lecturers=1000}.
+ */
+@State(Scope.Benchmark)
+public class UniversityState {
+    static final YearMonth MONTH = YearMonth.of(2021, 10);
+
+    @Param("10")
+    public int faculties;
+
+    @Param("20")
+    public int groupsPerFaculty;
+
+    @Param("25")
+    public int studentsPerGroup;
+
+    @Param("200")
+    public int lecturers;
+
+    @Param("20")
+    public int lessonsPerGroup;
+
+    private ConfigurableApplicationContext context;
+    private GeneratedUniversity university;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(Launcher.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.sql.init.mode=never",
+                        "--spring.flyway.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.ua.com.foxminded=WARN");
+
+        university = context.getBean(UniversityDataGenerator.class).generate(new UniversitySize(faculties,
+                groupsPerFaculty, studentsPerGroup, lecturers, lecturers, lessonsPerGroup, 1));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    GeneratedUniversity getUniversity() {
+        return university;
+    }
+}
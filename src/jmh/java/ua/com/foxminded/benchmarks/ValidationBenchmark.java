@@ -0,0 +1,113 @@
+package ua.com.foxminded.benchmarks;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.hibernate.Hibernate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.service.validation.EntityValidator;
+
+/**
+ * Validation of a lesson which is about to be written, with its group,
+ * lecturer and lesson time loaded in the same transaction as a form or an
+ * import does, by the plain validator which cascades into the whole graph and
+ * by {@link EntityValidator}. The batch benchmarks validate lessons of one
+ * group as a bulk import does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+    private static final int BATCH_SIZE = 32;
+
+    private PlatformTransactionManager transactionManager;
+    private TransactionStatus transaction;
+    private Validator validator;
+    private EntityValidator entityValidator;
+    private Lesson lesson;
+    private List<Lesson> lessons;
+
+    @Setup(Level.Trial)
+    public void init(UniversityState universityState) {
+        transactionManager = universityState.getBean(PlatformTransactionManager.class);
+        validator = universityState.getBean(Validator.class);
+        entityValidator = universityState.getBean(EntityValidator.class);
+        transaction = transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+        EntityManager entityManager = EntityManagerFactoryUtils
+                .getTransactionalEntityManager(universityState.getBean(EntityManagerFactory.class));
+        Group group = entityManager.find(Group.class, universityState.getUniversity().getGroupIds().get(0));
+        Hibernate.initialize(group.getFaculty());
+        Lecturer lecturer = entityManager.find(Lecturer.class, universityState.getUniversity().getLecturerIds().get(0));
+        LessonTime lessonTime = entityManager.createQuery("SELECT l FROM LessonTime l", LessonTime.class)
+                .setMaxResults(1).getSingleResult();
+
+        lessons = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Lesson batchLesson = new Lesson();
+            batchLesson.setName("Lesson " + i);
+            batchLesson.setLecturer(lecturer);
+            batchLesson.setGroup(group);
+            batchLesson.setAudience("101");
+            batchLesson.setDay(DayOfWeek.MONDAY);
+            batchLesson.setLessonTime(lessonTime);
+            lessons.add(batchLesson);
+        }
+        lesson = lessons.get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void rollback() {
+        transactionManager.rollback(transaction);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Lesson>> validateLessonByValidator() {
+        return validator.validate(lesson);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Lesson>> validateLessonByPlans() {
+        return entityValidator.validate(lesson);
+    }
+
+    @Benchmark
+    public int validateLessonsByValidator() {
+        int violations = 0;
+        for (Lesson batchLesson : lessons) {
+            violations += validator.validate(batchLesson).size();
+        }
+        return violations;
+    }
+
+    @Benchmark
+    public Map<Integer, Set<ConstraintViolation<Lesson>>> validateLessonsByPlans() {
+        return entityValidator.validateAll(lessons);
+    }
+}
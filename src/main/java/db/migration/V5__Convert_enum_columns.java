@@ -0,0 +1,61 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Databases built from the old schema.sql are baselined at the first version,
+ * so they keep the enum types {@code gender} and {@code week_day} for the
+ * columns which the first migration creates as checked strings. This turns
+ * such a column into a string with the same check and drops its type. A
+ * column which is a string already is left as it is, so the migration changes
+ * nothing in a schema built by the migrations.
+ */
+public class V5__Convert_enum_columns extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        convert(connection, "people", "gender", "gender", "'MALE', 'FEMALE'");
+        convert(connection, "lessons", "week_day", "week_day",
+                "'SUNDAY', 'MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY'");
+    }
+
+    private void convert(Connection connection, String table, String column, String type, String values)
+            throws SQLException {
+        if (isString(connection, table, column)) {
+            return;
+        }
+        boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        try (Statement statement = connection.createStatement()) {
+            // H2 has no USING, but it converts enum values to strings by itself
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " TYPE character varying"
+                    + (postgres ? " USING " + column + "::text" : ""));
+            statement.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + table + "_" + column
+                    + "_check CHECK (" + column + " IN (" + values + "))");
+            if (postgres) {
+                statement.execute("DROP TYPE IF EXISTS " + type);
+            }
+        }
+    }
+
+    private boolean isString(Connection connection, String table, String column) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        if (metaData.storesUpperCaseIdentifiers()) {
+            table = table.toUpperCase();
+            column = column.toUpperCase();
+        }
+        try (ResultSet columns = metaData.getColumns(null, connection.getSchema(), table, column)) {
+            if (!columns.next()) {
+                throw new SQLException("There is no column " + column + " in " + table);
+            }
+            return "varchar".equalsIgnoreCase(columns.getString("TYPE_NAME"));
+        }
+    }
+}
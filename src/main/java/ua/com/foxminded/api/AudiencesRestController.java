@@ -0,0 +1,85 @@
+package ua.com.foxminded.api;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import ua.com.foxminded.domain.Audience;
+import ua.com.foxminded.service.AudienceService;
+
+@Tag(name = "audiences", description = "This controller operates with audience's information.")
+@RestController
+@RequestMapping(value = "/audiences", produces = "application/json")
+public class AudiencesRestController {
+
+    private AudienceService audienceService;
+
+    @Autowired
+    public AudiencesRestController(AudienceService audienceService) {
+        this.audienceService = audienceService;
+    }
+
+    @Operation(summary = "Get all audiences.", description = "The whole table is read and sent at once. Get audiences by page or after parameters to keep a response bounded.")
+    @GetMapping()
+    public List<Audience> getAudiences() {
+        return audienceService.getAll();
+    }
+
+    @Operation(summary = "Get a page of audiences ordered by id.")
+    @GetMapping(params = "page")
+    public PageResponse<Audience> getAudiencesPage(@Parameter(description = "Number of a page, starting from 0.") @RequestParam("page") int page,
+            @Parameter(description = "Number of audiences on a page, from 1 to 500.") @RequestParam(value = "size", defaultValue = "50") int size) {
+        return PageResponse.ofPage(audienceService.getPage(page, size));
+    }
+
+    @Operation(summary = "Get audiences with ids greater than a given cursor, ordered by id.")
+    @GetMapping(params = {"after", "!page"})
+    public PageResponse<Audience> getAudiencesAfter(@Parameter(description = "Id of the last audience of a previous slice, 0 for the first slice.") @RequestParam("after") int after,
+            @Parameter(description = "Number of audiences in a slice, from 1 to 500.") @RequestParam(value = "size", defaultValue = "50") int size) {
+        return PageResponse.ofSlice(audienceService.getAfter(after, size), size, Audience::getId);
+    }
+
+    @Operation(summary = "Get an audience by its id.")
+    @GetMapping(value = "/{id}")
+    public Audience getAudience(@Parameter(description = "Id of an audience to be getted.") @PathVariable("id") int id) {
+        return audienceService.getById(id);
+    }
+
+    @Operation(summary = "Create an audience.")
+    @PostMapping()
+    public Audience createAudience(@io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Provide for creating an audience a name and a capacity.",
+            content = @Content(examples = @ExampleObject(value = "{\"name\": \"string\", \"capacity\": 0}")))
+            @RequestBody Audience audience) {
+        audienceService.create(audience);
+        return audience;
+    }
+
+    @Operation(summary = "Update an audience.")
+    @PatchMapping("/{id}")
+    public Audience updateAudience(@io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Provide for an audience with some id a new name and a capacity. Lessons move to the new name.")
+            @RequestBody Audience audience) {
+        audienceService.update(audience);
+        return audience;
+    }
+
+    @Operation(summary = "Delete an audience with its lessons by its id.")
+    @DeleteMapping("/{id}")
+    public String deleteAudience(@Parameter(description = "Id of an audience to be deleted.") @PathVariable("id") int id) {
+        audienceService.deleteById(id);
+        return "Audience with id: " + id + " was deleted.";
+    }
+}
@@ -0,0 +1,37 @@
+package ua.com.foxminded.api;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import ua.com.foxminded.service.AvailabilityService;
+import ua.com.foxminded.service.availability.AvailableSlot;
+
+@Tag(name = "availability", description = "This controller finds times when lecturers, groups and audiences are free.")
+@RestController
+@RequestMapping(value = "/availability", produces = "application/json")
+public class AvailabilityRestController {
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    public AvailabilityRestController(AvailabilityService availabilityService) {
+        this.availabilityService = availabilityService;
+    }
+
+    @Operation(summary = "Find lesson times on working days when all given lecturers, groups and audiences are free.")
+    @GetMapping("/free-slots")
+    public List<AvailableSlot> findFreeSlots(
+            @Parameter(description = "Ids of lecturers") @RequestParam(name = "lecturer-id", required = false) List<Integer> lecturerIds,
+            @Parameter(description = "Ids of groups") @RequestParam(name = "group-id", required = false) List<Integer> groupIds,
+            @Parameter(description = "Audiences") @RequestParam(name = "audience", required = false) List<String> audiences,
+            @Parameter(description = "The biggest number of slots") @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        return availabilityService.findFreeSlots(lecturerIds, groupIds, audiences, limit);
+    }
+}
@@ -0,0 +1,59 @@
+package ua.com.foxminded.api;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import ua.com.foxminded.service.CalendarService;
+import ua.com.foxminded.service.calendar.CalendarFeed;
+
+/**
+ * Week schedules as iCalendar feeds for calendar applications. Feeds are sent
+ * with an ETag, so a poll of an unchanged schedule is answered with 304 Not
+ * Modified and no body.
+ */
+@Tag(name = "calendars", description = "This controller gives schedules as iCalendar feeds.")
+@RestController
+@RequestMapping(value = "/calendars", produces = CalendarRestController.TEXT_CALENDAR)
+public class CalendarRestController {
+    static final String TEXT_CALENDAR = "text/calendar";
+
+    private static final MediaType CALENDAR_TYPE = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private CalendarService calendarService;
+
+    @Autowired
+    public CalendarRestController(CalendarService calendarService) {
+        this.calendarService = calendarService;
+    }
+
+    @Operation(summary = "Get a week schedule of a group as weekly recurring events.")
+    @GetMapping("/groups/{id}.ics")
+    public ResponseEntity<byte[]> getGroupCalendar(@Parameter(description = "Id of a group") @PathVariable("id") int id) {
+        return toResponse(calendarService.getGroupCalendar(id));
+    }
+
+    @Operation(summary = "Get a week schedule of a lecturer as weekly recurring events.")
+    @GetMapping("/lecturers/{id}.ics")
+    public ResponseEntity<byte[]> getLecturerCalendar(@Parameter(description = "Id of a lecturer") @PathVariable("id") int id) {
+        return toResponse(calendarService.getLecturerCalendar(id));
+    }
+
+    private ResponseEntity<byte[]> toResponse(CalendarFeed feed) {
+        return ResponseEntity.ok()
+                .contentType(CALENDAR_TYPE)
+                .eTag(feed.getETag())
+                .cacheControl(CacheControl.noCache())
+                .body(feed.getContent());
+    }
+}
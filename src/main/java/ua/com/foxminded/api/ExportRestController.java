@@ -0,0 +1,83 @@
+package ua.com.foxminded.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.Student;
+import ua.com.foxminded.service.export.EntityExporter;
+
+/**
+ * Writes whole tables as newline-delimited JSON, one object per line. Objects
+ * are written to the response while they are read, so memory use doesn't
+ * depend on a size of a table.
+ */
+@Tag(name = "export", description = "This controller exports whole tables as newline-delimited JSON.")
+@RestController
+@RequestMapping(value = "/export", produces = ExportRestController.NDJSON)
+public class ExportRestController {
+    static final String NDJSON = "application/x-ndjson";
+
+    private EntityExporter entityExporter;
+    private ObjectWriter objectWriter;
+
+    @Autowired
+    public ExportRestController(EntityExporter entityExporter, ObjectMapper objectMapper) {
+        this.entityExporter = entityExporter;
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Operation(summary = "Export all students ordered by id.")
+    @GetMapping("/students")
+    public void exportStudents(HttpServletResponse response) throws IOException {
+        this.<Student>write(response, entityExporter::exportStudents);
+    }
+
+    @Operation(summary = "Export all lecturers ordered by id.")
+    @GetMapping("/lecturers")
+    public void exportLecturers(HttpServletResponse response) throws IOException {
+        this.<Lecturer>write(response, entityExporter::exportLecturers);
+    }
+
+    @Operation(summary = "Export all lessons ordered by id.")
+    @GetMapping("/lessons")
+    public void exportLessons(HttpServletResponse response) throws IOException {
+        this.<Lesson>write(response, entityExporter::exportLessons);
+    }
+
+    private <T> void write(HttpServletResponse response, Function<Consumer<T>, Long> export) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+
+        JsonGenerator generator = objectWriter.getFactory().createGenerator(response.getOutputStream())
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        export.apply(entity -> {
+            try {
+                objectWriter.writeValue(generator, entity);
+                generator.writeRaw('\n');
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+        generator.close();
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,12 +33,26 @@ public class FacultiesRestController {
         this.facultyService = facultyService;
     }
 
-    @Operation(summary = "Get all faculties.")
+    @Operation(summary = "Get all faculties.", description = "The whole table is read and sent at once. Get faculties by page or after parameters to keep a response bounded.")
     @GetMapping()
     public List<Faculty> getFaculties() {
         return facultyService.getAll();
     }
 
+    @Operation(summary = "Get a page of faculties ordered by id.")
+    @GetMapping(params = "page")
+    public PageResponse<Faculty> getFacultiesPage(@Parameter(description = "Number of a page, starting from 0.") @RequestParam("page") int page,
+            @Parameter(description = "Number of faculties on a page, from 1 to 500.") @RequestParam(value = "size", defaultValue = "50") int size) {
+        return PageResponse.ofPage(facultyService.getPage(page, size));
+    }
+
+    @Operation(summary = "Get faculties with ids greater than a given cursor, ordered by id.")
+    @GetMapping(params = {"after", "!page"})
+    public PageResponse<Faculty> getFacultiesAfter(@Parameter(description = "Id of the last faculty of a previous slice, 0 for the first slice.") @RequestParam("after") int after,
+            @Parameter(description = "Number of faculties in a slice, from 1 to 500.") @RequestParam(value = "size", defaultValue = "50") int size) {
+        return PageResponse.ofSlice(facultyService.getAfter(after, size), size, Faculty::getId);
+    }
+
     @Operation(summary = "Get a faculty by its id.")
     @GetMapping(value = "/{id}")
     public Faculty getFaculty(@Parameter(description = "Id of a faculty to be getted.") @PathVariable("id") int id) {
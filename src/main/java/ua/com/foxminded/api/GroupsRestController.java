@@ -38,12 +38,26 @@ public class GroupsRestController {
         this.facultyService = facultyService;
     }
 
-    @Operation(summary = "Get all groups.")
+    @Operation(summary = "Get all groups.", description = "The whole table is read and sent at once. Get groups by page or after parameters to keep a response bounded.")
     @GetMapping()
     public List<Group> getGroups() {
         return groupService.getAll();
     }
 
+    @Operation(summary = "Get a page of groups ordered by id.")
+    @GetMapping(params = "page")
+    public PageResponse<Group> getGroupsPage(@Parameter(description = "Number of a page, starting from 0.") @RequestParam("page") int page,
+            @Parameter(description = "Number of groups on a page, from 1 to 500.") @RequestParam(value = "size", defaultValue = "50") int size) {
+        return PageResponse.ofPage(groupService.getPage(page, size));
+    }
+
+    @Operation(summary = "Get groups with ids greater than a given cursor, ordered by id.")
+    @GetMapping(params = {"after", "!page"})
+    public PageResponse<Group> getGroupsAfter(@Parameter(description = "Id of the last group of a previous slice, 0 for the first slice.") @RequestParam("after") int after,
+            @Parameter(description = "Number of groups in a slice, from 1 to 500.") @RequestParam(value = "size", defaultValue = "50") int size) {
+        return PageResponse.ofSlice(groupService.getAfter(after, size), size, Group::getId);
+    }
+
     @Operation(summary = "Get a group by its id.")
     @GetMapping("/{id}")
     public Group getGroup(@Parameter(description = "Id of a group to be getted.") @PathVariable("id") int id) {
@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,12 +33,26 @@ public class LecturersRestController {
         this.lecturerService = lecturerService;
     }
 
-    @Operation(summary = "Get all lecturers.")
+    @Operation(summary = "Get all lecturers.", description = "The whole table is read and sent at once. Get lecturers by page or after parameters to keep a response bounded.")
     @GetMapping()
     public List<Lecturer> getLecturers() {
         return lecturerService.getAll();
     }
 
+    @Operation(summary = "Get a page of lecturers ordered by id.")
+    @GetMapping(params = "page")
+    public PageResponse<Lecturer> getLecturersPage(@Parameter(description = "Number of a page, starting from 0.") @RequestParam("page") int page,
+            @Parameter(description = "Number of lecturers on a page, from 1 to 500.") @RequestParam(value = "size", defaultValue = "50") int size) {
+        return PageResponse.ofPage(lecturerService.getPage(page, size));
+    }
+
+    @Operation(summary = "Get lecturers with ids greater than a given cursor, ordered by id.")
+    @GetMapping(params = {"after", "!page"})
+    public PageResponse<Lecturer> getLecturersAfter(@Parameter(description = "Id of the last lecturer of a previous slice, 0 for the first slice.") @RequestParam("after") int after,
+            @Parameter(description = "Number of lecturers in a slice, from 1 to 500.") @RequestParam(value = "size", defaultValue = "50") int size) {
+        return PageResponse.ofSlice(lecturerService.getAfter(after, size), size, Lecturer::getId);
+    }
+
     @Operation(summary = "Get a lecturer by its id.")
     @GetMapping("/{id}")
     public Lecturer getLecturer(@Parameter(description = "Id of a lecturer to be getted.") @PathVariable("id") int id) {
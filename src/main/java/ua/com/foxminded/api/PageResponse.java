@@ -0,0 +1,94 @@
+package ua.com.foxminded.api;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import org.springframework.data.domain.Page;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+/**
+ * A part of a list of objects with a link to the next part. It is either a
+ * page found by its number, with total counts, or a slice of objects after
+ * some id, with the id of its last object as a cursor of the next slice.
+ */
+@JsonInclude(Include.NON_NULL)
+public class PageResponse<T> {
+    private final List<T> content;
+    private final int size;
+    private final Integer page;
+    private final Long totalElements;
+    private final Integer totalPages;
+    private final Integer nextCursor;
+    private final String next;
+
+    private PageResponse(List<T> content, int size, Integer page, Long totalElements, Integer totalPages,
+            Integer nextCursor, String next) {
+        this.content = content;
+        this.size = size;
+        this.page = page;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+        this.nextCursor = nextCursor;
+        this.next = next;
+    }
+
+    public static <T> PageResponse<T> ofPage(Page<T> page) {
+        String next = null;
+        if (page.hasNext()) {
+            next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("page", page.getNumber() + 1)
+                    .replaceQueryParam("size", page.getSize())
+                    .toUriString();
+        }
+        return new PageResponse<>(page.getContent(), page.getSize(), page.getNumber(), page.getTotalElements(),
+                page.getTotalPages(), null, next);
+    }
+
+    /**
+     * @param size a requested size of the slice. The slice is the last one when
+     *             it has fewer objects.
+     */
+    public static <T> PageResponse<T> ofSlice(List<T> content, int size, ToIntFunction<T> idFunction) {
+        Integer nextCursor = null;
+        String next = null;
+        if (!content.isEmpty() && content.size() >= size) {
+            nextCursor = idFunction.applyAsInt(content.get(content.size() - 1));
+            next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", nextCursor)
+                    .replaceQueryParam("size", size)
+                    .toUriString();
+        }
+        return new PageResponse<>(content, size, null, null, null, nextCursor, next);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Integer getPage() {
+        return page;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    public Integer getTotalPages() {
+        return totalPages;
+    }
+
+    public Integer getNextCursor() {
+        return nextCursor;
+    }
+
+    public String getNext() {
+        return next;
+    }
+}
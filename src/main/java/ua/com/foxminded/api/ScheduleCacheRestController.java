@@ -0,0 +1,30 @@
+package ua.com.foxminded.api;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import ua.com.foxminded.service.cache.ScheduleCache;
+import ua.com.foxminded.service.cache.ScheduleCacheStatistics;
+
+@Tag(name = "schedule cache", description = "This controller shows how the schedule cache works.")
+@RestController
+@RequestMapping(value = "/admin/schedule-cache", produces = "application/json")
+public class ScheduleCacheRestController {
+
+    private ScheduleCache scheduleCache;
+
+    @Autowired
+    public ScheduleCacheRestController(ScheduleCache scheduleCache) {
+        this.scheduleCache = scheduleCache;
+    }
+
+    @Operation(summary = "Get hits, misses, evictions and invalidations of the schedule cache.")
+    @GetMapping("/statistics")
+    public ScheduleCacheStatistics getScheduleCacheStatistics() {
+        return scheduleCache.getStatistics();
+    }
+}
@@ -0,0 +1,83 @@
+package ua.com.foxminded.api;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import ua.com.foxminded.service.cache.ScheduleOwner;
+import ua.com.foxminded.service.events.ScheduleChange;
+import ua.com.foxminded.service.events.ScheduleChangeTopic;
+import ua.com.foxminded.service.events.ScheduleSubscriber;
+import ua.com.foxminded.service.events.ScheduleSubscription;
+
+/**
+ * Server-sent events with lesson changes of a group or lecturer schedule. A
+ * connection is an asynchronous request, so a waiting client holds no
+ * request thread. A client which doesn't read events fast enough is
+ * disconnected and should reload the schedule before it subscribes again.
+ */
+@Tag(name = "schedule-events", description = "This controller sends changes of schedules as server-sent events.")
+@RestController
+@RequestMapping(value = "/schedule-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+public class ScheduleEventsRestController {
+    private ScheduleChangeTopic scheduleChangeTopic;
+    private long timeoutMillis;
+
+    @Autowired
+    public ScheduleEventsRestController(ScheduleChangeTopic scheduleChangeTopic,
+            @Value("${schedule.events.timeout-millis:1800000}") long timeoutMillis) {
+        this.scheduleChangeTopic = scheduleChangeTopic;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Operation(summary = "Subscribe to lesson changes of a group schedule.")
+    @GetMapping("/groups/{id}")
+    public SseEmitter getGroupEvents(@Parameter(description = "Id of a group") @PathVariable("id") int id) {
+        return subscribe(ScheduleOwner.GROUP, id);
+    }
+
+    @Operation(summary = "Subscribe to lesson changes of a lecturer schedule.")
+    @GetMapping("/lecturers/{id}")
+    public SseEmitter getLecturerEvents(@Parameter(description = "Id of a lecturer") @PathVariable("id") int id) {
+        return subscribe(ScheduleOwner.LECTURER, id);
+    }
+
+    private SseEmitter subscribe(ScheduleOwner owner, int ownerId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        ScheduleSubscription subscription = scheduleChangeTopic.subscribe(owner, ownerId, new ScheduleSubscriber() {
+
+            @Override
+            public void onChange(ScheduleChange change) throws IOException {
+                emitter.send(SseEmitter.event()
+                        .name("lesson-" + change.getType().name().toLowerCase(Locale.ENGLISH))
+                        .data(change, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void onHeartbeat() throws IOException {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+
+            @Override
+            public void onDropped() {
+                emitter.complete();
+            }
+        });
+
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+}
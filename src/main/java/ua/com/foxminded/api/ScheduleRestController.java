@@ -3,8 +3,11 @@ package ua.com.foxminded.api;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -27,6 +30,7 @@ import ua.com.foxminded.domain.Group;
 import ua.com.foxminded.domain.Lecturer;
 import ua.com.foxminded.domain.Lesson;
 import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.domain.LessonView;
 import ua.com.foxminded.service.GroupService;
 import ua.com.foxminded.service.LecturerService;
 import ua.com.foxminded.service.LessonService;
@@ -53,13 +57,13 @@ public class ScheduleRestController {
 
     @Operation(summary = "Get week lessons for a lecturer.")
     @GetMapping("/week-lessons/find-for-lecturer")
-    public Map<DayOfWeek, List<Lesson>> getLecturerWeekSchedule(@Parameter(description = "Id of a lecturer") @RequestParam("lecturer-id") int lecturerId) {
+    public Map<DayOfWeek, List<LessonView>> getLecturerWeekSchedule(@Parameter(description = "Id of a lecturer") @RequestParam("lecturer-id") int lecturerId) {
         return lessonService.getLecturerWeekLessons(lecturerId);
     }
 
     @Operation(summary = "Get month lessons for a lecturer.")
     @GetMapping("/month-lessons/find-for-lecturer")
-    public Map<LocalDate, List<Lesson>> getLecturerMonthSchedule(@Parameter(description = "Id of a lecturer") @RequestParam("lecturer-id") int lecturerId,
+    public Map<LocalDate, List<LessonView>> getLecturerMonthSchedule(@Parameter(description = "Id of a lecturer") @RequestParam("lecturer-id") int lecturerId,
             @Parameter(description = "Month value should be like \"yyyy-mm\"", schema = @Schema(pattern = "\\d\\d\\d\\d-\\d\\d")) @RequestParam("month-value") String monthValue) {
 
         YearMonth month = YearMonth.parse(monthValue);
@@ -68,20 +72,35 @@ public class ScheduleRestController {
 
     @Operation(summary = "Get week lessons for a group.")
     @GetMapping("/week-lessons/find-for-group")
-    public Map<DayOfWeek, List<Lesson>> getGroupWeekSchedule(@Parameter(description = "Id of a group") @RequestParam("group-id") int groupId) {
+    public Map<DayOfWeek, List<LessonView>> getGroupWeekSchedule(@Parameter(description = "Id of a group") @RequestParam("group-id") int groupId) {
         
         return lessonService.getGroupWeekLessons(groupId);
     }
     
     @Operation(summary = "Get month lessons for a group.")
     @GetMapping("/month-lessons/find-for-group")
-    public Map<LocalDate, List<Lesson>> getGroupMonthSchedule(@Parameter(description = "Id of a group") @RequestParam("group-id") int groupId,
+    public Map<LocalDate, List<LessonView>> getGroupMonthSchedule(@Parameter(description = "Id of a group") @RequestParam("group-id") int groupId,
             @Parameter(description = "Month value should be like \"yyyy-mm\"", schema = @Schema(pattern = "\\d\\d\\d\\d-\\d\\d")) @RequestParam("month-value") String monthValue) {
         
         YearMonth month = YearMonth.parse(monthValue);
         return lessonService.getGroupMonthLessons(groupId, month);
     }
 
+    @Operation(summary = "Get week lessons in an audience.")
+    @GetMapping("/week-lessons/find-for-audience")
+    public Map<DayOfWeek, List<LessonView>> getAudienceWeekSchedule(@Parameter(description = "Id of an audience") @RequestParam("audience-id") int audienceId) {
+        return lessonService.getAudienceWeekLessons(audienceId);
+    }
+
+    @Operation(summary = "Get month lessons in an audience.")
+    @GetMapping("/month-lessons/find-for-audience")
+    public Map<LocalDate, List<LessonView>> getAudienceMonthSchedule(@Parameter(description = "Id of an audience") @RequestParam("audience-id") int audienceId,
+            @Parameter(description = "Month value should be like \"yyyy-mm\"", schema = @Schema(pattern = "\\d\\d\\d\\d-\\d\\d")) @RequestParam("month-value") String monthValue) {
+
+        YearMonth month = YearMonth.parse(monthValue);
+        return lessonService.getAudienceMonthLessons(audienceId, month);
+    }
+
     @Operation(summary = "Get all lesson-time-parameters.")
     @GetMapping("/lesson-time-parameters")
     public List<LessonTime> getLessonTimeParameters() {
@@ -153,6 +172,51 @@ public class ScheduleRestController {
         return lesson;
     }
 
+    @Operation(summary = "Create many lessons at once.")
+    @PostMapping("/lessons/batch")
+    public List<Lesson> createLessons(@io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Provide for every lesson an information without lesson-id and ids of an actual lesson-time-parameter, lecturer and group.",
+            content = @Content(examples = @ExampleObject(value = "[{\"name\": \"string\", \"audience\": \"string\", \"day\": \"string\", "
+                    + "\"lessonTime\": {\"id\": 0}, \"lecturer\": {\"id\": 0}, \"group\": {\"id\": 0}}]")))
+            @RequestBody List<Lesson> lessons) {
+        Set<Integer> lessonTimeIds = new HashSet<>();
+        Set<Integer> lecturerIds = new HashSet<>();
+        Set<Integer> groupIds = new HashSet<>();
+
+        for (Lesson lesson : lessons) {
+            if (lesson.getLessonTime() != null) {
+                lessonTimeIds.add(lesson.getLessonTime().getId());
+            }
+            if (lesson.getLecturer() != null) {
+                lecturerIds.add(lesson.getLecturer().getId());
+            }
+            if (lesson.getGroup() != null) {
+                groupIds.add(lesson.getGroup().getId());
+            }
+        }
+
+        Map<Integer, LessonTime> lessonTimes = new HashMap<>();
+        for (LessonTime lessonTime : lessonTimeService.getAllById(lessonTimeIds)) {
+            lessonTimes.put(lessonTime.getId(), lessonTime);
+        }
+        Map<Integer, Lecturer> lecturers = new HashMap<>();
+        for (Lecturer lecturer : lecturerService.getAllById(lecturerIds)) {
+            lecturers.put(lecturer.getId(), lecturer);
+        }
+        Map<Integer, Group> groups = new HashMap<>();
+        for (Group group : groupService.getAllById(groupIds)) {
+            groups.put(group.getId(), group);
+        }
+
+        for (Lesson lesson : lessons) {
+            lesson.setLessonTime(lesson.getLessonTime() == null ? null : lessonTimes.get(lesson.getLessonTime().getId()));
+            lesson.setLecturer(lesson.getLecturer() == null ? null : lecturers.get(lesson.getLecturer().getId()));
+            lesson.setGroup(lesson.getGroup() == null ? null : groups.get(lesson.getGroup().getId()));
+        }
+
+        lessonService.createAll(lessons);
+        return lessons;
+    }
+
     @Operation(summary = "Delete a lesson by its id.")
     @DeleteMapping("/lessons/{id}")
     public String deleteLesson(@Parameter(description = "Id of a lesson to be deleted") @PathVariable("id") int id) {
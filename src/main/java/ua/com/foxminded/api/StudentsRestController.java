@@ -36,12 +36,26 @@ public class StudentsRestController {
         this.groupService = groupService;
     }
 
-    @Operation(summary = "Get all students.")
+    @Operation(summary = "Get all students.", description = "The whole table is read and sent at once. Get students by page or after parameters to keep a response bounded.")
     @GetMapping()
     public List<Student> getStudents() {
         return studentService.getAll();
     }
 
+    @Operation(summary = "Get a page of students ordered by id.")
+    @GetMapping(params = "page")
+    public PageResponse<Student> getStudentsPage(@Parameter(description = "Number of a page, starting from 0.") @RequestParam("page") int page,
+            @Parameter(description = "Number of students on a page, from 1 to 500.") @RequestParam(value = "size", defaultValue = "50") int size) {
+        return PageResponse.ofPage(studentService.getPage(page, size));
+    }
+
+    @Operation(summary = "Get students with ids greater than a given cursor, ordered by id.")
+    @GetMapping(params = {"after", "!page"})
+    public PageResponse<Student> getStudentsAfter(@Parameter(description = "Id of the last student of a previous slice, 0 for the first slice.") @RequestParam("after") int after,
+            @Parameter(description = "Number of students in a slice, from 1 to 500.") @RequestParam(value = "size", defaultValue = "50") int size) {
+        return PageResponse.ofSlice(studentService.getAfter(after, size), size, Student::getId);
+    }
+
     @Operation(summary = "Get a student by its id.")
     @GetMapping("/{id}")
     public Student getStudent(@Parameter(description = "Id of a student to be getted.") @PathVariable("id") int id) {
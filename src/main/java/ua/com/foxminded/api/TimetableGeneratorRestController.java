@@ -0,0 +1,116 @@
+package ua.com.foxminded.api;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.service.GroupService;
+import ua.com.foxminded.service.LecturerService;
+import ua.com.foxminded.service.LessonTimeService;
+import ua.com.foxminded.service.generator.CurriculumItem;
+import ua.com.foxminded.service.generator.GeneratedTimetable;
+import ua.com.foxminded.service.generator.TimetableDemand;
+import ua.com.foxminded.service.generator.TimetableGenerator;
+
+@Tag(name = "timetable generator", description = "This controller makes timetables for a curriculum.")
+@RestController
+@RequestMapping(produces = "application/json")
+public class TimetableGeneratorRestController {
+
+    private TimetableGenerator timetableGenerator;
+    private GroupService groupService;
+    private LecturerService lecturerService;
+    private LessonTimeService lessonTimeService;
+
+    @Autowired
+    public TimetableGeneratorRestController(TimetableGenerator timetableGenerator, GroupService groupService,
+            LecturerService lecturerService, LessonTimeService lessonTimeService) {
+        this.timetableGenerator = timetableGenerator;
+        this.groupService = groupService;
+        this.lecturerService = lecturerService;
+        this.lessonTimeService = lessonTimeService;
+    }
+
+    @Operation(summary = "Generate lessons for a curriculum. The lessons aren't saved, they can be created with \"/lessons/batch\".")
+    @PostMapping("/timetable/generation")
+    public GeneratedTimetable createTimetable(@io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Provide ids of groups, lecturers and lesson-time-parameters. "
+            + "All lesson-time-parameters are used when none is given, all days except days off are used when none is given.",
+            content = @Content(examples = @ExampleObject(value = "{\"curriculum\": [{\"group\": {\"id\": 0}, \"lecturer\": {\"id\": 0}, "
+                    + "\"subject\": \"string\", \"lessonsPerWeek\": 0}], \"lessonTimes\": [{\"id\": 0}], \"days\": [\"string\"], "
+                    + "\"audiences\": [\"string\"]}")))
+            @RequestBody TimetableDemand demand,
+            @Parameter(description = "Time to search for a better timetable, 60 seconds at most by default") @RequestParam(value = "time-budget-seconds", defaultValue = "10") int timeBudgetSeconds) {
+        List<CurriculumItem> curriculum = demand.getCurriculum() == null ? new ArrayList<>() : demand.getCurriculum();
+        Set<Integer> groupIds = new HashSet<>();
+        Set<Integer> lecturerIds = new HashSet<>();
+
+        for (CurriculumItem item : curriculum) {
+            if (item == null) {
+                continue;
+            }
+            if (item.getGroup() != null) {
+                groupIds.add(item.getGroup().getId());
+            }
+            if (item.getLecturer() != null) {
+                lecturerIds.add(item.getLecturer().getId());
+            }
+        }
+
+        Map<Integer, Group> groups = new HashMap<>();
+        for (Group group : groupService.getAllById(groupIds)) {
+            groups.put(group.getId(), group);
+        }
+        Map<Integer, Lecturer> lecturers = new HashMap<>();
+        for (Lecturer lecturer : lecturerService.getAllById(lecturerIds)) {
+            lecturers.put(lecturer.getId(), lecturer);
+        }
+
+        for (CurriculumItem item : curriculum) {
+            if (item != null) {
+                item.setGroup(item.getGroup() == null ? null : groups.get(item.getGroup().getId()));
+                item.setLecturer(item.getLecturer() == null ? null : lecturers.get(item.getLecturer().getId()));
+            }
+        }
+
+        if (demand.getLessonTimes() == null || demand.getLessonTimes().isEmpty()) {
+            demand.setLessonTimes(lessonTimeService.getAll());
+        } else {
+            Set<Integer> lessonTimeIds = new HashSet<>();
+            for (LessonTime lessonTime : demand.getLessonTimes()) {
+                lessonTimeIds.add(lessonTime.getId());
+            }
+
+            Map<Integer, LessonTime> lessonTimes = new HashMap<>();
+            for (LessonTime lessonTime : lessonTimeService.getAllById(lessonTimeIds)) {
+                lessonTimes.put(lessonTime.getId(), lessonTime);
+            }
+
+            List<LessonTime> demandedLessonTimes = new ArrayList<>();
+            for (Integer lessonTimeId : lessonTimeIds) {
+                demandedLessonTimes.add(lessonTimes.get(lessonTimeId));
+            }
+            demand.setLessonTimes(demandedLessonTimes);
+        }
+
+        return timetableGenerator.generate(demand, Duration.ofSeconds(timeBudgetSeconds));
+    }
+}
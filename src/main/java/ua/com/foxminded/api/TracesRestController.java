@@ -0,0 +1,39 @@
+package ua.com.foxminded.api;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import ua.com.foxminded.tracing.Span;
+import ua.com.foxminded.tracing.SpanRecorder;
+
+@Tag(name = "traces", description = "This controller shows the last traced calls.")
+@RestController
+@RequestMapping(value = "/admin/traces", produces = "application/json")
+public class TracesRestController {
+
+    private SpanRecorder spanRecorder;
+
+    @Autowired
+    public TracesRestController(SpanRecorder spanRecorder) {
+        this.spanRecorder = spanRecorder;
+    }
+
+    @Operation(summary = "Get the last spans of traced calls, the newest first.")
+    @GetMapping
+    public List<Span> listSpans(@Parameter(description = "Maximum number of spans, at least 1.") @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A limit of spans must be positive.");
+        }
+        return spanRecorder.getLastSpans(limit);
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import javax.validation.ConstraintViolationException;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
+import ua.com.foxminded.service.exceptions.LessonConflictException;
 import ua.com.foxminded.service.exceptions.ServiceException;
 
 @Aspect
@@ -27,6 +28,18 @@ public class GeneralRestControllerAspect {
     private void getObjectMethods() {
     }
 
+    @Pointcut("execution(public ua.com.foxminded.api.PageResponse ua.com.foxminded.api.*.get*(int, int))")
+    private void getPageOfObjectsMethods() {
+    }
+
+    @Pointcut("execution(public java.util.List ua.com.foxminded.api.*.find*(..))")
+    private void findObjectsMethods() {
+    }
+
+    @Pointcut("execution(public void ua.com.foxminded.api.*.export*(javax.servlet.http.HttpServletResponse))")
+    private void exportObjectsMethods() {
+    }
+
     @Pointcut("execution(public * ua.com.foxminded.api.*.create*(..))")
     private void createObjectMethods() {
     }
@@ -87,6 +100,76 @@ public class GeneralRestControllerAspect {
         }
     }
 
+    @Around("getPageOfObjectsMethods()")
+    public Object aroundGetPageOfObjectsAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int position = (int) proceedingJoinPoint.getArgs()[0];
+        int size = (int) proceedingJoinPoint.getArgs()[1];
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Try to get {} objects from position {}.", size, position);
+        }
+
+        try {
+            return proceedingJoinPoint.proceed();
+
+        } catch (ServiceException serviceException) {
+            if (serviceException.getException() instanceof RepositoryException) {
+                LOGGER.error("There are some errors in repositories layer when get {} objects from position {}.", size, position, serviceException);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                        serviceException.getMessage());
+            } else if (serviceException.getException() instanceof IllegalArgumentException) {
+                LOGGER.error("The given position {} or size {} is wrong when get a page of objects.", position, size, serviceException);
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        serviceException.getMessage());
+            } else {
+                LOGGER.error("There is some error in service layer when get {} objects from position {}.", size, position, serviceException);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, serviceException.getMessage());
+            }
+        }
+    }
+
+    @Around("findObjectsMethods()")
+    public Object aroundFindObjectsAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        String operation = proceedingJoinPoint.getSignature().getName();
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Try to {}.", operation);
+        }
+
+        try {
+            return proceedingJoinPoint.proceed();
+
+        } catch (ServiceException serviceException) {
+            if (serviceException.getException() instanceof RepositoryException) {
+                LOGGER.error("There are some errors in repositories layer when {}.", operation, serviceException);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                        serviceException.getMessage());
+            } else if (serviceException.getException() instanceof IllegalArgumentException) {
+                LOGGER.error("The given parameters are wrong when {}.", operation, serviceException);
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        serviceException.getMessage());
+            } else {
+                LOGGER.error("There is some error in service layer when {}.", operation, serviceException);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, serviceException.getMessage());
+            }
+        }
+    }
+
+    @Around("exportObjectsMethods()")
+    public Object aroundExportObjectsAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Try to export objects.");
+        }
+
+        try {
+            return proceedingJoinPoint.proceed();
+
+        } catch (ServiceException serviceException) {
+            LOGGER.error("There is some error when export objects.", serviceException);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, serviceException.getMessage());
+        }
+    }
+
     @Around("createObjectMethods()")
     public Object aroundCreateObjectAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
         Object object = proceedingJoinPoint.getArgs()[0];
@@ -103,6 +186,9 @@ public class GeneralRestControllerAspect {
                 LOGGER.error("There are some errors in repositories layer when create an object {}.", object, serviceException);
                 throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
                         serviceException.getMessage());
+            } else if (serviceException.getException() instanceof LessonConflictException) {
+                LOGGER.error("The object {} conflicts with other objects when create.", object, serviceException);
+                throw serviceException.getException();
             } else if (serviceException.getException() instanceof ConstraintViolationException 
                     || serviceException.getException() instanceof IllegalArgumentException) {
                 LOGGER.error("There are errors with given data when create object {}.", object, serviceException);
@@ -133,6 +219,9 @@ public class GeneralRestControllerAspect {
                 LOGGER.error("There are some errors in repositories layer when update an object {}.", object, serviceException);
                 throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
                         serviceException.getMessage());
+            } else if (serviceException.getException() instanceof LessonConflictException) {
+                LOGGER.error("The object {} conflicts with other objects when update.", object, serviceException);
+                throw serviceException.getException();
             } else if (serviceException.getException() instanceof ConstraintViolationException 
                     || serviceException.getException() instanceof IllegalArgumentException) {
                 LOGGER.error("There are errors with given data when update object {}.", object, serviceException);
@@ -1,10 +1,16 @@
 package ua.com.foxminded.api.aspects;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.server.ResponseStatusException;
 
+import ua.com.foxminded.service.exceptions.LessonConflictException;
+
 @RestControllerAdvice
 public class GlobalRestExceptionHandler {
 
@@ -12,4 +18,12 @@ public class GlobalRestExceptionHandler {
     public ResponseEntity<String> restExceptionHandler(ResponseStatusException exception) {
         return new ResponseEntity<>(exception.getMessage(), exception.getStatus());
     }
+
+    @ExceptionHandler(LessonConflictException.class)
+    public ResponseEntity<Map<String, Object>> lessonConflictExceptionHandler(LessonConflictException exception) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("message", exception.getMessage());
+        body.put("conflicts", exception.getConflicts());
+        return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+    }
 }
@@ -39,6 +39,14 @@ public class ScheduleRestControllerAspect {
     private void getGroupMonthScheduleMethod() {
     }
 
+    @Pointcut("execution(public java.util.Map ua.com.foxminded.api.ScheduleRestController.getAudienceWeekSchedule(int))")
+    private void getAudienceWeekScheduleMethod() {
+    }
+
+    @Pointcut("execution(public java.util.Map ua.com.foxminded.api.ScheduleRestController.getAudienceMonthSchedule(int, String))")
+    private void getAudienceMonthScheduleMethod() {
+    }
+
     @Around("getLecturerWeekScheduleMethod()")
     public Map<LocalDate, List<Lesson>> aroundGetLecturerWeekSchedule(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
         int lecturerId = (int) proceedingJoinPoint.getArgs()[0];
@@ -186,4 +194,78 @@ public class ScheduleRestControllerAspect {
             }
         }
     }
+
+    @Around("getAudienceWeekScheduleMethod()")
+    public Map<LocalDate, List<Lesson>> aroundGetAudienceWeekSchedule(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int audienceId = (int) proceedingJoinPoint.getArgs()[0];
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Try to get week schedule for an audience with id: {}.", audienceId);
+        }
+
+        try {
+            Map<LocalDate, List<Lesson>> resultMethod = (Map<LocalDate, List<Lesson>>) proceedingJoinPoint.proceed();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("The result model of searching a week schedule for an audience with id {} is {}.", audienceId,
+                        resultMethod);
+            }
+
+            return resultMethod;
+
+        } catch (ServiceException serviceException) {
+            if (serviceException.getException() instanceof RepositoryException) {
+                LOGGER.error("There are some errors in repositories layer when get week schedule for an audience with id {}.",
+                        audienceId, serviceException);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                        serviceException.getMessage());
+            } else if (serviceException.getException() instanceof IllegalArgumentException) {
+                LOGGER.error("The given audienceId {} is wrong when get week schedule for an audience.", audienceId,
+                        serviceException);
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        serviceException.getMessage());
+            } else {
+                LOGGER.error("There is some error in service layer when get week schedule for an audience with id {}.",
+                        audienceId, serviceException);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, serviceException.getMessage());
+            }
+        }
+    }
+
+    @Around("getAudienceMonthScheduleMethod()")
+    public Map<LocalDate, List<Lesson>> aroundGetAudienceMonthSchedule(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int audienceId = (int) proceedingJoinPoint.getArgs()[0];
+        String monthValue = (String) proceedingJoinPoint.getArgs()[1];
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Try to get schedule of month {} for an audience with id: {}.", monthValue, audienceId);
+        }
+
+        try {
+            Map<LocalDate, List<Lesson>> resultMethod = (Map<LocalDate, List<Lesson>>) proceedingJoinPoint.proceed();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("The result model of searching schedule of a month {} for an audience with id {} is {}.",
+                        monthValue, audienceId, resultMethod);
+            }
+
+            return resultMethod;
+
+        } catch (ServiceException serviceException) {
+            if (serviceException.getException() instanceof RepositoryException) {
+                LOGGER.error(
+                        "There are some errors in repositories layer when get schedule of a month {} for an audience with id {}.",
+                        monthValue, audienceId, serviceException);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                        serviceException.getMessage());
+            } else if (serviceException.getException() instanceof IllegalArgumentException) {
+                LOGGER.error(
+                        "The given parameters audienceId = {} and monthValue = {} are wrong when get month schedule for an audience.",
+                        audienceId, monthValue, serviceException);
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        serviceException.getMessage());
+            } else {
+                LOGGER.error(
+                        "There is some error in service layer when get schedule of a month {} for an audience with id {}.",
+                        monthValue, audienceId, serviceException);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, serviceException.getMessage());
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import ua.com.foxminded.domain.Faculty;
@@ -64,7 +65,7 @@ public class GroupsController {
     @GetMapping("/{id}/edit")
     public String editGroup(Model model, @PathVariable("id") int id) {
         Group group = groupService.getById(id);
-        List<Faculty> faculties = facultyService.getAll();
+        List<Faculty> faculties = new ArrayList<>(facultyService.getAll());
         faculties.remove(group.getFaculty());
         model.addAttribute("pageTitle", "Edit " + group.getName());
         model.addAttribute("group", group);
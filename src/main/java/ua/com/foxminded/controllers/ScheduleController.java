@@ -163,13 +163,13 @@ public class ScheduleController {
         List<DayOfWeek> days = new ArrayList<>(Arrays.asList(DayOfWeek.values()));
         days.remove(lesson.getDay());
 
-        List<LessonTime> lessonTimes = lessonTimeService.getAll();
+        List<LessonTime> lessonTimes = new ArrayList<>(lessonTimeService.getAll());
         lessonTimes.remove(lesson.getLessonTime());
 
-        List<Lecturer> lecturers = lecturerService.getAll();
+        List<Lecturer> lecturers = new ArrayList<>(lecturerService.getAll());
         lecturers.remove(lesson.getLecturer());
 
-        List<Group> groups = groupService.getAll();
+        List<Group> groups = new ArrayList<>(groupService.getAll());
         groups.remove(lesson.getGroup());
 
         model.addAttribute("pageTitle", "Edit a lesson " + lesson.getName());
@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -41,6 +42,16 @@ public class StudentsController {
         return "students/students";
     }
 
+    @GetMapping(params = "page")
+    public String getStudentsPage(@RequestParam("page") int page,
+            @RequestParam(value = "size", defaultValue = "50") int size, Model model) {
+        Page<Student> studentsPage = studentService.getPage(page, size);
+        model.addAttribute("pageTitle", "Students");
+        model.addAttribute("students", studentsPage.getContent());
+        model.addAttribute("studentsPage", studentsPage);
+        return "students/students";
+    }
+
     @GetMapping("/{id}")
     public String getStudent(@PathVariable("id") int id, Model model) {
         Student student = studentService.getById(id);
@@ -73,7 +84,7 @@ public class StudentsController {
         genders.remove(student.getGender());
 
         Group studentGroup = student.getGroup();
-        List<Group> groups = groupService.getAll();
+        List<Group> groups = new ArrayList<>(groupService.getAll());
         groups.remove(studentGroup);
 
         model.addAttribute("pageTitle", "Edit a student " + student.getFirstName() + " " + student.getLastName());
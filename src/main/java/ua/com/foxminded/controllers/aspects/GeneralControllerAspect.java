@@ -12,6 +12,7 @@ import org.springframework.web.server.ResponseStatusException;
 
 import javax.validation.ConstraintViolationException;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
+import ua.com.foxminded.service.exceptions.LessonConflictException;
 import ua.com.foxminded.service.exceptions.ServiceException;
 
 @Aspect
@@ -27,6 +28,10 @@ public class GeneralControllerAspect {
     private void getObjectMethods() {
     }
     
+    @Pointcut("execution(public String ua.com.foxminded.controllers.*.get*Page(int, int, org.springframework.ui.Model))")
+    private void getPageOfObjectsMethods() {
+    }
+
     @Pointcut("execution(public String ua.com.foxminded.controllers.*.new*(*, org.springframework.ui.Model))")
     private void newObjectMethods() {
     }
@@ -95,6 +100,34 @@ public class GeneralControllerAspect {
         }
     }
 
+    @Around("getPageOfObjectsMethods()")
+    public String aroundGetPageOfObjectsAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int page = (int) proceedingJoinPoint.getArgs()[0];
+        int size = (int) proceedingJoinPoint.getArgs()[1];
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Try to get a page {} of size {}.", page, size);
+        }
+
+        try {
+            return (String) proceedingJoinPoint.proceed();
+
+        } catch (ServiceException serviceException) {
+            if (serviceException.getException() instanceof RepositoryException) {
+                LOGGER.error("There are some errors in dao layer when get a page {} of size {}.", page, size, serviceException);
+                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
+                        serviceException.getMessage());
+            } else if (serviceException.getException() instanceof IllegalArgumentException) {
+                LOGGER.error("The given page {} or size {} is wrong when get a page of objects.", page, size, serviceException);
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        serviceException.getMessage());
+            } else {
+                LOGGER.error("There is some error in service layer when get a page {} of size {}.", page, size, serviceException);
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, serviceException.getMessage());
+            }
+        }
+    }
+
     @Around("createObjectMethods()")
     public String aroundCreateObjectAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
         Object object = proceedingJoinPoint.getArgs()[0];
@@ -111,6 +144,11 @@ public class GeneralControllerAspect {
                 LOGGER.error("There are some errors in dao layer when create an object {}.", object, serviceException);
                 throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
                         serviceException.getMessage());
+            } else if (serviceException.getException() instanceof LessonConflictException) {
+                LOGGER.error("The object {} conflicts with other objects when create.", object, serviceException);
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        serviceException.getException().getMessage() + " Conflicts: "
+                                + ((LessonConflictException) serviceException.getException()).getConflicts());
             } else if (serviceException.getException() instanceof ConstraintViolationException 
                     || serviceException.getException() instanceof IllegalArgumentException) {
                 LOGGER.error("There are errors with given data when create object {}.", object, serviceException);
@@ -141,6 +179,11 @@ public class GeneralControllerAspect {
                 LOGGER.error("There are some errors in dao layer when update an object {}.", object, serviceException);
                 throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR,
                         serviceException.getMessage());
+            } else if (serviceException.getException() instanceof LessonConflictException) {
+                LOGGER.error("The object {} conflicts with other objects when update.", object, serviceException);
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        serviceException.getException().getMessage() + " Conflicts: "
+                                + ((LessonConflictException) serviceException.getException()).getConflicts());
             } else if (serviceException.getException() instanceof ConstraintViolationException 
                     || serviceException.getException() instanceof IllegalArgumentException) {
                 LOGGER.error("There are errors with given data when update object {}.", object, serviceException);
@@ -0,0 +1,105 @@
+package ua.com.foxminded.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+/**
+ * A room where lessons take place. Lessons refer to an audience by its name,
+ * so the name is unique.
+ */
+@Entity
+@Table(name = "audiences", uniqueConstraints = @UniqueConstraint(columnNames = "name"))
+public class Audience {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    @PositiveOrZero(message = "Audience id can't be negative")
+    private int id;
+
+    @Column(name = "name")
+    @NotNull(message = "Audience name can't be null")
+    @Pattern(regexp = "\\S{2,}.*", message = "Audience name must have at least two symbols and start with non-white space")
+    private String name;
+
+    @Column(name = "capacity")
+    @Positive(message = "Audience capacity must be positive")
+    private Integer capacity;
+
+    public Audience() {
+
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((capacity == null) ? 0 : capacity.hashCode());
+        result = prime * result + id;
+        result = prime * result + ((name == null) ? 0 : name.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        Audience other = (Audience) obj;
+        if (capacity == null) {
+            if (other.capacity != null)
+                return false;
+        } else if (!capacity.equals(other.capacity))
+            return false;
+        if (id != other.id)
+            return false;
+        if (name == null) {
+            if (other.name != null)
+                return false;
+        } else if (!name.equals(other.name))
+            return false;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "Audience [id=" + id + ", name=" + name + ", capacity=" + capacity + "]";
+    }
+}
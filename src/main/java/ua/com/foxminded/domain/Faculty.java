@@ -17,9 +17,11 @@ import javax.validation.constraints.Pattern;
 import javax.validation.constraints.PositiveOrZero;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
 @Table(name = "faculties")
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class Faculty {
     
     @Id
@@ -6,6 +6,7 @@ import java.util.List;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
@@ -15,16 +16,23 @@ import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
 import javax.validation.constraints.PositiveOrZero;
-import javax.validation.constraints.Size;
+
+import org.hibernate.annotations.Check;
+import org.hibernate.annotations.ColumnDefault;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
 @Table(name = "groups")
+@Check(constraints = "student_count BETWEEN 0 AND " + Group.MAX_STUDENTS)
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class Group {
+    public static final int MAX_STUDENTS = 32;
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -37,7 +45,7 @@ public class Group {
     @Pattern(regexp = "\\S{2,}.*", message = "Group name must have at least two symbols and start with non-white space")
     private String name;
 
-    @ManyToOne (cascade = {CascadeType.REFRESH, CascadeType.PERSIST, CascadeType.MERGE, CascadeType.DETACH})
+    @ManyToOne (fetch = FetchType.LAZY, cascade = {CascadeType.REFRESH, CascadeType.PERSIST, CascadeType.MERGE, CascadeType.DETACH})
     @JoinColumn(name = "faculty_id")
     @NotNull(message = "Group faculty can't be null")
     @Valid
@@ -45,9 +53,19 @@ public class Group {
     
     @OneToMany(cascade = CascadeType.ALL,
             mappedBy = "group")
-    @Size(max = 32, message = "Group can have no more than 32 students")
     @JsonIgnore
     private List<Student> students;
+
+    /**
+     * It is written with a new group, which may be created with its students,
+     * and afterwards is changed only by conditional updates of the repository
+     * when a student comes to or leaves the group.
+     */
+    @Column(name = "student_count", updatable = false)
+    @ColumnDefault("0")
+    @Max(value = MAX_STUDENTS, message = "Group can have no more than 32 students")
+    @JsonIgnore
+    private int studentCount;
     
     public Group() {
 
@@ -83,6 +101,15 @@ public class Group {
 
     public void setStudents(List<Student> students) {
         this.students = students;
+        this.studentCount = students == null ? 0 : students.size();
+    }
+
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    public void setStudentCount(int studentCount) {
+        this.studentCount = studentCount;
     }
 
     public void addStudent(Student student) {
@@ -91,6 +118,7 @@ public class Group {
         }
         
         students.add(student);
+        studentCount++;
         student.setGroup(this);
     }
 
@@ -7,11 +7,16 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.Table;
 
 import javax.validation.Valid;
@@ -21,10 +26,26 @@ import javax.validation.constraints.PositiveOrZero;
 
 import ua.com.foxminded.domain.validation.NotDayOff;
 
+/**
+ * Associations are lazy, and every read of whole lessons uses
+ * {@link #WHOLE_GRAPH}, so all of its associations are read by one statement.
+ * The schedule, the edit form and the export all need a group with its
+ * faculty, a lecturer and a lesson time: the edit form compares groups, which
+ * compares their faculties, and the export writes lessons whole.
+ */
 @Entity
-@Table(name = "lessons")
+@NamedEntityGraph(name = Lesson.WHOLE_GRAPH, attributeNodes = {
+        @NamedAttributeNode(value = "group", subgraph = "group"),
+        @NamedAttributeNode("lecturer"),
+        @NamedAttributeNode("lessonTime") },
+        subgraphs = @NamedSubgraph(name = "group", attributeNodes = @NamedAttributeNode("faculty")))
+@Table(name = "lessons", indexes = {
+        @Index(name = "lessons_group_id_week_day_idx", columnList = "group_id, week_day"),
+        @Index(name = "lessons_lecturer_id_week_day_idx", columnList = "lecturer_id, week_day"),
+        @Index(name = "lessons_audience_week_day_idx", columnList = "audience, week_day") })
 public class Lesson {
-    
+    public static final String WHOLE_GRAPH = "Lesson.whole";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id")
@@ -36,13 +57,13 @@ public class Lesson {
     @Pattern(regexp = "\\S{2,}.*", message = "Lesson name must have at least two symbols and start with non-white space")
     private String name;
 
-    @ManyToOne(cascade = {CascadeType.DETACH, CascadeType.MERGE, CascadeType.REFRESH, CascadeType.PERSIST})
+    @ManyToOne(fetch = FetchType.LAZY, cascade = {CascadeType.DETACH, CascadeType.MERGE, CascadeType.REFRESH, CascadeType.PERSIST})
     @JoinColumn(name = "lecturer_id")
     @NotNull(message = "Lesson lecturer can't be null")
     @Valid
     private Lecturer lecturer;
 
-    @ManyToOne(cascade = {CascadeType.DETACH, CascadeType.MERGE, CascadeType.REFRESH, CascadeType.PERSIST})
+    @ManyToOne(fetch = FetchType.LAZY, cascade = {CascadeType.DETACH, CascadeType.MERGE, CascadeType.REFRESH, CascadeType.PERSIST})
     @JoinColumn(name = "group_id")
     @NotNull(message = "Lesson group can't be null")
     @Valid
@@ -59,7 +80,7 @@ public class Lesson {
     @NotDayOff
     private DayOfWeek day;
 
-    @ManyToOne(cascade = {CascadeType.DETACH, CascadeType.MERGE, CascadeType.REFRESH, CascadeType.PERSIST})
+    @ManyToOne(fetch = FetchType.LAZY, cascade = {CascadeType.DETACH, CascadeType.MERGE, CascadeType.REFRESH, CascadeType.PERSIST})
     @JoinColumn(name = "lesson_time_id")
     @NotNull(message = "Lesson time can't be null")
     @Valid
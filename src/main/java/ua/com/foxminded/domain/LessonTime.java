@@ -12,12 +12,15 @@ import javax.persistence.Table;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.PositiveOrZero;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import ua.com.foxminded.domain.validation.CheckLessonTime;
 
 @CheckLessonTime
 @Entity
 @Table(name = "lesson_times")
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public class LessonTime {
     
     @Id
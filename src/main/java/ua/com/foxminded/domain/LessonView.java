@@ -0,0 +1,160 @@
+package ua.com.foxminded.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * A lesson as schedules show it. Views are selected by constructor
+ * expressions, so they never enter a persistence context. The ids are kept
+ * for links and for invalidation of cached schedules.
+ */
+public final class LessonView {
+    private final int id;
+    private final String name;
+    private final DayOfWeek day;
+    private final int lessonTimeId;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final String audience;
+    private final int lecturerId;
+    private final String lecturerName;
+    private final int groupId;
+    private final String groupName;
+
+    public LessonView(int id, String name, DayOfWeek day, int lessonTimeId, LocalTime startTime, LocalTime endTime,
+            String audience, int lecturerId, String lecturerFirstName, String lecturerLastName, int groupId,
+            String groupName) {
+        this.id = id;
+        this.name = name;
+        this.day = day;
+        this.lessonTimeId = lessonTimeId;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.audience = audience;
+        this.lecturerId = lecturerId;
+        this.lecturerName = lecturerFirstName + " " + lecturerLastName;
+        this.groupId = groupId;
+        this.groupName = groupName;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DayOfWeek getDay() {
+        return day;
+    }
+
+    public int getLessonTimeId() {
+        return lessonTimeId;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public String getAudience() {
+        return audience;
+    }
+
+    public int getLecturerId() {
+        return lecturerId;
+    }
+
+    public String getLecturerName() {
+        return lecturerName;
+    }
+
+    public int getGroupId() {
+        return groupId;
+    }
+
+    public String getGroupName() {
+        return groupName;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((audience == null) ? 0 : audience.hashCode());
+        result = prime * result + ((day == null) ? 0 : day.hashCode());
+        result = prime * result + ((endTime == null) ? 0 : endTime.hashCode());
+        result = prime * result + groupId;
+        result = prime * result + ((groupName == null) ? 0 : groupName.hashCode());
+        result = prime * result + id;
+        result = prime * result + lecturerId;
+        result = prime * result + ((lecturerName == null) ? 0 : lecturerName.hashCode());
+        result = prime * result + lessonTimeId;
+        result = prime * result + ((name == null) ? 0 : name.hashCode());
+        result = prime * result + ((startTime == null) ? 0 : startTime.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        LessonView other = (LessonView) obj;
+        if (audience == null) {
+            if (other.audience != null)
+                return false;
+        } else if (!audience.equals(other.audience))
+            return false;
+        if (day != other.day)
+            return false;
+        if (endTime == null) {
+            if (other.endTime != null)
+                return false;
+        } else if (!endTime.equals(other.endTime))
+            return false;
+        if (groupId != other.groupId)
+            return false;
+        if (groupName == null) {
+            if (other.groupName != null)
+                return false;
+        } else if (!groupName.equals(other.groupName))
+            return false;
+        if (id != other.id)
+            return false;
+        if (lecturerId != other.lecturerId)
+            return false;
+        if (lecturerName == null) {
+            if (other.lecturerName != null)
+                return false;
+        } else if (!lecturerName.equals(other.lecturerName))
+            return false;
+        if (lessonTimeId != other.lessonTimeId)
+            return false;
+        if (name == null) {
+            if (other.name != null)
+                return false;
+        } else if (!name.equals(other.name))
+            return false;
+        if (startTime == null) {
+            if (other.startTime != null)
+                return false;
+        } else if (!startTime.equals(other.startTime))
+            return false;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "LessonView [id=" + id + ", name=" + name + ", day=" + day + ", startTime=" + startTime + ", endTime="
+                + endTime + ", audience=" + audience + ", lecturerName=" + lecturerName + ", groupName=" + groupName
+                + "]";
+    }
+}
@@ -0,0 +1,116 @@
+package ua.com.foxminded.logging;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A short description of a result for a log message: a number of objects and
+ * their distinct ids instead of a whole object graph. Values of a map are
+ * counted as the objects of all their collections, so a week or a month
+ * schedule is described by its lessons. A summary is built only when a
+ * message is formatted, so it costs nothing when a level is disabled.
+ */
+public final class LogSummary {
+    static final int MAX_IDS = 20;
+
+    private static final ClassValue<Method> ID_GETTERS = new ClassValue<Method>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            try {
+                Method getter = type.getMethod("getId");
+                return Modifier.isStatic(getter.getModifiers()) ? null : getter;
+            } catch (NoSuchMethodException noSuchMethodException) {
+                return null;
+            }
+        }
+    };
+
+    private final Object result;
+
+    private LogSummary(Object result) {
+        this.result = result;
+    }
+
+    public static LogSummary of(Object result) {
+        return new LogSummary(result);
+    }
+
+    @Override
+    public String toString() {
+        if (result instanceof Map<?, ?>) {
+            Map<?, ?> map = (Map<?, ?>) result;
+            Summary summary = new Summary();
+            for (Object value : map.values()) {
+                if (value instanceof Iterable<?>) {
+                    summary.addAll((Iterable<?>) value);
+                } else {
+                    summary.add(value);
+                }
+            }
+            return map.size() + " entries of " + summary;
+        }
+        if (result instanceof Iterable<?>) {
+            Summary summary = new Summary();
+            summary.addAll((Iterable<?>) result);
+            return summary.toString();
+        }
+        return String.valueOf(result);
+    }
+
+    private static class Summary {
+        private int size;
+        private final Set<Object> ids = new LinkedHashSet<>();
+        private boolean truncated;
+
+        void addAll(Iterable<?> objects) {
+            for (Object object : objects) {
+                add(object);
+            }
+        }
+
+        void add(Object object) {
+            size++;
+            Object id = idOf(object);
+
+            if (id != null && !ids.contains(id)) {
+                if (ids.size() < MAX_IDS) {
+                    ids.add(id);
+                } else {
+                    truncated = true;
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder summary = new StringBuilder().append(size).append(" objects");
+            if (!ids.isEmpty()) {
+                summary.append(" with ids ").append(ids);
+                if (truncated) {
+                    summary.insert(summary.length() - 1, ", ...");
+                }
+            }
+            return summary.toString();
+        }
+
+        private static Object idOf(Object object) {
+            if (object == null) {
+                return null;
+            }
+
+            Method getter = ID_GETTERS.get(object.getClass());
+            if (getter == null) {
+                return null;
+            }
+
+            try {
+                return getter.invoke(object);
+            } catch (ReflectiveOperationException reflectiveOperationException) {
+                return null;
+            }
+        }
+    }
+}
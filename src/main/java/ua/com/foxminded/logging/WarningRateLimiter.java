@@ -0,0 +1,145 @@
+package ua.com.foxminded.logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits warnings which are expected to repeat, such as empty results. Every
+ * call site, which is a logger with a message pattern, has its own token
+ * bucket: a burst of warnings is written at once, and after that at most a
+ * given number of them per second. Suppressed warnings are counted, and the
+ * counts are written periodically to the logger of the call site, so a
+ * repeated pattern is still reported while the log volume stays bounded under
+ * any load.
+ */
+@Component
+public class WarningRateLimiter {
+    private final double permitsPerSecond;
+    private final int burst;
+    private final LongSupplier nanoClock;
+    private final Map<String, Map<String, CallSite>> callSites = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flushes;
+    private long lastFlushNanos;
+
+    @Autowired
+    public WarningRateLimiter(@Value("${warnings.rate-limit.permits-per-second:1}") double permitsPerSecond,
+            @Value("${warnings.rate-limit.burst:10}") int burst,
+            @Value("${warnings.rate-limit.flush-seconds:60}") long flushSeconds) {
+        this(permitsPerSecond, burst, System::nanoTime);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("warning-flushes-");
+        threadFactory.setDaemon(true);
+        this.flushes = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        this.flushes.scheduleWithFixedDelay(this::flush, flushSeconds, flushSeconds, TimeUnit.SECONDS);
+    }
+
+    WarningRateLimiter(double permitsPerSecond, int burst, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("A rate and a burst of warnings must be positive.");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.nanoClock = nanoClock;
+        this.lastFlushNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Writes a warning unless its call site has run out of tokens.
+     *
+     * @param pattern a constant message pattern, which identifies a call site
+     *                together with the logger.
+     */
+    public void warn(Logger siteLogger, String pattern, Object... arguments) {
+        if (!siteLogger.isWarnEnabled()) {
+            return;
+        }
+
+        CallSite callSite = callSites.computeIfAbsent(siteLogger.getName(), name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(pattern, key -> new CallSite(siteLogger, pattern, burst));
+        if (callSite.tryAcquire(nanoClock.getAsLong())) {
+            siteLogger.warn(pattern, arguments);
+        }
+    }
+
+    /**
+     * Writes the number of warnings suppressed since the last flush for every
+     * call site which has suppressed any.
+     */
+    public synchronized void flush() {
+        long now = nanoClock.getAsLong();
+        long seconds = TimeUnit.NANOSECONDS.toSeconds(now - lastFlushNanos);
+        lastFlushNanos = now;
+
+        for (Map<String, CallSite> loggerCallSites : callSites.values()) {
+            for (CallSite callSite : loggerCallSites.values()) {
+                long suppressed = callSite.takeSuppressed();
+
+                if (suppressed > 0) {
+                    callSite.siteLogger.warn("{} warnings were suppressed in the last {} seconds: \"{}\".",
+                            suppressed, seconds, callSite.pattern);
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets all call sites together with their tokens and counts.
+     */
+    public void reset() {
+        callSites.clear();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (flushes != null) {
+            flushes.shutdownNow();
+        }
+        flush();
+    }
+
+    private class CallSite {
+        private final Logger siteLogger;
+        private final String pattern;
+        private double tokens;
+        private long refilledNanos;
+        private long suppressed;
+
+        CallSite(Logger siteLogger, String pattern, double tokens) {
+            this.siteLogger = siteLogger;
+            this.pattern = pattern;
+            this.tokens = tokens;
+            this.refilledNanos = nanoClock.getAsLong();
+        }
+
+        synchronized boolean tryAcquire(long now) {
+            tokens = Math.min(burst, tokens + (now - refilledNanos) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+            refilledNanos = now;
+
+            if (tokens >= 1) {
+                tokens--;
+                return true;
+            }
+            suppressed++;
+            return false;
+        }
+
+        synchronized long takeSuppressed() {
+            long taken = suppressed;
+            suppressed = 0;
+            return taken;
+        }
+    }
+}
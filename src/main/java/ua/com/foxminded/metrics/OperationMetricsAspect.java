@@ -0,0 +1,178 @@
+package ua.com.foxminded.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records latency, result sizes and errors of every operation of the
+ * repository, service, controller and REST API layers. It is the outermost
+ * aspect, so the time of logging and validation done by other aspects of a
+ * layer is included.
+ * <p>
+ * Meters are tagged with a layer, a component (a simple name of a class or a
+ * repository interface) and an operation (a method name):
+ * <ul>
+ * <li>{@code timetable.operation} - a timer with an outcome tag and a
+ * percentile histogram;</li>
+ * <li>{@code timetable.operation.result.size} - sizes of collections and maps
+ * returned by {@code get*} and {@code find*} methods;</li>
+ * <li>{@code timetable.operation.errors} - a counter with an exception tag.</li>
+ * </ul>
+ */
+@Aspect
+@Configuration
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OperationMetricsAspect {
+    static final String OPERATION_TIMER = "timetable.operation";
+    static final String RESULT_SIZE_SUMMARY = "timetable.operation.result.size";
+    static final String ERROR_COUNTER = "timetable.operation.errors";
+
+    private static final String REPOSITORIES_PACKAGE = "ua.com.foxminded.repositories.interfaces";
+    private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Map<Method, OperationMeters>> meters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public OperationMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Pointcut("execution (public * org.springframework.data.repository.Repository+.*(..)) && this(org.springframework.data.repository.Repository)")
+    private void repositoryMethods() {
+    }
+
+    @Pointcut("execution (public * ua.com.foxminded.service.*Service.*(..)) || execution (public * ua.com.foxminded.service.generator.TimetableGenerator.generate(..)) "
+            + "|| execution (public * ua.com.foxminded.service.export.EntityExporter.export*(..))")
+    private void serviceMethods() {
+    }
+
+    @Pointcut("execution (public * ua.com.foxminded.controllers.*Controller.*(..))")
+    private void controllerMethods() {
+    }
+
+    @Pointcut("execution (public * ua.com.foxminded.api.*RestController.*(..))")
+    private void restControllerMethods() {
+    }
+
+    @Around("repositoryMethods()")
+    Object aroundRepositoryMethodAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        return measure(proceedingJoinPoint, "repository");
+    }
+
+    @Around("serviceMethods()")
+    Object aroundServiceMethodAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        return measure(proceedingJoinPoint, "service");
+    }
+
+    @Around("controllerMethods()")
+    Object aroundControllerMethodAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        return measure(proceedingJoinPoint, "controller");
+    }
+
+    @Around("restControllerMethods()")
+    Object aroundRestControllerMethodAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        return measure(proceedingJoinPoint, "api");
+    }
+
+    private Object measure(ProceedingJoinPoint proceedingJoinPoint, String layer) throws Throwable {
+        OperationMeters operationMeters = findMeters(proceedingJoinPoint, layer);
+        long startTime = System.nanoTime();
+
+        try {
+            Object result = proceedingJoinPoint.proceed();
+            operationMeters.successTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+
+            if (operationMeters.resultSizeSummary != null) {
+                if (result instanceof Collection<?>) {
+                    operationMeters.resultSizeSummary.record(((Collection<?>) result).size());
+                } else if (result instanceof Map<?, ?>) {
+                    operationMeters.resultSizeSummary.record(((Map<?, ?>) result).size());
+                }
+            }
+            return result;
+        } catch (Throwable throwable) {
+            operationMeters.errorTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            Counter.builder(ERROR_COUNTER)
+                    .tags(operationMeters.tags)
+                    .tag("exception", throwable.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw throwable;
+        }
+    }
+
+    private OperationMeters findMeters(ProceedingJoinPoint proceedingJoinPoint, String layer) {
+        Object proxy = proceedingJoinPoint.getThis();
+        Method method = ((MethodSignature) proceedingJoinPoint.getSignature()).getMethod();
+
+        return meters.computeIfAbsent(proxy.getClass(), proxyClass -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, operation -> new OperationMeters(layer, componentOf(proxy), operation));
+    }
+
+    /**
+     * @return a name of a repository interface for repositories, because all
+     *         of them are implemented by one class.
+     */
+    private String componentOf(Object proxy) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(proxy.getClass())) {
+            if (type.getName().startsWith(REPOSITORIES_PACKAGE)) {
+                return type.getSimpleName();
+            }
+        }
+        return ClassUtils.getUserClass(proxy).getSimpleName();
+    }
+
+    private class OperationMeters {
+        private final String[] tags;
+        private final Timer successTimer;
+        private final Timer errorTimer;
+        private final DistributionSummary resultSizeSummary;
+
+        OperationMeters(String layer, String component, Method method) {
+            tags = new String[] { "layer", layer, "component", component, "operation", method.getName() };
+            successTimer = timer("success");
+            errorTimer = timer("error");
+
+            boolean returnsElements = Collection.class.isAssignableFrom(method.getReturnType())
+                    || Map.class.isAssignableFrom(method.getReturnType());
+            if (returnsElements && (method.getName().startsWith("get") || method.getName().startsWith("find"))) {
+                resultSizeSummary = DistributionSummary.builder(RESULT_SIZE_SUMMARY)
+                        .tags(tags)
+                        .publishPercentiles(PERCENTILES)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+            } else {
+                resultSizeSummary = null;
+            }
+        }
+
+        private Timer timer(String outcome) {
+            return Timer.builder(OPERATION_TIMER)
+                    .tags(tags)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(PERCENTILES)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+}
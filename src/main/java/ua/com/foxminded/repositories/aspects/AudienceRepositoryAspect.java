@@ -0,0 +1,68 @@
+package ua.com.foxminded.repositories.aspects;
+
+import java.util.Collection;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.repositories.exceptions.RepositoryException;
+
+@Aspect
+@Configuration
+public class AudienceRepositoryAspect {
+    private final Logger logger = LoggerFactory.getLogger(AudienceRepositoryAspect.class);
+
+    @Pointcut("execution (java.util.List ua.com.foxminded.repositories.interfaces.AudienceRepository.findByNameIn(java.util.Collection))")
+    private void findByNameInMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.repositories.interfaces.AudienceRepository.insertAllIfAbsent(java.util.Collection))")
+    private void insertAllIfAbsentMethod() {
+    }
+
+    @Around("findByNameInMethod()")
+    Object aroundFindByNameInAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Collection<?> names = (Collection<?>) proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to find audiences with names {}.", names);
+        }
+
+        try {
+            Object targetMethod = proceedingJoinPoint.proceed();
+            if (logger.isDebugEnabled()) {
+                logger.debug("For names {} there are audiences: {}.", names, LogSummary.of(targetMethod));
+            }
+            return targetMethod;
+        } catch (DataAccessException dataAccessException) {
+            logger.error("Can't find audiences with names {}.", names, dataAccessException);
+            throw new RepositoryException("Can't find audiences by names.", dataAccessException);
+        }
+    }
+
+    @Around("insertAllIfAbsentMethod()")
+    void aroundInsertAllIfAbsentAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Collection<?> names = (Collection<?>) proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to add audiences with names {} unless they exist.", names);
+        }
+
+        try {
+            proceedingJoinPoint.proceed();
+            if (logger.isDebugEnabled()) {
+                logger.debug("Audiences with names {} exist.", names);
+            }
+        } catch (DataAccessException dataAccessException) {
+            logger.error("Can't add audiences with names {}.", names, dataAccessException);
+            throw new RepositoryException("Can't add audiences.", dataAccessException);
+        }
+    }
+}
@@ -9,16 +9,48 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.dao.DataAccessException;
+import org.springframework.util.ClassUtils;
 
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.logging.WarningRateLimiter;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
+import ua.com.foxminded.tracing.TraceHook;
 
 @Aspect
 @Configuration
 public class GeneralRepositoryAspect {
+    private static final String REPOSITORIES_PACKAGE = "ua.com.foxminded.repositories.interfaces.";
+
+    /**
+     * Names of findById spans by repository proxy classes, e.g.
+     * "GroupRepository.findById".
+     */
+    private static final ClassValue<String> FIND_BY_ID_OPERATIONS = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> proxyClass) {
+            for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(proxyClass)) {
+                if (type.getName().startsWith(REPOSITORIES_PACKAGE)) {
+                    return type.getSimpleName() + ".findById";
+                }
+            }
+            return ClassUtils.getUserClass(proxyClass).getSimpleName() + ".findById";
+        }
+    };
+
     private final Logger logger = LoggerFactory.getLogger(GeneralRepositoryAspect.class);
 
+    private WarningRateLimiter warningRateLimiter;
+    private TraceHook[] traceHooks;
+
+    @Autowired
+    public GeneralRepositoryAspect(WarningRateLimiter warningRateLimiter, List<TraceHook> traceHooks) {
+        this.warningRateLimiter = warningRateLimiter;
+        this.traceHooks = traceHooks.toArray(new TraceHook[0]);
+    }
+
     @Pointcut("execution (* org.springframework.data.repository.CrudRepository+.save(*))")
     private void saveMethods() {
     }
@@ -27,10 +59,26 @@ public class GeneralRepositoryAspect {
     private void findAllMethods() {
     }
 
+    @Pointcut("execution (* org.springframework.data.repository.PagingAndSortingRepository+.findAll(org.springframework.data.domain.Pageable))")
+    private void findPageMethods() {
+    }
+
+    @Pointcut("execution (* ua.com.foxminded.repositories.interfaces.ScrollableRepository+.findByIdGreaterThan(int, org.springframework.data.domain.Pageable))")
+    private void findByIdGreaterThanMethods() {
+    }
+
+    @Pointcut("execution (java.util.stream.Stream org.springframework.data.repository.Repository+.streamAll())")
+    private void streamAllMethods() {
+    }
+
     @Pointcut("execution (* org.springframework.data.repository.CrudRepository+.findById(*))")
     private void findByIdMethods() {
     }
 
+    @Pointcut("execution (* org.springframework.data.jpa.repository.JpaRepository+.findAllById(*))")
+    private void findAllByIdMethods() {
+    }
+
     @Pointcut("execution (void org.springframework.data.repository.CrudRepository+.deleteById(*))")
     private void deleteByIdMethods() {
     }
@@ -63,36 +111,129 @@ public class GeneralRepositoryAspect {
         if (targetMethod instanceof List<?>) {
 
             if (((List<?>) targetMethod).isEmpty()) {
-                logger.warn("There are not any objects in the result when findAll.");
+                warningRateLimiter.warn(logger, "There are not any objects in the result when findAll.");
 
             } else {
 
                 if (logger.isDebugEnabled()) {
-                    logger.debug("The result is: {}.", targetMethod);
+                    logger.debug("The result is: {}.", LogSummary.of(targetMethod));
                 }
             }
         }
         return targetMethod;
     }
 
+    @Around("streamAllMethods()")
+    Object aroundStreamAllAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to open a stream of all objects.");
+        }
+
+        try {
+            return proceedingJoinPoint.proceed();
+        } catch (DataAccessException dataAccessException) {
+            logger.error("Can't open a stream of all objects.", dataAccessException);
+            throw new RepositoryException("Can't open a stream of all objects.", dataAccessException);
+        }
+    }
+
+    @Around("findPageMethods()")
+    Object aroundFindPageAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Object pageable = proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to find a page of objects: {}.", pageable);
+        }
+
+        try {
+            Object targetMethod = proceedingJoinPoint.proceed();
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("The result page {} is {}.", pageable, LogSummary.of(targetMethod));
+            }
+
+            return targetMethod;
+        } catch (DataAccessException dataAccessException) {
+            logger.error("Can't find a page of objects {}.", pageable, dataAccessException);
+            throw new RepositoryException("Can't find a page of objects.", dataAccessException);
+        }
+    }
+
+    @Around("findByIdGreaterThanMethods()")
+    Object aroundFindByIdGreaterThanAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Object id = proceedingJoinPoint.getArgs()[0];
+        Object pageable = proceedingJoinPoint.getArgs()[1];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to find objects after id {}: {}.", id, pageable);
+        }
+
+        try {
+            Object targetMethod = proceedingJoinPoint.proceed();
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("The result objects after id {} are {}.", id, LogSummary.of(targetMethod));
+            }
+
+            return targetMethod;
+        } catch (DataAccessException dataAccessException) {
+            logger.error("Can't find objects after id {}.", id, dataAccessException);
+            throw new RepositoryException("Can't find objects after id.", dataAccessException);
+        }
+    }
+
+    @Around("findAllByIdMethods()")
+    Object aroundFindAllByIdAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Object ids = proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to find objects by ids: {}.", ids);
+        }
+
+        try {
+            Object targetMethod = proceedingJoinPoint.proceed();
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("The result objects with ids {} are {}.", ids, LogSummary.of(targetMethod));
+            }
+
+            return targetMethod;
+        } catch (DataAccessException dataAccessException) {
+            logger.error("Can't find objects by ids {}.", ids, dataAccessException);
+            throw new RepositoryException("Can't find objects by ids.", dataAccessException);
+        }
+    }
+
     @Around("findByIdMethods()")
+    @SuppressWarnings("unchecked")
     Object aroundFindByIdAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
         Integer id = (Integer) proceedingJoinPoint.getArgs()[0];
         if (logger.isDebugEnabled()) {
             logger.debug("Try to find an object by id: {}.", id);
         }
 
+        String operation = FIND_BY_ID_OPERATIONS.get(proceedingJoinPoint.getThis().getClass());
+        long start = System.nanoTime();
+        Optional<Object> targetMethod;
         try {
-            Optional<Object> targetMethod = (Optional<Object>) proceedingJoinPoint.proceed();
-            
-            System.out.println(targetMethod);
+            targetMethod = (Optional<Object>) proceedingJoinPoint.proceed();
+        } catch (Throwable throwable) {
+            record(operation, System.nanoTime() - start, throwable);
+            if (throwable instanceof DataAccessException) {
+                logger.error("Can't find an object by id {}.", id, throwable);
+                throw new RepositoryException("Can't find an object by id.", (DataAccessException) throwable);
+            }
+            throw throwable;
+        }
+        record(operation, System.nanoTime() - start, null);
 
+        try {
             if(!targetMethod.isPresent()) {
                 throw new NullPointerException("There is no object in the database with pointed id.");
             }
 
             if (logger.isDebugEnabled()) {
-                logger.debug("The result object with id {} is {}.", id, targetMethod);
+                logger.debug("The result object with id {} is found.", id);
             }
 
             return targetMethod;
@@ -100,9 +241,6 @@ public class GeneralRepositoryAspect {
         } catch (NullPointerException nullPointerException) {
             logger.error("There is no result when find an object by id {}.", id, nullPointerException);
             throw new RepositoryException("There is no object with specified id.", nullPointerException);
-        } catch (DataAccessException dataAccessException) {
-            logger.error("Can't find an object by id {}.", id, dataAccessException);
-            throw new RepositoryException("Can't find an object by id.", dataAccessException);
         }
     }
 
@@ -125,4 +263,10 @@ public class GeneralRepositoryAspect {
             throw new RepositoryException("Can't delete an object by id.", dataAccessException);
         }
     }
+
+    private void record(String operation, long durationNanos, Throwable error) {
+        for (TraceHook traceHook : traceHooks) {
+            traceHook.record(operation, durationNanos, error);
+        }
+    }
 }
\ No newline at end of file
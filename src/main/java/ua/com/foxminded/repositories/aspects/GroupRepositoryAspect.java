@@ -0,0 +1,66 @@
+package ua.com.foxminded.repositories.aspects;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+
+import ua.com.foxminded.repositories.exceptions.RepositoryException;
+
+@Aspect
+@Configuration
+public class GroupRepositoryAspect {
+    private final Logger logger = LoggerFactory.getLogger(GroupRepositoryAspect.class);
+
+    @Pointcut("execution (int ua.com.foxminded.repositories.interfaces.GroupRepository.takeStudentPlace(int))")
+    private void takeStudentPlaceMethod() {
+    }
+
+    @Pointcut("execution (int ua.com.foxminded.repositories.interfaces.GroupRepository.releaseStudentPlace(int))")
+    private void releaseStudentPlaceMethod() {
+    }
+
+    @Around("takeStudentPlaceMethod()")
+    Object aroundTakeStudentPlaceAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int groupId = (int) proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to take a place of a student in a group with id {}.", groupId);
+        }
+
+        try {
+            Object targetMethod = proceedingJoinPoint.proceed();
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} places were taken in the group with id {}.", targetMethod, groupId);
+            }
+            return targetMethod;
+        } catch (DataAccessException dataAccessException) {
+            logger.error("Can't take a place of a student in the group with id {}.", groupId, dataAccessException);
+            throw new RepositoryException("Can't take a place of a student in the group.", dataAccessException);
+        }
+    }
+
+    @Around("releaseStudentPlaceMethod()")
+    Object aroundReleaseStudentPlaceAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int groupId = (int) proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to release a place of a student in a group with id {}.", groupId);
+        }
+
+        try {
+            Object targetMethod = proceedingJoinPoint.proceed();
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} places were released in the group with id {}.", targetMethod, groupId);
+            }
+            return targetMethod;
+        } catch (DataAccessException dataAccessException) {
+            logger.error("Can't release a place of a student in the group with id {}.", groupId, dataAccessException);
+            throw new RepositoryException("Can't release a place of a student in the group.", dataAccessException);
+        }
+    }
+}
@@ -9,13 +9,26 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.logging.WarningRateLimiter;
+import ua.com.foxminded.repositories.exceptions.RepositoryException;
 
 @Aspect
 @Configuration
 public class LessonRepositoryAspect {
     private final Logger logger = LoggerFactory.getLogger(LessonRepositoryAspect.class);
 
+    private WarningRateLimiter warningRateLimiter;
+
+    @Autowired
+    public LessonRepositoryAspect(WarningRateLimiter warningRateLimiter) {
+        this.warningRateLimiter = warningRateLimiter;
+    }
+
     @Pointcut("execution (java.util.List ua.com.foxminded.repositories.interfaces.LessonRepository.findByGroupIdAndDay(Integer, java.time.DayOfWeek))")
     private void findByGroupIdAndDayMethod() {
     }
@@ -24,6 +37,22 @@ public class LessonRepositoryAspect {
     private void findByLecturerIdAndDayMethod() {
     }
 
+    @Pointcut("execution (java.util.List ua.com.foxminded.repositories.interfaces.LessonRepository.findWeekLessonsForGroup(Integer))")
+    private void findWeekLessonsForGroupMethod() {
+    }
+
+    @Pointcut("execution (java.util.List ua.com.foxminded.repositories.interfaces.LessonRepository.findWeekLessonsForLecturer(Integer))")
+    private void findWeekLessonsForLecturerMethod() {
+    }
+
+    @Pointcut("execution (java.util.List ua.com.foxminded.repositories.interfaces.LessonRepository.findWeekLessonsForAudience(Integer))")
+    private void findWeekLessonsForAudienceMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.repositories.interfaces.LessonRepository.insertAll(java.util.List))")
+    private void insertAllMethod() {
+    }
+
     @Around("findByGroupIdAndDayMethod()")
     Object aroundFindByGroupIdAndDayAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
         Integer groupId = (Integer) proceedingJoinPoint.getArgs()[0];
@@ -37,11 +66,12 @@ public class LessonRepositoryAspect {
 
             if (targetMethod instanceof List<?>) {
                 if (((List<?>) targetMethod).isEmpty()) {
-                    logger.warn("There are not any lesson for the group with id {} on a day {}.", groupId, weekDay);
+                    warningRateLimiter.warn(logger, "There are not any lesson for the group with id {} on a day {}.",
+                            groupId, weekDay);
                 } else {
                     if (logger.isDebugEnabled()) {
                         logger.debug("For the group with id {} on a day {} there are lessons: {}.", groupId, weekDay,
-                                targetMethod);
+                                LogSummary.of(targetMethod));
                     }
                 }
             }
@@ -63,16 +93,114 @@ public class LessonRepositoryAspect {
             if (targetMethod instanceof List<?>) {
 
                 if (((List<?>) targetMethod).isEmpty()) {
-                    logger.warn("There are not any lesson for the lecturer with id {} on a day {}.", lecturerId,
-                            weekDay);
+                    warningRateLimiter.warn(logger, "There are not any lesson for the lecturer with id {} on a day {}.",
+                            lecturerId, weekDay);
                 } else {
                     if (logger.isDebugEnabled()) {
                         logger.debug("For the lecturer with id {} on a day {} there are lessons: {}.", lecturerId,
-                                weekDay, targetMethod);
+                                weekDay, LogSummary.of(targetMethod));
+                    }
+                }
+            }
+
+            return targetMethod;
+    }
+
+    @Around("findWeekLessonsForGroupMethod()")
+    Object aroundFindWeekLessonsForGroupAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Integer groupId = (Integer) proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to get all week lessons for a group with id {}.", groupId);
+        }
+
+        Object targetMethod = proceedingJoinPoint.proceed();
+
+        if (targetMethod instanceof List<?>) {
+            if (((List<?>) targetMethod).isEmpty()) {
+                warningRateLimiter.warn(logger, "There are not any week lessons for the group with id {}.", groupId);
+            } else {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("For the group with id {} there are week lessons: {}.", groupId,
+                            LogSummary.of(targetMethod));
+                }
+            }
+        }
+
+        return targetMethod;
+    }
+
+    @Around("findWeekLessonsForLecturerMethod()")
+    Object aroundFindWeekLessonsForLecturerAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Integer lecturerId = (Integer) proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to get all week lessons for a lecturer with id {}.", lecturerId);
+        }
+
+        Object targetMethod = proceedingJoinPoint.proceed();
+
+        if (targetMethod instanceof List<?>) {
+            if (((List<?>) targetMethod).isEmpty()) {
+                warningRateLimiter.warn(logger, "There are not any week lessons for the lecturer with id {}.",
+                        lecturerId);
+            } else {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("For the lecturer with id {} there are week lessons: {}.", lecturerId,
+                            LogSummary.of(targetMethod));
+                }
+            }
+        }
+
+        return targetMethod;
+    }
+
+    @Around("findWeekLessonsForAudienceMethod()")
+    Object aroundFindWeekLessonsForAudienceAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Integer audienceId = (Integer) proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to get all week lessons for an audience with id {}.", audienceId);
+        }
+
+        try {
+            Object targetMethod = proceedingJoinPoint.proceed();
+
+            if (targetMethod instanceof List<?>) {
+                if (((List<?>) targetMethod).isEmpty()) {
+                    warningRateLimiter.warn(logger, "There are not any week lessons for the audience with id {}.",
+                            audienceId);
+                } else {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("For the audience with id {} there are week lessons: {}.", audienceId,
+                                LogSummary.of(targetMethod));
                     }
                 }
             }
 
             return targetMethod;
+        } catch (DataAccessException dataAccessException) {
+            logger.error("Can't find week lessons for the audience with id {}.", audienceId, dataAccessException);
+            throw new RepositoryException("Can't find week lessons for the audience.", dataAccessException);
+        }
+    }
+
+    @Around("insertAllMethod()")
+    void aroundInsertAllAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        List<?> lessons = (List<?>) proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to insert {} lessons.", lessons.size());
+        }
+
+        try {
+            proceedingJoinPoint.proceed();
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} lessons were inserted.", lessons.size());
+            }
+        } catch (DataAccessException dataAccessException) {
+            logger.error("Can't insert {} lessons.", lessons.size(), dataAccessException);
+            throw new RepositoryException("Can't insert the lessons.", dataAccessException);
+        }
     }
-}
\ No newline at end of file
+}
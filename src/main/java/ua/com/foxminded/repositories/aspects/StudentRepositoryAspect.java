@@ -0,0 +1,42 @@
+package ua.com.foxminded.repositories.aspects;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+
+import ua.com.foxminded.repositories.exceptions.RepositoryException;
+
+@Aspect
+@Configuration
+public class StudentRepositoryAspect {
+    private final Logger logger = LoggerFactory.getLogger(StudentRepositoryAspect.class);
+
+    @Pointcut("execution (java.util.Optional ua.com.foxminded.repositories.interfaces.StudentRepository.findGroupIdById(int))")
+    private void findGroupIdByIdMethod() {
+    }
+
+    @Around("findGroupIdByIdMethod()")
+    Object aroundFindGroupIdByIdAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int studentId = (int) proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to find a group id of a student with id {}.", studentId);
+        }
+
+        try {
+            Object targetMethod = proceedingJoinPoint.proceed();
+            if (logger.isDebugEnabled()) {
+                logger.debug("The student with id {} has a group id {}.", studentId, targetMethod);
+            }
+            return targetMethod;
+        } catch (DataAccessException dataAccessException) {
+            logger.error("Can't find a group id of the student with id {}.", studentId, dataAccessException);
+            throw new RepositoryException("Can't find a group id of the student.", dataAccessException);
+        }
+    }
+}
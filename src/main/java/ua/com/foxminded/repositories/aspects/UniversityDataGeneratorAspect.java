@@ -0,0 +1,52 @@
+package ua.com.foxminded.repositories.aspects;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+
+import ua.com.foxminded.repositories.exceptions.RepositoryException;
+import ua.com.foxminded.repositories.generator.GeneratedUniversity;
+import ua.com.foxminded.repositories.generator.UniversitySize;
+
+@Aspect
+@Configuration
+public class UniversityDataGeneratorAspect {
+    private final Logger logger = LoggerFactory.getLogger(UniversityDataGeneratorAspect.class);
+
+    @Pointcut("execution (ua.com.foxminded.repositories.generator.GeneratedUniversity ua.com.foxminded.repositories.generator.UniversityDataGenerator.generate(ua.com.foxminded.repositories.generator.UniversitySize))")
+    private void generateMethod() {
+    }
+
+    @Around("generateMethod()")
+    Object aroundGenerateAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        UniversitySize size = (UniversitySize) proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to generate a university {}.", size);
+        }
+
+        try {
+            GeneratedUniversity university = (GeneratedUniversity) proceedingJoinPoint.proceed();
+
+            if (university.getSkippedLessons() > 0) {
+                logger.warn("The generated university misses {} lessons because of busy lecturers or audiences: {}.",
+                        university.getSkippedLessons(), university);
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("The university was generated: {}.", university);
+            }
+            return university;
+        } catch (IllegalArgumentException illegalArgumentException) {
+            logger.error("A size {} isn't legal when generate a university.", size, illegalArgumentException);
+            throw new RepositoryException("A given size isn't legal when generate a university.",
+                    illegalArgumentException);
+        } catch (DataAccessException | IllegalStateException exception) {
+            logger.error("Can't generate a university {}.", size, exception);
+            throw new RepositoryException("Can't generate the university.", exception);
+        }
+    }
+}
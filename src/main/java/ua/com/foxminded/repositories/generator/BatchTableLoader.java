@@ -0,0 +1,46 @@
+package ua.com.foxminded.repositories.generator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Writes rows with JDBC batches of a given size.
+ */
+class BatchTableLoader implements TableLoader {
+    private final PreparedStatement statement;
+    private final int batchSize;
+    private int rows;
+
+    BatchTableLoader(Connection connection, int batchSize, String table, String... columns) throws SQLException {
+        String[] parameters = new String[columns.length];
+        Arrays.fill(parameters, "?");
+        this.statement = connection.prepareStatement("INSERT INTO " + table + " (" + String.join(", ", columns)
+                + ") VALUES (" + String.join(", ", parameters) + ")");
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void add(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            statement.setObject(i + 1, values[i]);
+        }
+        statement.addBatch();
+
+        if (++rows % batchSize == 0) {
+            statement.executeBatch();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (rows % batchSize != 0) {
+                statement.executeBatch();
+            }
+        } finally {
+            statement.close();
+        }
+    }
+}
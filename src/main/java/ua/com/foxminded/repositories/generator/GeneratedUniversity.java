@@ -0,0 +1,60 @@
+package ua.com.foxminded.repositories.generator;
+
+import java.util.List;
+
+/**
+ * Ids and counts of rows written by {@link UniversityDataGenerator}.
+ */
+public class GeneratedUniversity {
+    private final List<Integer> groupIds;
+    private final List<Integer> lecturerIds;
+    private final long students;
+    private final long lessons;
+    private final long skippedLessons;
+    private final long elapsedMillis;
+
+    public GeneratedUniversity(List<Integer> groupIds, List<Integer> lecturerIds, long students, long lessons,
+            long skippedLessons, long elapsedMillis) {
+        this.groupIds = groupIds;
+        this.lecturerIds = lecturerIds;
+        this.students = students;
+        this.lessons = lessons;
+        this.skippedLessons = skippedLessons;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<Integer> getGroupIds() {
+        return groupIds;
+    }
+
+    public List<Integer> getLecturerIds() {
+        return lecturerIds;
+    }
+
+    public long getStudents() {
+        return students;
+    }
+
+    public long getLessons() {
+        return lessons;
+    }
+
+    /**
+     * @return a number of lessons which weren't written because every
+     *         lecturer or every audience was busy at their time.
+     */
+    public long getSkippedLessons() {
+        return skippedLessons;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedUniversity [groups=" + groupIds.size() + ", lecturers=" + lecturerIds.size() + ", students="
+                + students + ", lessons=" + lessons + ", skippedLessons=" + skippedLessons + ", elapsedMillis="
+                + elapsedMillis + "]";
+    }
+}
@@ -0,0 +1,14 @@
+package ua.com.foxminded.repositories.generator;
+
+import java.sql.SQLException;
+
+/**
+ * Writes rows into one table. Rows may be kept until the loader is closed.
+ */
+interface TableLoader extends AutoCloseable {
+
+    void add(Object... values) throws SQLException;
+
+    @Override
+    void close() throws SQLException;
+}
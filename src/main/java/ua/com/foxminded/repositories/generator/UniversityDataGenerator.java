@@ -0,0 +1,367 @@
+package ua.com.foxminded.repositories.generator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.postgresql.core.BaseConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes a whole university straight into the tables of the schema migrations:
+ * faculties, groups with their students, lecturers, audiences, a grid of
+ * lesson times and lessons which don't double-book any group, lecturer or
+ * audience.
+ * <p>
+ * PostgreSQL tables are loaded with {@code COPY}, other databases get JDBC
+ * batches. Ids of new rows are read back in the order they were written, so
+ * nobody else should write into the tables meanwhile. Names, e-mails and
+ * phone numbers depend on the seed, so a seed can be used only once for a
+ * database.
+ */
+@Component
+public class UniversityDataGenerator {
+    private static final LocalTime FIRST_LESSON_START = LocalTime.of(8, 0);
+    private static final int LESSON_MINUTES = 80;
+    private static final int BREAK_MINUTES = 15;
+    private static final int AUDIENCES_PER_FLOOR = 50;
+    private static final int[] AUDIENCE_CAPACITIES = { 30, 60, 120 };
+
+    private static final String[] FIELDS = { "Mathematics", "Physics", "Chemistry", "Biology", "History",
+            "Philology", "Economics", "Law", "Computer Science", "Philosophy", "Geography", "Psychology" };
+    private static final String[] SUBJECTS = { "Mathematical Analysis", "Linear Algebra", "Physics", "Chemistry",
+            "History of Ukraine", "Philosophy", "Programming", "Databases", "Economics", "English",
+            "Ukrainian", "Statistics", "Physical Exercises", "Law", "Psychology", "Ecology" };
+    private static final String[] MALE_FIRST_NAMES = { "Andrii", "Bohdan", "Dmytro", "Ihor", "Illia", "Maksym",
+            "Mykhailo", "Mykola", "Oleh", "Oleksandr", "Petro", "Roman", "Serhii", "Taras", "Vasyl", "Yurii" };
+    private static final String[] FEMALE_FIRST_NAMES = { "Anna", "Daria", "Halyna", "Iryna", "Kateryna", "Khrystyna",
+            "Mariia", "Nataliia", "Oksana", "Olena", "Olha", "Sofiia", "Svitlana", "Tetiana", "Viktoriia", "Yuliia" };
+    private static final String[] LAST_NAMES = { "Bondarenko", "Boiko", "Dudchenko", "Hrynchuk", "Kovalenko",
+            "Kovalchuk", "Kravchenko", "Lysenko", "Mazur", "Melnyk", "Misiats", "Moroz", "Oliinyk", "Pavlenko",
+            "Savchenko", "Shevchenko", "Skladenko", "Tkachenko", "Zakharchuk", "Marchenko" };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final boolean copyEnabled;
+
+    @Autowired
+    public UniversityDataGenerator(JdbcTemplate jdbcTemplate,
+            @Value("${university.generator.batch-size:1000}") int batchSize,
+            @Value("${university.generator.copy:true}") boolean copyEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.copyEnabled = copyEnabled;
+    }
+
+    @Transactional
+    public GeneratedUniversity generate(UniversitySize size) {
+        checkSize(size);
+        return jdbcTemplate.execute((ConnectionCallback<GeneratedUniversity>) connection -> new Load(connection, size)
+                .run());
+    }
+
+    private void checkSize(UniversitySize size) {
+        if (size == null || size.getFaculties() < 1 || size.getGroupsPerFaculty() < 1 || size.getLecturers() < 1
+                || size.getAudiences() < 1) {
+            throw new IllegalArgumentException(
+                    "A university must have at least one faculty, group, lecturer and audience.");
+        }
+        if (size.getStudentsPerGroup() < 0 || size.getStudentsPerGroup() > UniversitySize.MAX_STUDENTS_PER_GROUP) {
+            throw new IllegalArgumentException(
+                    "A group can have from 0 to " + UniversitySize.MAX_STUDENTS_PER_GROUP + " students.");
+        }
+        if (size.getWorkingDays() < 1 || size.getWorkingDays() > UniversitySize.MAX_WORKING_DAYS
+                || size.getLessonTimes() < 1 || size.getLessonTimes() > UniversitySize.MAX_LESSON_TIMES) {
+            throw new IllegalArgumentException("There can be from 1 to " + UniversitySize.MAX_WORKING_DAYS
+                    + " working days and from 1 to " + UniversitySize.MAX_LESSON_TIMES + " lesson times.");
+        }
+        if (size.getLessonsPerGroup() < 0
+                || size.getLessonsPerGroup() > size.getWorkingDays() * size.getLessonTimes()) {
+            throw new IllegalArgumentException("A group can't have more lessons than lesson times in a week.");
+        }
+    }
+
+    /**
+     * One generation of a university through a single connection.
+     */
+    private class Load {
+        private final Connection connection;
+        private final UniversitySize size;
+        private final SplittableRandom random;
+        private final String tag;
+        private final long phoneBase;
+        private final long startTime = System.nanoTime();
+
+        Load(Connection connection, UniversitySize size) {
+            this.connection = connection;
+            this.size = size;
+            this.random = new SplittableRandom(size.getSeed());
+            this.tag = Long.toUnsignedString(size.getSeed(), Character.MAX_RADIX);
+            this.phoneBase = Math.floorMod(size.getSeed() * 7_919, 1_000_000_000L);
+        }
+
+        GeneratedUniversity run() throws SQLException {
+            List<Integer> facultyIds = writeFaculties();
+            List<Integer> groupIds = writeGroups(facultyIds);
+            List<Integer> lessonTimeIds = writeLessonTimes();
+            List<Integer> lecturerIds = writeLecturers();
+            long students = writeStudents(groupIds);
+            writeAudiences();
+            long lessons = writeLessons(groupIds, lecturerIds, lessonTimeIds);
+
+            return new GeneratedUniversity(groupIds, lecturerIds, students, lessons, size.getLessons() - lessons,
+                    (System.nanoTime() - startTime) / 1_000_000);
+        }
+
+        private List<Integer> writeFaculties() throws SQLException {
+            int lastId = findLastId("faculties");
+            try (TableLoader loader = loader("faculties", "name")) {
+                for (int faculty = 0; faculty < size.getFaculties(); faculty++) {
+                    loader.add("Faculty of " + FIELDS[faculty % FIELDS.length] + " " + (faculty + 1) + "-" + tag);
+                }
+            }
+            return findNewIds("faculties", lastId, size.getFaculties());
+        }
+
+        private List<Integer> writeGroups(List<Integer> facultyIds) throws SQLException {
+            int lastId = findLastId("groups");
+            try (TableLoader loader = loader("groups", "name", "faculty_id", "student_count")) {
+                for (int group = 0; group < size.getGroups(); group++) {
+                    int faculty = group / size.getGroupsPerFaculty();
+                    String code = FIELDS[faculty % FIELDS.length].substring(0, 2).toUpperCase(Locale.ENGLISH);
+                    loader.add(String.format("%s%d-%04d-%s", code, faculty + 1, group % size.getGroupsPerFaculty() + 1,
+                            tag), facultyIds.get(faculty), size.getStudentsPerGroup());
+                }
+            }
+            return findNewIds("groups", lastId, size.getGroups());
+        }
+
+        /**
+         * Lesson times which are in the table already are reused.
+         */
+        private List<Integer> writeLessonTimes() throws SQLException {
+            Map<LocalTime, Integer> existingIds = new HashMap<>();
+            try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery("SELECT id, start_time, end_time FROM lesson_times")) {
+                while (resultSet.next()) {
+                    LocalTime startTime = resultSet.getTime("start_time").toLocalTime();
+                    LocalTime endTime = resultSet.getTime("end_time").toLocalTime();
+                    if (endTime.equals(startTime.plusMinutes(LESSON_MINUTES))) {
+                        existingIds.put(startTime, resultSet.getInt("id"));
+                    }
+                }
+            }
+
+            List<LocalTime> missingTimes = new ArrayList<>();
+            for (int time = 0; time < size.getLessonTimes(); time++) {
+                if (!existingIds.containsKey(startOf(time))) {
+                    missingTimes.add(startOf(time));
+                }
+            }
+
+            int lastId = findLastId("lesson_times");
+            try (TableLoader loader = loader("lesson_times", "start_time", "end_time")) {
+                for (LocalTime startTime : missingTimes) {
+                    loader.add(Time.valueOf(startTime), Time.valueOf(startTime.plusMinutes(LESSON_MINUTES)));
+                }
+            }
+            List<Integer> newIds = findNewIds("lesson_times", lastId, missingTimes.size());
+            for (int i = 0; i < missingTimes.size(); i++) {
+                existingIds.put(missingTimes.get(i), newIds.get(i));
+            }
+
+            List<Integer> lessonTimeIds = new ArrayList<>();
+            for (int time = 0; time < size.getLessonTimes(); time++) {
+                lessonTimeIds.add(existingIds.get(startOf(time)));
+            }
+            return lessonTimeIds;
+        }
+
+        private List<Integer> writeLecturers() throws SQLException {
+            int lastId = findLastId("people");
+            try (TableLoader loader = loader("people", "role", "first_name", "last_name", "gender", "phone_number",
+                    "email")) {
+                for (int lecturer = 0; lecturer < size.getLecturers(); lecturer++) {
+                    loader.add(person("Lecturer", lecturer));
+                }
+            }
+            return findNewIds("people", lastId, size.getLecturers());
+        }
+
+        private long writeStudents(List<Integer> groupIds) throws SQLException {
+            int personNumber = size.getLecturers();
+            try (TableLoader loader = loader("people", "role", "first_name", "last_name", "gender", "phone_number",
+                    "email", "student_group_id")) {
+                for (Integer groupId : groupIds) {
+                    for (int student = 0; student < size.getStudentsPerGroup(); student++) {
+                        Object[] values = Arrays.copyOf(person("Student", personNumber++), 7);
+                        values[6] = groupId;
+                        loader.add(values);
+                    }
+                }
+            }
+            return (long) groupIds.size() * size.getStudentsPerGroup();
+        }
+
+        /**
+         * Lessons of a group on a day follow each other from a random lesson
+         * time, so a group has no gaps. Every subject of a group is taught by
+         * one lecturer while the lecturer is free, otherwise by the next free
+         * one.
+         */
+        private long writeLessons(List<Integer> groupIds, List<Integer> lecturerIds, List<Integer> lessonTimeIds)
+                throws SQLException {
+            int days = size.getWorkingDays();
+            int times = size.getLessonTimes();
+            BitSet[] busyLecturers = new BitSet[days * times];
+            int[] busyAudiences = new int[days * times];
+            for (int slot = 0; slot < busyLecturers.length; slot++) {
+                busyLecturers[slot] = new BitSet(lecturerIds.size());
+            }
+            int[] subjectLecturers = new int[SUBJECTS.length];
+            long lessons = 0;
+
+            try (TableLoader loader = loader("lessons", "name", "lecturer_id", "group_id", "audience", "week_day",
+                    "lesson_time_id")) {
+                for (int group = 0; group < groupIds.size(); group++) {
+                    Arrays.fill(subjectLecturers, -1);
+                    int firstDay = random.nextInt(days);
+                    int lesson = 0;
+
+                    for (int i = 0; i < days; i++) {
+                        int day = (firstDay + i) % days;
+                        int dayLessons = size.getLessonsPerGroup() / days
+                                + (i < size.getLessonsPerGroup() % days ? 1 : 0);
+                        int firstTime = random.nextInt(times - dayLessons + 1);
+
+                        for (int time = firstTime; time < firstTime + dayLessons; time++, lesson++) {
+                            int slot = day * times + time;
+                            int subject = (group + lesson / 2) % SUBJECTS.length;
+                            int lecturer = findFreeLecturer(busyLecturers[slot], subjectLecturers, subject,
+                                    lecturerIds.size());
+
+                            if (lecturer < 0 || busyAudiences[slot] == size.getAudiences()) {
+                                continue;
+                            }
+                            busyLecturers[slot].set(lecturer);
+                            loader.add(SUBJECTS[subject], lecturerIds.get(lecturer), groupIds.get(group),
+                                    audienceOf(busyAudiences[slot]++), DayOfWeek.of(day + 1).name(),
+                                    lessonTimeIds.get(time));
+                            lessons++;
+                        }
+                    }
+                }
+            }
+            return lessons;
+        }
+
+        /**
+         * Audiences are numbered by floors and are the same for every seed, so
+         * only the missing ones are written.
+         */
+        private void writeAudiences() throws SQLException {
+            Set<String> existingNames = new HashSet<>();
+            try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery("SELECT name FROM audiences")) {
+                while (resultSet.next()) {
+                    existingNames.add(resultSet.getString(1));
+                }
+            }
+
+            try (TableLoader loader = loader("audiences", "name", "capacity")) {
+                for (int audience = 0; audience < size.getAudiences(); audience++) {
+                    String name = audienceOf(audience);
+
+                    if (!existingNames.contains(name)) {
+                        loader.add(name, AUDIENCE_CAPACITIES[audience % AUDIENCE_CAPACITIES.length]);
+                    }
+                }
+            }
+        }
+
+        private int findFreeLecturer(BitSet busyLecturers, int[] subjectLecturers, int subject, int lecturers) {
+            if (subjectLecturers[subject] < 0) {
+                subjectLecturers[subject] = random.nextInt(lecturers);
+            }
+            int lecturer = busyLecturers.nextClearBit(subjectLecturers[subject]);
+            if (lecturer >= lecturers) {
+                lecturer = busyLecturers.nextClearBit(0);
+            }
+            return lecturer < lecturers ? lecturer : -1;
+        }
+
+        private Object[] person(String role, int number) {
+            boolean male = random.nextBoolean();
+            String[] firstNames = male ? MALE_FIRST_NAMES : FEMALE_FIRST_NAMES;
+            String firstName = firstNames[random.nextInt(firstNames.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            String email = (firstName + "." + lastName).toLowerCase(Locale.ENGLISH) + "." + (number + 1) + "." + tag
+                    + "@university.edu.ua";
+            String phoneNumber = String.format("+380%09d", (phoneBase + number) % 1_000_000_000L);
+            return new Object[] { role, firstName, lastName, male ? "MALE" : "FEMALE", phoneNumber, email };
+        }
+
+        private String audienceOf(int audience) {
+            return Integer.toString(
+                    (audience / AUDIENCES_PER_FLOOR + 1) * 100 + audience % AUDIENCES_PER_FLOOR + 1);
+        }
+
+        private LocalTime startOf(int time) {
+            return FIRST_LESSON_START.plusMinutes((long) (LESSON_MINUTES + BREAK_MINUTES) * time);
+        }
+
+        private TableLoader loader(String table, String... columns) throws SQLException {
+            if (copyEnabled && connection.isWrapperFor(BaseConnection.class)) {
+                return new CopyTableLoader(connection.unwrap(BaseConnection.class), table, columns);
+            }
+            return new BatchTableLoader(connection, batchSize, table, columns);
+        }
+
+        private int findLastId(String table) throws SQLException {
+            try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery("SELECT MAX(id) FROM " + table)) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+
+        private List<Integer> findNewIds(String table, int lastId, int expectedCount) throws SQLException {
+            List<Integer> ids = new ArrayList<>(expectedCount);
+            try (PreparedStatement statement = connection
+                    .prepareStatement("SELECT id FROM " + table + " WHERE id > ? ORDER BY id")) {
+                statement.setInt(1, lastId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        ids.add(resultSet.getInt(1));
+                    }
+                }
+            }
+
+            if (ids.size() != expectedCount) {
+                throw new IllegalStateException("Expected " + expectedCount + " new rows in " + table
+                        + ", but there are " + ids.size() + ". Somebody else writes into the table.");
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package ua.com.foxminded.repositories.generator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates a university when the application starts with
+ * {@code university.generator.enabled=true}. The size is bound from
+ * {@code university.generator.*} properties, e.g.
+ * <pre>
+ * java -jar university-timetable.jar --spring.main.web-application-type=none
+ *     --university.generator.enabled=true --university.generator.faculties=25
+ *     --university.generator.groups-per-faculty=1250 --university.generator.students-per-group=32
+ *     --university.generator.lecturers=30000 --university.generator.audiences=30000
+ *     --university.generator.lessons-per-group=16 --university.generator.seed=7
+ * </pre>
+ * gives a million people and half a million lessons.
+ */
+@Component
+@ConditionalOnProperty(name = "university.generator.enabled", havingValue = "true")
+public class UniversityDataGeneratorRunner implements ApplicationRunner {
+    private final Logger logger = LoggerFactory.getLogger(UniversityDataGeneratorRunner.class);
+
+    private UniversityDataGenerator universityDataGenerator;
+    private UniversitySize size;
+
+    @Autowired
+    public UniversityDataGeneratorRunner(UniversityDataGenerator universityDataGenerator, Environment environment) {
+        this.universityDataGenerator = universityDataGenerator;
+        this.size = Binder.get(environment).bind("university.generator", UniversitySize.class)
+                .orElseGet(UniversitySize::new);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        logger.info("Generate a university {}: {} people and {} lessons.", size, size.getPeople(), size.getLessons());
+        GeneratedUniversity university = universityDataGenerator.generate(size);
+        logger.info("The university was generated: {}.", university);
+    }
+}
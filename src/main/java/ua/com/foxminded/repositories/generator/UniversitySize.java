@@ -0,0 +1,186 @@
+package ua.com.foxminded.repositories.generator;
+
+import ua.com.foxminded.domain.Group;
+
+/**
+ * What a generated university consists of. The same size with the same seed
+ * always gives the same rows.
+ */
+public class UniversitySize {
+    public static final int MAX_STUDENTS_PER_GROUP = Group.MAX_STUDENTS;
+    public static final int MAX_WORKING_DAYS = 6;
+    public static final int MAX_LESSON_TIMES = 10;
+
+    private int faculties = 10;
+    private int groupsPerFaculty = 20;
+    private int studentsPerGroup = 25;
+    private int lecturers = 200;
+    private int audiences = 150;
+    private int workingDays = 5;
+    private int lessonTimes = 6;
+    private int lessonsPerGroup = 20;
+    private long seed = 1;
+
+    public UniversitySize() {
+
+    }
+
+    public UniversitySize(int faculties, int groupsPerFaculty, int studentsPerGroup, int lecturers, int audiences,
+            int lessonsPerGroup, long seed) {
+        this.faculties = faculties;
+        this.groupsPerFaculty = groupsPerFaculty;
+        this.studentsPerGroup = studentsPerGroup;
+        this.lecturers = lecturers;
+        this.audiences = audiences;
+        this.lessonsPerGroup = lessonsPerGroup;
+        this.seed = seed;
+    }
+
+    public int getFaculties() {
+        return faculties;
+    }
+
+    public void setFaculties(int faculties) {
+        this.faculties = faculties;
+    }
+
+    public int getGroupsPerFaculty() {
+        return groupsPerFaculty;
+    }
+
+    public void setGroupsPerFaculty(int groupsPerFaculty) {
+        this.groupsPerFaculty = groupsPerFaculty;
+    }
+
+    public int getStudentsPerGroup() {
+        return studentsPerGroup;
+    }
+
+    public void setStudentsPerGroup(int studentsPerGroup) {
+        this.studentsPerGroup = studentsPerGroup;
+    }
+
+    public int getLecturers() {
+        return lecturers;
+    }
+
+    public void setLecturers(int lecturers) {
+        this.lecturers = lecturers;
+    }
+
+    public int getAudiences() {
+        return audiences;
+    }
+
+    public void setAudiences(int audiences) {
+        this.audiences = audiences;
+    }
+
+    public int getWorkingDays() {
+        return workingDays;
+    }
+
+    /**
+     * @param workingDays a number of days from Monday which have lessons.
+     */
+    public void setWorkingDays(int workingDays) {
+        this.workingDays = workingDays;
+    }
+
+    public int getLessonTimes() {
+        return lessonTimes;
+    }
+
+    /**
+     * @param lessonTimes a number of lesson times of a day, from 08:00 with 80
+     *                    minutes for a lesson and 15 minutes for a break.
+     */
+    public void setLessonTimes(int lessonTimes) {
+        this.lessonTimes = lessonTimes;
+    }
+
+    public int getLessonsPerGroup() {
+        return lessonsPerGroup;
+    }
+
+    /**
+     * @param lessonsPerGroup a number of lessons of every group in a week.
+     */
+    public void setLessonsPerGroup(int lessonsPerGroup) {
+        this.lessonsPerGroup = lessonsPerGroup;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getGroups() {
+        return faculties * groupsPerFaculty;
+    }
+
+    public long getPeople() {
+        return (long) getGroups() * studentsPerGroup + lecturers;
+    }
+
+    public long getLessons() {
+        return (long) getGroups() * lessonsPerGroup;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + audiences;
+        result = prime * result + faculties;
+        result = prime * result + groupsPerFaculty;
+        result = prime * result + lecturers;
+        result = prime * result + lessonTimes;
+        result = prime * result + lessonsPerGroup;
+        result = prime * result + (int) (seed ^ (seed >>> 32));
+        result = prime * result + studentsPerGroup;
+        result = prime * result + workingDays;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        UniversitySize other = (UniversitySize) obj;
+        if (audiences != other.audiences)
+            return false;
+        if (faculties != other.faculties)
+            return false;
+        if (groupsPerFaculty != other.groupsPerFaculty)
+            return false;
+        if (lecturers != other.lecturers)
+            return false;
+        if (lessonTimes != other.lessonTimes)
+            return false;
+        if (lessonsPerGroup != other.lessonsPerGroup)
+            return false;
+        if (seed != other.seed)
+            return false;
+        if (studentsPerGroup != other.studentsPerGroup)
+            return false;
+        if (workingDays != other.workingDays)
+            return false;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "UniversitySize [faculties=" + faculties + ", groupsPerFaculty=" + groupsPerFaculty
+                + ", studentsPerGroup=" + studentsPerGroup + ", lecturers=" + lecturers + ", audiences=" + audiences
+                + ", workingDays=" + workingDays + ", lessonTimes=" + lessonTimes + ", lessonsPerGroup="
+                + lessonsPerGroup + ", seed=" + seed + "]";
+    }
+}
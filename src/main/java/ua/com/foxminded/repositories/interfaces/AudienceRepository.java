@@ -0,0 +1,11 @@
+package ua.com.foxminded.repositories.interfaces;
+
+import java.util.Collection;
+import java.util.List;
+
+import ua.com.foxminded.domain.Audience;
+
+public interface AudienceRepository extends ScrollableRepository<Audience>, AudienceRepositoryCustom {
+
+    List<Audience> findByNameIn(Collection<String> names);
+}
@@ -0,0 +1,13 @@
+package ua.com.foxminded.repositories.interfaces;
+
+import java.util.Collection;
+
+public interface AudienceRepositoryCustom {
+
+    /**
+     * Adds audiences without a capacity for names which have no audience yet.
+     * A name which is added by a concurrent transaction at the same time is
+     * skipped instead of failing on the unique name.
+     */
+    public void insertAllIfAbsent(Collection<String> names);
+}
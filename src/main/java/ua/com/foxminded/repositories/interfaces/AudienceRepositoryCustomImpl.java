@@ -0,0 +1,39 @@
+package ua.com.foxminded.repositories.interfaces;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PostgreSQL skips existing names with {@code ON CONFLICT DO NOTHING}; other
+ * databases, which are H2 in tests, merge audiences by their names.
+ */
+public class AudienceRepositoryCustomImpl implements AudienceRepositoryCustom {
+    private static final String INSERT_AUDIENCE = "INSERT INTO audiences (name) VALUES (?) ON CONFLICT DO NOTHING";
+    private static final String MERGE_AUDIENCE = "MERGE INTO audiences (name) KEY (name) VALUES (?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void insertAllIfAbsent(Collection<String> names) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            String sql = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()) ? INSERT_AUDIENCE
+                    : MERGE_AUDIENCE;
+
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (String name : names) {
+                    statement.setString(1, name);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+}
@@ -1,9 +1,53 @@
 package ua.com.foxminded.repositories.interfaces;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import ua.com.foxminded.domain.Group;
 
-public interface GroupRepository extends JpaRepository<Group, Integer> {
+public interface GroupRepository extends ScrollableRepository<Group> {
+
+    @Override
+    @EntityGraph(attributePaths = "faculty")
+    List<Group> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "faculty")
+    Page<Group> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "faculty")
+    List<Group> findByIdGreaterThan(int id, Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "faculty")
+    Optional<Group> findById(Integer id);
+
+    @Override
+    @EntityGraph(attributePaths = "faculty")
+    List<Group> findAllById(Iterable<Integer> ids);
+
+    /**
+     * Takes a place of a student in a group unless the group is full. The
+     * count is checked and changed by one statement, which locks the row, so
+     * concurrent students can't take the last place twice.
+     *
+     * @return 1 when the place is taken, 0 when the group is full or absent.
+     */
+    @Modifying
+    @Query("UPDATE Group studentGroup SET studentGroup.studentCount = studentGroup.studentCount + 1 "
+            + "WHERE studentGroup.id = :groupId AND studentGroup.studentCount < " + Group.MAX_STUDENTS)
+    int takeStudentPlace(@Param("groupId") int groupId);
 
+    @Modifying
+    @Query("UPDATE Group studentGroup SET studentGroup.studentCount = studentGroup.studentCount - 1 "
+            + "WHERE studentGroup.id = :groupId AND studentGroup.studentCount > 0")
+    int releaseStudentPlace(@Param("groupId") int groupId);
 }
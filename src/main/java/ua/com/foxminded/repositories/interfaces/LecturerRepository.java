@@ -1,9 +1,20 @@
 package ua.com.foxminded.repositories.interfaces;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import ua.com.foxminded.domain.Lecturer;
 
-public interface LecturerRepository extends JpaRepository<Lecturer, Integer> {
+public interface LecturerRepository extends ScrollableRepository<Lecturer> {
 
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true") })
+    @Query("SELECT lecturer FROM Lecturer lecturer ORDER BY lecturer.id")
+    Stream<Lecturer> streamAll();
 }
@@ -1,14 +1,62 @@
 package ua.com.foxminded.repositories.interfaces;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 import java.time.DayOfWeek;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonView;
+
+/**
+ * Every read of whole lessons is planned by the entity graph of {@link Lesson},
+ * since the associations of a lesson are lazy. Schedules are read as
+ * {@link LessonView}s, which are selected column by column.
+ */
+public interface LessonRepository extends JpaRepository<Lesson, Integer>, LessonRepositoryCustom {
+    String LESSON_VIEW = "SELECT new ua.com.foxminded.domain.LessonView(lesson.id, lesson.name, "
+            + "lesson.day, lessonTime.id, lessonTime.startTime, lessonTime.endTime, lesson.audience, lecturer.id, "
+            + "lecturer.firstName, lecturer.lastName, lessonGroup.id, lessonGroup.name) FROM Lesson lesson "
+            + "JOIN lesson.lessonTime lessonTime JOIN lesson.lecturer lecturer JOIN lesson.group lessonGroup ";
+
+    @Override
+    @EntityGraph(Lesson.WHOLE_GRAPH)
+    public List<Lesson> findAll();
+
+    @Override
+    @EntityGraph(Lesson.WHOLE_GRAPH)
+    public Optional<Lesson> findById(Integer id);
 
-public interface LessonRepository extends JpaRepository<Lesson, Integer> {
+    @EntityGraph(Lesson.WHOLE_GRAPH)
     public List<Lesson> findByGroupIdAndDay(Integer groupId, DayOfWeek day);
-    
+
+    @EntityGraph(Lesson.WHOLE_GRAPH)
     public List<Lesson> findByLecturerIdAndDay(Integer lecturerId, DayOfWeek day);
+
+    @Query(LESSON_VIEW + "WHERE lesson.group.id = :groupId ORDER BY lessonTime.startTime")
+    public List<LessonView> findWeekLessonsForGroup(@Param("groupId") Integer groupId);
+
+    @Query(LESSON_VIEW + "WHERE lesson.lecturer.id = :lecturerId ORDER BY lessonTime.startTime")
+    public List<LessonView> findWeekLessonsForLecturer(@Param("lecturerId") Integer lecturerId);
+
+    @Query(LESSON_VIEW
+            + "WHERE lesson.audience = (SELECT audience.name FROM Audience audience WHERE audience.id = :audienceId) "
+            + "ORDER BY lessonTime.startTime")
+    public List<LessonView> findWeekLessonsForAudience(@Param("audienceId") Integer audienceId);
+
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true") })
+    @EntityGraph(Lesson.WHOLE_GRAPH)
+    @Query("SELECT lesson FROM Lesson lesson ORDER BY lesson.id")
+    public Stream<Lesson> streamAll();
 }
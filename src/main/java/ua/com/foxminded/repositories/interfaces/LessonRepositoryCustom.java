@@ -0,0 +1,14 @@
+package ua.com.foxminded.repositories.interfaces;
+
+import java.util.List;
+
+import ua.com.foxminded.domain.Lesson;
+
+public interface LessonRepositoryCustom {
+
+    /**
+     * Inserts new lessons with JDBC batches and sets generated ids to them.
+     * Lessons must refer to existing groups, lecturers and lesson times.
+     */
+    public void insertAll(List<Lesson> lessons);
+}
@@ -0,0 +1,65 @@
+package ua.com.foxminded.repositories.interfaces;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import ua.com.foxminded.domain.Lesson;
+
+/**
+ * Lesson ids are IDENTITY columns, so Hibernate inserts lessons one by one.
+ * Here new lessons are written with plain JDBC batches, and their ids are
+ * read back from the generated keys of every batch.
+ */
+public class LessonRepositoryCustomImpl implements LessonRepositoryCustom {
+    private static final String INSERT_LESSON = "INSERT INTO lessons (name, lecturer_id, group_id, audience, week_day, lesson_time_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int batchSize;
+
+    @Autowired
+    public LessonRepositoryCustomImpl(@Value("${lessons.insert-batch-size:500}") int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<Lesson> lessons) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_LESSON, new String[] { "id" })) {
+                for (int from = 0; from < lessons.size(); from += batchSize) {
+                    List<Lesson> batch = lessons.subList(from, Math.min(from + batchSize, lessons.size()));
+
+                    for (Lesson lesson : batch) {
+                        statement.setString(1, lesson.getName());
+                        statement.setInt(2, lesson.getLecturer().getId());
+                        statement.setInt(3, lesson.getGroup().getId());
+                        statement.setString(4, lesson.getAudience());
+                        statement.setString(5, lesson.getDay().name());
+                        statement.setInt(6, lesson.getLessonTime().getId());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+
+                    try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                        for (Lesson lesson : batch) {
+                            generatedKeys.next();
+                            lesson.setId(generatedKeys.getInt(1));
+                        }
+                    }
+                }
+            }
+        });
+    }
+}
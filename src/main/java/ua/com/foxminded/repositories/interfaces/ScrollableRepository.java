@@ -0,0 +1,18 @@
+package ua.com.foxminded.repositories.interfaces;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * A repository which can be read page by page: by an offset with
+ * {@link #findAll(Pageable)}, or after the last read id, which costs the same
+ * however far the reader is.
+ */
+@NoRepositoryBean
+public interface ScrollableRepository<T> extends JpaRepository<T, Integer> {
+
+    List<T> findByIdGreaterThan(int id, Pageable pageable);
+}
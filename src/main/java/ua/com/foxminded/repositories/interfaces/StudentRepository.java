@@ -1,9 +1,52 @@
 package ua.com.foxminded.repositories.interfaces;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_FLUSH_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import ua.com.foxminded.domain.Student;
 
-public interface StudentRepository extends JpaRepository<Student, Integer> {
+public interface StudentRepository extends ScrollableRepository<Student> {
+
+    @Override
+    @EntityGraph(attributePaths = { "group", "group.faculty" })
+    List<Student> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = { "group", "group.faculty" })
+    Page<Student> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = { "group", "group.faculty" })
+    List<Student> findByIdGreaterThan(int id, Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = { "group", "group.faculty" })
+    Optional<Student> findById(Integer id);
+
+    @QueryHints({ @QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true") })
+    @Query("SELECT student FROM Student student LEFT JOIN FETCH student.group studentGroup "
+            + "LEFT JOIN FETCH studentGroup.faculty ORDER BY student.id")
+    Stream<Student> streamAll();
 
+    /**
+     * @return an id of the group which a student has in the database. Changes
+     *         of the student which aren't flushed yet aren't seen.
+     */
+    @QueryHints(@QueryHint(name = HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT student.group.id FROM Student student WHERE student.id = :studentId")
+    Optional<Integer> findGroupIdById(@Param("studentId") int studentId);
 }
@@ -0,0 +1,59 @@
+package ua.com.foxminded.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import ua.com.foxminded.domain.Audience;
+import ua.com.foxminded.repositories.interfaces.AudienceRepository;
+
+@Service
+public class AudienceService {
+    private AudienceRepository audienceRepository;
+
+    @Autowired
+    public AudienceService(AudienceRepository audienceRepository) {
+        this.audienceRepository = audienceRepository;
+    }
+
+    public void create(Audience audience) {
+        audienceRepository.save(audience);
+    }
+
+    public List<Audience> getAll() {
+        return audienceRepository.findAll();
+    }
+
+    public Page<Audience> getPage(int page, int size) {
+        return audienceRepository.findAll(PageRequest.of(page, size, Sort.by("id")));
+    }
+
+    public List<Audience> getAfter(int audienceId, int size) {
+        return audienceRepository.findByIdGreaterThan(audienceId, PageRequest.of(0, size, Sort.by("id")));
+    }
+
+    public Audience getById(int audienceId) {
+        return audienceRepository.findById(audienceId).get();
+    }
+
+    /**
+     * Lessons refer to an audience by its name, and their foreign key moves
+     * them to the new name by {@code ON UPDATE CASCADE}. Lessons can't be
+     * renamed first, as the new name doesn't exist before the audience has it.
+     */
+    public void update(Audience updatedAudience) {
+        audienceRepository.save(updatedAudience);
+    }
+
+    /**
+     * Lessons in the audience are deleted with it by {@code ON DELETE CASCADE}
+     * of their foreign key, as lessons of a deleted group or lecturer are.
+     */
+    public void deleteById(int audienceId) {
+        audienceRepository.deleteById(audienceId);
+    }
+}
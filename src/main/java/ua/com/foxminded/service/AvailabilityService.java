@@ -0,0 +1,28 @@
+package ua.com.foxminded.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import ua.com.foxminded.service.availability.AvailableSlot;
+import ua.com.foxminded.service.availability.OccupancyIndex;
+
+@Service
+public class AvailabilityService {
+    private OccupancyIndex occupancyIndex;
+
+    @Autowired
+    public AvailabilityService(OccupancyIndex occupancyIndex) {
+        this.occupancyIndex = occupancyIndex;
+    }
+
+    /**
+     * @return slots where all the lecturers, groups and audiences are free at
+     *         once, the ones closest to their other lessons first.
+     */
+    public List<AvailableSlot> findFreeSlots(List<Integer> lecturerIds, List<Integer> groupIds,
+            List<String> audiences, int limit) {
+        return occupancyIndex.findFreeSlots(lecturerIds, groupIds, audiences, limit);
+    }
+}
@@ -0,0 +1,159 @@
+package ua.com.foxminded.service;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.LessonView;
+import ua.com.foxminded.service.cache.ScheduleKey;
+import ua.com.foxminded.service.cache.ScheduleOwner;
+import ua.com.foxminded.service.calendar.CalendarFeed;
+import ua.com.foxminded.service.calendar.ICalendarWriter;
+
+/**
+ * iCalendar feeds of week schedules. A feed is written once for every version
+ * of a week schedule: week schedules come from the schedule cache, which gives
+ * the same map until the schedule is invalidated, so a feed is reused while
+ * the map it was written from is returned. A rewritten feed keeps the time
+ * stamp and the entity tag of the previous one when its events are the same.
+ */
+@Service
+public class CalendarService {
+    private final LessonService lessonService;
+    private final GroupService groupService;
+    private final LecturerService lecturerService;
+    private final ICalendarWriter calendarWriter;
+    private final Clock clock;
+    private final int maximumSize;
+    private final Map<ScheduleKey, CachedFeed> feeds = new LinkedHashMap<>(16, 0.75f, true);
+
+    @Autowired
+    public CalendarService(LessonService lessonService, GroupService groupService, LecturerService lecturerService,
+            @Value("${schedule.calendar.time-zone:Europe/Kiev}") String timeZone,
+            @Value("${schedule.calendar.start-date:2021-09-01}") String startDate,
+            @Value("${schedule.cache.maximum-size:1000}") int maximumSize) {
+        this(lessonService, groupService, lecturerService,
+                new ICalendarWriter(ZoneId.of(timeZone), LocalDate.parse(startDate)), Clock.systemUTC(), maximumSize);
+    }
+
+    CalendarService(LessonService lessonService, GroupService groupService, LecturerService lecturerService,
+            ICalendarWriter calendarWriter, Clock clock, int maximumSize) {
+        this.lessonService = lessonService;
+        this.groupService = groupService;
+        this.lecturerService = lecturerService;
+        this.calendarWriter = calendarWriter;
+        this.clock = clock;
+        this.maximumSize = maximumSize;
+    }
+
+    public CalendarFeed getGroupCalendar(int groupId) {
+        ScheduleKey key = ScheduleKey.forWeek(ScheduleOwner.GROUP, groupId);
+        Map<DayOfWeek, List<LessonView>> weekLessons = lessonService.getGroupWeekLessons(groupId);
+        CalendarFeed feed = findFeed(key, weekLessons);
+
+        if (feed == null) {
+            LessonView lesson = findAnyLesson(weekLessons);
+            String groupName = lesson != null ? lesson.getGroupName() : groupService.getById(groupId).getName();
+            feed = putFeed(key, weekLessons, "Group " + groupName);
+        }
+        return feed;
+    }
+
+    public CalendarFeed getLecturerCalendar(int lecturerId) {
+        ScheduleKey key = ScheduleKey.forWeek(ScheduleOwner.LECTURER, lecturerId);
+        Map<DayOfWeek, List<LessonView>> weekLessons = lessonService.getLecturerWeekLessons(lecturerId);
+        CalendarFeed feed = findFeed(key, weekLessons);
+
+        if (feed == null) {
+            LessonView lesson = findAnyLesson(weekLessons);
+            String lecturerName;
+            if (lesson != null) {
+                lecturerName = lesson.getLecturerName();
+            } else {
+                Lecturer lecturer = lecturerService.getById(lecturerId);
+                lecturerName = lecturer.getFirstName() + " " + lecturer.getLastName();
+            }
+            feed = putFeed(key, weekLessons, lecturerName);
+        }
+        return feed;
+    }
+
+    /**
+     * A name of a schedule owner is taken from its lessons, so the owner is
+     * read only for an empty schedule.
+     */
+    private static LessonView findAnyLesson(Map<DayOfWeek, List<LessonView>> weekLessons) {
+        for (List<LessonView> dayLessons : weekLessons.values()) {
+            if (!dayLessons.isEmpty()) {
+                return dayLessons.get(0);
+            }
+        }
+        return null;
+    }
+
+    private synchronized CalendarFeed findFeed(ScheduleKey key, Map<DayOfWeek, List<LessonView>> weekLessons) {
+        CachedFeed cachedFeed = feeds.get(key);
+        return cachedFeed != null && cachedFeed.weekLessons == weekLessons ? cachedFeed.feed : null;
+    }
+
+    private CalendarFeed putFeed(ScheduleKey key, Map<DayOfWeek, List<LessonView>> weekLessons, String calendarName) {
+        List<LessonView> lessons = new ArrayList<>();
+        for (List<LessonView> dayLessons : weekLessons.values()) {
+            lessons.addAll(dayLessons);
+        }
+
+        CachedFeed previousFeed;
+        synchronized (this) {
+            previousFeed = feeds.get(key);
+        }
+
+        CalendarFeed feed = null;
+        Instant stamp = null;
+        if (previousFeed != null) {
+            byte[] content = calendarWriter.write(calendarName, lessons, previousFeed.stamp);
+            if (Arrays.equals(content, previousFeed.feed.getContent())) {
+                feed = previousFeed.feed;
+                stamp = previousFeed.stamp;
+            }
+        }
+
+        if (feed == null) {
+            stamp = clock.instant();
+            byte[] content = calendarWriter.write(calendarName, lessons, stamp);
+            feed = new CalendarFeed(content, "\"" + DigestUtils.md5DigestAsHex(content) + "\"");
+        }
+
+        synchronized (this) {
+            feeds.put(key, new CachedFeed(weekLessons, feed, stamp));
+            while (feeds.size() > maximumSize) {
+                feeds.remove(feeds.keySet().iterator().next());
+            }
+        }
+        return feed;
+    }
+
+    private static final class CachedFeed {
+        private final Map<DayOfWeek, List<LessonView>> weekLessons;
+        private final CalendarFeed feed;
+        private final Instant stamp;
+
+        private CachedFeed(Map<DayOfWeek, List<LessonView>> weekLessons, CalendarFeed feed, Instant stamp) {
+            this.weekLessons = weekLessons;
+            this.feed = feed;
+            this.stamp = stamp;
+        }
+    }
+}
@@ -3,6 +3,9 @@ package ua.com.foxminded.service;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import ua.com.foxminded.domain.Faculty;
@@ -25,6 +28,14 @@ public class FacultyService {
         return facultyRepository.findAll();
     }
 
+    public Page<Faculty> getPage(int page, int size) {
+        return facultyRepository.findAll(PageRequest.of(page, size, Sort.by("id")));
+    }
+
+    public List<Faculty> getAfter(int facultyId, int size) {
+        return facultyRepository.findByIdGreaterThan(facultyId, PageRequest.of(0, size, Sort.by("id")));
+    }
+
     public Faculty getById(int facultyId) {
         return facultyRepository.findById(facultyId).get();
     }
@@ -3,6 +3,9 @@ package ua.com.foxminded.service;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import ua.com.foxminded.domain.Group;
@@ -25,10 +28,22 @@ public class GroupService {
         return groupRepository.findAll();
     }
 
+    public Page<Group> getPage(int page, int size) {
+        return groupRepository.findAll(PageRequest.of(page, size, Sort.by("id")));
+    }
+
+    public List<Group> getAfter(int groupId, int size) {
+        return groupRepository.findByIdGreaterThan(groupId, PageRequest.of(0, size, Sort.by("id")));
+    }
+
     public Group getById(int groupId) {
         return groupRepository.findById(groupId).get();
     }
 
+    public List<Group> getAllById(Iterable<Integer> groupIds) {
+        return groupRepository.findAllById(groupIds);
+    }
+
     public void update(Group updatedGroup) {
         groupRepository.save(updatedGroup);
     }
@@ -3,6 +3,9 @@ package ua.com.foxminded.service;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import ua.com.foxminded.domain.Lecturer;
@@ -25,10 +28,22 @@ public class LecturerService {
         return lecturerRepository.findAll();
     }
 
+    public Page<Lecturer> getPage(int page, int size) {
+        return lecturerRepository.findAll(PageRequest.of(page, size, Sort.by("id")));
+    }
+
+    public List<Lecturer> getAfter(int lecturerId, int size) {
+        return lecturerRepository.findByIdGreaterThan(lecturerId, PageRequest.of(0, size, Sort.by("id")));
+    }
+
     public Lecturer getById(int lecturerId) {
         return lecturerRepository.findById(lecturerId).get();
     }
 
+    public List<Lecturer> getAllById(Iterable<Integer> lecturerIds) {
+        return lecturerRepository.findAllById(lecturerIds);
+    }
+
     public void update(Lecturer lecturer) {
         lecturerRepository.save(lecturer);
     }
@@ -3,29 +3,47 @@ package ua.com.foxminded.service;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import ua.com.foxminded.domain.Audience;
 import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonView;
+import ua.com.foxminded.repositories.interfaces.AudienceRepository;
 import ua.com.foxminded.repositories.interfaces.LessonRepository;
 
 @Service
 public class LessonService {
     private LessonRepository lessonRepository;
+    private AudienceRepository audienceRepository;
 
     @Autowired
-    public LessonService(LessonRepository lessonRepository) {
+    public LessonService(LessonRepository lessonRepository, AudienceRepository audienceRepository) {
         this.lessonRepository = lessonRepository;
+        this.audienceRepository = audienceRepository;
     }
 
+    @Transactional
     public void create(Lesson lesson) {
+        registerAudiences(Collections.singletonList(lesson));
         lessonRepository.save(lesson);
     }
 
+    @Transactional
+    public void createAll(List<Lesson> lessons) {
+        registerAudiences(lessons);
+        lessonRepository.insertAll(lessons);
+    }
+
     public List<Lesson> getAll() {
         return lessonRepository.findAll();
     }
@@ -34,7 +52,9 @@ public class LessonService {
         return lessonRepository.findById(lessonId).get();
     }
 
+    @Transactional
     public void update(Lesson updatedLesson) {
+        registerAudiences(Collections.singletonList(updatedLesson));
         lessonRepository.save(updatedLesson);
     }
 
@@ -42,40 +62,75 @@ public class LessonService {
         lessonRepository.deleteById(lessonId);
     }
 
-    public Map<DayOfWeek, List<Lesson>> getGroupWeekLessons(int groupId) {
-        Map<DayOfWeek, List<Lesson>> weekLessons = new TreeMap<>();
-        for (int i = 1; i <= DayOfWeek.values().length; i++) {
-            List<Lesson> dayLessons = lessonRepository.findByGroupIdAndDay(groupId, DayOfWeek.of(i));
-            weekLessons.put(DayOfWeek.of(i), dayLessons);
-        }
-        return weekLessons;
+    public Map<DayOfWeek, List<LessonView>> getGroupWeekLessons(int groupId) {
+        return splitByWeekDays(lessonRepository.findWeekLessonsForGroup(groupId));
     }
 
-    public Map<LocalDate, List<Lesson>> getGroupMonthLessons(int groupId, YearMonth month) {
-        Map<LocalDate, List<Lesson>> dailyLessons = new TreeMap<>();
-        for (int i = 1; i <= month.lengthOfMonth(); i++) {
-            LocalDate day = month.atDay(i);
-            List<Lesson> lessons = lessonRepository.findByGroupIdAndDay(groupId, day.getDayOfWeek());
-            dailyLessons.put(day, lessons);
+    public Map<LocalDate, List<LessonView>> getGroupMonthLessons(int groupId, YearMonth month) {
+        return expandOverMonth(splitByWeekDays(lessonRepository.findWeekLessonsForGroup(groupId)), month);
+    }
+
+    public Map<DayOfWeek, List<LessonView>> getLecturerWeekLessons(int lecturerId) {
+        return splitByWeekDays(lessonRepository.findWeekLessonsForLecturer(lecturerId));
+    }
+
+    public Map<LocalDate, List<LessonView>> getLecturerMonthLessons(int lecturerId, YearMonth month) {
+        return expandOverMonth(splitByWeekDays(lessonRepository.findWeekLessonsForLecturer(lecturerId)), month);
+    }
+
+    public Map<DayOfWeek, List<LessonView>> getAudienceWeekLessons(int audienceId) {
+        return splitByWeekDays(lessonRepository.findWeekLessonsForAudience(audienceId));
+    }
+
+    public Map<LocalDate, List<LessonView>> getAudienceMonthLessons(int audienceId, YearMonth month) {
+        return expandOverMonth(splitByWeekDays(lessonRepository.findWeekLessonsForAudience(audienceId)), month);
+    }
+
+    /**
+     * Lessons refer to audiences by names, so an audience which is used for
+     * the first time is added without a capacity. It is added by the
+     * transaction which writes the lessons, so it isn't left behind when they
+     * aren't written. Names are trimmed as the occupancy index trims them.
+     */
+    private void registerAudiences(List<Lesson> lessons) {
+        Set<String> names = new HashSet<>();
+        for (Lesson lesson : lessons) {
+            if (lesson.getAudience() != null) {
+                lesson.setAudience(lesson.getAudience().trim());
+                names.add(lesson.getAudience());
+            }
+        }
+
+        for (Audience audience : audienceRepository.findByNameIn(names)) {
+            names.remove(audience.getName());
+        }
+
+        if (!names.isEmpty()) {
+            audienceRepository.insertAllIfAbsent(names);
         }
-        return dailyLessons;
     }
 
-    public Map<DayOfWeek, List<Lesson>> getLecturerWeekLessons(int lecturerId) {
-        Map<DayOfWeek, List<Lesson>> weekLessons = new TreeMap<>();
-        for (int i = 1; i <= DayOfWeek.values().length; i++) {
-            List<Lesson> dayLessons = lessonRepository.findByLecturerIdAndDay(lecturerId, DayOfWeek.of(i));
-            weekLessons.put(DayOfWeek.of(i), dayLessons);
+    private Map<DayOfWeek, List<LessonView>> splitByWeekDays(List<LessonView> lessons) {
+        Map<DayOfWeek, List<LessonView>> weekLessons = new TreeMap<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            weekLessons.put(day, new ArrayList<>());
+        }
+
+        for (LessonView lesson : lessons) {
+            weekLessons.get(lesson.getDay()).add(lesson);
+        }
+
+        for (Map.Entry<DayOfWeek, List<LessonView>> dayLessons : weekLessons.entrySet()) {
+            dayLessons.setValue(Collections.unmodifiableList(dayLessons.getValue()));
         }
         return weekLessons;
     }
 
-    public Map<LocalDate, List<Lesson>> getLecturerMonthLessons(int lecturerId, YearMonth month) {
-        Map<LocalDate, List<Lesson>> dailyLessons = new TreeMap<>();
+    private Map<LocalDate, List<LessonView>> expandOverMonth(Map<DayOfWeek, List<LessonView>> weekLessons, YearMonth month) {
+        Map<LocalDate, List<LessonView>> dailyLessons = new TreeMap<>();
         for (int i = 1; i <= month.lengthOfMonth(); i++) {
             LocalDate day = month.atDay(i);
-            List<Lesson> lessons = lessonRepository.findByLecturerIdAndDay(lecturerId, day.getDayOfWeek());
-            dailyLessons.put(day, lessons);
+            dailyLessons.put(day, weekLessons.get(day.getDayOfWeek()));
         }
         return dailyLessons;
     }
@@ -29,6 +29,10 @@ public class LessonTimeService {
         return lessonTimeRepository.findById(lessonTimeId).get();
     }
 
+    public List<LessonTime> getAllById(Iterable<Integer> lessonTimeIds) {
+        return lessonTimeRepository.findAllById(lessonTimeIds);
+    }
+
     public void update(LessonTime updatedLessonTime) {
         lessonTimeRepository.save(updatedLessonTime);
     }
@@ -1,23 +1,41 @@
 package ua.com.foxminded.service;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import ua.com.foxminded.domain.Group;
 import ua.com.foxminded.domain.Student;
+import ua.com.foxminded.repositories.interfaces.GroupRepository;
 import ua.com.foxminded.repositories.interfaces.StudentRepository;
 
 @Service
 public class StudentService {
     private StudentRepository studentRepository;
+    private GroupRepository groupRepository;
 
     @Autowired
-    public StudentService(StudentRepository studentRepository) {
+    public StudentService(StudentRepository studentRepository, GroupRepository groupRepository) {
         this.studentRepository = studentRepository;
+        this.groupRepository = groupRepository;
     }
 
+    /**
+     * A place in the group is taken by the same transaction which saves the
+     * student, so the group can't be filled over its capacity by students
+     * which are created at once.
+     */
+    @Transactional
     public void create(Student student) {
+        if (student.getGroup() != null) {
+            takeStudentPlace(student.getGroup().getId());
+        }
         studentRepository.save(student);
     }
 
@@ -25,15 +43,46 @@ public class StudentService {
         return studentRepository.findAll();
     }
 
+    public Page<Student> getPage(int page, int size) {
+        return studentRepository.findAll(PageRequest.of(page, size, Sort.by("id")));
+    }
+
+    public List<Student> getAfter(int studentId, int size) {
+        return studentRepository.findByIdGreaterThan(studentId, PageRequest.of(0, size, Sort.by("id")));
+    }
+
     public Student getById(int studentId) {
         return studentRepository.findById(studentId).get();
     }
 
+    /**
+     * A student who moves to another group takes a place in it and releases
+     * the place in the previous one.
+     */
+    @Transactional
     public void update(Student updatedStudent) {
+        Optional<Integer> previousGroupId = studentRepository.findGroupIdById(updatedStudent.getId());
+        Integer groupId = updatedStudent.getGroup() == null ? null : updatedStudent.getGroup().getId();
+
+        if (groupId != null && !groupId.equals(previousGroupId.orElse(null))) {
+            takeStudentPlace(groupId);
+        }
+        if (previousGroupId.isPresent() && !previousGroupId.get().equals(groupId)) {
+            groupRepository.releaseStudentPlace(previousGroupId.get());
+        }
         studentRepository.save(updatedStudent);
     }
 
+    @Transactional
     public void deleteById(int studentId) {
+        studentRepository.findGroupIdById(studentId).ifPresent(groupRepository::releaseStudentPlace);
         studentRepository.deleteById(studentId);
     }
+
+    private void takeStudentPlace(int groupId) {
+        if (groupRepository.takeStudentPlace(groupId) == 0) {
+            throw new IllegalArgumentException(
+                    "The group with id " + groupId + " doesn't exist or has " + Group.MAX_STUDENTS + " students already.");
+        }
+    }
 }
@@ -0,0 +1,134 @@
+package ua.com.foxminded.service.aspects;
+
+import java.util.Set;
+import java.util.StringJoiner;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validator;
+import ua.com.foxminded.domain.Audience;
+import ua.com.foxminded.service.exceptions.ServiceException;
+
+@Aspect
+@Configuration
+public class AudienceAspect {
+    private final Logger logger = LoggerFactory.getLogger(AudienceAspect.class);
+
+    private Validator validator;
+
+    @Autowired
+    public AudienceAspect(Validator validator) {
+        this.validator = validator;
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.AudienceService.create(ua.com.foxminded.domain.Audience))")
+    private void createMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.AudienceService.update(ua.com.foxminded.domain.Audience))")
+    private void updateMethod() {
+    }
+
+    @Before("createMethod()")
+    void beforeCreateAdvice(JoinPoint joinPoint) {
+        Audience audience = (Audience) joinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to create a new audience: {}.", audience);
+        }
+
+        try {
+            if (audience == null) {
+                IllegalArgumentException exception = new IllegalArgumentException(
+                        "An audience can't be null when create.");
+                logger.error("An audience {} can't be null when create.", audience, exception);
+                throw exception;
+            }
+
+            Set<ConstraintViolation<Audience>> violations = validator.validate(audience);
+
+            if (!violations.isEmpty()) {
+                StringJoiner errorMessages = new StringJoiner("; ");
+
+                for (ConstraintViolation<Audience> violation : violations) {
+                    errorMessages.add(violation.getMessage());
+                }
+
+                ConstraintViolationException exception = new ConstraintViolationException(
+                        "When create the audience is not valid: " + errorMessages, violations);
+                logger.error("The audience {} is not valid when create. There are errors: {}.", audience, errorMessages,
+                        exception);
+                throw exception;
+            }
+
+            int audienceId = audience.getId();
+
+            if (audienceId != 0) {
+                IllegalArgumentException exception = new IllegalArgumentException("An audience id isn't 0 when create.");
+                logger.error("An audience {} has wrong id {} which is not equal zero when create.", audience, audienceId,
+                        exception);
+                throw exception;
+            }
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new ServiceException("A given audience isn't legal when create.", illegalArgumentException);
+        } catch (ConstraintViolationException constraintViolationException) {
+            throw new ServiceException("A given audience isn't valid when create.", constraintViolationException);
+        }
+    }
+
+    @Before("updateMethod()")
+    void beforeUpdateAdvice(JoinPoint joinPoint) {
+        Audience audience = (Audience) joinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to update an audience: {}.", audience);
+        }
+
+        try {
+            if (audience == null) {
+                IllegalArgumentException exception = new IllegalArgumentException("An updated audience is null.");
+                logger.error("An updated audience {} is null.", audience, exception);
+                throw exception;
+            }
+
+            Set<ConstraintViolation<Audience>> violations = validator.validate(audience);
+
+            if (!violations.isEmpty()) {
+                StringJoiner errorMessages = new StringJoiner("; ");
+
+                for (ConstraintViolation<Audience> violation : violations) {
+                    errorMessages.add(violation.getMessage());
+                }
+
+                ConstraintViolationException exception = new ConstraintViolationException(
+                        "When update the audience is not valid: " + errorMessages, violations);
+                logger.error("The audience {} is not valid when update. There are errors: {}.", audience, errorMessages,
+                        exception);
+                throw exception;
+            }
+
+            int audienceId = audience.getId();
+
+            if (audienceId < 1) {
+                IllegalArgumentException exception = new IllegalArgumentException(
+                        "An audience id isn't positive for existing object.");
+                logger.error("An updated audience {} has wrong id {} which is not positive.", audience, audienceId,
+                        exception);
+                throw exception;
+            }
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new ServiceException("A given audience isn't legal when update.", illegalArgumentException);
+        } catch (ConstraintViolationException constraintViolationException) {
+            throw new ServiceException("A given audience isn't valid when update.", constraintViolationException);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package ua.com.foxminded.service.aspects;
+
+import java.util.List;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+
+import ua.com.foxminded.repositories.exceptions.RepositoryException;
+import ua.com.foxminded.service.exceptions.ServiceException;
+
+@Aspect
+@Configuration
+public class AvailabilityAspect {
+    private final Logger logger = LoggerFactory.getLogger(AvailabilityAspect.class);
+
+    @Pointcut("execution (java.util.List ua.com.foxminded.service.AvailabilityService.findFreeSlots(java.util.List, java.util.List, java.util.List, int))")
+    private void findFreeSlotsMethod() {
+    }
+
+    @Around("findFreeSlotsMethod()")
+    Object aroundFindFreeSlotsAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        List<?> lecturerIds = (List<?>) proceedingJoinPoint.getArgs()[0];
+        List<?> groupIds = (List<?>) proceedingJoinPoint.getArgs()[1];
+        List<?> audiences = (List<?>) proceedingJoinPoint.getArgs()[2];
+        int limit = (int) proceedingJoinPoint.getArgs()[3];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to find {} free slots for lecturers {}, groups {} and audiences {}.", limit, lecturerIds,
+                    groupIds, audiences);
+        }
+
+        try {
+            if (isEmpty(lecturerIds) && isEmpty(groupIds) && isEmpty(audiences)) {
+                IllegalArgumentException exception = new IllegalArgumentException(
+                        "At least one lecturer, group or audience should be given.");
+                logger.error("There are no resources when find free slots.", exception);
+                throw exception;
+            } else if (!hasPositiveIds(lecturerIds) || !hasPositiveIds(groupIds)) {
+                IllegalArgumentException exception = new IllegalArgumentException(
+                        "An id isn't positive for existing object.");
+                logger.error("Lecturer ids {} or group ids {} are not positive when find free slots.", lecturerIds,
+                        groupIds, exception);
+                throw exception;
+            } else if (!hasNames(audiences)) {
+                IllegalArgumentException exception = new IllegalArgumentException("An audience can't be blank.");
+                logger.error("Audiences {} have a blank one when find free slots.", audiences, exception);
+                throw exception;
+            } else if (limit < 1) {
+                IllegalArgumentException exception = new IllegalArgumentException("A limit should be positive.");
+                logger.error("A limit {} is not positive when find free slots.", limit, exception);
+                throw exception;
+            }
+
+            List<?> targetMethod = (List<?>) proceedingJoinPoint.proceed();
+
+            if (targetMethod.isEmpty()) {
+                logger.warn("There are not any free slots for lecturers {}, groups {} and audiences {}.", lecturerIds,
+                        groupIds, audiences);
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("The result of find free slots is {}.", targetMethod);
+            }
+
+            return targetMethod;
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new ServiceException("Given resources are incorrect when find free slots.",
+                    illegalArgumentException);
+        } catch (RepositoryException repositoryException) {
+            logger.error("There is some error in repositories layer when find free slots.", repositoryException);
+            throw new ServiceException("There is some error in repositories layer when find free slots.",
+                    repositoryException);
+        }
+    }
+
+    private static boolean isEmpty(List<?> values) {
+        return values == null || values.isEmpty();
+    }
+
+    private static boolean hasPositiveIds(List<?> ids) {
+        if (ids != null) {
+            for (Object id : ids) {
+                if (id == null || (int) id < 1) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasNames(List<?> audiences) {
+        if (audiences != null) {
+            for (Object audience : audiences) {
+                if (audience == null || audience.toString().trim().isEmpty()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package ua.com.foxminded.service.aspects;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+
+import ua.com.foxminded.service.exceptions.ServiceException;
+
+@Aspect
+@Configuration
+public class CalendarAspect {
+    private final Logger logger = LoggerFactory.getLogger(CalendarAspect.class);
+
+    @Pointcut("execution (ua.com.foxminded.service.calendar.CalendarFeed ua.com.foxminded.service.CalendarService.get*Calendar(int))")
+    private void getCalendarMethods() {
+    }
+
+    @Around("getCalendarMethods()")
+    Object aroundGetCalendarAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        String operation = proceedingJoinPoint.getSignature().getName();
+        int ownerId = (int) proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to {} for an owner with id {}.", operation, ownerId);
+        }
+
+        try {
+            if (ownerId < 1) {
+                IllegalArgumentException exception = new IllegalArgumentException(
+                        "An owner id isn't positive for existing object.");
+                logger.error("An owner id {} is not positive when {}.", ownerId, operation, exception);
+                throw exception;
+            }
+
+            Object targetMethod = proceedingJoinPoint.proceed();
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("The result of {} for an owner with id {} is {}.", operation, ownerId, targetMethod);
+            }
+
+            return targetMethod;
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new ServiceException("A given id is incorrect when get a calendar.", illegalArgumentException);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package ua.com.foxminded.service.aspects;
+
+import java.io.UncheckedIOException;
+
+import javax.persistence.PersistenceException;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+
+import ua.com.foxminded.repositories.exceptions.RepositoryException;
+import ua.com.foxminded.service.exceptions.ServiceException;
+
+@Aspect
+@Configuration
+public class EntityExporterAspect {
+    private final Logger logger = LoggerFactory.getLogger(EntityExporterAspect.class);
+
+    @Pointcut("execution (long ua.com.foxminded.service.export.EntityExporter.export*(java.util.function.Consumer))")
+    private void exportMethods() {
+    }
+
+    @Around("exportMethods()")
+    Object aroundExportAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        String operation = proceedingJoinPoint.getSignature().getName();
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to {}.", operation);
+        }
+
+        try {
+            if (proceedingJoinPoint.getArgs()[0] == null) {
+                IllegalArgumentException exception = new IllegalArgumentException("A consumer can't be null.");
+                logger.error("A consumer is null when {}.", operation, exception);
+                throw exception;
+            }
+
+            long count = (long) proceedingJoinPoint.proceed();
+
+            if (count == 0) {
+                logger.warn("There are not any objects when {}.", operation);
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("{} objects were exported when {}.", count, operation);
+            }
+
+            return count;
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new ServiceException("A given consumer isn't legal when export.", illegalArgumentException);
+        } catch (RepositoryException repositoryException) {
+            logger.error("There is some error in repositories layer when {}.", operation, repositoryException);
+            throw new ServiceException("There is some error in repositories layer when export.", repositoryException);
+        } catch (DataAccessException | PersistenceException exception) {
+            logger.error("Can't read objects when {}.", operation, exception);
+            throw new ServiceException("Can't read objects when export.", exception);
+        } catch (UncheckedIOException uncheckedIOException) {
+            logger.warn("The consumer stopped taking objects when {}.", operation, uncheckedIOException);
+            throw uncheckedIOException;
+        }
+    }
+}
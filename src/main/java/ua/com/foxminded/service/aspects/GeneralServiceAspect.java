@@ -8,9 +8,12 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.logging.WarningRateLimiter;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
 import ua.com.foxminded.service.exceptions.NotFoundEntityException;
 import ua.com.foxminded.service.exceptions.ServiceException;
@@ -19,8 +22,17 @@ import ua.com.foxminded.service.exceptions.ServiceException;
 @Configuration
 @Order(30)
 public class GeneralServiceAspect {
+    static final int MAX_PAGE_SIZE = 500;
+
     private final Logger logger = LoggerFactory.getLogger(GeneralServiceAspect.class);
 
+    private WarningRateLimiter warningRateLimiter;
+
+    @Autowired
+    public GeneralServiceAspect(WarningRateLimiter warningRateLimiter) {
+        this.warningRateLimiter = warningRateLimiter;
+    }
+
     @Pointcut("execution (void ua.com.foxminded.service.*.create(*))")
     private void createMethods() {
     }
@@ -29,10 +41,22 @@ public class GeneralServiceAspect {
     private void getAllMethods() {
     }
 
+    @Pointcut("execution (org.springframework.data.domain.Page ua.com.foxminded.service.*.getPage(int, int))")
+    private void getPageMethods() {
+    }
+
+    @Pointcut("execution (java.util.List ua.com.foxminded.service.*.getAfter(int, int))")
+    private void getAfterMethods() {
+    }
+
     @Pointcut("execution (* ua.com.foxminded.service.*.getById(int))")
     private void getByIdMethods() {
     }
 
+    @Pointcut("execution (java.util.List ua.com.foxminded.service.*.getAllById(Iterable))")
+    private void getAllByIdMethods() {
+    }
+
     @Pointcut("execution (void ua.com.foxminded.service.*.update(*))")
     private void updateMethods() {
     }
@@ -68,12 +92,12 @@ public class GeneralServiceAspect {
             if (targetMethod instanceof List<?>) {
 
                 if (((List<?>) targetMethod).isEmpty()) {
-                    logger.warn("There are not any objects in the result when getAll.");
+                    warningRateLimiter.warn(logger, "There are not any objects in the result when getAll.");
 
                 } else {
 
                     if (logger.isDebugEnabled()) {
-                        logger.debug("The result is: {}.", targetMethod);
+                        logger.debug("The result is: {}.", LogSummary.of(targetMethod));
                     }
                 }
             }
@@ -86,6 +110,70 @@ public class GeneralServiceAspect {
         }
     }
 
+    @Around("getPageMethods()")
+    Object aroundGetPageAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int page = (int) proceedingJoinPoint.getArgs()[0];
+        int size = (int) proceedingJoinPoint.getArgs()[1];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to get a page {} of size {}.", page, size);
+        }
+
+        try {
+            if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+                IllegalArgumentException exception = new IllegalArgumentException(
+                        "A page can't be negative and its size must be from 1 to " + MAX_PAGE_SIZE + " when getPage.");
+                logger.error("A given page {} of size {} is incorrect when getPage.", page, size, exception);
+                throw exception;
+            }
+
+            Object targetMethod = proceedingJoinPoint.proceed();
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("The result page {} of size {} is: {}.", page, size, LogSummary.of(targetMethod));
+            }
+
+            return targetMethod;
+        } catch (RepositoryException repositoryException) {
+            logger.error("There is some error in repositories layer when getPage {} of size {}.", page, size, repositoryException);
+            throw new ServiceException("There is some error in repositories layer when getPage.", repositoryException);
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new ServiceException("A given page is incorrect when getPage.", illegalArgumentException);
+        }
+    }
+
+    @Around("getAfterMethods()")
+    Object aroundGetAfterAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int id = (int) proceedingJoinPoint.getArgs()[0];
+        int size = (int) proceedingJoinPoint.getArgs()[1];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to get {} objects after id {}.", size, id);
+        }
+
+        try {
+            if (id < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+                IllegalArgumentException exception = new IllegalArgumentException(
+                        "An id can't be negative and a size must be from 1 to " + MAX_PAGE_SIZE + " when getAfter.");
+                logger.error("A given id {} or size {} is incorrect when getAfter.", id, size, exception);
+                throw exception;
+            }
+
+            Object targetMethod = proceedingJoinPoint.proceed();
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("The result objects after id {} are: {}.", id, LogSummary.of(targetMethod));
+            }
+
+            return targetMethod;
+        } catch (RepositoryException repositoryException) {
+            logger.error("There is some error in repositories layer when getAfter id {}.", id, repositoryException);
+            throw new ServiceException("There is some error in repositories layer when getAfter.", repositoryException);
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new ServiceException("A given id or size is incorrect when getAfter.", illegalArgumentException);
+        }
+    }
+
     @Around("getByIdMethods()")
     Object aroundGetByIdAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
         int id = (int) proceedingJoinPoint.getArgs()[0];
@@ -124,6 +212,37 @@ public class GeneralServiceAspect {
         }
     }
 
+    @Around("getAllByIdMethods()")
+    Object aroundGetAllByIdAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Object ids = proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to get objects by ids: {}.", ids);
+        }
+
+        try {
+            if (ids == null) {
+                IllegalArgumentException exception = new IllegalArgumentException(
+                        "Given ids are null when getAllById.");
+                logger.error("Given ids are null when getAllById.", exception);
+                throw exception;
+            }
+
+            Object targetMethod = proceedingJoinPoint.proceed();
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("The result objects with ids {} are {}.", ids, LogSummary.of(targetMethod));
+            }
+
+            return targetMethod;
+        } catch (RepositoryException repositoryException) {
+            logger.error("There is some error in repositories layer when get objects by ids {}.", ids, repositoryException);
+            throw new ServiceException("There is some error in repositories layer when get objects by ids.", repositoryException);
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new ServiceException("Given ids are incorrect when getAllById.", illegalArgumentException);
+        }
+    }
+
     @Around("updateMethods()")
     void aroundUpdateAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
         Object updatedObject = proceedingJoinPoint.getArgs()[0];
@@ -17,21 +17,22 @@ import org.springframework.context.annotation.Configuration;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
-import javax.validation.Validator;
 import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.logging.LogSummary;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
 import ua.com.foxminded.service.exceptions.ServiceException;
+import ua.com.foxminded.service.validation.EntityValidator;
 
 @Aspect
 @Configuration
 public class GroupAspect {
     private final Logger logger = LoggerFactory.getLogger(GroupAspect.class);
 
-    private Validator validator;
+    private EntityValidator entityValidator;
 
     @Autowired
-    public GroupAspect(Validator validator) {
-        this.validator = validator;
+    public GroupAspect(EntityValidator entityValidator) {
+        this.entityValidator = entityValidator;
     }
 
     @Pointcut("execution (void ua.com.foxminded.service.GroupService.create(ua.com.foxminded.domain.Group))")
@@ -61,14 +62,10 @@ public class GroupAspect {
                 throw exception;
             }
 
-            Set<ConstraintViolation<Group>> violations = validator.validate(group);
+            Set<ConstraintViolation<Group>> violations = entityValidator.validate(group);
 
             if (!violations.isEmpty()) {
-                StringJoiner errorMessages = new StringJoiner("; ");
-
-                for (ConstraintViolation<Group> violation : violations) {
-                    errorMessages.add(violation.getMessage());
-                }
+                StringJoiner errorMessages = EntityValidator.messagesOf(violations);
 
                 ConstraintViolationException exception = new ConstraintViolationException(
                         "When create the group is not valid: " + errorMessages, violations);
@@ -107,14 +104,10 @@ public class GroupAspect {
                 throw exception;
             }
 
-            Set<ConstraintViolation<Group>> violations = validator.validate(group);
+            Set<ConstraintViolation<Group>> violations = entityValidator.validate(group);
 
             if (!violations.isEmpty()) {
-                StringJoiner errorMessages = new StringJoiner("; ");
-
-                for (ConstraintViolation<Group> violation : violations) {
-                    errorMessages.add(violation.getMessage());
-                }
+                StringJoiner errorMessages = EntityValidator.messagesOf(violations);
 
                 ConstraintViolationException exception = new ConstraintViolationException(
                         "When update the group is not valid:" + errorMessages, violations);
@@ -162,7 +155,7 @@ public class GroupAspect {
                     logger.warn("There are not any groups from faculty with id {}.", facultyId);
                 } else {
                     if (logger.isDebugEnabled()) {
-                        logger.debug("The result is: {}.", targetMethod);
+                        logger.debug("The result is: {}.", LogSummary.of(targetMethod));
                     }
                 }
             }
@@ -1,6 +1,7 @@
 package ua.com.foxminded.service.aspects;
 
 import java.time.YearMonth;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -16,24 +17,30 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
-import javax.validation.Validator;
 import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.logging.WarningRateLimiter;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
 import ua.com.foxminded.service.exceptions.ServiceException;
+import ua.com.foxminded.service.validation.EntityValidator;
 
 @Aspect
 @Configuration
+@Order(50)
 public class LessonAspect {
     private final Logger logger = LoggerFactory.getLogger(LessonAspect.class);
 
-    private Validator validator;
+    private EntityValidator entityValidator;
+    private WarningRateLimiter warningRateLimiter;
 
     @Autowired
-    public LessonAspect(Validator validator) {
-        this.validator = validator;
+    public LessonAspect(EntityValidator entityValidator, WarningRateLimiter warningRateLimiter) {
+        this.entityValidator = entityValidator;
+        this.warningRateLimiter = warningRateLimiter;
     }
 
     @Pointcut("execution (void ua.com.foxminded.service.LessonService.create(ua.com.foxminded.domain.Lesson))")
@@ -44,6 +51,10 @@ public class LessonAspect {
     private void updateMethod() {
     }
 
+    @Pointcut("execution (void ua.com.foxminded.service.LessonService.createAll(java.util.List))")
+    private void createAllMethod() {
+    }
+
     @Pointcut("execution (java.util.Map ua.com.foxminded.service.LessonService.getGroupWeekLessons(int))")
     private void getGroupWeekLessonsMethod() {
     }
@@ -60,6 +71,14 @@ public class LessonAspect {
     private void getLecturerMonthLessonsMethod() {
     }
 
+    @Pointcut("execution (java.util.Map ua.com.foxminded.service.LessonService.getAudienceWeekLessons(int))")
+    private void getAudienceWeekLessonsMethod() {
+    }
+
+    @Pointcut("execution (java.util.Map ua.com.foxminded.service.LessonService.getAudienceMonthLessons(int, java.time.YearMonth))")
+    private void getAudienceMonthLessonsMethod() {
+    }
+
     @Before("createMethod()")
     void beforeCreateAdvice(JoinPoint joinPoint) {
         Lesson lesson = (Lesson) joinPoint.getArgs()[0];
@@ -75,14 +94,10 @@ public class LessonAspect {
                 throw exception;
             }
 
-            Set<ConstraintViolation<Lesson>> violations = validator.validate(lesson);
+            Set<ConstraintViolation<Lesson>> violations = entityValidator.validate(lesson);
 
             if (!violations.isEmpty()) {
-                StringJoiner errorMessages = new StringJoiner("; ");
-
-                for (ConstraintViolation<Lesson> violation : violations) {
-                    errorMessages.add(violation.getMessage());
-                }
+                StringJoiner errorMessages = EntityValidator.messagesOf(violations);
 
                 ConstraintViolationException exception = new ConstraintViolationException(
                         "When create the lesson is not valid: " + errorMessages, violations);
@@ -106,6 +121,79 @@ public class LessonAspect {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    @Around("createAllMethod()")
+    void aroundCreateAllAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        List<?> lessons = (List<?>) proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to create {} new lessons.", lessons == null ? 0 : lessons.size());
+        }
+
+        try {
+            if (lessons == null || lessons.isEmpty()) {
+                IllegalArgumentException exception = new IllegalArgumentException(
+                        "Lessons can't be null or empty when create.");
+                logger.error("Lessons {} can't be null or empty when create.", lessons, exception);
+                throw exception;
+            }
+
+            for (int i = 0; i < lessons.size(); i++) {
+                Lesson lesson = (Lesson) lessons.get(i);
+
+                if (lesson == null) {
+                    IllegalArgumentException exception = new IllegalArgumentException(
+                            "A lesson can't be null when create lessons.");
+                    logger.error("A lesson at position {} is null when create lessons.", i, exception);
+                    throw exception;
+                }
+
+                if (lesson.getId() != 0) {
+                    IllegalArgumentException exception = new IllegalArgumentException(
+                            "A lesson id isn't 0 when create lessons.");
+                    logger.error("A lesson {} at position {} has wrong id {} which is not equal zero when create lessons.",
+                            lesson, i, lesson.getId(), exception);
+                    throw exception;
+                }
+            }
+
+            Map<Integer, Set<ConstraintViolation<Lesson>>> violationsByPosition = entityValidator
+                    .validateAll((List<Lesson>) lessons);
+
+            if (!violationsByPosition.isEmpty()) {
+                Set<ConstraintViolation<Lesson>> violations = new HashSet<>();
+                StringJoiner errorMessages = new StringJoiner("; ");
+
+                for (Map.Entry<Integer, Set<ConstraintViolation<Lesson>>> entry : violationsByPosition.entrySet()) {
+                    violations.addAll(entry.getValue());
+
+                    for (ConstraintViolation<Lesson> violation : entry.getValue()) {
+                        errorMessages.add("lesson " + entry.getKey() + ": " + violation.getMessage());
+                    }
+                }
+
+                ConstraintViolationException exception = new ConstraintViolationException(
+                        "When create lessons they are not valid: " + errorMessages, violations);
+                logger.error("Lessons are not valid when create. There are errors: {}.", errorMessages, exception);
+                throw exception;
+            }
+
+            proceedingJoinPoint.proceed();
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("{} lessons were created.", lessons.size());
+            }
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new ServiceException("Given lessons aren't legal when create.", illegalArgumentException);
+        } catch (ConstraintViolationException constraintViolationException) {
+            throw new ServiceException("Given lessons aren't valid when create.", constraintViolationException);
+        } catch (RepositoryException repositoryException) {
+            logger.error("There is some error in repositories layer when create lessons.", repositoryException);
+            throw new ServiceException("There is some error in repositories layer when create lessons.",
+                    repositoryException);
+        }
+    }
+
     @Before("updateMethod()")
     void beforeUpdateAdvice(JoinPoint joinPoint) {
         Lesson lesson = (Lesson) joinPoint.getArgs()[0];
@@ -121,14 +209,10 @@ public class LessonAspect {
                 throw exception;
             }
 
-            Set<ConstraintViolation<Lesson>> violations = validator.validate(lesson);
+            Set<ConstraintViolation<Lesson>> violations = entityValidator.validate(lesson);
 
             if (!violations.isEmpty()) {
-                StringJoiner errorMessages = new StringJoiner("; ");
-
-                for (ConstraintViolation<Lesson> violation : violations) {
-                    errorMessages.add(violation.getMessage());
-                }
+                StringJoiner errorMessages = EntityValidator.messagesOf(violations);
 
                 ConstraintViolationException exception = new ConstraintViolationException(
                         "When update the lesson is not valid:" + errorMessages, violations);
@@ -185,11 +269,11 @@ public class LessonAspect {
                 }
 
                 if (isEmpty) {
-                    logger.warn("There are not any week lessons for a group with id {}.", groupId);
+                    warningRateLimiter.warn(logger, "There are not any week lessons for a group with id {}.", groupId);
                 } else {
                     if (logger.isDebugEnabled()) {
                         logger.debug("When get week lessons for a group with id {} the result is: {}.", groupId,
-                                targetMethod);
+                                LogSummary.of(targetMethod));
                     }
                 }
             }
@@ -240,12 +324,13 @@ public class LessonAspect {
                 }
 
                 if (isEmpty) {
-                    logger.warn("There are not any {} month of {} year lessons for a group with id {}.",
+                    warningRateLimiter.warn(logger,
+                            "There are not any {} month of {} year lessons for a group with id {}.",
                             month.getMonth(), month.getYear(), groupId);
                 } else {
                     if (logger.isDebugEnabled()) {
                         logger.debug("When get {} month of {} year lessons for a group with id {} the result is: {}.",
-                                month.getMonth(), month.getYear(), groupId, targetMethod);
+                                month.getMonth(), month.getYear(), groupId, LogSummary.of(targetMethod));
                     }
                 }
             }
@@ -294,11 +379,12 @@ public class LessonAspect {
                 }
 
                 if (isEmpty) {
-                    logger.warn("There are not any week lessons for a lecturer with id {}.", lecturerId);
+                    warningRateLimiter.warn(logger, "There are not any week lessons for a lecturer with id {}.",
+                            lecturerId);
                 } else {
                     if (logger.isDebugEnabled()) {
                         logger.debug("When get week lessons for a lecturer with id {} the result is: {}.", lecturerId,
-                                targetMethod);
+                                LogSummary.of(targetMethod));
                     }
                 }
             }
@@ -349,13 +435,14 @@ public class LessonAspect {
                 }
 
                 if (isEmpty) {
-                    logger.warn("There are not any {} month of {} year lessons for a lecturer with id {}.",
+                    warningRateLimiter.warn(logger,
+                            "There are not any {} month of {} year lessons for a lecturer with id {}.",
                             month.getMonth(), month.getYear(), lecturerId);
                 } else {
                     if (logger.isDebugEnabled()) {
                         logger.debug(
                                 "When get {} month of {} year lessons for a lecturer with id {} the result is: {}.",
-                                month.getMonth(), month.getYear(), lecturerId, targetMethod);
+                                month.getMonth(), month.getYear(), lecturerId, LogSummary.of(targetMethod));
                     }
                 }
             }
@@ -371,4 +458,117 @@ public class LessonAspect {
                     repositoryException);
         }
     }
+
+    @Around("getAudienceWeekLessonsMethod()")
+    Object aroundGetAudienceWeekLessonsAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int audienceId = (int) proceedingJoinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to get week lessons for an audience with id: {}.", audienceId);
+        }
+
+        try {
+
+            if (audienceId < 1) {
+                IllegalArgumentException exception = new IllegalArgumentException(
+                        "An audience id isn't positive for existing object.");
+                logger.error("An audience id {} is not positive when get week lessons for an audience.", audienceId,
+                        exception);
+                throw exception;
+            }
+
+            Object targetMethod = proceedingJoinPoint.proceed();
+            if (targetMethod instanceof Map<?, ?>) {
+                boolean isEmpty = false;
+
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) targetMethod).entrySet()) {
+                    if ((entry.getValue() instanceof List<?>)) {
+                        isEmpty = ((List<?>) entry.getValue()).isEmpty();
+
+                        if (!isEmpty) {
+                            break;
+                        }
+                    }
+                }
+
+                if (isEmpty) {
+                    warningRateLimiter.warn(logger, "There are not any week lessons for an audience with id {}.",
+                            audienceId);
+                } else {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("When get week lessons for an audience with id {} the result is: {}.", audienceId,
+                                LogSummary.of(targetMethod));
+                    }
+                }
+            }
+            return targetMethod;
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new ServiceException("There is an error with given number when get week lessons for an audience.",
+                    illegalArgumentException);
+        } catch (RepositoryException repositoryException) {
+            logger.error("There is some error in repositories layer when get week lessons for an audience with id {}.",
+                    audienceId, repositoryException);
+            throw new ServiceException("There is some error in repositories layer when get week lessons for an audience.",
+                    repositoryException);
+        }
+    }
+
+    @Around("getAudienceMonthLessonsMethod()")
+    Object aroundGetAudienceMonthLessonsAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int audienceId = (int) proceedingJoinPoint.getArgs()[0];
+        YearMonth month = (YearMonth) proceedingJoinPoint.getArgs()[1];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to get {} month of {} year lessons for an audience with id: {}.", month.getMonth(),
+                    month.getYear(), audienceId);
+        }
+
+        try {
+
+            if (audienceId < 1) {
+                IllegalArgumentException exception = new IllegalArgumentException(
+                        "An audience id isn't positive for existing object.");
+                logger.error("An audience id {} is not positive when get {} month of {} year lessons for an audience.",
+                        audienceId, month.getMonth(), month.getYear(), exception);
+                throw exception;
+            }
+
+            Object targetMethod = proceedingJoinPoint.proceed();
+            if (targetMethod instanceof Map<?, ?>) {
+                boolean isEmpty = false;
+
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) targetMethod).entrySet()) {
+                    if ((entry.getValue() instanceof List<?>)) {
+                        isEmpty = ((List<?>) entry.getValue()).isEmpty();
+
+                        if (!isEmpty) {
+                            break;
+                        }
+                    }
+                }
+
+                if (isEmpty) {
+                    warningRateLimiter.warn(logger,
+                            "There are not any {} month of {} year lessons for an audience with id {}.",
+                            month.getMonth(), month.getYear(), audienceId);
+                } else {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug(
+                                "When get {} month of {} year lessons for an audience with id {} the result is: {}.",
+                                month.getMonth(), month.getYear(), audienceId, LogSummary.of(targetMethod));
+                    }
+                }
+            }
+            return targetMethod;
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new ServiceException("There is an error with given number when get month lessons for an audience.",
+                    illegalArgumentException);
+        } catch (RepositoryException repositoryException) {
+            logger.error(
+                    "There is some error in repositories layer when get {} month of {} year lessons for an audience with id {}.",
+                    month.getMonth(), month.getYear(), audienceId, repositoryException);
+            throw new ServiceException("There is some error in repositories layer when get month lessons for an audience.",
+                    repositoryException);
+        }
+    }
 }
@@ -0,0 +1,193 @@
+package ua.com.foxminded.service.aspects;
+
+import java.util.List;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.service.conflicts.LessonConflict;
+import ua.com.foxminded.service.conflicts.LessonConflictIndex;
+import ua.com.foxminded.service.exceptions.LessonConflictException;
+import ua.com.foxminded.service.exceptions.ServiceException;
+
+@Aspect
+@Configuration
+@Order(60)
+public class LessonConflictAspect {
+    private final Logger logger = LoggerFactory.getLogger(LessonConflictAspect.class);
+
+    private LessonConflictIndex lessonConflictIndex;
+
+    @Autowired
+    public LessonConflictAspect(LessonConflictIndex lessonConflictIndex) {
+        this.lessonConflictIndex = lessonConflictIndex;
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonService.create(ua.com.foxminded.domain.Lesson))")
+    private void createMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonService.update(ua.com.foxminded.domain.Lesson))")
+    private void updateMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonService.createAll(java.util.List))")
+    private void createAllMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonService.deleteById(int))")
+    private void deleteMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonTimeService.update(ua.com.foxminded.domain.LessonTime))")
+    private void updateLessonTimeMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonTimeService.deleteById(int))")
+    private void deleteLessonTimeMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.GroupService.deleteById(int))")
+    private void deleteGroupMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LecturerService.deleteById(int))")
+    private void deleteLecturerMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.FacultyService.deleteById(int))")
+    private void deleteFacultyMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.AudienceService.update(ua.com.foxminded.domain.Audience)) "
+            + "|| execution (void ua.com.foxminded.service.AudienceService.deleteById(int))")
+    private void writeAudienceMethods() {
+    }
+
+    @Around("createMethod()")
+    void aroundCreateAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        saveWithoutConflicts(proceedingJoinPoint, "create");
+    }
+
+    @Around("updateMethod()")
+    void aroundUpdateAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        saveWithoutConflicts(proceedingJoinPoint, "update");
+    }
+
+    @Around("createAllMethod()")
+    void aroundCreateAllAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        @SuppressWarnings("unchecked")
+        List<Lesson> lessons = (List<Lesson>) proceedingJoinPoint.getArgs()[0];
+
+        synchronized (lessonConflictIndex) {
+            List<LessonConflict> conflicts = lessonConflictIndex.findConflicts(lessons);
+
+            if (!conflicts.isEmpty()) {
+                LessonConflictException exception = new LessonConflictException(
+                        "The lessons take lecturers, groups or audiences which are busy at these times.", conflicts);
+                logger.error("{} lessons conflict with other lessons when create: {}.", lessons.size(), conflicts,
+                        exception);
+                throw new ServiceException("Given lessons conflict with other lessons when create.", exception);
+            }
+
+            proceedingJoinPoint.proceed();
+            lessonConflictIndex.putAll(lessons);
+        }
+    }
+
+    @AfterReturning("deleteMethod()")
+    void afterDeleteAdvice(JoinPoint joinPoint) {
+        lessonConflictIndex.remove((int) joinPoint.getArgs()[0]);
+    }
+
+    /**
+     * A new start or end of a lesson time moves all its lessons, so they are
+     * checked at the new time under the index lock, as a saved lesson is.
+     */
+    @Around("updateLessonTimeMethod()")
+    void aroundUpdateLessonTimeAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        LessonTime lessonTime = (LessonTime) proceedingJoinPoint.getArgs()[0];
+
+        synchronized (lessonConflictIndex) {
+            List<LessonConflict> conflicts = lessonConflictIndex.findConflicts(lessonTime);
+
+            if (!conflicts.isEmpty()) {
+                LessonConflictException exception = new LessonConflictException(
+                        "The lessons take lecturers, groups or audiences which are busy at the new time.",
+                        conflicts);
+                logger.error("Lessons at the lesson time {} conflict with other lessons when update: {}.", lessonTime,
+                        conflicts, exception);
+                throw new ServiceException("Lessons at a given lesson time conflict with other lessons when update.",
+                        exception);
+            }
+
+            proceedingJoinPoint.proceed();
+            lessonConflictIndex.updateLessonTime(lessonTime);
+        }
+    }
+
+    @AfterReturning("deleteLessonTimeMethod()")
+    void afterDeleteLessonTimeAdvice(JoinPoint joinPoint) {
+        lessonConflictIndex.removeLessonsOfLessonTime((int) joinPoint.getArgs()[0]);
+    }
+
+    @AfterReturning("deleteGroupMethod()")
+    void afterDeleteGroupAdvice(JoinPoint joinPoint) {
+        lessonConflictIndex.removeLessonsOfGroup((int) joinPoint.getArgs()[0]);
+    }
+
+    @AfterReturning("deleteLecturerMethod()")
+    void afterDeleteLecturerAdvice(JoinPoint joinPoint) {
+        lessonConflictIndex.removeLessonsOfLecturer((int) joinPoint.getArgs()[0]);
+    }
+
+    @AfterReturning("deleteFacultyMethod()")
+    void afterDeleteFacultyAdvice(JoinPoint joinPoint) {
+        lessonConflictIndex.removeLessonsOfFaculty((int) joinPoint.getArgs()[0]);
+    }
+
+    /**
+     * Renaming or deleting an audience changes its lessons in the repository
+     * at once, so the index is loaded again.
+     */
+    @AfterReturning("writeAudienceMethods()")
+    void afterWriteAudienceAdvice() {
+        lessonConflictIndex.invalidate();
+    }
+
+    /**
+     * The check, the save and the index update are made under the index lock,
+     * so two concurrent writes can't take the same time.
+     */
+    private void saveWithoutConflicts(ProceedingJoinPoint proceedingJoinPoint, String operation) throws Throwable {
+        Lesson lesson = (Lesson) proceedingJoinPoint.getArgs()[0];
+
+        synchronized (lessonConflictIndex) {
+            List<LessonConflict> conflicts = lessonConflictIndex.findConflicts(lesson);
+
+            if (!conflicts.isEmpty()) {
+                LessonConflictException exception = new LessonConflictException(
+                        "The lesson takes a lecturer, a group or an audience which are busy at this time.",
+                        conflicts);
+                logger.error("The lesson {} conflicts with other lessons when {}: {}.", lesson, operation, conflicts,
+                        exception);
+                throw new ServiceException("A given lesson conflicts with other lessons when " + operation + ".",
+                        exception);
+            }
+
+            proceedingJoinPoint.proceed();
+            lessonConflictIndex.put(lesson);
+        }
+    }
+}
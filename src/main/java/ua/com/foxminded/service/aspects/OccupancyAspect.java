@@ -0,0 +1,69 @@
+package ua.com.foxminded.service.aspects;
+
+import java.util.List;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.service.availability.OccupancyIndex;
+
+@Aspect
+@Configuration
+public class OccupancyAspect {
+    private OccupancyIndex occupancyIndex;
+
+    @Autowired
+    public OccupancyAspect(OccupancyIndex occupancyIndex) {
+        this.occupancyIndex = occupancyIndex;
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonService.create(ua.com.foxminded.domain.Lesson)) "
+            + "|| execution (void ua.com.foxminded.service.LessonService.update(ua.com.foxminded.domain.Lesson))")
+    private void saveLessonMethods() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonService.createAll(java.util.List))")
+    private void createAllLessonsMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonService.deleteById(int))")
+    private void deleteLessonMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonTimeService.create(ua.com.foxminded.domain.LessonTime)) "
+            + "|| execution (void ua.com.foxminded.service.LessonTimeService.update(ua.com.foxminded.domain.LessonTime)) "
+            + "|| execution (void ua.com.foxminded.service.LessonTimeService.deleteById(int)) "
+            + "|| execution (void ua.com.foxminded.service.GroupService.deleteById(int)) "
+            + "|| execution (void ua.com.foxminded.service.LecturerService.deleteById(int)) "
+            + "|| execution (void ua.com.foxminded.service.FacultyService.deleteById(int)) "
+            + "|| execution (void ua.com.foxminded.service.AudienceService.update(ua.com.foxminded.domain.Audience)) "
+            + "|| execution (void ua.com.foxminded.service.AudienceService.deleteById(int))")
+    private void invalidatingMethods() {
+    }
+
+    @AfterReturning("saveLessonMethods()")
+    void afterSaveLessonAdvice(JoinPoint joinPoint) {
+        occupancyIndex.put((Lesson) joinPoint.getArgs()[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    @AfterReturning("createAllLessonsMethod()")
+    void afterCreateAllLessonsAdvice(JoinPoint joinPoint) {
+        occupancyIndex.putAll((List<Lesson>) joinPoint.getArgs()[0]);
+    }
+
+    @AfterReturning("deleteLessonMethod()")
+    void afterDeleteLessonAdvice(JoinPoint joinPoint) {
+        occupancyIndex.remove((int) joinPoint.getArgs()[0]);
+    }
+
+    @AfterReturning("invalidatingMethods()")
+    void afterInvalidatingAdvice() {
+        occupancyIndex.invalidate();
+    }
+}
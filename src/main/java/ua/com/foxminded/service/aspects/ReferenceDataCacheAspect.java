@@ -0,0 +1,161 @@
+package ua.com.foxminded.service.aspects;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+import ua.com.foxminded.domain.Faculty;
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.service.cache.ReferenceDataCache;
+
+/**
+ * Serves lists of all lesson times, faculties, groups and lecturers from
+ * {@link ReferenceDataCache}. It runs inside of the general service aspect, so
+ * a list taken from the cache is logged as a loaded one.
+ */
+@Aspect
+@Configuration
+@Order(40)
+public class ReferenceDataCacheAspect {
+    private final Logger logger = LoggerFactory.getLogger(ReferenceDataCacheAspect.class);
+
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    public ReferenceDataCacheAspect(ReferenceDataCache referenceDataCache) {
+        this.referenceDataCache = referenceDataCache;
+    }
+
+    @Pointcut("execution (java.util.List ua.com.foxminded.service.LessonTimeService.getAll())")
+    private void getAllLessonTimesMethod() {
+    }
+
+    @Pointcut("execution (java.util.List ua.com.foxminded.service.FacultyService.getAll())")
+    private void getAllFacultiesMethod() {
+    }
+
+    @Pointcut("execution (java.util.List ua.com.foxminded.service.GroupService.getAll())")
+    private void getAllGroupsMethod() {
+    }
+
+    @Pointcut("execution (java.util.List ua.com.foxminded.service.LecturerService.getAll())")
+    private void getAllLecturersMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonTimeService.create(ua.com.foxminded.domain.LessonTime)) "
+            + "|| execution (void ua.com.foxminded.service.LessonTimeService.update(ua.com.foxminded.domain.LessonTime)) "
+            + "|| execution (void ua.com.foxminded.service.LessonTimeService.deleteById(int))")
+    private void writeLessonTimeMethods() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.FacultyService.create(ua.com.foxminded.domain.Faculty))")
+    private void createFacultyMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.FacultyService.update(ua.com.foxminded.domain.Faculty)) "
+            + "|| execution (void ua.com.foxminded.service.FacultyService.deleteById(int))")
+    private void changeFacultyMethods() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.GroupService.create(ua.com.foxminded.domain.Group)) "
+            + "|| execution (void ua.com.foxminded.service.GroupService.update(ua.com.foxminded.domain.Group)) "
+            + "|| execution (void ua.com.foxminded.service.GroupService.deleteById(int))")
+    private void writeGroupMethods() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LecturerService.create(ua.com.foxminded.domain.Lecturer)) "
+            + "|| execution (void ua.com.foxminded.service.LecturerService.update(ua.com.foxminded.domain.Lecturer)) "
+            + "|| execution (void ua.com.foxminded.service.LecturerService.deleteById(int))")
+    private void writeLecturerMethods() {
+    }
+
+    @Around("getAllLessonTimesMethod()")
+    Object aroundGetAllLessonTimesAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        return readThrough(LessonTime.class, proceedingJoinPoint);
+    }
+
+    @Around("getAllFacultiesMethod()")
+    Object aroundGetAllFacultiesAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        return readThrough(Faculty.class, proceedingJoinPoint);
+    }
+
+    @Around("getAllGroupsMethod()")
+    Object aroundGetAllGroupsAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        return readThrough(Group.class, proceedingJoinPoint);
+    }
+
+    @Around("getAllLecturersMethod()")
+    Object aroundGetAllLecturersAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        return readThrough(Lecturer.class, proceedingJoinPoint);
+    }
+
+    @AfterReturning("writeLessonTimeMethods()")
+    void afterWriteLessonTimeAdvice(JoinPoint joinPoint) {
+        invalidate(joinPoint, LessonTime.class);
+    }
+
+    @AfterReturning("createFacultyMethod()")
+    void afterCreateFacultyAdvice(JoinPoint joinPoint) {
+        invalidate(joinPoint, Faculty.class);
+    }
+
+    /**
+     * Groups are listed with their faculties, and groups of a deleted faculty
+     * are deleted with it.
+     */
+    @AfterReturning("changeFacultyMethods()")
+    void afterChangeFacultyAdvice(JoinPoint joinPoint) {
+        invalidate(joinPoint, Faculty.class, Group.class);
+    }
+
+    @AfterReturning("writeGroupMethods()")
+    void afterWriteGroupAdvice(JoinPoint joinPoint) {
+        invalidate(joinPoint, Group.class);
+    }
+
+    @AfterReturning("writeLecturerMethods()")
+    void afterWriteLecturerAdvice(JoinPoint joinPoint) {
+        invalidate(joinPoint, Lecturer.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Object readThrough(Class<T> type, ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        List<T> cachedList = referenceDataCache.get(type);
+
+        if (cachedList != null) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("All objects of {} were taken from the cache.", type.getSimpleName());
+            }
+            return cachedList;
+        }
+
+        long version = referenceDataCache.getVersion();
+        Object targetMethod = proceedingJoinPoint.proceed();
+
+        if (targetMethod instanceof List<?>) {
+            return referenceDataCache.put(type, (List<T>) targetMethod, version);
+        }
+        return targetMethod;
+    }
+
+    private void invalidate(JoinPoint joinPoint, Class<?>... types) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Invalidate cached lists of {} after {}.", Arrays.toString(types),
+                    joinPoint.getSignature().toShortString());
+        }
+        referenceDataCache.invalidate(types);
+    }
+}
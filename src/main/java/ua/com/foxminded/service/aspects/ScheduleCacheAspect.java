@@ -0,0 +1,250 @@
+package ua.com.foxminded.service.aspects;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.domain.LessonView;
+import ua.com.foxminded.service.cache.ScheduleCache;
+import ua.com.foxminded.service.cache.ScheduleKey;
+import ua.com.foxminded.service.cache.ScheduleOwner;
+
+@Aspect
+@Configuration
+@Order(40)
+public class ScheduleCacheAspect {
+    private final Logger logger = LoggerFactory.getLogger(ScheduleCacheAspect.class);
+
+    private ScheduleCache scheduleCache;
+
+    @Autowired
+    public ScheduleCacheAspect(ScheduleCache scheduleCache) {
+        this.scheduleCache = scheduleCache;
+    }
+
+    @Pointcut("execution (java.util.Map ua.com.foxminded.service.LessonService.getGroupWeekLessons(int))")
+    private void getGroupWeekLessonsMethod() {
+    }
+
+    @Pointcut("execution (java.util.Map ua.com.foxminded.service.LessonService.getGroupMonthLessons(int, java.time.YearMonth))")
+    private void getGroupMonthLessonsMethod() {
+    }
+
+    @Pointcut("execution (java.util.Map ua.com.foxminded.service.LessonService.getLecturerWeekLessons(int))")
+    private void getLecturerWeekLessonsMethod() {
+    }
+
+    @Pointcut("execution (java.util.Map ua.com.foxminded.service.LessonService.getLecturerMonthLessons(int, java.time.YearMonth))")
+    private void getLecturerMonthLessonsMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonService.create(ua.com.foxminded.domain.Lesson)) "
+            + "|| execution (void ua.com.foxminded.service.LessonService.update(ua.com.foxminded.domain.Lesson))")
+    private void saveLessonMethods() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonService.createAll(java.util.List))")
+    private void createAllLessonsMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonService.deleteById(int))")
+    private void deleteLessonMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonTimeService.update(ua.com.foxminded.domain.LessonTime))")
+    private void updateLessonTimeMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonTimeService.deleteById(int))")
+    private void deleteLessonTimeMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.GroupService.update(ua.com.foxminded.domain.Group))")
+    private void updateGroupMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.GroupService.deleteById(int))")
+    private void deleteGroupMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LecturerService.update(ua.com.foxminded.domain.Lecturer))")
+    private void updateLecturerMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LecturerService.deleteById(int))")
+    private void deleteLecturerMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.FacultyService.deleteById(int))")
+    private void deleteFacultyMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.AudienceService.update(ua.com.foxminded.domain.Audience)) "
+            + "|| execution (void ua.com.foxminded.service.AudienceService.deleteById(int))")
+    private void writeAudienceMethods() {
+    }
+
+    @Around("getGroupWeekLessonsMethod()")
+    Object aroundGetGroupWeekLessonsAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int groupId = (int) proceedingJoinPoint.getArgs()[0];
+        return readThrough(ScheduleKey.forWeek(ScheduleOwner.GROUP, groupId), proceedingJoinPoint);
+    }
+
+    @Around("getGroupMonthLessonsMethod()")
+    Object aroundGetGroupMonthLessonsAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int groupId = (int) proceedingJoinPoint.getArgs()[0];
+        YearMonth month = (YearMonth) proceedingJoinPoint.getArgs()[1];
+        return readThrough(ScheduleKey.forMonth(ScheduleOwner.GROUP, groupId, month), proceedingJoinPoint);
+    }
+
+    @Around("getLecturerWeekLessonsMethod()")
+    Object aroundGetLecturerWeekLessonsAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int lecturerId = (int) proceedingJoinPoint.getArgs()[0];
+        return readThrough(ScheduleKey.forWeek(ScheduleOwner.LECTURER, lecturerId), proceedingJoinPoint);
+    }
+
+    @Around("getLecturerMonthLessonsMethod()")
+    Object aroundGetLecturerMonthLessonsAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int lecturerId = (int) proceedingJoinPoint.getArgs()[0];
+        YearMonth month = (YearMonth) proceedingJoinPoint.getArgs()[1];
+        return readThrough(ScheduleKey.forMonth(ScheduleOwner.LECTURER, lecturerId, month), proceedingJoinPoint);
+    }
+
+    @AfterReturning("saveLessonMethods()")
+    void afterSaveLessonAdvice(JoinPoint joinPoint) {
+        Lesson lesson = (Lesson) joinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Invalidate cached schedules affected by the lesson with id {}.", lesson.getId());
+        }
+        scheduleCache.invalidateLesson(lesson);
+    }
+
+    @AfterReturning("createAllLessonsMethod()")
+    void afterCreateAllLessonsAdvice(JoinPoint joinPoint) {
+        List<?> lessons = (List<?>) joinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Invalidate cached schedules affected by {} created lessons.", lessons.size());
+        }
+        for (Object lesson : lessons) {
+            scheduleCache.invalidateLesson((Lesson) lesson);
+        }
+    }
+
+    @AfterReturning("deleteLessonMethod()")
+    void afterDeleteLessonAdvice(JoinPoint joinPoint) {
+        int lessonId = (int) joinPoint.getArgs()[0];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Invalidate cached schedules affected by the deleted lesson with id {}.", lessonId);
+        }
+        scheduleCache.invalidateLessonById(lessonId);
+    }
+
+    @AfterReturning("updateLessonTimeMethod()")
+    void afterUpdateLessonTimeAdvice(JoinPoint joinPoint) {
+        LessonTime lessonTime = (LessonTime) joinPoint.getArgs()[0];
+        invalidateReferences(LessonTime.class, lessonTime.getId());
+    }
+
+    @AfterReturning("deleteLessonTimeMethod()")
+    void afterDeleteLessonTimeAdvice(JoinPoint joinPoint) {
+        invalidateReferences(LessonTime.class, (int) joinPoint.getArgs()[0]);
+    }
+
+    @AfterReturning("updateGroupMethod()")
+    void afterUpdateGroupAdvice(JoinPoint joinPoint) {
+        Group group = (Group) joinPoint.getArgs()[0];
+        invalidateReferences(Group.class, group.getId());
+    }
+
+    @AfterReturning("deleteGroupMethod()")
+    void afterDeleteGroupAdvice(JoinPoint joinPoint) {
+        int groupId = (int) joinPoint.getArgs()[0];
+        scheduleCache.invalidateOwner(ScheduleOwner.GROUP, groupId);
+        invalidateReferences(Group.class, groupId);
+    }
+
+    @AfterReturning("updateLecturerMethod()")
+    void afterUpdateLecturerAdvice(JoinPoint joinPoint) {
+        Lecturer lecturer = (Lecturer) joinPoint.getArgs()[0];
+        invalidateReferences(Lecturer.class, lecturer.getId());
+    }
+
+    @AfterReturning("deleteLecturerMethod()")
+    void afterDeleteLecturerAdvice(JoinPoint joinPoint) {
+        int lecturerId = (int) joinPoint.getArgs()[0];
+        scheduleCache.invalidateOwner(ScheduleOwner.LECTURER, lecturerId);
+        invalidateReferences(Lecturer.class, lecturerId);
+    }
+
+    /**
+     * Schedules don't show faculties, but groups of a deleted faculty are
+     * deleted with it, and they aren't known any more.
+     */
+    @AfterReturning("deleteFacultyMethod()")
+    void afterDeleteFacultyAdvice(JoinPoint joinPoint) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Invalidate all cached schedules after the faculty with id {} was deleted.",
+                    joinPoint.getArgs()[0]);
+        }
+        scheduleCache.invalidateAll();
+    }
+
+    /**
+     * Lessons keep a name of an audience rather than a reference, so all
+     * schedules are dropped when an audience is renamed or deleted.
+     */
+    @AfterReturning("writeAudienceMethods()")
+    void afterWriteAudienceAdvice(JoinPoint joinPoint) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Invalidate all cached schedules after {} of an audience.", joinPoint.getSignature().getName());
+        }
+        scheduleCache.invalidateAll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readThrough(ScheduleKey key, ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Map<?, List<LessonView>> cachedSchedule = scheduleCache.get(key);
+
+        if (cachedSchedule != null) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("The schedule {} was taken from the cache.", key);
+            }
+            return cachedSchedule;
+        }
+
+        long version = scheduleCache.getVersion();
+        Object targetMethod = proceedingJoinPoint.proceed();
+
+        if (targetMethod instanceof Map<?, ?>) {
+            return scheduleCache.put(key, (Map<Object, List<LessonView>>) targetMethod, version);
+        }
+        return targetMethod;
+    }
+
+    private void invalidateReferences(Class<?> entityType, int entityId) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Invalidate cached schedules which refer to {} with id {}.", entityType.getSimpleName(),
+                    entityId);
+        }
+        scheduleCache.invalidateReferences(entityType, entityId);
+    }
+}
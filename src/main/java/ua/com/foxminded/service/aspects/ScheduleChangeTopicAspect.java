@@ -0,0 +1,55 @@
+package ua.com.foxminded.service.aspects;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+
+import ua.com.foxminded.service.exceptions.ServiceException;
+
+@Aspect
+@Configuration
+public class ScheduleChangeTopicAspect {
+    private final Logger logger = LoggerFactory.getLogger(ScheduleChangeTopicAspect.class);
+
+    @Pointcut("execution (ua.com.foxminded.service.events.ScheduleSubscription ua.com.foxminded.service.events.ScheduleChangeTopic.subscribe(..))")
+    private void subscribeMethod() {
+    }
+
+    @Around("subscribeMethod()")
+    Object aroundSubscribeAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Object owner = proceedingJoinPoint.getArgs()[0];
+        int ownerId = (int) proceedingJoinPoint.getArgs()[1];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to subscribe to changes of a schedule of {} with id {}.", owner, ownerId);
+        }
+
+        try {
+            if (owner == null || proceedingJoinPoint.getArgs()[2] == null) {
+                IllegalArgumentException exception = new IllegalArgumentException(
+                        "An owner and a subscriber can't be null.");
+                logger.error("An owner or a subscriber is null when subscribe.", exception);
+                throw exception;
+            } else if (ownerId < 1) {
+                IllegalArgumentException exception = new IllegalArgumentException(
+                        "An owner id isn't positive for existing object.");
+                logger.error("An owner id {} is not positive when subscribe.", ownerId, exception);
+                throw exception;
+            }
+
+            Object targetMethod = proceedingJoinPoint.proceed();
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("A subscriber to changes of a schedule of {} with id {} was added.", owner, ownerId);
+            }
+
+            return targetMethod;
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new ServiceException("A given owner is incorrect when subscribe.", illegalArgumentException);
+        }
+    }
+}
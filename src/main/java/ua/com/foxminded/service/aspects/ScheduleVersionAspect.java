@@ -0,0 +1,180 @@
+package ua.com.foxminded.service.aspects;
+
+import java.util.List;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.repositories.exceptions.RepositoryException;
+import ua.com.foxminded.repositories.interfaces.LessonRepository;
+import ua.com.foxminded.service.cache.ScheduleOwner;
+import ua.com.foxminded.service.cache.ScheduleVersions;
+import ua.com.foxminded.service.events.ScheduleChange;
+import ua.com.foxminded.service.events.ScheduleChangeTopic;
+
+/**
+ * Changes schedule versions after writes and publishes lesson changes to
+ * subscribers of the affected schedules. It runs outside of the schedule
+ * cache aspect, so a new version is seen only when the cache is already
+ * invalidated. An updated or deleted lesson changes schedules of the group
+ * and the lecturer it had before the write as well.
+ */
+@Aspect
+@Configuration
+@Order(35)
+public class ScheduleVersionAspect {
+    private final Logger logger = LoggerFactory.getLogger(ScheduleVersionAspect.class);
+
+    private ScheduleVersions scheduleVersions;
+    private ScheduleChangeTopic scheduleChangeTopic;
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    public ScheduleVersionAspect(ScheduleVersions scheduleVersions, ScheduleChangeTopic scheduleChangeTopic,
+            LessonRepository lessonRepository) {
+        this.scheduleVersions = scheduleVersions;
+        this.scheduleChangeTopic = scheduleChangeTopic;
+        this.lessonRepository = lessonRepository;
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonService.create(ua.com.foxminded.domain.Lesson))")
+    private void createLessonMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonService.createAll(java.util.List))")
+    private void createAllLessonsMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonService.update(ua.com.foxminded.domain.Lesson))")
+    private void updateLessonMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonService.deleteById(int))")
+    private void deleteLessonMethod() {
+    }
+
+    @Pointcut("execution (void ua.com.foxminded.service.LessonTimeService.update(ua.com.foxminded.domain.LessonTime)) "
+            + "|| execution (void ua.com.foxminded.service.LessonTimeService.deleteById(int)) "
+            + "|| execution (void ua.com.foxminded.service.GroupService.update(ua.com.foxminded.domain.Group)) "
+            + "|| execution (void ua.com.foxminded.service.GroupService.deleteById(int)) "
+            + "|| execution (void ua.com.foxminded.service.LecturerService.update(ua.com.foxminded.domain.Lecturer)) "
+            + "|| execution (void ua.com.foxminded.service.LecturerService.deleteById(int)) "
+            + "|| execution (void ua.com.foxminded.service.FacultyService.update(ua.com.foxminded.domain.Faculty)) "
+            + "|| execution (void ua.com.foxminded.service.FacultyService.deleteById(int)) "
+            + "|| execution (void ua.com.foxminded.service.AudienceService.update(ua.com.foxminded.domain.Audience)) "
+            + "|| execution (void ua.com.foxminded.service.AudienceService.deleteById(int))")
+    private void timetableWriteMethods() {
+    }
+
+    @AfterReturning("createLessonMethod()")
+    void afterCreateLessonAdvice(JoinPoint joinPoint) {
+        Lesson lesson = (Lesson) joinPoint.getArgs()[0];
+        changeSchedules(new LessonOwners(lesson), ScheduleChange.created(lesson), null);
+    }
+
+    @AfterReturning("createAllLessonsMethod()")
+    void afterCreateAllLessonsAdvice(JoinPoint joinPoint) {
+        for (Object lesson : (List<?>) joinPoint.getArgs()[0]) {
+            changeSchedules(new LessonOwners((Lesson) lesson), ScheduleChange.created((Lesson) lesson), null);
+        }
+    }
+
+    @Around("updateLessonMethod()")
+    Object aroundUpdateLessonAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Lesson lesson = (Lesson) proceedingJoinPoint.getArgs()[0];
+        LessonOwners storedOwners = lesson == null ? null : findStoredOwners(lesson.getId());
+
+        Object targetMethod = proceedingJoinPoint.proceed();
+
+        LessonOwners owners = new LessonOwners(lesson);
+        changeSchedules(storedOwners, ScheduleChange.removed(lesson.getId()), owners);
+        changeSchedules(owners, ScheduleChange.updated(lesson), null);
+        return targetMethod;
+    }
+
+    @Around("deleteLessonMethod()")
+    Object aroundDeleteLessonAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        int lessonId = (int) proceedingJoinPoint.getArgs()[0];
+        LessonOwners storedOwners = findStoredOwners(lessonId);
+
+        Object targetMethod = proceedingJoinPoint.proceed();
+
+        changeSchedules(storedOwners, ScheduleChange.deleted(lessonId), null);
+        return targetMethod;
+    }
+
+    @AfterReturning("timetableWriteMethods()")
+    void afterTimetableWriteAdvice(JoinPoint joinPoint) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Change the timetable version after {}.", joinPoint.getSignature().getName());
+        }
+        scheduleVersions.touchTimetable();
+    }
+
+    /**
+     * Owners are taken before the write, because the stored lesson can be the
+     * same instance which the write changes. Arguments aren't validated yet
+     * here, so a wrong id just means there are no stored owners.
+     */
+    private LessonOwners findStoredOwners(int lessonId) {
+        if (lessonId < 1) {
+            return null;
+        }
+
+        try {
+            return lessonRepository.findById(lessonId).map(LessonOwners::new).orElse(null);
+        } catch (RepositoryException repositoryException) {
+            return null;
+        }
+    }
+
+    /**
+     * Changes versions of schedules of the owners and publishes the change to
+     * them, except owners which are among {@code notifiedOwners}, because
+     * they get another change of the same lesson.
+     */
+    private void changeSchedules(LessonOwners lessonOwners, ScheduleChange change, LessonOwners notifiedOwners) {
+        if (lessonOwners == null) {
+            return;
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Change schedules of the lesson with id {}: {}.", lessonOwners.lessonId, change.getType());
+        }
+
+        if (lessonOwners.groupId != null) {
+            scheduleVersions.touchOwner(ScheduleOwner.GROUP, lessonOwners.groupId);
+            if (notifiedOwners == null || !lessonOwners.groupId.equals(notifiedOwners.groupId)) {
+                scheduleChangeTopic.publish(ScheduleOwner.GROUP, lessonOwners.groupId, change);
+            }
+        }
+        if (lessonOwners.lecturerId != null) {
+            scheduleVersions.touchOwner(ScheduleOwner.LECTURER, lessonOwners.lecturerId);
+            if (notifiedOwners == null || !lessonOwners.lecturerId.equals(notifiedOwners.lecturerId)) {
+                scheduleChangeTopic.publish(ScheduleOwner.LECTURER, lessonOwners.lecturerId, change);
+            }
+        }
+    }
+
+    private static final class LessonOwners {
+        private final int lessonId;
+        private final Integer groupId;
+        private final Integer lecturerId;
+
+        private LessonOwners(Lesson lesson) {
+            this.lessonId = lesson.getId();
+            this.groupId = lesson.getGroup() == null ? null : lesson.getGroup().getId();
+            this.lecturerId = lesson.getLecturer() == null ? null : lesson.getLecturer().getId();
+        }
+    }
+}
@@ -18,10 +18,11 @@ import org.springframework.core.annotation.Order;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
-import javax.validation.Validator;
 import ua.com.foxminded.domain.Student;
+import ua.com.foxminded.logging.LogSummary;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
 import ua.com.foxminded.service.exceptions.ServiceException;
+import ua.com.foxminded.service.validation.EntityValidator;
 
 @Aspect
 @Configuration
@@ -29,11 +30,11 @@ import ua.com.foxminded.service.exceptions.ServiceException;
 public class StudentAspect {
     private final Logger logger = LoggerFactory.getLogger(StudentAspect.class);
 
-    private Validator validator;
+    private EntityValidator entityValidator;
 
     @Autowired
-    public StudentAspect(Validator validator) {
-        this.validator = validator;
+    public StudentAspect(EntityValidator entityValidator) {
+        this.entityValidator = entityValidator;
     }
 
     @Pointcut("execution (void ua.com.foxminded.service.StudentService.create(ua.com.foxminded.domain.Student))")
@@ -54,14 +55,10 @@ public class StudentAspect {
 
         try {
 
-            Set<ConstraintViolation<Student>> violations = validator.validate(student);
+            Set<ConstraintViolation<Student>> violations = entityValidator.validate(student);
 
             if (!violations.isEmpty()) {
-                StringJoiner errorMessages = new StringJoiner("; ");
-
-                for (ConstraintViolation<Student> violation : violations) {
-                    errorMessages.add(violation.getMessage());
-                }
+                StringJoiner errorMessages = EntityValidator.messagesOf(violations);
 
                 ConstraintViolationException exception = new ConstraintViolationException(
                         "When create the student is not valid: " + errorMessages, violations);
@@ -87,14 +84,10 @@ public class StudentAspect {
         Student student = (Student) joinPoint.getArgs()[0];
 
         try {
-            Set<ConstraintViolation<Student>> violations = validator.validate(student);
+            Set<ConstraintViolation<Student>> violations = entityValidator.validate(student);
 
             if (!violations.isEmpty()) {
-                StringJoiner errorMessages = new StringJoiner("; ");
-
-                for (ConstraintViolation<Student> violation : violations) {
-                    errorMessages.add(violation.getMessage());
-                }
+                StringJoiner errorMessages = EntityValidator.messagesOf(violations);
 
                 ConstraintViolationException exception = new ConstraintViolationException(
                         "When update the student is not valid:" + errorMessages, violations);
@@ -107,6 +100,34 @@ public class StudentAspect {
         }
     }
 
+    @Around("createMethod()")
+    Object aroundCreateAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Student student = (Student) proceedingJoinPoint.getArgs()[0];
+
+        try {
+            return proceedingJoinPoint.proceed();
+        } catch (IllegalArgumentException illegalArgumentException) {
+            logger.error("The student {} can't be placed in the group when create.", student,
+                    illegalArgumentException);
+            throw new ServiceException("A given student can't be placed in the group when create.",
+                    illegalArgumentException);
+        }
+    }
+
+    @Around("updateMethod()")
+    Object aroundUpdateAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Student student = (Student) proceedingJoinPoint.getArgs()[0];
+
+        try {
+            return proceedingJoinPoint.proceed();
+        } catch (IllegalArgumentException illegalArgumentException) {
+            logger.error("The student {} can't be placed in the group when update.", student,
+                    illegalArgumentException);
+            throw new ServiceException("A given student can't be placed in the group when update.",
+                    illegalArgumentException);
+        }
+    }
+
     @Around("getStudentsFromGroupMethod()")
     Object aroundGetStudentsFromGroupAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
         int groupId = (int) proceedingJoinPoint.getArgs()[0];
@@ -130,7 +151,7 @@ public class StudentAspect {
                 } else {
 
                     if (logger.isDebugEnabled()) {
-                        logger.debug("Students from group with id {} are: {}.", groupId, targetMethod);
+                        logger.debug("Students from group with id {} are: {}.", groupId, LogSummary.of(targetMethod));
                     }
                 }
             }
@@ -0,0 +1,142 @@
+package ua.com.foxminded.service.aspects;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.service.exceptions.ServiceException;
+import ua.com.foxminded.service.generator.CurriculumItem;
+import ua.com.foxminded.service.generator.GeneratedTimetable;
+import ua.com.foxminded.service.generator.TimetableDemand;
+
+@Aspect
+@Configuration
+public class TimetableGeneratorAspect {
+    private static final int MAX_LESSON_TIMES = Long.SIZE;
+
+    private final Logger logger = LoggerFactory.getLogger(TimetableGeneratorAspect.class);
+
+    private final Duration maxTimeBudget;
+
+    /**
+     * @param maxBudgetSeconds the longest time budget, as a generation keeps
+     *                         every worker of the generator and a request
+     *                         thread busy for all of it.
+     */
+    @Autowired
+    public TimetableGeneratorAspect(@Value("${timetable.generator.max-budget-seconds:60}") long maxBudgetSeconds) {
+        this.maxTimeBudget = Duration.ofSeconds(maxBudgetSeconds);
+    }
+
+    @Pointcut("execution (ua.com.foxminded.service.generator.GeneratedTimetable ua.com.foxminded.service.generator.TimetableGenerator.generate(..))")
+    private void generateMethods() {
+    }
+
+    @Around("generateMethods()")
+    Object aroundGenerateAdvice(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        TimetableDemand demand = (TimetableDemand) proceedingJoinPoint.getArgs()[0];
+        Duration timeBudget = (Duration) proceedingJoinPoint.getArgs()[1];
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Try to generate a timetable for {} within {}.", demand, timeBudget);
+        }
+
+        try {
+            checkDemand(demand);
+
+            if (timeBudget == null || timeBudget.isNegative() || timeBudget.isZero()) {
+                IllegalArgumentException exception = new IllegalArgumentException(
+                        "A time budget must be positive.");
+                logger.error("A time budget {} isn't positive when generate a timetable.", timeBudget, exception);
+                throw exception;
+            }
+
+            if (timeBudget.compareTo(maxTimeBudget) > 0) {
+                IllegalArgumentException exception = new IllegalArgumentException(
+                        "A time budget can't be longer than " + maxTimeBudget.getSeconds() + " seconds.");
+                logger.error("A time budget {} is longer than {} when generate a timetable.", timeBudget,
+                        maxTimeBudget, exception);
+                throw exception;
+            }
+
+            GeneratedTimetable timetable = (GeneratedTimetable) proceedingJoinPoint.proceed();
+
+            if (!timetable.getUnplacedItems().isEmpty()) {
+                logger.warn("The generated timetable misses {} lessons: {}.", timetable.getUnplacedItems().size(),
+                        timetable);
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("The timetable was generated: {}.", timetable);
+            }
+            return timetable;
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new ServiceException("A given demand isn't legal when generate a timetable.",
+                    illegalArgumentException);
+        } catch (IllegalStateException illegalStateException) {
+            logger.error("The timetable wasn't generated.", illegalStateException);
+            throw new ServiceException("There is some error when generate a timetable.", illegalStateException);
+        }
+    }
+
+    private void checkDemand(TimetableDemand demand) {
+        if (demand == null || demand.getCurriculum() == null || demand.getCurriculum().isEmpty()) {
+            throw logged(new IllegalArgumentException("A curriculum can't be null or empty."), demand);
+        }
+
+        for (CurriculumItem item : demand.getCurriculum()) {
+            if (item == null || item.getGroup() == null || item.getLecturer() == null || item.getSubject() == null
+                    || item.getSubject().trim().isEmpty() || item.getLessonsPerWeek() < 1) {
+                throw logged(new IllegalArgumentException(
+                        "A curriculum item must have a group, a lecturer, a subject and at least one lesson per week: "
+                                + item),
+                        demand);
+            }
+        }
+
+        if (demand.getLessonTimes() == null || demand.getLessonTimes().isEmpty()
+                || demand.getLessonTimes().size() > MAX_LESSON_TIMES) {
+            throw logged(new IllegalArgumentException(
+                    "There must be from 1 to " + MAX_LESSON_TIMES + " lesson times."), demand);
+        }
+
+        for (LessonTime lessonTime : demand.getLessonTimes()) {
+            if (lessonTime == null || lessonTime.getStartTime() == null || lessonTime.getEndTime() == null
+                    || !lessonTime.getStartTime().isBefore(lessonTime.getEndTime())) {
+                throw logged(new IllegalArgumentException(
+                        "A lesson time must start before it ends: " + lessonTime), demand);
+            }
+        }
+
+        if (demand.getDays() != null) {
+            for (DayOfWeek day : demand.getDays()) {
+                if (day == null) {
+                    throw logged(new IllegalArgumentException("A working day can't be null."), demand);
+                }
+            }
+        }
+
+        if (demand.getAudiences() == null || demand.getAudiences().isEmpty()) {
+            throw logged(new IllegalArgumentException("There must be at least one audience."), demand);
+        }
+
+        for (String audience : demand.getAudiences()) {
+            if (audience == null || audience.trim().isEmpty()) {
+                throw logged(new IllegalArgumentException("An audience can't be blank."), demand);
+            }
+        }
+    }
+
+    private IllegalArgumentException logged(IllegalArgumentException exception, TimetableDemand demand) {
+        logger.error("A demand {} isn't legal when generate a timetable.", demand, exception);
+        return exception;
+    }
+}
@@ -0,0 +1,68 @@
+package ua.com.foxminded.service.availability;
+
+import java.time.DayOfWeek;
+
+import ua.com.foxminded.domain.LessonTime;
+
+/**
+ * A lesson time on a working day when all requested resources are free. The
+ * score is a number of requested resources which have a lesson right before
+ * or right after the slot, so a higher score means fewer gaps in their days.
+ */
+public final class AvailableSlot {
+    private final DayOfWeek day;
+    private final LessonTime lessonTime;
+    private final int score;
+
+    public AvailableSlot(DayOfWeek day, LessonTime lessonTime, int score) {
+        this.day = day;
+        this.lessonTime = lessonTime;
+        this.score = score;
+    }
+
+    public DayOfWeek getDay() {
+        return day;
+    }
+
+    public LessonTime getLessonTime() {
+        return lessonTime;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((day == null) ? 0 : day.hashCode());
+        result = prime * result + ((lessonTime == null) ? 0 : lessonTime.hashCode());
+        result = prime * result + score;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        AvailableSlot other = (AvailableSlot) obj;
+        if (day != other.day)
+            return false;
+        if (lessonTime == null) {
+            if (other.lessonTime != null)
+                return false;
+        } else if (!lessonTime.equals(other.lessonTime))
+            return false;
+        return score == other.score;
+    }
+
+    @Override
+    public String toString() {
+        return "AvailableSlot [day=" + day + ", lessonTime=" + lessonTime + ", score=" + score + "]";
+    }
+}
@@ -0,0 +1,346 @@
+package ua.com.foxminded.service.availability;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.repositories.interfaces.LessonRepository;
+import ua.com.foxminded.repositories.interfaces.LessonTimeRepository;
+
+/**
+ * Occupancy bitsets of lecturers, groups and audiences. A slot is a lesson
+ * time on a working day, slots are numbered day by day, and a bit of a
+ * resource is set when one of its lessons overlaps the slot. Slots where a
+ * set of resources is free are found by OR-ing their words, so a query
+ * doesn't depend on a number of lessons.
+ * <p>
+ * The index is loaded from the repositories on the first use and then kept
+ * up to date by lesson writes. A change of lesson times renumbers slots, so
+ * it drops the index instead.
+ */
+@Component
+public class OccupancyIndex {
+    private static final DayOfWeek[] WORKING_DAYS = { DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+            DayOfWeek.THURSDAY, DayOfWeek.FRIDAY, DayOfWeek.SATURDAY };
+
+    private LessonRepository lessonRepository;
+    private LessonTimeRepository lessonTimeRepository;
+    private final Map<Integer, OccupiedLesson> lessons = new HashMap<>();
+    private final Map<Integer, Occupancy> lecturers = new HashMap<>();
+    private final Map<Integer, Occupancy> groups = new HashMap<>();
+    private final Map<String, Occupancy> audiences = new HashMap<>();
+
+    private List<LessonTime> lessonTimes = Collections.emptyList();
+    private Map<Integer, Integer> lessonTimeIndexes = Collections.emptyMap();
+    private int[][] overlappingTimes = new int[0][];
+    private int slotCount;
+    private long[] allSlots = new long[0];
+    private boolean loaded;
+
+    @Autowired
+    public OccupancyIndex(LessonRepository lessonRepository, LessonTimeRepository lessonTimeRepository) {
+        this.lessonRepository = lessonRepository;
+        this.lessonTimeRepository = lessonTimeRepository;
+    }
+
+    /**
+     * @return at most {@code limit} slots where all the resources are free,
+     *         the best scored first and then in the order of a week.
+     */
+    public synchronized List<AvailableSlot> findFreeSlots(Collection<Integer> lecturerIds,
+            Collection<Integer> groupIds, Collection<String> audienceNames, int limit) {
+        ensureLoaded();
+        List<long[]> resources = new ArrayList<>();
+        collect(lecturers, lecturerIds, resources);
+        collect(groups, groupIds, resources);
+        collect(audiences, trim(audienceNames), resources);
+
+        long[] free = allSlots.clone();
+        for (long[] occupied : resources) {
+            for (int word = 0; word < free.length; word++) {
+                free[word] &= ~occupied[word];
+            }
+        }
+
+        List<AvailableSlot> slots = new ArrayList<>();
+        for (int word = 0; word < free.length; word++) {
+            long bits = free[word];
+            while (bits != 0) {
+                int slot = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                slots.add(new AvailableSlot(WORKING_DAYS[slot / lessonTimes.size()],
+                        lessonTimes.get(slot % lessonTimes.size()), score(slot, resources)));
+            }
+        }
+
+        slots.sort(Comparator.comparingInt(AvailableSlot::getScore).reversed());
+        return slots.size() > limit ? new ArrayList<>(slots.subList(0, limit)) : slots;
+    }
+
+    public synchronized void putAll(List<Lesson> newLessons) {
+        for (Lesson lesson : newLessons) {
+            put(lesson);
+        }
+    }
+
+    public synchronized void put(Lesson lesson) {
+        if (!loaded) {
+            return;
+        }
+
+        remove(lesson.getId());
+        OccupiedLesson occupiedLesson = OccupiedLesson.of(lesson);
+
+        if (occupiedLesson == null) {
+            return;
+        }
+        if (!lessonTimeIndexes.containsKey(occupiedLesson.lessonTimeId)) {
+            invalidate();
+            return;
+        }
+        occupy(occupiedLesson);
+    }
+
+    public synchronized void remove(int lessonId) {
+        if (!loaded) {
+            return;
+        }
+
+        OccupiedLesson lesson = lessons.remove(lessonId);
+        if (lesson != null) {
+            release(lesson);
+        }
+    }
+
+    /**
+     * Drops the index, so it is loaded from the repositories again on the next
+     * query.
+     */
+    public synchronized void invalidate() {
+        lessons.clear();
+        lecturers.clear();
+        groups.clear();
+        audiences.clear();
+        loaded = false;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+
+        List<LessonTime> sortedTimes = new ArrayList<>(lessonTimeRepository.findAll());
+        sortedTimes.removeIf(lessonTime -> lessonTime.getStartTime() == null || lessonTime.getEndTime() == null);
+        sortedTimes.sort(Comparator.comparing(LessonTime::getStartTime).thenComparing(LessonTime::getEndTime)
+                .thenComparingInt(LessonTime::getId));
+        setLessonTimes(sortedTimes);
+
+        for (Lesson lesson : lessonRepository.findAll()) {
+            OccupiedLesson occupiedLesson = OccupiedLesson.of(lesson);
+
+            if (occupiedLesson != null && lessonTimeIndexes.containsKey(occupiedLesson.lessonTimeId)) {
+                occupy(occupiedLesson);
+            }
+        }
+        loaded = true;
+    }
+
+    private void setLessonTimes(List<LessonTime> sortedTimes) {
+        lessonTimes = sortedTimes;
+        lessonTimeIndexes = new HashMap<>();
+        overlappingTimes = new int[sortedTimes.size()][];
+
+        for (int i = 0; i < sortedTimes.size(); i++) {
+            lessonTimeIndexes.put(sortedTimes.get(i).getId(), i);
+
+            List<Integer> overlapping = new ArrayList<>();
+            for (int j = 0; j < sortedTimes.size(); j++) {
+                if (sortedTimes.get(i).getStartTime().isBefore(sortedTimes.get(j).getEndTime())
+                        && sortedTimes.get(j).getStartTime().isBefore(sortedTimes.get(i).getEndTime())) {
+                    overlapping.add(j);
+                }
+            }
+            overlappingTimes[i] = overlapping.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        slotCount = WORKING_DAYS.length * sortedTimes.size();
+        allSlots = new long[(slotCount + Long.SIZE - 1) / Long.SIZE];
+        for (int slot = 0; slot < slotCount; slot++) {
+            allSlots[slot / Long.SIZE] |= 1L << slot;
+        }
+    }
+
+    private void occupy(OccupiedLesson lesson) {
+        lessons.put(lesson.id, lesson);
+        for (int slot : slotsOf(lesson)) {
+            occupancy(lecturers, lesson.lecturerId).add(slot);
+            occupancy(groups, lesson.groupId).add(slot);
+            occupancy(audiences, lesson.audience).add(slot);
+        }
+    }
+
+    private void release(OccupiedLesson lesson) {
+        for (int slot : slotsOf(lesson)) {
+            release(lecturers, lesson.lecturerId, slot);
+            release(groups, lesson.groupId, slot);
+            release(audiences, lesson.audience, slot);
+        }
+    }
+
+    /**
+     * @return slots of the lesson's day whose lesson times overlap the time of
+     *         the lesson, so a lesson blocks every slot it intersects.
+     */
+    private int[] slotsOf(OccupiedLesson lesson) {
+        int dayIndex = lesson.day.getValue() - 1;
+        int[] times = overlappingTimes[lessonTimeIndexes.get(lesson.lessonTimeId)];
+        int[] slots = new int[times.length];
+
+        for (int i = 0; i < times.length; i++) {
+            slots[i] = dayIndex * lessonTimes.size() + times[i];
+        }
+        return slots;
+    }
+
+    private <K> Occupancy occupancy(Map<K, Occupancy> occupancies, K key) {
+        return occupancies.computeIfAbsent(key, newKey -> new Occupancy(slotCount));
+    }
+
+    private static <K> void release(Map<K, Occupancy> occupancies, K key, int slot) {
+        Occupancy occupancy = occupancies.get(key);
+
+        if (occupancy != null && occupancy.remove(slot)) {
+            occupancies.remove(key);
+        }
+    }
+
+    /**
+     * Resources without lessons are free in every slot, so they are skipped.
+     */
+    private static <K> void collect(Map<K, Occupancy> occupancies, Collection<K> keys, List<long[]> resources) {
+        if (keys == null) {
+            return;
+        }
+
+        for (K key : keys) {
+            Occupancy occupancy = occupancies.get(key);
+            if (occupancy != null) {
+                resources.add(occupancy.bits);
+            }
+        }
+    }
+
+    /**
+     * Counts resources which are busy in the previous or the next lesson time
+     * of the same day.
+     */
+    private int score(int slot, List<long[]> resources) {
+        int timeIndex = slot % lessonTimes.size();
+        int score = 0;
+
+        for (long[] occupied : resources) {
+            if (timeIndex > 0 && isSet(occupied, slot - 1)
+                    || timeIndex < lessonTimes.size() - 1 && isSet(occupied, slot + 1)) {
+                score++;
+            }
+        }
+        return score;
+    }
+
+    private static boolean isSet(long[] bits, int slot) {
+        return (bits[slot / Long.SIZE] & 1L << slot) != 0;
+    }
+
+    private static Collection<String> trim(Collection<String> audienceNames) {
+        if (audienceNames == null) {
+            return null;
+        }
+
+        List<String> trimmed = new ArrayList<>(audienceNames.size());
+        for (String audience : audienceNames) {
+            trimmed.add(audience == null ? null : audience.trim());
+        }
+        return trimmed;
+    }
+
+    /**
+     * Bits of busy slots with a number of lessons in every slot, so a slot is
+     * released only when its last lesson is removed.
+     */
+    private static final class Occupancy {
+        private final long[] bits;
+        private final int[] counts;
+        private int size;
+
+        private Occupancy(int slotCount) {
+            this.bits = new long[(slotCount + Long.SIZE - 1) / Long.SIZE];
+            this.counts = new int[slotCount];
+        }
+
+        private void add(int slot) {
+            if (counts[slot]++ == 0) {
+                bits[slot / Long.SIZE] |= 1L << slot;
+            }
+            size++;
+        }
+
+        /**
+         * @return {@code true} if the resource has no lessons any more.
+         */
+        private boolean remove(int slot) {
+            if (counts[slot] > 0 && --counts[slot] == 0) {
+                bits[slot / Long.SIZE] &= ~(1L << slot);
+            }
+            size--;
+            return size == 0;
+        }
+    }
+
+    /**
+     * Keeps only what occupancy needs, so the index doesn't hold detached
+     * entities with their whole graphs.
+     */
+    private static final class OccupiedLesson {
+        private final int id;
+        private final DayOfWeek day;
+        private final int lessonTimeId;
+        private final int lecturerId;
+        private final int groupId;
+        private final String audience;
+
+        private OccupiedLesson(int id, DayOfWeek day, int lessonTimeId, int lecturerId, int groupId,
+                String audience) {
+            this.id = id;
+            this.day = day;
+            this.lessonTimeId = lessonTimeId;
+            this.lecturerId = lecturerId;
+            this.groupId = groupId;
+            this.audience = audience;
+        }
+
+        /**
+         * @return {@code null} if the lesson doesn't take a slot of a working
+         *         day.
+         */
+        private static OccupiedLesson of(Lesson lesson) {
+            if (lesson == null || lesson.getDay() == null || lesson.getDay() == DayOfWeek.SUNDAY
+                    || lesson.getGroup() == null || lesson.getLecturer() == null || lesson.getAudience() == null
+                    || lesson.getLessonTime() == null) {
+                return null;
+            }
+
+            return new OccupiedLesson(lesson.getId(), lesson.getDay(), lesson.getLessonTime().getId(),
+                    lesson.getLecturer().getId(), lesson.getGroup().getId(), lesson.getAudience().trim());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package ua.com.foxminded.service.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Copy-on-write snapshots of small lookup lists, such as all lesson times or
+ * all faculties. A snapshot is an unmodifiable list which is never changed
+ * after it is published, and the map of snapshots is replaced as a whole, so
+ * readers take lists without locking and always see a complete one. Writers
+ * drop the snapshots they change, and the next read loads them again.
+ */
+@Component
+public class ReferenceDataCache {
+    private volatile Map<Class<?>, List<?>> snapshots = Collections.emptyMap();
+
+    private long version;
+
+    @SuppressWarnings("unchecked")
+    public <T> List<T> get(Class<T> type) {
+        return (List<T>) snapshots.get(type);
+    }
+
+    /**
+     * @return a version which should be passed to
+     *         {@link #put(Class, List, long)} after the list is loaded.
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Publishes a snapshot of a loaded list unless some invalidation happened
+     * after {@code loadedVersion} was taken, so a list loaded before a write
+     * is never published after it.
+     *
+     * @return an unmodifiable copy of the given list.
+     */
+    public synchronized <T> List<T> put(Class<T> type, List<T> list, long loadedVersion) {
+        List<T> snapshot = Collections.unmodifiableList(new ArrayList<>(list));
+
+        if (loadedVersion == version) {
+            Map<Class<?>, List<?>> updatedSnapshots = new HashMap<>(snapshots);
+            updatedSnapshots.put(type, snapshot);
+            snapshots = Collections.unmodifiableMap(updatedSnapshots);
+        }
+        return snapshot;
+    }
+
+    public synchronized void invalidate(Class<?>... types) {
+        version++;
+
+        Map<Class<?>, List<?>> updatedSnapshots = new HashMap<>(snapshots);
+        for (Class<?> type : types) {
+            updatedSnapshots.remove(type);
+        }
+        snapshots = Collections.unmodifiableMap(updatedSnapshots);
+    }
+
+    public synchronized void invalidateAll() {
+        version++;
+        snapshots = Collections.emptyMap();
+    }
+}
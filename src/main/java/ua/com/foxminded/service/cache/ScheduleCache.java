@@ -0,0 +1,248 @@
+package ua.com.foxminded.service.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.domain.LessonView;
+
+/**
+ * LRU cache of week and month schedules. Every entry is indexed by its owner
+ * and by every lesson, group, lecturer and lesson time it shows, so a write
+ * invalidates only the schedules it really affects.
+ */
+@Component
+public class ScheduleCache {
+    private final int maximumSize;
+    private final LinkedHashMap<ScheduleKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Reference, Set<ScheduleKey>> ownerIndex = new HashMap<>();
+    private final Map<Reference, Set<ScheduleKey>> contentIndex = new HashMap<>();
+
+    private long version;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    @Autowired
+    public ScheduleCache(@Value("${schedule.cache.maximum-size:1000}") int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("A schedule cache size must be positive.");
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    public synchronized Map<?, List<LessonView>> get(ScheduleKey key) {
+        CacheEntry entry = entries.get(key);
+
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        return entry.schedule;
+    }
+
+    /**
+     * @return a version which should be passed to
+     *         {@link #put(ScheduleKey, Map, long)} after the schedule is loaded.
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Stores a loaded schedule unless some invalidation happened after
+     * {@code loadedVersion} was taken, so a concurrent write is never hidden by
+     * a stale result.
+     *
+     * @return an unmodifiable view of the given schedule.
+     */
+    public synchronized <K> Map<K, List<LessonView>> put(ScheduleKey key, Map<K, List<LessonView>> schedule,
+            long loadedVersion) {
+        Map<K, List<LessonView>> cachedSchedule = Collections.unmodifiableMap(schedule);
+
+        if (loadedVersion != version) {
+            return cachedSchedule;
+        }
+
+        removeEntry(key);
+
+        CacheEntry entry = new CacheEntry(cachedSchedule, new Reference(key.getOwner().getEntityType(), key.getOwnerId()),
+                collectReferences(schedule));
+        entries.put(key, entry);
+        addToIndex(ownerIndex, entry.owner, key);
+        for (Reference reference : entry.contents) {
+            addToIndex(contentIndex, reference, key);
+        }
+
+        while (entries.size() > maximumSize) {
+            removeEntry(entries.keySet().iterator().next());
+            evictions++;
+        }
+
+        return cachedSchedule;
+    }
+
+    /**
+     * Invalidates schedules of the lesson's group and lecturer and every
+     * schedule which showed the lesson before it was changed.
+     */
+    public synchronized void invalidateLesson(Lesson lesson) {
+        version++;
+        invalidate(contentIndex, new Reference(Lesson.class, lesson.getId()));
+
+        if (lesson.getGroup() != null) {
+            invalidate(ownerIndex, new Reference(Group.class, lesson.getGroup().getId()));
+        }
+
+        if (lesson.getLecturer() != null) {
+            invalidate(ownerIndex, new Reference(Lecturer.class, lesson.getLecturer().getId()));
+        }
+    }
+
+    public synchronized void invalidateLessonById(int lessonId) {
+        version++;
+        invalidate(contentIndex, new Reference(Lesson.class, lessonId));
+    }
+
+    /**
+     * Invalidates every schedule which shows a lesson referring to the entity.
+     */
+    public synchronized void invalidateReferences(Class<?> entityType, int entityId) {
+        version++;
+        invalidate(contentIndex, new Reference(entityType, entityId));
+    }
+
+    public synchronized void invalidateOwner(ScheduleOwner owner, int ownerId) {
+        version++;
+        invalidate(ownerIndex, new Reference(owner.getEntityType(), ownerId));
+    }
+
+    public synchronized void invalidateAll() {
+        version++;
+        invalidations += entries.size();
+        entries.clear();
+        ownerIndex.clear();
+        contentIndex.clear();
+    }
+
+    public synchronized ScheduleCacheStatistics getStatistics() {
+        return new ScheduleCacheStatistics(entries.size(), maximumSize, hits, misses, evictions, invalidations);
+    }
+
+    private void invalidate(Map<Reference, Set<ScheduleKey>> index, Reference reference) {
+        Set<ScheduleKey> keys = index.get(reference);
+
+        if (keys == null) {
+            return;
+        }
+
+        for (ScheduleKey key : new ArrayList<>(keys)) {
+            if (removeEntry(key)) {
+                invalidations++;
+            }
+        }
+    }
+
+    private boolean removeEntry(ScheduleKey key) {
+        CacheEntry entry = entries.remove(key);
+
+        if (entry == null) {
+            return false;
+        }
+
+        removeFromIndex(ownerIndex, entry.owner, key);
+        for (Reference reference : entry.contents) {
+            removeFromIndex(contentIndex, reference, key);
+        }
+        return true;
+    }
+
+    private static void addToIndex(Map<Reference, Set<ScheduleKey>> index, Reference reference, ScheduleKey key) {
+        index.computeIfAbsent(reference, value -> new HashSet<>()).add(key);
+    }
+
+    private static void removeFromIndex(Map<Reference, Set<ScheduleKey>> index, Reference reference,
+            ScheduleKey key) {
+        Set<ScheduleKey> keys = index.get(reference);
+
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                index.remove(reference);
+            }
+        }
+    }
+
+    private static Set<Reference> collectReferences(Map<?, List<LessonView>> schedule) {
+        Set<Reference> references = new HashSet<>();
+
+        for (List<LessonView> lessons : schedule.values()) {
+            for (LessonView lesson : lessons) {
+                references.add(new Reference(Lesson.class, lesson.getId()));
+                references.add(new Reference(Group.class, lesson.getGroupId()));
+                references.add(new Reference(Lecturer.class, lesson.getLecturerId()));
+                references.add(new Reference(LessonTime.class, lesson.getLessonTimeId()));
+            }
+        }
+        return references;
+    }
+
+    private static final class CacheEntry {
+        private final Map<?, List<LessonView>> schedule;
+        private final Reference owner;
+        private final Set<Reference> contents;
+
+        private CacheEntry(Map<?, List<LessonView>> schedule, Reference owner, Set<Reference> contents) {
+            this.schedule = schedule;
+            this.owner = owner;
+            this.contents = contents;
+        }
+    }
+
+    private static final class Reference {
+        private final Class<?> entityType;
+        private final int entityId;
+
+        private Reference(Class<?> entityType, int entityId) {
+            this.entityType = entityType;
+            this.entityId = entityId;
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + entityId;
+            result = prime * result + entityType.hashCode();
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (obj == null)
+                return false;
+            if (getClass() != obj.getClass())
+                return false;
+            Reference other = (Reference) obj;
+            return entityId == other.entityId && entityType.equals(other.entityType);
+        }
+    }
+}
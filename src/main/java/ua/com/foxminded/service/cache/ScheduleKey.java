@@ -0,0 +1,75 @@
+package ua.com.foxminded.service.cache;
+
+import java.time.YearMonth;
+
+public final class ScheduleKey {
+    private final ScheduleOwner owner;
+    private final int ownerId;
+    private final YearMonth month;
+
+    private ScheduleKey(ScheduleOwner owner, int ownerId, YearMonth month) {
+        this.owner = owner;
+        this.ownerId = ownerId;
+        this.month = month;
+    }
+
+    public static ScheduleKey forWeek(ScheduleOwner owner, int ownerId) {
+        return new ScheduleKey(owner, ownerId, null);
+    }
+
+    public static ScheduleKey forMonth(ScheduleOwner owner, int ownerId, YearMonth month) {
+        return new ScheduleKey(owner, ownerId, month);
+    }
+
+    public ScheduleOwner getOwner() {
+        return owner;
+    }
+
+    public int getOwnerId() {
+        return ownerId;
+    }
+
+    /**
+     * @return a month of the schedule or {@code null} for a week schedule.
+     */
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((month == null) ? 0 : month.hashCode());
+        result = prime * result + ((owner == null) ? 0 : owner.hashCode());
+        result = prime * result + ownerId;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        ScheduleKey other = (ScheduleKey) obj;
+        if (month == null) {
+            if (other.month != null)
+                return false;
+        } else if (!month.equals(other.month))
+            return false;
+        if (owner != other.owner)
+            return false;
+        if (ownerId != other.ownerId)
+            return false;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduleKey [owner=" + owner + ", ownerId=" + ownerId + (month != null ? ", month=" + month : "")
+                + "]";
+    }
+}
@@ -0,0 +1,18 @@
+package ua.com.foxminded.service.cache;
+
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+
+public enum ScheduleOwner {
+    GROUP(Group.class), LECTURER(Lecturer.class);
+
+    private final Class<?> entityType;
+
+    private ScheduleOwner(Class<?> entityType) {
+        this.entityType = entityType;
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+}
@@ -0,0 +1,54 @@
+package ua.com.foxminded.service.cache;
+
+/**
+ * Validators of a schedule for conditional requests: a strong entity tag and
+ * a last modification time in milliseconds.
+ */
+public final class ScheduleVersion {
+    private final String eTag;
+    private final long lastModified;
+
+    public ScheduleVersion(String eTag, long lastModified) {
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((eTag == null) ? 0 : eTag.hashCode());
+        result = prime * result + (int) (lastModified ^ (lastModified >>> 32));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        ScheduleVersion other = (ScheduleVersion) obj;
+        if (eTag == null) {
+            if (other.eTag != null)
+                return false;
+        } else if (!eTag.equals(other.eTag))
+            return false;
+        return lastModified == other.lastModified;
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduleVersion [eTag=" + eTag + ", lastModified=" + lastModified + "]";
+    }
+}
@@ -0,0 +1,88 @@
+package ua.com.foxminded.service.cache;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Version counters of the whole timetable and of every group and lecturer
+ * schedule. A lesson write changes only schedules of its group and lecturer,
+ * while lesson time, group, lecturer and faculty writes can change any
+ * schedule, so they change the timetable version. An entity tag consists of
+ * a start time of the application and both counters, so it never repeats
+ * after a restart. HTTP dates have whole seconds, so every modification time
+ * is rounded up to a whole second and is later than all the previous ones,
+ * otherwise a write in the same second as a response would keep its
+ * {@code Last-Modified} value.
+ */
+@Component
+public class ScheduleVersions {
+    private final Clock clock;
+    private final String epoch;
+    private final Map<ScheduleOwner, Map<Integer, Stamp>> owners = new EnumMap<>(ScheduleOwner.class);
+
+    private Stamp timetable;
+    private Instant lastModified;
+
+    public ScheduleVersions() {
+        this(Clock.systemUTC());
+    }
+
+    ScheduleVersions(Clock clock) {
+        this.clock = clock;
+        Instant start = clock.instant();
+        this.epoch = Long.toString(start.toEpochMilli(), Character.MAX_RADIX);
+        this.lastModified = roundUp(start);
+        this.timetable = new Stamp(0, lastModified);
+
+        for (ScheduleOwner owner : ScheduleOwner.values()) {
+            owners.put(owner, new HashMap<>());
+        }
+    }
+
+    public synchronized ScheduleVersion get(ScheduleOwner owner, int ownerId) {
+        Stamp ownerStamp = owners.get(owner).get(ownerId);
+        long ownerVersion = ownerStamp == null ? 0 : ownerStamp.version;
+        Instant lastModified = ownerStamp == null || ownerStamp.modified.isBefore(timetable.modified)
+                ? timetable.modified
+                : ownerStamp.modified;
+
+        return new ScheduleVersion("\"" + epoch + "-" + timetable.version + "-" + ownerVersion + "\"",
+                lastModified.toEpochMilli());
+    }
+
+    public synchronized void touchOwner(ScheduleOwner owner, int ownerId) {
+        Stamp ownerStamp = owners.get(owner).get(ownerId);
+        owners.get(owner).put(ownerId, new Stamp(ownerStamp == null ? 1 : ownerStamp.version + 1, nextModified()));
+    }
+
+    public synchronized void touchTimetable() {
+        timetable = new Stamp(timetable.version + 1, nextModified());
+    }
+
+    private Instant nextModified() {
+        Instant now = roundUp(clock.instant());
+        lastModified = now.isAfter(lastModified) ? now : lastModified.plusSeconds(1);
+        return lastModified;
+    }
+
+    private static Instant roundUp(Instant instant) {
+        Instant seconds = instant.truncatedTo(ChronoUnit.SECONDS);
+        return seconds.equals(instant) ? seconds : seconds.plusSeconds(1);
+    }
+
+    private static final class Stamp {
+        private final long version;
+        private final Instant modified;
+
+        private Stamp(long version, Instant modified) {
+            this.version = version;
+            this.modified = modified;
+        }
+    }
+}
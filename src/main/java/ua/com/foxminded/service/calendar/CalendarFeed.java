@@ -0,0 +1,59 @@
+package ua.com.foxminded.service.calendar;
+
+import java.util.Arrays;
+
+/**
+ * An iCalendar document ready to be sent with its entity tag. The content is
+ * shared by every request for the same schedule version, so it must not be
+ * changed.
+ */
+public final class CalendarFeed {
+    private final byte[] content;
+    private final String eTag;
+
+    public CalendarFeed(byte[] content, String eTag) {
+        this.content = content;
+        this.eTag = eTag;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Arrays.hashCode(content);
+        result = prime * result + ((eTag == null) ? 0 : eTag.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        CalendarFeed other = (CalendarFeed) obj;
+        if (!Arrays.equals(content, other.content))
+            return false;
+        if (eTag == null) {
+            if (other.eTag != null)
+                return false;
+        } else if (!eTag.equals(other.eTag))
+            return false;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "CalendarFeed [size=" + content.length + ", eTag=" + eTag + "]";
+    }
+}
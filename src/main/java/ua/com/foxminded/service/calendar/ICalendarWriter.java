@@ -0,0 +1,201 @@
+package ua.com.foxminded.service.calendar;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneOffsetTransitionRule;
+import java.time.zone.ZoneRules;
+import java.util.Collection;
+import java.util.List;
+
+import ua.com.foxminded.domain.LessonView;
+
+/**
+ * Writes week lessons as an iCalendar (RFC 5545) document: every lesson is a
+ * weekly recurring event which starts on the first day of its week day on or
+ * after a start date. Times are local times of one time zone, which is
+ * described by a VTIMEZONE built from the zone rules.
+ */
+public class ICalendarWriter {
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final int TRANSITIONS_YEAR = 1970;
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter UTC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter OFFSET = DateTimeFormatter.ofPattern("xx");
+
+    private final ZoneId zone;
+    private final LocalDate startDate;
+
+    public ICalendarWriter(ZoneId zone, LocalDate startDate) {
+        this.zone = zone;
+        this.startDate = startDate;
+    }
+
+    public byte[] write(String calendarName, Collection<LessonView> lessons, Instant stamp) {
+        StringBuilder calendar = new StringBuilder();
+        line(calendar, "BEGIN:VCALENDAR");
+        line(calendar, "VERSION:2.0");
+        line(calendar, "PRODID:-//Foxminded//University timetable//EN");
+        line(calendar, "CALSCALE:GREGORIAN");
+        line(calendar, "METHOD:PUBLISH");
+        line(calendar, "X-WR-CALNAME:" + escape(calendarName));
+        line(calendar, "X-WR-TIMEZONE:" + zone.getId());
+        writeTimeZone(calendar);
+
+        String timeStamp = UTC_DATE_TIME.format(stamp);
+        for (LessonView lesson : lessons) {
+            writeEvent(calendar, lesson, timeStamp);
+        }
+
+        line(calendar, "END:VCALENDAR");
+        return calendar.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void writeEvent(StringBuilder calendar, LessonView lesson, String timeStamp) {
+        LocalDate firstDay = startDate.with(TemporalAdjusters.nextOrSame(lesson.getDay()));
+
+        line(calendar, "BEGIN:VEVENT");
+        line(calendar, "UID:lesson-" + lesson.getId() + "@university-timetable");
+        line(calendar, "DTSTAMP:" + timeStamp);
+        line(calendar, "DTSTART;TZID=" + zone.getId() + ":"
+                + LOCAL_DATE_TIME.format(firstDay.atTime(lesson.getStartTime())));
+        line(calendar, "DTEND;TZID=" + zone.getId() + ":"
+                + LOCAL_DATE_TIME.format(firstDay.atTime(lesson.getEndTime())));
+        line(calendar, "RRULE:FREQ=WEEKLY");
+        line(calendar, "SUMMARY:" + escape(lesson.getName()));
+
+        if (lesson.getAudience() != null) {
+            line(calendar, "LOCATION:" + escape(lesson.getAudience()));
+        }
+
+        line(calendar, "DESCRIPTION:" + escape("Lecturer: " + lesson.getLecturerName() + "\nGroup: "
+                + lesson.getGroupName()));
+
+        line(calendar, "END:VEVENT");
+    }
+
+    private void writeTimeZone(StringBuilder calendar) {
+        ZoneRules rules = zone.getRules();
+        List<ZoneOffsetTransitionRule> transitionRules = rules.getTransitionRules();
+
+        line(calendar, "BEGIN:VTIMEZONE");
+        line(calendar, "TZID:" + zone.getId());
+
+        if (transitionRules.isEmpty()) {
+            ZoneOffset offset = rules.getOffset(startDate.atStartOfDay());
+            line(calendar, "BEGIN:STANDARD");
+            line(calendar, "DTSTART:" + LOCAL_DATE_TIME.format(LocalDate.of(TRANSITIONS_YEAR, 1, 1).atStartOfDay()));
+            line(calendar, "TZOFFSETFROM:" + OFFSET.format(offset));
+            line(calendar, "TZOFFSETTO:" + OFFSET.format(offset));
+            line(calendar, "END:STANDARD");
+        }
+
+        for (ZoneOffsetTransitionRule rule : transitionRules) {
+            ZoneOffsetTransition transition = rule.createTransition(TRANSITIONS_YEAR);
+            String component = transition.getOffsetAfter().getTotalSeconds() > rule.getStandardOffset()
+                    .getTotalSeconds() ? "DAYLIGHT" : "STANDARD";
+            LocalDateTime start = transition.getDateTimeBefore();
+
+            line(calendar, "BEGIN:" + component);
+            line(calendar, "DTSTART:" + LOCAL_DATE_TIME.format(start));
+            line(calendar, "RRULE:FREQ=YEARLY;BYMONTH=" + rule.getMonth().getValue() + yearlyDays(rule));
+            line(calendar, "TZOFFSETFROM:" + OFFSET.format(transition.getOffsetBefore()));
+            line(calendar, "TZOFFSETTO:" + OFFSET.format(transition.getOffsetAfter()));
+            line(calendar, "END:" + component);
+        }
+
+        line(calendar, "END:VTIMEZONE");
+    }
+
+    /**
+     * A transition day is either a fixed day of a month, or a week day on or
+     * after (on or before, when negative) a day of a month. The latter is a
+     * week day within the next seven days, so it is written as an
+     * intersection of BYDAY and BYMONTHDAY unless it is a plain "n-th" or
+     * "last" week day. Zone rules keep "last Sunday of March" as "Sunday on or
+     * after March 25".
+     */
+    private static String yearlyDays(ZoneOffsetTransitionRule rule) {
+        int dayOfMonth = rule.getDayOfMonthIndicator();
+        DayOfWeek dayOfWeek = rule.getDayOfWeek();
+
+        if (dayOfWeek == null) {
+            return ";BYMONTHDAY=" + dayOfMonth;
+        }
+
+        String weekDay = dayOfWeek.name().substring(0, 2);
+        if (dayOfMonth == -1 || dayOfMonth + 6 == rule.getMonth().minLength()
+                && rule.getMonth().minLength() == rule.getMonth().maxLength()) {
+            return ";BYDAY=-1" + weekDay;
+        }
+        if (dayOfMonth > 0 && dayOfMonth % 7 == 1) {
+            return ";BYDAY=" + (dayOfMonth / 7 + 1) + weekDay;
+        }
+
+        StringBuilder monthDays = new StringBuilder(";BYDAY=").append(weekDay).append(";BYMONTHDAY=");
+        int step = dayOfMonth > 0 ? 1 : -1;
+        for (int i = 0; i < 7; i++) {
+            if (i > 0) {
+                monthDays.append(',');
+            }
+            monthDays.append(dayOfMonth + i * step);
+        }
+        return monthDays.toString();
+    }
+
+    private static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    /**
+     * Appends a content line folded into lines of at most 75 octets, never
+     * splitting a character.
+     */
+    private static void line(StringBuilder calendar, String contentLine) {
+        int octets = 0;
+        for (int i = 0; i < contentLine.length(); i++) {
+            char character = contentLine.charAt(i);
+            int charOctets = utf8Length(contentLine, i);
+
+            if (octets + charOctets > MAX_LINE_OCTETS) {
+                calendar.append(CRLF).append(' ');
+                octets = 1;
+            }
+
+            calendar.append(character);
+            if (Character.isHighSurrogate(character) && i + 1 < contentLine.length()) {
+                calendar.append(contentLine.charAt(++i));
+            }
+            octets += charOctets;
+        }
+        calendar.append(CRLF);
+    }
+
+    private static int utf8Length(String text, int index) {
+        char character = text.charAt(index);
+        if (character < 0x80) {
+            return 1;
+        } else if (character < 0x800) {
+            return 2;
+        } else if (Character.isHighSurrogate(character)) {
+            return 4;
+        }
+        return 3;
+    }
+}
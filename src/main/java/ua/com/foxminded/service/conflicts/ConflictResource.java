@@ -0,0 +1,5 @@
+package ua.com.foxminded.service.conflicts;
+
+public enum ConflictResource {
+    LECTURER, GROUP, AUDIENCE
+}
@@ -0,0 +1,102 @@
+package ua.com.foxminded.service.conflicts;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+public class LessonConflict {
+    private final ConflictResource resource;
+    private final int lessonId;
+    private final String lessonName;
+    private final DayOfWeek day;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    public LessonConflict(ConflictResource resource, int lessonId, String lessonName, DayOfWeek day,
+            LocalTime startTime, LocalTime endTime) {
+        this.resource = resource;
+        this.lessonId = lessonId;
+        this.lessonName = lessonName;
+        this.day = day;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    /**
+     * @return a lecturer, a group or an audience which is already busy.
+     */
+    public ConflictResource getResource() {
+        return resource;
+    }
+
+    public int getLessonId() {
+        return lessonId;
+    }
+
+    public String getLessonName() {
+        return lessonName;
+    }
+
+    public DayOfWeek getDay() {
+        return day;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((day == null) ? 0 : day.hashCode());
+        result = prime * result + ((endTime == null) ? 0 : endTime.hashCode());
+        result = prime * result + lessonId;
+        result = prime * result + ((lessonName == null) ? 0 : lessonName.hashCode());
+        result = prime * result + ((resource == null) ? 0 : resource.hashCode());
+        result = prime * result + ((startTime == null) ? 0 : startTime.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        LessonConflict other = (LessonConflict) obj;
+        if (day != other.day)
+            return false;
+        if (endTime == null) {
+            if (other.endTime != null)
+                return false;
+        } else if (!endTime.equals(other.endTime))
+            return false;
+        if (lessonId != other.lessonId)
+            return false;
+        if (lessonName == null) {
+            if (other.lessonName != null)
+                return false;
+        } else if (!lessonName.equals(other.lessonName))
+            return false;
+        if (resource != other.resource)
+            return false;
+        if (startTime == null) {
+            if (other.startTime != null)
+                return false;
+        } else if (!startTime.equals(other.startTime))
+            return false;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "LessonConflict [resource=" + resource + ", lessonId=" + lessonId + ", lessonName=" + lessonName
+                + ", day=" + day + ", startTime=" + startTime + ", endTime=" + endTime + "]";
+    }
+}
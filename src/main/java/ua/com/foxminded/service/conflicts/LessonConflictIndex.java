@@ -0,0 +1,425 @@
+package ua.com.foxminded.service.conflicts;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.repositories.interfaces.LessonRepository;
+
+/**
+ * In-memory index of lesson intervals. Lessons are grouped by a lecturer, a
+ * group or an audience and a day, and every such bucket keeps the intervals
+ * sorted by their start, so an overlap is found with one hash lookup and one
+ * tree search per resource.
+ * <p>
+ * The index is loaded from the repository once, on the first use, and then
+ * kept up to date by the writes made through the services.
+ */
+@Component
+public class LessonConflictIndex {
+    private final LessonRepository lessonRepository;
+    private final Map<Integer, IndexedLesson> lessons = new HashMap<>();
+    private final Map<BucketKey, Bucket> buckets = new HashMap<>();
+
+    private boolean loaded;
+
+    @Autowired
+    public LessonConflictIndex(LessonRepository lessonRepository) {
+        this.lessonRepository = lessonRepository;
+    }
+
+    /**
+     * @return lessons which take the same lecturer, group or audience at the
+     *         same time as the given lesson; the lesson itself is never
+     *         reported.
+     */
+    public synchronized List<LessonConflict> findConflicts(Lesson lesson) {
+        IndexedLesson candidate = IndexedLesson.of(lesson);
+
+        if (candidate == null) {
+            return Collections.emptyList();
+        }
+
+        ensureLoaded();
+        List<LessonConflict> conflicts = new ArrayList<>();
+        for (ConflictResource resource : ConflictResource.values()) {
+            Bucket bucket = buckets.get(new BucketKey(resource, candidate.getResourceKey(resource), candidate.day));
+
+            if (bucket != null) {
+                bucket.collectOverlapping(candidate, resource, conflicts);
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Checks new lessons against the index and against each other.
+     */
+    public synchronized List<LessonConflict> findConflicts(List<Lesson> newLessons) {
+        ensureLoaded();
+        Map<BucketKey, Bucket> newBuckets = new HashMap<>();
+        List<LessonConflict> conflicts = new ArrayList<>();
+
+        for (Lesson lesson : newLessons) {
+            IndexedLesson candidate = IndexedLesson.of(lesson);
+
+            if (candidate == null) {
+                continue;
+            }
+
+            for (ConflictResource resource : ConflictResource.values()) {
+                BucketKey key = new BucketKey(resource, candidate.getResourceKey(resource), candidate.day);
+                Bucket bucket = buckets.get(key);
+
+                if (bucket != null) {
+                    bucket.collectOverlapping(candidate, resource, conflicts);
+                }
+                Bucket newBucket = newBuckets.computeIfAbsent(key, newKey -> new Bucket());
+                newBucket.collectOverlapping(candidate, resource, conflicts);
+                newBucket.add(candidate);
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Checks lessons which use the lesson time at its new start and end
+     * against the other lessons. The lessons of the lesson time move together,
+     * so they aren't checked against each other.
+     */
+    public synchronized List<LessonConflict> findConflicts(LessonTime lessonTime) {
+        if (lessonTime.getStartTime() == null || lessonTime.getEndTime() == null) {
+            return Collections.emptyList();
+        }
+
+        ensureLoaded();
+        List<LessonConflict> conflicts = new ArrayList<>();
+        for (IndexedLesson lesson : lessons.values()) {
+            if (lesson.lessonTimeId != lessonTime.getId()) {
+                continue;
+            }
+
+            IndexedLesson candidate = lesson.withTime(lessonTime.getStartTime(), lessonTime.getEndTime());
+            for (ConflictResource resource : ConflictResource.values()) {
+                Bucket bucket = buckets.get(new BucketKey(resource, candidate.getResourceKey(resource), candidate.day));
+
+                if (bucket != null) {
+                    bucket.collectOverlapping(candidate, resource, lessonTime.getId(), conflicts);
+                }
+            }
+        }
+        return conflicts;
+    }
+
+    public synchronized void putAll(List<Lesson> newLessons) {
+        for (Lesson lesson : newLessons) {
+            put(lesson);
+        }
+    }
+
+    public synchronized void put(Lesson lesson) {
+        if (!loaded) {
+            return;
+        }
+
+        removeLesson(lesson.getId());
+        IndexedLesson indexedLesson = IndexedLesson.of(lesson);
+
+        if (indexedLesson != null) {
+            addLesson(indexedLesson);
+        }
+    }
+
+    public synchronized void remove(int lessonId) {
+        if (loaded) {
+            removeLesson(lessonId);
+        }
+    }
+
+    /**
+     * Moves lessons which use the lesson time to its new start and end.
+     */
+    public synchronized void updateLessonTime(LessonTime lessonTime) {
+        if (!loaded || lessonTime.getStartTime() == null || lessonTime.getEndTime() == null) {
+            return;
+        }
+
+        for (IndexedLesson lesson : removeLessons(indexedLesson -> indexedLesson.lessonTimeId == lessonTime.getId())) {
+            addLesson(lesson.withTime(lessonTime.getStartTime(), lessonTime.getEndTime()));
+        }
+    }
+
+    public synchronized void removeLessonsOfLessonTime(int lessonTimeId) {
+        if (loaded) {
+            removeLessons(lesson -> lesson.lessonTimeId == lessonTimeId);
+        }
+    }
+
+    public synchronized void removeLessonsOfGroup(int groupId) {
+        if (loaded) {
+            removeLessons(lesson -> lesson.groupId == groupId);
+        }
+    }
+
+    public synchronized void removeLessonsOfLecturer(int lecturerId) {
+        if (loaded) {
+            removeLessons(lesson -> lesson.lecturerId == lecturerId);
+        }
+    }
+
+    public synchronized void removeLessonsOfFaculty(int facultyId) {
+        if (loaded) {
+            removeLessons(lesson -> lesson.facultyId == facultyId);
+        }
+    }
+
+    /**
+     * Drops the index, so it is loaded from the repository again on the next
+     * check.
+     */
+    public synchronized void invalidate() {
+        lessons.clear();
+        buckets.clear();
+        loaded = false;
+    }
+
+    public synchronized int size() {
+        ensureLoaded();
+        return lessons.size();
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+
+        for (Lesson lesson : lessonRepository.findAll()) {
+            IndexedLesson indexedLesson = IndexedLesson.of(lesson);
+
+            if (indexedLesson != null) {
+                addLesson(indexedLesson);
+            }
+        }
+        loaded = true;
+    }
+
+    private void addLesson(IndexedLesson lesson) {
+        lessons.put(lesson.id, lesson);
+        for (ConflictResource resource : ConflictResource.values()) {
+            buckets.computeIfAbsent(new BucketKey(resource, lesson.getResourceKey(resource), lesson.day),
+                    key -> new Bucket()).add(lesson);
+        }
+    }
+
+    private void removeLesson(int lessonId) {
+        IndexedLesson lesson = lessons.remove(lessonId);
+
+        if (lesson == null) {
+            return;
+        }
+
+        for (ConflictResource resource : ConflictResource.values()) {
+            BucketKey key = new BucketKey(resource, lesson.getResourceKey(resource), lesson.day);
+            Bucket bucket = buckets.get(key);
+
+            if (bucket != null && bucket.remove(lesson)) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    private List<IndexedLesson> removeLessons(Predicate<IndexedLesson> condition) {
+        List<IndexedLesson> removedLessons = new ArrayList<>();
+        for (IndexedLesson lesson : lessons.values()) {
+            if (condition.test(lesson)) {
+                removedLessons.add(lesson);
+            }
+        }
+
+        for (IndexedLesson lesson : removedLessons) {
+            removeLesson(lesson.id);
+        }
+        return removedLessons;
+    }
+
+    private static final class Bucket {
+        private final NavigableMap<Integer, List<IndexedLesson>> lessonsByStart = new TreeMap<>();
+        private int longestDuration;
+        private int size;
+
+        private void add(IndexedLesson lesson) {
+            lessonsByStart.computeIfAbsent(lesson.start, start -> new ArrayList<>(1)).add(lesson);
+            longestDuration = Math.max(longestDuration, lesson.end - lesson.start);
+            size++;
+        }
+
+        /**
+         * @return {@code true} if the bucket became empty.
+         */
+        private boolean remove(IndexedLesson lesson) {
+            List<IndexedLesson> sameStartLessons = lessonsByStart.get(lesson.start);
+
+            if (sameStartLessons != null && sameStartLessons.remove(lesson)) {
+                size--;
+                if (sameStartLessons.isEmpty()) {
+                    lessonsByStart.remove(lesson.start);
+                }
+            }
+            return size == 0;
+        }
+
+        /**
+         * Walks back from the last lesson starting before the candidate ends. No
+         * lesson starting earlier than the candidate's start minus the longest
+         * duration in the bucket can reach the candidate, so the walk stops
+         * there.
+         */
+        private void collectOverlapping(IndexedLesson candidate, ConflictResource resource,
+                List<LessonConflict> conflicts) {
+            collectOverlapping(candidate, resource, 0, conflicts);
+        }
+
+        /**
+         * @param movedLessonTimeId an id of a lesson time whose lessons are
+         *                          skipped, or 0 to check all lessons.
+         */
+        private void collectOverlapping(IndexedLesson candidate, ConflictResource resource, int movedLessonTimeId,
+                List<LessonConflict> conflicts) {
+            Iterator<Map.Entry<Integer, List<IndexedLesson>>> iterator = lessonsByStart
+                    .headMap(candidate.end, false).descendingMap().entrySet().iterator();
+
+            while (iterator.hasNext()) {
+                Map.Entry<Integer, List<IndexedLesson>> sameStartLessons = iterator.next();
+
+                if (sameStartLessons.getKey() + longestDuration <= candidate.start) {
+                    return;
+                }
+
+                for (IndexedLesson lesson : sameStartLessons.getValue()) {
+                    if (lesson != candidate && (candidate.id == 0 || lesson.id != candidate.id)
+                            && lesson.lessonTimeId != movedLessonTimeId && lesson.end > candidate.start) {
+                        conflicts.add(lesson.toConflict(resource));
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class BucketKey {
+        private final ConflictResource resource;
+        private final Object resourceKey;
+        private final DayOfWeek day;
+
+        private BucketKey(ConflictResource resource, Object resourceKey, DayOfWeek day) {
+            this.resource = resource;
+            this.resourceKey = resourceKey;
+            this.day = day;
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + day.hashCode();
+            result = prime * result + resource.hashCode();
+            result = prime * result + resourceKey.hashCode();
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (obj == null)
+                return false;
+            if (getClass() != obj.getClass())
+                return false;
+            BucketKey other = (BucketKey) obj;
+            return day == other.day && resource == other.resource && resourceKey.equals(other.resourceKey);
+        }
+    }
+
+    /**
+     * Keeps only what the conflict check needs, so the index doesn't hold
+     * detached entities with their whole graphs.
+     */
+    private static final class IndexedLesson {
+        private final int id;
+        private final String name;
+        private final DayOfWeek day;
+        private final int lessonTimeId;
+        private final int start;
+        private final int end;
+        private final int groupId;
+        private final int facultyId;
+        private final int lecturerId;
+        private final String audience;
+
+        private IndexedLesson(int id, String name, DayOfWeek day, int lessonTimeId, int start, int end, int groupId,
+                int facultyId, int lecturerId, String audience) {
+            this.id = id;
+            this.name = name;
+            this.day = day;
+            this.lessonTimeId = lessonTimeId;
+            this.start = start;
+            this.end = end;
+            this.groupId = groupId;
+            this.facultyId = facultyId;
+            this.lecturerId = lecturerId;
+            this.audience = audience;
+        }
+
+        /**
+         * @return {@code null} if the lesson doesn't have enough data to take
+         *         any time.
+         */
+        private static IndexedLesson of(Lesson lesson) {
+            if (lesson == null || lesson.getDay() == null || lesson.getGroup() == null
+                    || lesson.getLecturer() == null || lesson.getAudience() == null
+                    || lesson.getLessonTime() == null || lesson.getLessonTime().getStartTime() == null
+                    || lesson.getLessonTime().getEndTime() == null) {
+                return null;
+            }
+
+            LessonTime lessonTime = lesson.getLessonTime();
+            int facultyId = lesson.getGroup().getFaculty() == null ? 0 : lesson.getGroup().getFaculty().getId();
+            return new IndexedLesson(lesson.getId(), lesson.getName(), lesson.getDay(), lessonTime.getId(),
+                    lessonTime.getStartTime().toSecondOfDay(), lessonTime.getEndTime().toSecondOfDay(),
+                    lesson.getGroup().getId(), facultyId, lesson.getLecturer().getId(), lesson.getAudience().trim());
+        }
+
+        private IndexedLesson withTime(LocalTime startTime, LocalTime endTime) {
+            return new IndexedLesson(id, name, day, lessonTimeId, startTime.toSecondOfDay(), endTime.toSecondOfDay(),
+                    groupId, facultyId, lecturerId, audience);
+        }
+
+        private Object getResourceKey(ConflictResource resource) {
+            switch (resource) {
+            case LECTURER:
+                return lecturerId;
+            case GROUP:
+                return groupId;
+            default:
+                return audience;
+            }
+        }
+
+        private LessonConflict toConflict(ConflictResource resource) {
+            return new LessonConflict(resource, id, name, day, LocalTime.ofSecondOfDay(start),
+                    LocalTime.ofSecondOfDay(end));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package ua.com.foxminded.service.events;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import ua.com.foxminded.domain.Lesson;
+
+/**
+ * A change of one lesson in a schedule. A created or updated lesson is sent
+ * whole, while a deleted lesson and a lesson which was moved to another
+ * schedule are sent by their id.
+ */
+@JsonInclude(Include.NON_NULL)
+public final class ScheduleChange {
+    public enum Type {
+        CREATED, UPDATED, REMOVED, DELETED
+    }
+
+    private final Type type;
+    private final int lessonId;
+    private final Lesson lesson;
+
+    private ScheduleChange(Type type, int lessonId, Lesson lesson) {
+        this.type = type;
+        this.lessonId = lessonId;
+        this.lesson = lesson;
+    }
+
+    public static ScheduleChange created(Lesson lesson) {
+        return new ScheduleChange(Type.CREATED, lesson.getId(), lesson);
+    }
+
+    public static ScheduleChange updated(Lesson lesson) {
+        return new ScheduleChange(Type.UPDATED, lesson.getId(), lesson);
+    }
+
+    public static ScheduleChange removed(int lessonId) {
+        return new ScheduleChange(Type.REMOVED, lessonId, null);
+    }
+
+    public static ScheduleChange deleted(int lessonId) {
+        return new ScheduleChange(Type.DELETED, lessonId, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getLessonId() {
+        return lessonId;
+    }
+
+    public Lesson getLesson() {
+        return lesson;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((lesson == null) ? 0 : lesson.hashCode());
+        result = prime * result + lessonId;
+        result = prime * result + ((type == null) ? 0 : type.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        ScheduleChange other = (ScheduleChange) obj;
+        if (lesson == null) {
+            if (other.lesson != null)
+                return false;
+        } else if (!lesson.equals(other.lesson))
+            return false;
+        return lessonId == other.lessonId && type == other.type;
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduleChange [type=" + type + ", lessonId=" + lessonId + "]";
+    }
+}
@@ -0,0 +1,130 @@
+package ua.com.foxminded.service.events;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import ua.com.foxminded.service.cache.ScheduleOwner;
+
+/**
+ * An in-process topic of lesson changes for every group and lecturer
+ * schedule. A publisher only puts a change into bounded queues of the
+ * schedule's subscribers, and a small pool of threads sends queued changes,
+ * so publishing never waits for a client. A subscriber whose queue is full
+ * falls behind the schedule and is dropped.
+ */
+@Component
+public class ScheduleChangeTopic {
+    private final Executor executor;
+    private final int queueCapacity;
+    private final Map<ScheduleOwner, Map<Integer, Set<ScheduleSubscription>>> subscriptions = new EnumMap<>(
+            ScheduleOwner.class);
+
+    private ScheduledExecutorService heartbeats;
+
+    @Autowired
+    public ScheduleChangeTopic(@Value("${schedule.events.threads:2}") int threads,
+            @Value("${schedule.events.queue-capacity:64}") int queueCapacity,
+            @Value("${schedule.events.heartbeat-seconds:30}") long heartbeatSeconds) {
+        this(Executors.newFixedThreadPool(threads, threadFactory("schedule-events-")), queueCapacity);
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(threadFactory("schedule-heartbeats-"));
+        this.heartbeats.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    ScheduleChangeTopic(Executor executor, int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("A queue capacity of schedule subscribers must be positive.");
+        }
+        this.executor = executor;
+        this.queueCapacity = queueCapacity;
+
+        for (ScheduleOwner owner : ScheduleOwner.values()) {
+            subscriptions.put(owner, new ConcurrentHashMap<>());
+        }
+    }
+
+    public ScheduleSubscription subscribe(ScheduleOwner owner, int ownerId, ScheduleSubscriber subscriber) {
+        ScheduleSubscription subscription = new ScheduleSubscription(subscriber, queueCapacity, executor,
+                cancelled -> unsubscribe(owner, ownerId, cancelled));
+
+        subscriptions.get(owner).compute(ownerId, (id, ownerSet) -> {
+            Set<ScheduleSubscription> result = ownerSet == null ? ConcurrentHashMap.newKeySet() : ownerSet;
+            result.add(subscription);
+            return result;
+        });
+        return subscription;
+    }
+
+    public void publish(ScheduleOwner owner, int ownerId, ScheduleChange change) {
+        Set<ScheduleSubscription> ownerSubscriptions = subscriptions.get(owner).getOrDefault(ownerId,
+                Collections.emptySet());
+
+        for (ScheduleSubscription subscription : ownerSubscriptions) {
+            subscription.offer(change);
+        }
+    }
+
+    public int getSubscriberCount() {
+        int count = 0;
+        for (Map<Integer, Set<ScheduleSubscription>> ownerSubscriptions : subscriptions.values()) {
+            for (Set<ScheduleSubscription> ownerSet : ownerSubscriptions.values()) {
+                count += ownerSet.size();
+            }
+        }
+        return count;
+    }
+
+    void sendHeartbeats() {
+        for (Map<Integer, Set<ScheduleSubscription>> ownerSubscriptions : subscriptions.values()) {
+            for (Set<ScheduleSubscription> ownerSet : ownerSubscriptions.values()) {
+                for (ScheduleSubscription subscription : ownerSet) {
+                    subscription.heartbeat();
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (heartbeats != null) {
+            heartbeats.shutdownNow();
+        }
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdownNow();
+        }
+    }
+
+    /**
+     * Removes a set of subscriptions together with its last subscription.
+     * Both this and {@link #subscribe(ScheduleOwner, int, ScheduleSubscriber)}
+     * change the set inside an atomic computation of the map, so a new
+     * subscription never gets into a removed set.
+     */
+    private void unsubscribe(ScheduleOwner owner, int ownerId, ScheduleSubscription subscription) {
+        subscriptions.get(owner).computeIfPresent(ownerId, (id, ownerSet) -> {
+            ownerSet.remove(subscription);
+            return ownerSet.isEmpty() ? null : ownerSet;
+        });
+    }
+
+    private static CustomizableThreadFactory threadFactory(String threadNamePrefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
@@ -0,0 +1,24 @@
+package ua.com.foxminded.service.events;
+
+import java.io.IOException;
+
+/**
+ * A receiver of schedule changes. Its methods are called by one thread at a
+ * time, never by a publisher.
+ */
+public interface ScheduleSubscriber {
+
+    void onChange(ScheduleChange change) throws IOException;
+
+    /**
+     * Is called when there were no changes for a while, so an idle connection
+     * is kept open and a closed one is noticed.
+     */
+    void onHeartbeat() throws IOException;
+
+    /**
+     * Is called once when the subscriber didn't take changes fast enough or
+     * failed to take one. It gets nothing after that.
+     */
+    void onDropped();
+}
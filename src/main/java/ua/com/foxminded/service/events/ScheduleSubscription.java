@@ -0,0 +1,102 @@
+package ua.com.foxminded.service.events;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * A subscriber with its own bounded queue of changes. The queue is drained by
+ * one task of a shared executor at a time, which runs only while there is
+ * something to send, so an idle subscription holds no thread.
+ */
+public class ScheduleSubscription {
+    private final ScheduleSubscriber subscriber;
+    private final BlockingQueue<ScheduleChange> changes;
+    private final Executor executor;
+    private final Consumer<ScheduleSubscription> unsubscribe;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+
+    ScheduleSubscription(ScheduleSubscriber subscriber, int queueCapacity, Executor executor,
+            Consumer<ScheduleSubscription> unsubscribe) {
+        this.subscriber = subscriber;
+        this.changes = new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = executor;
+        this.unsubscribe = unsubscribe;
+    }
+
+    public void cancel() {
+        if (cancelled.compareAndSet(false, true)) {
+            changes.clear();
+            unsubscribe.accept(this);
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    void offer(ScheduleChange change) {
+        if (isCancelled()) {
+            return;
+        }
+
+        if (changes.offer(change)) {
+            scheduleDrain();
+        } else {
+            drop();
+        }
+    }
+
+    void heartbeat() {
+        if (!isCancelled()) {
+            heartbeatPending.set(true);
+            scheduleDrain();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException rejectedExecutionException) {
+                draining.set(false);
+                drop();
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            ScheduleChange change;
+            while (!isCancelled() && (change = changes.poll()) != null) {
+                subscriber.onChange(change);
+            }
+
+            if (!isCancelled() && heartbeatPending.getAndSet(false)) {
+                subscriber.onHeartbeat();
+            }
+        } catch (IOException | RuntimeException exception) {
+            drop();
+        } finally {
+            draining.set(false);
+        }
+
+        if (!isCancelled() && (!changes.isEmpty() || heartbeatPending.get())) {
+            scheduleDrain();
+        }
+    }
+
+    private void drop() {
+        if (cancelled.compareAndSet(false, true)) {
+            changes.clear();
+            unsubscribe.accept(this);
+            subscriber.onDropped();
+        }
+    }
+}
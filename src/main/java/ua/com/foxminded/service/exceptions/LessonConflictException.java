@@ -0,0 +1,26 @@
+package ua.com.foxminded.service.exceptions;
+
+import java.util.List;
+
+import ua.com.foxminded.service.conflicts.LessonConflict;
+
+public class LessonConflictException extends RuntimeException {
+    private List<LessonConflict> conflicts;
+
+    public LessonConflictException() {
+
+    }
+
+    public LessonConflictException(String message, List<LessonConflict> conflicts) {
+        super(message);
+        this.conflicts = conflicts;
+    }
+
+    public List<LessonConflict> getConflicts() {
+        return conflicts;
+    }
+
+    public void setConflicts(List<LessonConflict> conflicts) {
+        this.conflicts = conflicts;
+    }
+}
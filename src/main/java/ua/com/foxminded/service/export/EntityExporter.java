@@ -0,0 +1,82 @@
+package ua.com.foxminded.service.export;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.Student;
+import ua.com.foxminded.repositories.interfaces.LecturerRepository;
+import ua.com.foxminded.repositories.interfaces.LessonRepository;
+import ua.com.foxminded.repositories.interfaces.StudentRepository;
+
+/**
+ * Hands whole tables to a consumer one entity at a time. Rows are read
+ * through a database cursor in fetch-size portions, and every entity is
+ * detached after the consumer has taken it, so neither the result nor the
+ * persistence context grows with the table.
+ */
+@Service
+public class EntityExporter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private StudentRepository studentRepository;
+    private LecturerRepository lecturerRepository;
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    public EntityExporter(StudentRepository studentRepository, LecturerRepository lecturerRepository,
+            LessonRepository lessonRepository) {
+        this.studentRepository = studentRepository;
+        this.lecturerRepository = lecturerRepository;
+        this.lessonRepository = lessonRepository;
+    }
+
+    /**
+     * @return a number of exported students.
+     */
+    @Transactional(readOnly = true)
+    public long exportStudents(Consumer<? super Student> consumer) {
+        return export(studentRepository.streamAll(), consumer);
+    }
+
+    /**
+     * @return a number of exported lecturers.
+     */
+    @Transactional(readOnly = true)
+    public long exportLecturers(Consumer<? super Lecturer> consumer) {
+        return export(lecturerRepository.streamAll(), consumer);
+    }
+
+    /**
+     * @return a number of exported lessons.
+     */
+    @Transactional(readOnly = true)
+    public long exportLessons(Consumer<? super Lesson> consumer) {
+        return export(lessonRepository.streamAll(), consumer);
+    }
+
+    private <T> long export(Stream<T> entities, Consumer<? super T> consumer) {
+        long count = 0;
+        try (Stream<T> stream = entities) {
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                T entity = iterator.next();
+                consumer.accept(entity);
+                entityManager.detach(entity);
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,104 @@
+package ua.com.foxminded.service.generator;
+
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+
+/**
+ * A subject which a lecturer teaches to a group. Every lesson of the item
+ * takes one lesson time.
+ */
+public class CurriculumItem {
+    private Group group;
+    private Lecturer lecturer;
+    private String subject;
+    private int lessonsPerWeek;
+
+    public CurriculumItem() {
+
+    }
+
+    public CurriculumItem(Group group, Lecturer lecturer, String subject, int lessonsPerWeek) {
+        this.group = group;
+        this.lecturer = lecturer;
+        this.subject = subject;
+        this.lessonsPerWeek = lessonsPerWeek;
+    }
+
+    public Group getGroup() {
+        return group;
+    }
+
+    public void setGroup(Group group) {
+        this.group = group;
+    }
+
+    public Lecturer getLecturer() {
+        return lecturer;
+    }
+
+    public void setLecturer(Lecturer lecturer) {
+        this.lecturer = lecturer;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public int getLessonsPerWeek() {
+        return lessonsPerWeek;
+    }
+
+    public void setLessonsPerWeek(int lessonsPerWeek) {
+        this.lessonsPerWeek = lessonsPerWeek;
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((group == null) ? 0 : group.hashCode());
+        result = prime * result + ((lecturer == null) ? 0 : lecturer.hashCode());
+        result = prime * result + lessonsPerWeek;
+        result = prime * result + ((subject == null) ? 0 : subject.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        CurriculumItem other = (CurriculumItem) obj;
+        if (group == null) {
+            if (other.group != null)
+                return false;
+        } else if (!group.equals(other.group))
+            return false;
+        if (lecturer == null) {
+            if (other.lecturer != null)
+                return false;
+        } else if (!lecturer.equals(other.lecturer))
+            return false;
+        if (lessonsPerWeek != other.lessonsPerWeek)
+            return false;
+        if (subject == null) {
+            if (other.subject != null)
+                return false;
+        } else if (!subject.equals(other.subject))
+            return false;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "CurriculumItem [group=" + group + ", lecturer=" + lecturer + ", subject=" + subject
+                + ", lessonsPerWeek=" + lessonsPerWeek + "]";
+    }
+}
@@ -0,0 +1,55 @@
+package ua.com.foxminded.service.generator;
+
+import java.util.List;
+
+import ua.com.foxminded.domain.Lesson;
+
+/**
+ * Lessons which don't double-book any group, lecturer or audience. They are
+ * not saved, so they can be checked before they are created.
+ */
+public class GeneratedTimetable {
+    private final List<Lesson> lessons;
+    private final List<CurriculumItem> unplacedItems;
+    private final int gaps;
+    private final long iterations;
+    private final long elapsedMillis;
+
+    public GeneratedTimetable(List<Lesson> lessons, List<CurriculumItem> unplacedItems, int gaps, long iterations,
+            long elapsedMillis) {
+        this.lessons = lessons;
+        this.unplacedItems = unplacedItems;
+        this.gaps = gaps;
+        this.iterations = iterations;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<Lesson> getLessons() {
+        return lessons;
+    }
+
+    /**
+     * @return a curriculum item for every lesson which didn't get any time.
+     */
+    public List<CurriculumItem> getUnplacedItems() {
+        return unplacedItems;
+    }
+
+    public int getGaps() {
+        return gaps;
+    }
+
+    public long getIterations() {
+        return iterations;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedTimetable [lessons=" + lessons.size() + ", unplacedItems=" + unplacedItems.size() + ", gaps="
+                + gaps + ", iterations=" + iterations + ", elapsedMillis=" + elapsedMillis + "]";
+    }
+}
@@ -0,0 +1,54 @@
+package ua.com.foxminded.service.generator;
+
+public class GenerationProgress {
+    private final long elapsedMillis;
+    private final long iterations;
+    private final int unplacedLessons;
+    private final int gaps;
+    private final boolean finished;
+
+    public GenerationProgress(long elapsedMillis, long iterations, int unplacedLessons, int gaps, boolean finished) {
+        this.elapsedMillis = elapsedMillis;
+        this.iterations = iterations;
+        this.unplacedLessons = unplacedLessons;
+        this.gaps = gaps;
+        this.finished = finished;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * @return moves tried by all searches so far.
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return lessons of the best timetable found so far which didn't get any
+     *         time.
+     */
+    public int getUnplacedLessons() {
+        return unplacedLessons;
+    }
+
+    /**
+     * @return free lesson times between lessons of the same group or lecturer
+     *         in the best timetable found so far.
+     */
+    public int getGaps() {
+        return gaps;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public String toString() {
+        return "GenerationProgress [elapsedMillis=" + elapsedMillis + ", iterations=" + iterations
+                + ", unplacedLessons=" + unplacedLessons + ", gaps=" + gaps + ", finished=" + finished + "]";
+    }
+}
@@ -0,0 +1,61 @@
+package ua.com.foxminded.service.generator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The state which parallel searches share: the best timetable found by any of
+ * them and the number of tried moves.
+ */
+class SearchProgress {
+    private final long startTime;
+    private final AtomicLong iterations = new AtomicLong();
+
+    private volatile boolean stopped;
+    private TimetableSearch.Solution best;
+
+    SearchProgress(long startTime) {
+        this.startTime = startTime;
+    }
+
+    synchronized void report(TimetableSearch.Solution solution) {
+        if (best == null || solution.cost < best.cost) {
+            best = solution;
+            if (solution.cost == 0) {
+                stopped = true;
+            }
+        }
+    }
+
+    void addIterations(long count) {
+        iterations.addAndGet(count);
+    }
+
+    void stop() {
+        stopped = true;
+    }
+
+    /**
+     * @return {@code true} if the generation was stopped or some search has
+     *         placed every lesson without any gap, so the others can stop.
+     */
+    boolean isStopped() {
+        return stopped;
+    }
+
+    synchronized TimetableSearch.Solution getBest() {
+        return best;
+    }
+
+    synchronized GenerationProgress toProgress(boolean finished) {
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        if (best == null) {
+            return new GenerationProgress(elapsedMillis, iterations.get(), 0, 0, finished);
+        }
+        return new GenerationProgress(elapsedMillis, iterations.get(), best.unplaced, best.gaps(), finished);
+    }
+
+    long getIterations() {
+        return iterations.get();
+    }
+}
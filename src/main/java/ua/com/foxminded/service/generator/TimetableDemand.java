@@ -0,0 +1,68 @@
+package ua.com.foxminded.service.generator;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+
+import ua.com.foxminded.domain.LessonTime;
+
+/**
+ * What a generated timetable has to hold. When {@code days} are empty every
+ * day which is not a day off is used.
+ */
+public class TimetableDemand {
+    private List<CurriculumItem> curriculum = new ArrayList<>();
+    private List<LessonTime> lessonTimes = new ArrayList<>();
+    private List<DayOfWeek> days = new ArrayList<>();
+    private List<String> audiences = new ArrayList<>();
+
+    public TimetableDemand() {
+
+    }
+
+    public TimetableDemand(List<CurriculumItem> curriculum, List<LessonTime> lessonTimes, List<DayOfWeek> days,
+            List<String> audiences) {
+        this.curriculum = curriculum;
+        this.lessonTimes = lessonTimes;
+        this.days = days;
+        this.audiences = audiences;
+    }
+
+    public List<CurriculumItem> getCurriculum() {
+        return curriculum;
+    }
+
+    public void setCurriculum(List<CurriculumItem> curriculum) {
+        this.curriculum = curriculum;
+    }
+
+    public List<LessonTime> getLessonTimes() {
+        return lessonTimes;
+    }
+
+    public void setLessonTimes(List<LessonTime> lessonTimes) {
+        this.lessonTimes = lessonTimes;
+    }
+
+    public List<DayOfWeek> getDays() {
+        return days;
+    }
+
+    public void setDays(List<DayOfWeek> days) {
+        this.days = days;
+    }
+
+    public List<String> getAudiences() {
+        return audiences;
+    }
+
+    public void setAudiences(List<String> audiences) {
+        this.audiences = audiences;
+    }
+
+    @Override
+    public String toString() {
+        return "TimetableDemand [curriculum=" + curriculum.size() + " items, lessonTimes=" + lessonTimes + ", days="
+                + days + ", audiences=" + audiences.size() + "]";
+    }
+}
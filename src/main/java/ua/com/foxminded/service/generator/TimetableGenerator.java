@@ -0,0 +1,175 @@
+package ua.com.foxminded.service.generator;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import javax.annotation.PreDestroy;
+import javax.validation.Validator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import ua.com.foxminded.domain.Lesson;
+
+/**
+ * Makes a timetable for a curriculum. Independent searches with different
+ * random seeds run on a fork-join pool, one per core by default, until the
+ * time budget is spent or one of them finds a timetable without gaps; the
+ * best timetable of them all is returned.
+ */
+@Component
+public class TimetableGenerator {
+    private final Logger logger = LoggerFactory.getLogger(TimetableGenerator.class);
+
+    private final Validator validator;
+    private final ForkJoinPool pool;
+    private final long progressIntervalMillis;
+
+    @Autowired
+    public TimetableGenerator(Validator validator, @Value("${timetable.generator.parallelism:0}") int parallelism,
+            @Value("${timetable.generator.progress-interval-millis:500}") long progressIntervalMillis) {
+        this.validator = validator;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.progressIntervalMillis = progressIntervalMillis;
+    }
+
+    public GeneratedTimetable generate(TimetableDemand demand, Duration timeBudget) {
+        return generate(demand, timeBudget, progress -> {
+            if (logger.isInfoEnabled()) {
+                logger.info("The timetable generation goes on: {}.", progress);
+            }
+        });
+    }
+
+    /**
+     * @param progressListener is called from the calling thread every progress
+     *                         interval and once more when the generation is
+     *                         finished.
+     */
+    public GeneratedTimetable generate(TimetableDemand demand, Duration timeBudget,
+            Consumer<GenerationProgress> progressListener) {
+        List<DayOfWeek> days = getWorkingDays(demand.getDays());
+
+        if (days.isEmpty()) {
+            throw new IllegalArgumentException("There are no working days for a timetable.");
+        }
+
+        TimetableModel model = new TimetableModel(demand.getCurriculum(), days, demand.getLessonTimes(),
+                getAudienceNames(demand.getAudiences()));
+        long startTime = System.nanoTime();
+        long deadline = startTime + timeBudget.toNanos();
+        SearchProgress progress = new SearchProgress(startTime);
+        SplittableRandom random = new SplittableRandom();
+
+        List<ForkJoinTask<TimetableSearch.Solution>> searches = new ArrayList<>();
+        for (int i = 0; i < pool.getParallelism(); i++) {
+            searches.add(pool.submit(new TimetableSearch(model, progress, random.split(), deadline)));
+        }
+
+        try {
+            for (ForkJoinTask<TimetableSearch.Solution> search : searches) {
+                awaitSearch(search, progress, progressListener);
+            }
+        } catch (InterruptedException interruptedException) {
+            progress.stop();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The timetable generation was interrupted.", interruptedException);
+        } catch (ExecutionException executionException) {
+            progress.stop();
+            throw new IllegalStateException("The timetable search failed.", executionException.getCause());
+        }
+
+        GenerationProgress finalProgress = progress.toProgress(true);
+        progressListener.accept(finalProgress);
+        return toTimetable(model, progress.getBest(), progress.getIterations(), finalProgress.getElapsedMillis());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private void awaitSearch(ForkJoinTask<TimetableSearch.Solution> search, SearchProgress progress,
+            Consumer<GenerationProgress> progressListener) throws InterruptedException, ExecutionException {
+        while (true) {
+            try {
+                search.get(progressIntervalMillis, TimeUnit.MILLISECONDS);
+                return;
+            } catch (TimeoutException timeoutException) {
+                progressListener.accept(progress.toProgress(false));
+            }
+        }
+    }
+
+    /**
+     * @return the given days, or every day when none is given, without days
+     *         which {@link ua.com.foxminded.domain.validation.NotDayOff} marks
+     *         as days off.
+     */
+    private List<DayOfWeek> getWorkingDays(List<DayOfWeek> days) {
+        Set<DayOfWeek> candidates = days == null || days.isEmpty() ? EnumSet.allOf(DayOfWeek.class)
+                : EnumSet.copyOf(days);
+        List<DayOfWeek> workingDays = new ArrayList<>();
+
+        for (DayOfWeek day : candidates) {
+            if (validator.validateValue(Lesson.class, "day", day).isEmpty()) {
+                workingDays.add(day);
+            }
+        }
+        return workingDays;
+    }
+
+    /**
+     * @return trimmed names of the given audiences, each one once, so one room
+     *         isn't booked twice in a slot under two names.
+     */
+    private List<String> getAudienceNames(List<String> audiences) {
+        Set<String> audienceNames = new LinkedHashSet<>();
+
+        for (String audience : audiences) {
+            audienceNames.add(audience.trim());
+        }
+        return new ArrayList<>(audienceNames);
+    }
+
+    private GeneratedTimetable toTimetable(TimetableModel model, TimetableSearch.Solution solution, long iterations,
+            long elapsedMillis) {
+        List<Lesson> lessons = new ArrayList<>();
+        List<CurriculumItem> unplacedItems = new ArrayList<>();
+
+        for (int lesson = 0; lesson < model.lessonCount; lesson++) {
+            CurriculumItem item = model.items.get(model.itemOfLesson[lesson]);
+            int slot = solution.slots[lesson];
+
+            if (slot < 0) {
+                unplacedItems.add(item);
+                continue;
+            }
+
+            Lesson generatedLesson = new Lesson();
+            generatedLesson.setName(item.getSubject());
+            generatedLesson.setGroup(item.getGroup());
+            generatedLesson.setLecturer(item.getLecturer());
+            generatedLesson.setDay(model.days.get(model.dayOf(slot)));
+            generatedLesson.setLessonTime(model.lessonTimes.get(model.timeOf(slot)));
+            generatedLesson.setAudience(model.audienceNames.get(solution.audiences[lesson]));
+            lessons.add(generatedLesson);
+        }
+        return new GeneratedTimetable(lessons, unplacedItems, solution.gaps(), iterations, elapsedMillis);
+    }
+}
@@ -0,0 +1,144 @@
+package ua.com.foxminded.service.generator;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import ua.com.foxminded.domain.LessonTime;
+
+/**
+ * A demand turned into numbers: every lesson to place, group, lecturer,
+ * audience, day and lesson time gets an index, and a slot is a day and a
+ * lesson time of it. The model is read-only, so all searches share it.
+ */
+class TimetableModel {
+    final List<CurriculumItem> items;
+    final List<DayOfWeek> days;
+    final List<LessonTime> lessonTimes;
+    final List<String> audienceNames;
+
+    final int lessonCount;
+    final int groupCount;
+    final int lecturerCount;
+    final int audienceCount;
+    final int dayCount;
+    final int timeCount;
+    final int slotCount;
+
+    final int[] itemOfLesson;
+    final int[] groups;
+    final int[] lecturers;
+    final long[] overlapping;
+
+    private final int[] loads;
+    private final int[][] lessonsOfGroups;
+
+    /**
+     * @param days          working days, each one once.
+     * @param lessonTimes   at most 64 lesson times with start and end times.
+     * @param audienceNames at least one audience, each one once.
+     */
+    TimetableModel(List<CurriculumItem> items, List<DayOfWeek> days, List<LessonTime> lessonTimes,
+            List<String> audienceNames) {
+        this.items = items;
+        this.days = days;
+        this.audienceNames = audienceNames;
+        this.lessonTimes = new ArrayList<>(lessonTimes);
+        this.lessonTimes.sort(Comparator.comparing(LessonTime::getStartTime));
+
+        dayCount = days.size();
+        timeCount = this.lessonTimes.size();
+        slotCount = dayCount * timeCount;
+        audienceCount = audienceNames.size();
+
+        overlapping = new long[timeCount];
+        for (int time = 0; time < timeCount; time++) {
+            LessonTime lessonTime = this.lessonTimes.get(time);
+
+            for (int other = 0; other < timeCount; other++) {
+                LessonTime otherTime = this.lessonTimes.get(other);
+
+                if (lessonTime.getStartTime().isBefore(otherTime.getEndTime())
+                        && otherTime.getStartTime().isBefore(lessonTime.getEndTime())) {
+                    overlapping[time] |= 1L << other;
+                }
+            }
+        }
+
+        int lessons = 0;
+        for (CurriculumItem item : items) {
+            lessons += item.getLessonsPerWeek();
+        }
+        lessonCount = lessons;
+        itemOfLesson = new int[lessonCount];
+        groups = new int[lessonCount];
+        lecturers = new int[lessonCount];
+
+        Map<Integer, Integer> groupIndexes = new HashMap<>();
+        Map<Integer, Integer> lecturerIndexes = new HashMap<>();
+        int lesson = 0;
+        for (int item = 0; item < items.size(); item++) {
+            CurriculumItem curriculumItem = items.get(item);
+            Integer groupIndex = groupIndexes.computeIfAbsent(curriculumItem.getGroup().getId(),
+                    id -> groupIndexes.size());
+            Integer lecturerIndex = lecturerIndexes.computeIfAbsent(curriculumItem.getLecturer().getId(),
+                    id -> lecturerIndexes.size());
+
+            for (int i = 0; i < curriculumItem.getLessonsPerWeek(); i++) {
+                itemOfLesson[lesson] = item;
+                groups[lesson] = groupIndex;
+                lecturers[lesson] = lecturerIndex;
+                lesson++;
+            }
+        }
+        groupCount = groupIndexes.size();
+        lecturerCount = lecturerIndexes.size();
+
+        int[] groupLoads = new int[groupCount];
+        int[] lecturerLoads = new int[lecturerCount];
+        for (lesson = 0; lesson < lessonCount; lesson++) {
+            groupLoads[groups[lesson]]++;
+            lecturerLoads[lecturers[lesson]]++;
+        }
+
+        loads = new int[lessonCount];
+        lessonsOfGroups = new int[groupCount][];
+        int[] filled = new int[groupCount];
+        for (int group = 0; group < groupCount; group++) {
+            lessonsOfGroups[group] = new int[groupLoads[group]];
+        }
+        for (lesson = 0; lesson < lessonCount; lesson++) {
+            loads[lesson] = groupLoads[groups[lesson]] + lecturerLoads[lecturers[lesson]];
+            lessonsOfGroups[groups[lesson]][filled[groups[lesson]]++] = lesson;
+        }
+    }
+
+    int dayOf(int slot) {
+        return slot / timeCount;
+    }
+
+    int timeOf(int slot) {
+        return slot % timeCount;
+    }
+
+    boolean overlaps(int slot, int otherSlot) {
+        return dayOf(slot) == dayOf(otherSlot) && (overlapping[timeOf(slot)] & 1L << timeOf(otherSlot)) != 0;
+    }
+
+    /**
+     * @return lessons of the lesson's group and lecturer, so the busiest ones
+     *         are placed first.
+     */
+    int loadOf(int lesson) {
+        return loads[lesson];
+    }
+
+    int randomLessonOfGroup(int group, SplittableRandom random) {
+        int[] lessons = lessonsOfGroups[group];
+        return lessons[random.nextInt(lessons.length)];
+    }
+}
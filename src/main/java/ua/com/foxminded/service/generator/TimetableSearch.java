@@ -0,0 +1,376 @@
+package ua.com.foxminded.service.generator;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * One run of the solver. It places lessons greedily, the most constrained
+ * first, and then improves the timetable by simulated annealing over moves
+ * and swaps which never break a hard constraint.
+ * <p>
+ * Busy lesson times of every group, lecturer and audience on a day are kept
+ * as bits of a {@code long}, so both a conflict check and the gap count of a
+ * day are a few bit operations.
+ */
+class TimetableSearch extends RecursiveTask<TimetableSearch.Solution> {
+    private static final long serialVersionUID = 1L;
+
+    static final int UNPLACED_PENALTY = 1000;
+
+    private static final int UNPLACED = -1;
+    private static final int TIME_CHECK_INTERVAL = 1024;
+    private static final double START_TEMPERATURE = 2.0;
+    private static final double END_TEMPERATURE = 0.05;
+
+    private final TimetableModel model;
+    private final SearchProgress progress;
+    private final SplittableRandom random;
+    private final long deadline;
+
+    private final int[] slots;
+    private final int[] audiences;
+    private final long[] groupDays;
+    private final long[] lecturerDays;
+    private final long[] audienceDays;
+
+    private int cost;
+    private int unplaced;
+
+    TimetableSearch(TimetableModel model, SearchProgress progress, SplittableRandom random, long deadline) {
+        this.model = model;
+        this.progress = progress;
+        this.random = random;
+        this.deadline = deadline;
+
+        slots = new int[model.lessonCount];
+        audiences = new int[model.lessonCount];
+        groupDays = new long[model.groupCount * model.dayCount];
+        lecturerDays = new long[model.lecturerCount * model.dayCount];
+        audienceDays = new long[model.audienceCount * model.dayCount];
+        Arrays.fill(slots, UNPLACED);
+        Arrays.fill(audiences, UNPLACED);
+    }
+
+    @Override
+    protected Solution compute() {
+        construct();
+        Solution best = snapshot();
+        progress.report(best);
+
+        long startTime = System.nanoTime();
+        long budget = Math.max(1, deadline - startTime);
+        double temperature = START_TEMPERATURE;
+        long iterations = 0;
+
+        while (cost > 0) {
+            iterations++;
+
+            if (iterations % TIME_CHECK_INTERVAL == 0) {
+                long now = System.nanoTime();
+                progress.addIterations(TIME_CHECK_INTERVAL);
+
+                if (now >= deadline || progress.isStopped() || Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                double passed = (double) (now - startTime) / budget;
+                temperature = START_TEMPERATURE * Math.pow(END_TEMPERATURE / START_TEMPERATURE, passed);
+            }
+
+            if (unplaced > 0 && random.nextInt(8) == 0) {
+                placeUnplacedLesson();
+            } else if (random.nextBoolean()) {
+                tryMove(temperature);
+            } else {
+                trySwap(temperature);
+            }
+
+            if (cost < best.cost) {
+                best = snapshot();
+                progress.report(best);
+            }
+        }
+
+        progress.addIterations(iterations % TIME_CHECK_INTERVAL);
+        return best;
+    }
+
+    /**
+     * Lessons of the busiest groups and lecturers are placed first, every one
+     * at a free time which adds the fewest gaps.
+     */
+    private void construct() {
+        Integer[] order = new Integer[model.lessonCount];
+        int[] tieBreaks = new int[model.lessonCount];
+        for (int lesson = 0; lesson < model.lessonCount; lesson++) {
+            order[lesson] = lesson;
+            tieBreaks[lesson] = random.nextInt();
+        }
+        Arrays.sort(order, (first, second) -> {
+            int result = Integer.compare(model.loadOf(second), model.loadOf(first));
+            return result != 0 ? result : Integer.compare(tieBreaks[first], tieBreaks[second]);
+        });
+
+        unplaced = model.lessonCount;
+        cost = unplaced * UNPLACED_PENALTY;
+        for (int lesson : order) {
+            placeAtBestSlot(lesson);
+        }
+    }
+
+    private void placeUnplacedLesson() {
+        int start = random.nextInt(model.lessonCount);
+
+        for (int i = 0; i < model.lessonCount; i++) {
+            int lesson = (start + i) % model.lessonCount;
+
+            if (slots[lesson] == UNPLACED) {
+                if (!placeAtBestSlot(lesson)) {
+                    kickOut(lesson);
+                }
+                return;
+            }
+        }
+    }
+
+    private boolean placeAtBestSlot(int lesson) {
+        int bestSlot = UNPLACED;
+        int bestAudience = UNPLACED;
+        int bestDelta = Integer.MAX_VALUE;
+        int ties = 0;
+
+        for (int slot = 0; slot < model.slotCount; slot++) {
+            if (!isFree(lesson, slot)) {
+                continue;
+            }
+            int audience = findFreeAudience(slot, UNPLACED);
+
+            if (audience == UNPLACED) {
+                continue;
+            }
+            int delta = additionCost(lesson, slot);
+
+            if (delta < bestDelta) {
+                bestDelta = delta;
+                bestSlot = slot;
+                bestAudience = audience;
+                ties = 1;
+            } else if (delta == bestDelta && random.nextInt(++ties) == 0) {
+                bestSlot = slot;
+                bestAudience = audience;
+            }
+        }
+
+        if (bestSlot == UNPLACED) {
+            return false;
+        }
+        add(lesson, bestSlot, bestAudience);
+        return true;
+    }
+
+    /**
+     * Takes a random time for the lesson and moves the lessons of its group
+     * and lecturer which were there to other free times. The timetable may
+     * become worse, but the best one is kept by the caller.
+     */
+    private void kickOut(int lesson) {
+        int slot = random.nextInt(model.slotCount);
+        int[] blockers = new int[model.lessonCount];
+        int blockerCount = 0;
+
+        for (int other = 0; other < model.lessonCount; other++) {
+            if (slots[other] != UNPLACED && model.overlaps(slots[other], slot)
+                    && (model.groups[other] == model.groups[lesson]
+                            || model.lecturers[other] == model.lecturers[lesson])) {
+                remove(other);
+                blockers[blockerCount++] = other;
+            }
+        }
+
+        int audience = findFreeAudience(slot, UNPLACED);
+        if (audience != UNPLACED) {
+            add(lesson, slot, audience);
+        }
+        for (int i = 0; i < blockerCount; i++) {
+            placeAtBestSlot(blockers[i]);
+        }
+    }
+
+    private void tryMove(double temperature) {
+        int lesson = random.nextInt(model.lessonCount);
+        int oldSlot = slots[lesson];
+
+        if (oldSlot == UNPLACED) {
+            return;
+        }
+        int oldAudience = audiences[lesson];
+        int newSlot = random.nextInt(model.slotCount);
+
+        if (newSlot == oldSlot) {
+            return;
+        }
+
+        int delta = -removalCost(lesson);
+        remove(lesson);
+
+        int newAudience = isFree(lesson, newSlot) ? findFreeAudience(newSlot, oldAudience) : UNPLACED;
+        if (newAudience != UNPLACED) {
+            delta += additionCost(lesson, newSlot);
+
+            if (accept(delta, temperature)) {
+                add(lesson, newSlot, newAudience);
+                return;
+            }
+        }
+        add(lesson, oldSlot, oldAudience);
+    }
+
+    private void trySwap(double temperature) {
+        int first = random.nextInt(model.lessonCount);
+        int second = model.randomLessonOfGroup(model.groups[first], random);
+        int firstSlot = slots[first];
+        int secondSlot = slots[second];
+
+        if (first == second || firstSlot == UNPLACED || secondSlot == UNPLACED || firstSlot == secondSlot) {
+            return;
+        }
+        int firstAudience = audiences[first];
+        int secondAudience = audiences[second];
+
+        int delta = -removalCost(first);
+        remove(first);
+        delta -= removalCost(second);
+        remove(second);
+
+        if (isFree(first, secondSlot)) {
+            delta += additionCost(first, secondSlot);
+            add(first, secondSlot, secondAudience);
+
+            if (isFree(second, firstSlot)) {
+                delta += additionCost(second, firstSlot);
+
+                if (accept(delta, temperature)) {
+                    add(second, firstSlot, firstAudience);
+                    return;
+                }
+            }
+            remove(first);
+        }
+        add(first, firstSlot, firstAudience);
+        add(second, secondSlot, secondAudience);
+    }
+
+    private boolean accept(int delta, double temperature) {
+        return delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature);
+    }
+
+    private boolean isFree(int lesson, int slot) {
+        int day = model.dayOf(slot);
+        long overlapping = model.overlapping[model.timeOf(slot)];
+        return (groupDays[model.groups[lesson] * model.dayCount + day] & overlapping) == 0
+                && (lecturerDays[model.lecturers[lesson] * model.dayCount + day] & overlapping) == 0;
+    }
+
+    /**
+     * @return the preferred audience if it is free, otherwise the first free
+     *         audience from a random one.
+     */
+    private int findFreeAudience(int slot, int preferredAudience) {
+        int day = model.dayOf(slot);
+        long overlapping = model.overlapping[model.timeOf(slot)];
+
+        if (preferredAudience != UNPLACED
+                && (audienceDays[preferredAudience * model.dayCount + day] & overlapping) == 0) {
+            return preferredAudience;
+        }
+
+        int start = random.nextInt(model.audienceCount);
+        for (int i = 0; i < model.audienceCount; i++) {
+            int audience = (start + i) % model.audienceCount;
+
+            if ((audienceDays[audience * model.dayCount + day] & overlapping) == 0) {
+                return audience;
+            }
+        }
+        return UNPLACED;
+    }
+
+    private int additionCost(int lesson, int slot) {
+        int day = model.dayOf(slot);
+        long time = 1L << model.timeOf(slot);
+        long groupDay = groupDays[model.groups[lesson] * model.dayCount + day];
+        long lecturerDay = lecturerDays[model.lecturers[lesson] * model.dayCount + day];
+        return gaps(groupDay | time) - gaps(groupDay) + gaps(lecturerDay | time) - gaps(lecturerDay)
+                - UNPLACED_PENALTY;
+    }
+
+    private int removalCost(int lesson) {
+        int slot = slots[lesson];
+        int day = model.dayOf(slot);
+        long time = 1L << model.timeOf(slot);
+        long groupDay = groupDays[model.groups[lesson] * model.dayCount + day];
+        long lecturerDay = lecturerDays[model.lecturers[lesson] * model.dayCount + day];
+        return gaps(groupDay) - gaps(groupDay & ~time) + gaps(lecturerDay) - gaps(lecturerDay & ~time)
+                - UNPLACED_PENALTY;
+    }
+
+    private void add(int lesson, int slot, int audience) {
+        cost += additionCost(lesson, slot);
+        unplaced--;
+
+        int day = model.dayOf(slot);
+        long time = 1L << model.timeOf(slot);
+        groupDays[model.groups[lesson] * model.dayCount + day] |= time;
+        lecturerDays[model.lecturers[lesson] * model.dayCount + day] |= time;
+        audienceDays[audience * model.dayCount + day] |= time;
+        slots[lesson] = slot;
+        audiences[lesson] = audience;
+    }
+
+    private void remove(int lesson) {
+        cost -= removalCost(lesson);
+        unplaced++;
+
+        int slot = slots[lesson];
+        int day = model.dayOf(slot);
+        long time = ~(1L << model.timeOf(slot));
+        groupDays[model.groups[lesson] * model.dayCount + day] &= time;
+        lecturerDays[model.lecturers[lesson] * model.dayCount + day] &= time;
+        audienceDays[audiences[lesson] * model.dayCount + day] &= time;
+        slots[lesson] = UNPLACED;
+        audiences[lesson] = UNPLACED;
+    }
+
+    private Solution snapshot() {
+        return new Solution(slots.clone(), audiences.clone(), cost, unplaced);
+    }
+
+    /**
+     * @return free lesson times between the first and the last busy ones.
+     */
+    static int gaps(long busyTimes) {
+        if (busyTimes == 0) {
+            return 0;
+        }
+        int span = Long.SIZE - Long.numberOfLeadingZeros(busyTimes) - Long.numberOfTrailingZeros(busyTimes);
+        return span - Long.bitCount(busyTimes);
+    }
+
+    static final class Solution {
+        final int[] slots;
+        final int[] audiences;
+        final int cost;
+        final int unplaced;
+
+        Solution(int[] slots, int[] audiences, int cost, int unplaced) {
+            this.slots = slots;
+            this.audiences = audiences;
+            this.cost = cost;
+            this.unplaced = unplaced;
+        }
+
+        int gaps() {
+            return cost - unplaced * UNPLACED_PENALTY;
+        }
+    }
+}
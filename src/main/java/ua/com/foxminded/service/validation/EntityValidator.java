@@ -0,0 +1,245 @@
+package ua.com.foxminded.service.validation;
+
+import java.lang.annotation.ElementType;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnitUtil;
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.TraversableResolver;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Validates entities by plans which are computed once per entity type: an
+ * entity without constraints isn't validated at all, and a {@code @Valid}
+ * reference is cascaded into only when it may have been changed. A reference
+ * which is managed by the current persistence context and has no changes
+ * against its loaded state, or a proxy which isn't loaded, was valid when it
+ * was saved, so its graph isn't validated again.
+ */
+@Component
+public class EntityValidator {
+    private final ValidatorFactory validatorFactory;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PersistenceUnitUtil persistenceUnitUtil;
+    private final Validator validator;
+
+    private final ClassValue<ValidationPlan> plans = new ClassValue<ValidationPlan>() {
+        @Override
+        protected ValidationPlan computeValue(Class<?> type) {
+            return new ValidationPlan(validatorFactory.getValidator().getConstraintsForClass(type));
+        }
+    };
+
+    @Autowired
+    public EntityValidator(ValidatorFactory validatorFactory, EntityManagerFactory entityManagerFactory) {
+        this.validatorFactory = validatorFactory;
+        this.entityManagerFactory = entityManagerFactory;
+        this.persistenceUnitUtil = entityManagerFactory.getPersistenceUnitUtil();
+        this.validator = createValidator(new PlannedTraversableResolver(null));
+    }
+
+    public <T> Set<ConstraintViolation<T>> validate(T entity) {
+        if (!planOf(entity).isConstrained()) {
+            return Collections.emptySet();
+        }
+        return validator.validate(entity);
+    }
+
+    /**
+     * Validates entities of a bulk import. A reference shared by several
+     * entities, such as a group of many lessons, is cascaded into only for the
+     * first of them, so its violations are reported once.
+     *
+     * @return violations by positions of invalid entities, in the order of the
+     *         list. It is empty when all entities are valid.
+     */
+    public <T> Map<Integer, Set<ConstraintViolation<T>>> validateAll(List<? extends T> entities) {
+        Validator batchValidator = createValidator(
+                new PlannedTraversableResolver(Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>())));
+        Map<Integer, Set<ConstraintViolation<T>>> violations = new LinkedHashMap<>();
+
+        for (int i = 0; i < entities.size(); i++) {
+            T entity = entities.get(i);
+
+            if (planOf(entity).isConstrained()) {
+                Set<ConstraintViolation<T>> entityViolations = batchValidator.validate(entity);
+
+                if (!entityViolations.isEmpty()) {
+                    violations.put(i, entityViolations);
+                }
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * @return messages of violations separated by "; ". It should be called
+     *         only when there are violations.
+     */
+    public static StringJoiner messagesOf(Collection<? extends ConstraintViolation<?>> violations) {
+        StringJoiner errorMessages = new StringJoiner("; ");
+
+        for (ConstraintViolation<?> violation : violations) {
+            errorMessages.add(violation.getMessage());
+        }
+        return errorMessages;
+    }
+
+    private Validator createValidator(PlannedTraversableResolver traversableResolver) {
+        return validatorFactory.usingContext().traversableResolver(traversableResolver).getValidator();
+    }
+
+    private ValidationPlan planOf(Object entity) {
+        if (entity instanceof HibernateProxy) {
+            return plans.get(((HibernateProxy) entity).getHibernateLazyInitializer().getPersistentClass());
+        }
+        return plans.get(entity.getClass());
+    }
+
+    private boolean isManagedAndUnchanged(Object reference) {
+        Object entity = reference;
+
+        if (reference instanceof HibernateProxy) {
+            LazyInitializer lazyInitializer = ((HibernateProxy) reference).getHibernateLazyInitializer();
+
+            if (lazyInitializer.isUninitialized()) {
+                return true;
+            }
+            entity = lazyInitializer.getImplementation();
+        }
+
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+
+        if (entityManager == null || !entityManager.contains(entity)) {
+            return false;
+        }
+
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityEntry entityEntry = session.getPersistenceContext().getEntry(entity);
+
+        if (entityEntry == null || entityEntry.getLoadedState() == null) {
+            return false;
+        }
+
+        EntityPersister persister = entityEntry.getPersister();
+        return persister.findDirty(persister.getPropertyValues(entity), entityEntry.getLoadedState(), entity,
+                session) == null;
+    }
+
+    private static class ValidationPlan {
+        private final boolean constrained;
+        private final Map<String, Method> cascadedGetters = new HashMap<>();
+        private final Set<String> associations = new HashSet<>();
+
+        ValidationPlan(BeanDescriptor beanDescriptor) {
+            this.constrained = beanDescriptor.isBeanConstrained();
+
+            for (PropertyDescriptor property : beanDescriptor.getConstrainedProperties()) {
+                Class<?> type = property.getElementClass();
+
+                if (type.isAnnotationPresent(Entity.class) || Collection.class.isAssignableFrom(type)
+                        || Map.class.isAssignableFrom(type)) {
+                    associations.add(property.getPropertyName());
+                }
+
+                if (property.isCascaded()) {
+                    java.beans.PropertyDescriptor beanProperty = BeanUtils
+                            .getPropertyDescriptor(beanDescriptor.getElementClass(), property.getPropertyName());
+
+                    if (beanProperty != null && beanProperty.getReadMethod() != null) {
+                        cascadedGetters.put(property.getPropertyName(), beanProperty.getReadMethod());
+                    }
+                }
+            }
+        }
+
+        boolean isConstrained() {
+            return constrained;
+        }
+
+        /**
+         * @return true for an association, which may be a lazy one that isn't
+         *         loaded. Other properties of an entity are always loaded.
+         */
+        boolean isAssociation(String propertyName) {
+            return associations.contains(propertyName);
+        }
+
+        Method getCascadedGetter(String propertyName) {
+            return cascadedGetters.get(propertyName);
+        }
+    }
+
+    private class PlannedTraversableResolver implements TraversableResolver {
+        private final Set<Object> cascadedReferences;
+
+        /**
+         * @param cascadedReferences references already cascaded into by this
+         *                           validator, or {@code null} to cascade
+         *                           into the same reference for every entity.
+         */
+        PlannedTraversableResolver(Set<Object> cascadedReferences) {
+            this.cascadedReferences = cascadedReferences;
+        }
+
+        @Override
+        public boolean isReachable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+                Path pathToTraversableObject, ElementType elementType) {
+            return traversableObject == null || !planOf(traversableObject).isAssociation(traversableProperty.getName())
+                    || persistenceUnitUtil.isLoaded(traversableObject, traversableProperty.getName());
+        }
+
+        @Override
+        public boolean isCascadable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+                Path pathToTraversableObject, ElementType elementType) {
+            if (traversableObject == null) {
+                return true;
+            }
+
+            Method getter = planOf(traversableObject).getCascadedGetter(traversableProperty.getName());
+
+            if (getter == null) {
+                return true;
+            }
+
+            Object reference = ReflectionUtils.invokeMethod(getter, traversableObject);
+
+            if (reference == null) {
+                return true;
+            }
+
+            if (isManagedAndUnchanged(reference)) {
+                return false;
+            }
+            return cascadedReferences == null || cascadedReferences.add(reference);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package ua.com.foxminded.tracing;
+
+public class Span {
+    private final long sequence;
+    private final String operation;
+    private final long startEpochMillis;
+    private final long durationNanos;
+    private final String thread;
+    private final String error;
+
+    public Span(long sequence, String operation, long startEpochMillis, long durationNanos, String thread,
+            String error) {
+        this.sequence = sequence;
+        this.operation = operation;
+        this.startEpochMillis = startEpochMillis;
+        this.durationNanos = durationNanos;
+        this.thread = thread;
+        this.error = error;
+    }
+
+    /**
+     * @return a number of the span among all recorded ones, starting from 0.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public String getThread() {
+        return thread;
+    }
+
+    /**
+     * @return a simple name of an exception thrown by the operation, or
+     *         {@code null} when it succeeded.
+     */
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return "Span [sequence=" + sequence + ", operation=" + operation + ", startEpochMillis=" + startEpochMillis
+                + ", durationNanos=" + durationNanos + ", thread=" + thread + ", error=" + error + "]";
+    }
+}
@@ -0,0 +1,71 @@
+package ua.com.foxminded.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the last spans in a ring buffer. Recording a span takes a slot by an
+ * atomic increment and overwrites the oldest span in it, so recording threads
+ * never wait for each other or for a reader.
+ */
+@Component
+public class SpanRecorder implements TraceHook {
+    private final AtomicReferenceArray<Span> spans;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Autowired
+    public SpanRecorder(@Value("${tracing.spans.capacity:1024}") int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("A capacity of spans must be from 1 to 2^30.");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.spans = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    @Override
+    public void record(String operation, long durationNanos, Throwable error) {
+        long spanSequence = sequence.getAndIncrement();
+        long startEpochMillis = System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(durationNanos);
+
+        spans.set((int) (spanSequence & mask), new Span(spanSequence, operation, startEpochMillis, durationNanos,
+                Thread.currentThread().getName(), error == null ? null : error.getClass().getSimpleName()));
+    }
+
+    /**
+     * @return at most {@code limit} last spans, the newest first. A span which
+     *         is overwritten while the buffer is read is skipped.
+     */
+    public List<Span> getLastSpans(int limit) {
+        long last = sequence.get();
+        long first = Math.max(0, last - Math.min(limit, spans.length()));
+        List<Span> lastSpans = new ArrayList<>((int) (last - first));
+
+        for (long i = last - 1; i >= first; i--) {
+            Span span = spans.get((int) (i & mask));
+            if (span != null && span.getSequence() == i) {
+                lastSpans.add(span);
+            }
+        }
+        return lastSpans;
+    }
+
+    public int getCapacity() {
+        return spans.length();
+    }
+
+    public long getRecordedCount() {
+        return sequence.get();
+    }
+}
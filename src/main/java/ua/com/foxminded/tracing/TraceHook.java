@@ -0,0 +1,15 @@
+package ua.com.foxminded.tracing;
+
+/**
+ * Gets timings of traced calls. It is called on the calling thread for every
+ * call, so an implementation must neither block nor do any I/O. A bean of
+ * this type is called along with {@link SpanRecorder}, so it never takes the
+ * spans shown by the traces endpoint away.
+ */
+public interface TraceHook {
+
+    /**
+     * @param error an exception thrown by the call, or {@code null}.
+     */
+    void record(String operation, long durationNanos, Throwable error);
+}
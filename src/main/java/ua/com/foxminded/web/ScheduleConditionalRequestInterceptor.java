@@ -0,0 +1,64 @@
+package ua.com.foxminded.web;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import ua.com.foxminded.service.cache.ScheduleOwner;
+import ua.com.foxminded.service.cache.ScheduleVersion;
+import ua.com.foxminded.service.cache.ScheduleVersions;
+
+/**
+ * Answers conditional requests for group and lecturer schedules before a
+ * handler is called, so an unchanged schedule costs neither a service nor a
+ * repository call. Other responses get the entity tag and the last
+ * modification time of the schedule.
+ */
+public class ScheduleConditionalRequestInterceptor implements HandlerInterceptor {
+    private ScheduleVersions scheduleVersions;
+
+    public ScheduleConditionalRequestInterceptor(ScheduleVersions scheduleVersions) {
+        this.scheduleVersions = scheduleVersions;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+
+        ScheduleVersion version = findVersion(request);
+
+        if (version == null) {
+            return true;
+        }
+        return !new ServletWebRequest(request, response).checkNotModified(version.getETag(),
+                version.getLastModified());
+    }
+
+    private ScheduleVersion findVersion(HttpServletRequest request) {
+        String role = request.getParameter("people-role-radio");
+
+        if (request.getParameter("group-id") != null) {
+            return findVersion(ScheduleOwner.GROUP, request.getParameter("group-id"));
+        } else if (request.getParameter("lecturer-id") != null) {
+            return findVersion(ScheduleOwner.LECTURER, request.getParameter("lecturer-id"));
+        } else if ("group".equals(role)) {
+            return findVersion(ScheduleOwner.GROUP, request.getParameter("group-value"));
+        } else if ("lecturer".equals(role)) {
+            return findVersion(ScheduleOwner.LECTURER, request.getParameter("lecturer-value"));
+        }
+        return null;
+    }
+
+    private ScheduleVersion findVersion(ScheduleOwner owner, String ownerId) {
+        try {
+            return scheduleVersions.get(owner, Integer.parseInt(ownerId));
+        } catch (NumberFormatException numberFormatException) {
+            return null;
+        }
+    }
+}
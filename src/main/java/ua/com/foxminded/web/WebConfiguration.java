@@ -0,0 +1,30 @@
+package ua.com.foxminded.web;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import ua.com.foxminded.service.cache.ScheduleVersions;
+
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+    private ObjectProvider<ScheduleVersions> scheduleVersions;
+
+    @Autowired
+    public WebConfiguration(ObjectProvider<ScheduleVersions> scheduleVersions) {
+        this.scheduleVersions = scheduleVersions;
+    }
+
+    /**
+     * Schedule versions are missing in web slices of the application, which
+     * then answer every schedule request in full.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        scheduleVersions.ifAvailable(versions -> registry
+                .addInterceptor(new ScheduleConditionalRequestInterceptor(versions))
+                .addPathPatterns("/week-lessons/*", "/month-lessons/*", "/lessons"));
+    }
+}
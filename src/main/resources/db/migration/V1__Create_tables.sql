@@ -1,17 +1,6 @@
-DROP TABLE IF EXISTS
-    people,
-    groups,
-    faculties,
-    lessons,
-    lesson_times
-    CASCADE;
-DROP TYPE IF EXISTS
-    gender CASCADE;
-DROP TYPE IF EXISTS
-    week_day CASCADE;
-    
-CREATE TYPE gender AS ENUM ('MALE', 'FEMALE');
-CREATE TYPE week_day AS ENUM ('SUNDAY', 'MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY');
+-- The schema as it was kept in schema.sql. Genders and week days are checked
+-- strings rather than enum types, so the migrations also run on H2 in
+-- PostgreSQL mode.
 
 CREATE TABLE faculties (
     id serial NOT NULL,
@@ -34,7 +23,7 @@ CREATE TABLE people (
     role character varying NOT NULL,
     first_name character varying NOT NULL,
     last_name character varying NOT NULL,
-    gender gender NOT NULL,
+    gender character varying NOT NULL CHECK (gender IN ('MALE', 'FEMALE')),
     phone_number character varying,
     email character varying,
     student_group_id integer,
@@ -58,10 +47,11 @@ CREATE TABLE lessons (
     lecturer_id integer,
     group_id integer,
     audience character varying NOT NULL,
-    week_day week_day NOT NUll,
+    week_day character varying NOT NULL
+        CHECK (week_day IN ('SUNDAY', 'MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY')),
     lesson_time_id integer,
     PRIMARY KEY (id),
     FOREIGN KEY (lecturer_id) REFERENCES public.people (id) ON DELETE CASCADE,
     FOREIGN KEY (group_id) REFERENCES public.groups (id) ON DELETE CASCADE,
     FOREIGN KEY (lesson_time_id) REFERENCES public.lesson_times (id) ON DELETE CASCADE
-);
\ No newline at end of file
+);
@@ -0,0 +1,19 @@
+-- Every audience name used by lessons becomes an audience without a capacity,
+-- and lessons refer to audiences by an indexed foreign key.
+
+CREATE TABLE IF NOT EXISTS audiences (
+    id serial NOT NULL,
+    name character varying NOT NULL,
+    capacity integer CHECK (capacity > 0),
+    PRIMARY KEY (id),
+    UNIQUE (name)
+);
+
+INSERT INTO audiences (name)
+    SELECT DISTINCT audience FROM lessons
+    ON CONFLICT DO NOTHING;
+
+ALTER TABLE lessons
+    ADD FOREIGN KEY (audience) REFERENCES public.audiences (name) ON UPDATE CASCADE ON DELETE CASCADE;
+
+CREATE INDEX IF NOT EXISTS lessons_audience_week_day_idx ON lessons (audience, week_day);
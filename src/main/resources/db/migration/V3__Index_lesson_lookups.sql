@@ -0,0 +1,10 @@
+-- PostgreSQL doesn't index foreign keys, so week and day lessons of a group
+-- or a lecturer and students of a group were found by sequential scans. The
+-- leading columns match the conditions of LessonRepository queries; no
+-- columns are included, as the queries read whole rows anyway.
+
+CREATE INDEX IF NOT EXISTS lessons_group_id_week_day_idx ON lessons (group_id, week_day);
+
+CREATE INDEX IF NOT EXISTS lessons_lecturer_id_week_day_idx ON lessons (lecturer_id, week_day);
+
+CREATE INDEX IF NOT EXISTS people_student_group_id_idx ON people (student_group_id);
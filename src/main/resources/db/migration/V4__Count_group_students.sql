@@ -0,0 +1,11 @@
+-- The capacity of a group was checked by counting its students, which loaded
+-- all of them. Now a group keeps its count, which StudentService changes by
+-- conditional updates, and the check constraint rejects any write which would
+-- put the count out of the capacity, whatever writes it.
+
+ALTER TABLE groups ADD COLUMN IF NOT EXISTS student_count integer NOT NULL DEFAULT 0;
+
+UPDATE groups SET student_count = (SELECT count(*) FROM people
+    WHERE people.role = 'Student' AND people.student_group_id = groups.id);
+
+ALTER TABLE groups ADD CONSTRAINT groups_student_count_check CHECK (student_count BETWEEN 0 AND 32);
@@ -0,0 +1,303 @@
+package ua.com.foxminded.api.system;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.github.database.rider.core.api.configuration.DBUnit;
+import com.github.database.rider.core.api.dataset.DataSet;
+import com.github.database.rider.junit5.api.DBRider;
+
+/**
+ * Counts statements which are prepared while an endpoint answers. Every read
+ * of the repositories fetches the associations it needs together with the
+ * entities, so a count is a number of the repository reads of an endpoint and
+ * doesn't depend on how many rows they return. Lists for dropdowns are read
+ * only by the first form page, later ones take them from the cache.
+ */
+@SpringBootTest
+@DBRider
+@DBUnit(cacheConnection = false, leakHunter = true)
+@TestPropertySource("/application-test.properties")
+@DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD)
+class QueryCountSystemTest {
+
+    private final String testData = "/datasets/test-data.xml";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private MockMvc mockMvc;
+    private Statistics statistics;
+
+    @BeforeEach
+    void init() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetGroups() throws Exception {
+        assertStatements(1, get("/groups").accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteTwoStatementsWhenGetGroupsPage() throws Exception {
+        assertStatements(2, get("/groups").param("page", "0").param("size", "2").accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetGroupsAfterId() throws Exception {
+        assertStatements(1, get("/groups").param("after", "1").accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetGroup() throws Exception {
+        assertStatements(1, get("/groups/1").accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetStudents() throws Exception {
+        assertStatements(1, get("/students").accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteTwoStatementsWhenGetStudentsPage() throws Exception {
+        assertStatements(2, get("/students").param("page", "0").param("size", "2").accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetStudentsAfterId() throws Exception {
+        assertStatements(1, get("/students").param("after", "1").accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetStudent() throws Exception {
+        assertStatements(1, get("/students/1").accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetFaculties() throws Exception {
+        assertStatements(1, get("/faculties").accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetLecturers() throws Exception {
+        assertStatements(1, get("/lecturers").accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetLessonTimes() throws Exception {
+        assertStatements(1, get("/lesson-time-parameters").accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetGroupWeekLessons() throws Exception {
+        assertStatements(1, get("/week-lessons/find-for-group").param("group-id", "1")
+                .accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetGroupMonthLessons() throws Exception {
+        assertStatements(1, get("/month-lessons/find-for-group").param("group-id", "1")
+                .param("month-value", "2021-09").accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetLecturerWeekLessons() throws Exception {
+        assertStatements(1, get("/week-lessons/find-for-lecturer").param("lecturer-id", "6")
+                .accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetLecturerMonthLessons() throws Exception {
+        assertStatements(1, get("/month-lessons/find-for-lecturer").param("lecturer-id", "6")
+                .param("month-value", "2021-09").accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetAudienceWeekLessons() throws Exception {
+        assertStatements(1, get("/week-lessons/find-for-audience").param("audience-id", "1")
+                .accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetAudienceMonthLessons() throws Exception {
+        assertStatements(1, get("/month-lessons/find-for-audience").param("audience-id", "1")
+                .param("month-value", "2021-09").accept(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenExportStudents() throws Exception {
+        assertStatements(1, get("/export/students"));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenExportLessons() throws Exception {
+        assertStatements(1, get("/export/lessons"));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetGroupCalendar() throws Exception {
+        assertStatements(1, get("/calendars/groups/1.ics"));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetLecturerCalendar() throws Exception {
+        assertStatements(1, get("/calendars/lecturers/6.ics"));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetGroupsPage() throws Exception {
+        assertStatements(1, get("/groups").accept(MediaType.TEXT_HTML));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetGroupPage() throws Exception {
+        assertStatements(1, get("/groups/1").accept(MediaType.TEXT_HTML));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteTwoStatementsWhenGetGroupEditPage() throws Exception {
+        assertStatements(2, get("/groups/1/edit").accept(MediaType.TEXT_HTML));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetStudentsPage() throws Exception {
+        assertStatements(1, get("/students").accept(MediaType.TEXT_HTML));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetStudentPage() throws Exception {
+        assertStatements(1, get("/students/1").accept(MediaType.TEXT_HTML));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteTwoStatementsWhenGetStudentEditPage() throws Exception {
+        assertStatements(2, get("/students/1/edit").accept(MediaType.TEXT_HTML));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteTwoStatementsWhenGetSearchSchedulePage() throws Exception {
+        assertStatements(2, get("/search-schedule").accept(MediaType.TEXT_HTML));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteTwoStatementsWhenGetGroupWeekSchedulePage() throws Exception {
+        assertStatements(2, get("/lessons").param("people-role-radio", "group").param("group-value", "1")
+                .param("period-radio", "week").accept(MediaType.TEXT_HTML));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteTwoStatementsWhenGetLecturerMonthSchedulePage() throws Exception {
+        assertStatements(2, get("/lessons").param("people-role-radio", "lecturer").param("lecturer-value", "6")
+                .param("period-radio", "month").param("month-value", "2021-09").accept(MediaType.TEXT_HTML));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteThreeStatementsWhenGetNewLessonPage() throws Exception {
+        assertStatements(3, get("/lessons-new").accept(MediaType.TEXT_HTML));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteFourStatementsWhenGetLessonEditPage() throws Exception {
+        assertStatements(4, get("/lessons/3/edit").accept(MediaType.TEXT_HTML));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetGroupEditPageAgain() throws Exception {
+        assertStatementsWhenRepeated(1, get("/groups/1/edit").accept(MediaType.TEXT_HTML));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetStudentEditPageAgain() throws Exception {
+        assertStatementsWhenRepeated(1, get("/students/1/edit").accept(MediaType.TEXT_HTML));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteNoStatementsWhenGetSearchSchedulePageAgain() throws Exception {
+        assertStatementsWhenRepeated(0, get("/search-schedule").accept(MediaType.TEXT_HTML));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteNoStatementsWhenGetNewLessonPageAgain() throws Exception {
+        assertStatementsWhenRepeated(0, get("/lessons-new").accept(MediaType.TEXT_HTML));
+    }
+
+    @Test
+    @DataSet(value = testData, cleanBefore = true)
+    void shouldExecuteOneStatementWhenGetLessonEditPageAgain() throws Exception {
+        assertStatementsWhenRepeated(1, get("/lessons/3/edit").accept(MediaType.TEXT_HTML));
+    }
+
+    private void assertStatementsWhenRepeated(long expectedStatements, RequestBuilder request) throws Exception {
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        assertStatements(expectedStatements, request);
+    }
+
+    private void assertStatements(long expectedStatements, RequestBuilder request) throws Exception {
+        statistics.clear();
+
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+    }
+}
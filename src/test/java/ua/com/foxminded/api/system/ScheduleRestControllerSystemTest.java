@@ -44,6 +44,7 @@ import ua.com.foxminded.domain.Group;
 import ua.com.foxminded.domain.Lecturer;
 import ua.com.foxminded.domain.Lesson;
 import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.domain.LessonView;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
 import ua.com.foxminded.service.LessonService;
 import ua.com.foxminded.service.LessonTimeService;
@@ -103,8 +104,8 @@ class ScheduleRestControllerSystemTest {
     void shouldGetLecturerWeekLessons() throws Exception {
         int lecturerId = 5;
 
-        Map<DayOfWeek, List<Lesson>> lecturerWeekLessons = new HashMap<>();
-        lecturerWeekLessons.put(lessons.get(1).getDay(), Arrays.asList(lessons.get(1)));
+        Map<DayOfWeek, List<LessonView>> lecturerWeekLessons = new HashMap<>();
+        lecturerWeekLessons.put(lessons.get(1).getDay(), Arrays.asList(createLessonView(lessons.get(1))));
 
         String expectedResult = objectMapper.writeValueAsString(lecturerWeekLessons);
 
@@ -123,7 +124,7 @@ class ScheduleRestControllerSystemTest {
     void shouldGetLecturerMonthLessons() throws Exception {
         int lecturerId = 5;
 
-        Map<LocalDate, List<Lesson>> lecturerMonthLessons = new HashMap<>();
+        Map<LocalDate, List<LessonView>> lecturerMonthLessons = new HashMap<>();
         YearMonth month = YearMonth.of(2021, 3);
 
         for (int i = 1; i <= 31; i++) {
@@ -131,7 +132,7 @@ class ScheduleRestControllerSystemTest {
                 if (month.atDay(i).getDayOfWeek().equals(lessons.get(a).getDay())
                         && lessons.get(a).getLecturer().getId() == lecturerId) {
                     lecturerMonthLessons.put(LocalDate.of(month.getYear(), month.getMonthValue(), i),
-                            Arrays.asList(lessons.get(a)));
+                            Arrays.asList(createLessonView(lessons.get(a))));
                     System.out.println(lessons.get(a));
                 }
             }
@@ -155,8 +156,8 @@ class ScheduleRestControllerSystemTest {
     void shouldGetGroupWeekLessons() throws Exception {
         int groupId = 2;
 
-        Map<DayOfWeek, List<Lesson>> groupWeekLessons = new HashMap<>();
-        groupWeekLessons.put(lessons.get(1).getDay(), Arrays.asList(lessons.get(1)));
+        Map<DayOfWeek, List<LessonView>> groupWeekLessons = new HashMap<>();
+        groupWeekLessons.put(lessons.get(1).getDay(), Arrays.asList(createLessonView(lessons.get(1))));
 
         String expectedResult = objectMapper.writeValueAsString(groupWeekLessons);
 
@@ -174,7 +175,7 @@ class ScheduleRestControllerSystemTest {
     @DataSet(value = scheduleTestData, cleanBefore = true)
     void shouldGetGroupMonthLessons() throws Exception {
         int groupId = 1;
-        Map<LocalDate, List<Lesson>> groupMonthLessons = new HashMap<>();
+        Map<LocalDate, List<LessonView>> groupMonthLessons = new HashMap<>();
         YearMonth month = YearMonth.of(2021, 2);
 
         for (int i = 1; i <= 28; i++) {
@@ -182,7 +183,7 @@ class ScheduleRestControllerSystemTest {
                 if (month.atDay(i).getDayOfWeek().equals(lessons.get(a).getDay())
                         && lessons.get(a).getGroup().getId() == groupId) {
                     groupMonthLessons.put(LocalDate.of(month.getYear(), month.getMonthValue(), i),
-                            Arrays.asList(lessons.get(a)));
+                            Arrays.asList(createLessonView(lessons.get(a))));
                 }
             }
         }
@@ -738,4 +739,11 @@ class ScheduleRestControllerSystemTest {
         }
         return lessons;
     }
+
+    private LessonView createLessonView(Lesson lesson) {
+        return new LessonView(lesson.getId(), lesson.getName(), lesson.getDay(), lesson.getLessonTime().getId(),
+                lesson.getLessonTime().getStartTime(), lesson.getLessonTime().getEndTime(), lesson.getAudience(),
+                lesson.getLecturer().getId(), lesson.getLecturer().getFirstName(), lesson.getLecturer().getLastName(),
+                lesson.getGroup().getId(), lesson.getGroup().getName());
+    }
 }
@@ -0,0 +1,165 @@
+package ua.com.foxminded.api.unit;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ua.com.foxminded.api.AudiencesRestController;
+import ua.com.foxminded.api.aspects.GeneralRestControllerAspect;
+import ua.com.foxminded.domain.Audience;
+import ua.com.foxminded.repositories.exceptions.RepositoryException;
+import ua.com.foxminded.service.AudienceService;
+import ua.com.foxminded.service.exceptions.ServiceException;
+
+@WebMvcTest(AudiencesRestController.class)
+@Import({AopAutoConfiguration.class, GeneralRestControllerAspect.class})
+class AudiencesRestControllerTest {
+    
+    @Autowired
+    private AudiencesRestController audiencesRestController;
+
+    @MockBean
+    private AudienceService audienceService;
+
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(audiencesRestController, "audienceService", audienceService);
+    }
+
+    @Test
+    void shouldGetAudiences() throws Exception {
+        Audience firstAudience = new Audience();
+        firstAudience.setId(1);
+        firstAudience.setName("101");
+        firstAudience.setCapacity(30);
+
+        Audience secondAudience = new Audience();
+        secondAudience.setId(2);
+        secondAudience.setName("102");
+        
+        List<Audience> audiences = new ArrayList<>(Arrays.asList(firstAudience, secondAudience));
+        
+        String expectedResult = objectMapper.writeValueAsString(audiences);
+
+        when(audienceService.getAll()).thenReturn(audiences);
+
+        mockMvc.perform(get("/audiences").contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content()
+                    .contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(expectedResult));
+        
+        verify(audienceService).getAll();
+    }
+
+    @Test
+    void shouldGetAudience() throws Exception {
+        int id = 1;
+        Audience firstAudience = new Audience();
+        firstAudience.setId(id);
+        firstAudience.setName("101");
+        
+        String expectedResult = objectMapper.writeValueAsString(firstAudience);
+
+        when(audienceService.getById(id)).thenReturn(firstAudience);
+
+        mockMvc.perform(get("/audiences/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content()
+                    .contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(expectedResult));
+        
+        verify(audienceService).getById(1);
+    }
+
+    @Test
+    void shouldCreateAudience() throws Exception {
+        Audience testAudience = new Audience();
+        testAudience.setName("104");
+        testAudience.setCapacity(40);
+
+        String testJson = objectMapper.writeValueAsString(testAudience);
+        
+        mockMvc.perform(post("/audiences")
+                .content(testJson).contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content()
+                        .contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+           
+        verify(audienceService).create(testAudience);
+    }
+
+    @Test
+    void shouldUpdateAudience() throws Exception {
+        int testId = 10;
+        Audience testAudience = new Audience();
+        testAudience.setId(testId);
+        testAudience.setName("104");
+        testAudience.setCapacity(40);
+        
+        String testJson = objectMapper.writeValueAsString(testAudience);
+
+        mockMvc.perform(patch("/audiences/{id}", testId)
+                .content(testJson).contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().json(testJson));        
+        
+        verify(audienceService).update(testAudience);
+    }
+
+    @Test
+    void shouldDeleteAudience() throws Exception {
+        int testId = 2;
+        
+        String expectedResult = "Audience with id: " + testId + " was deleted.";
+
+        mockMvc.perform(delete("/audiences/{id}", testId)
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content()
+                .contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().string(expectedResult));
+        
+        verify(audienceService).deleteById(testId);
+    }
+
+    @Test
+    void shouldReturnError500WhenRepositoryExceptionWhileGetAudiences() throws Exception {
+        when(audienceService.getAll()).thenThrow(new ServiceException("Service exception", new RepositoryException()));
+
+        mockMvc.perform(get("/audiences")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isInternalServerError());
+        
+        verify(audienceService).getAll();
+    }
+}
@@ -0,0 +1,78 @@
+package ua.com.foxminded.api.unit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import ua.com.foxminded.api.AvailabilityRestController;
+import ua.com.foxminded.api.aspects.GeneralRestControllerAspect;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.repositories.exceptions.RepositoryException;
+import ua.com.foxminded.service.AvailabilityService;
+import ua.com.foxminded.service.availability.AvailableSlot;
+import ua.com.foxminded.service.exceptions.ServiceException;
+
+@WebMvcTest(AvailabilityRestController.class)
+@Import({AopAutoConfiguration.class, GeneralRestControllerAspect.class})
+class AvailabilityRestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AvailabilityService availabilityService;
+
+    @Test
+    void shouldReturnFreeSlotsOfGivenResources() throws Exception {
+        LessonTime lessonTime = new LessonTime();
+        lessonTime.setId(1);
+        lessonTime.setStartTime(LocalTime.of(8, 0));
+        lessonTime.setEndTime(LocalTime.of(9, 30));
+        when(availabilityService.findFreeSlots(Arrays.asList(1, 2), Arrays.asList(3), Arrays.asList("101"), 5))
+            .thenReturn(Arrays.asList(new AvailableSlot(DayOfWeek.MONDAY, lessonTime, 2)));
+
+        mockMvc.perform(get("/availability/free-slots")
+                .param("lecturer-id", "1", "2")
+                .param("group-id", "3")
+                .param("audience", "101")
+                .param("limit", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].day").value("MONDAY"))
+            .andExpect(jsonPath("$[0].lessonTime.id").value(1))
+            .andExpect(jsonPath("$[0].score").value(2));
+    }
+
+    @Test
+    void shouldReturnError400WhenResourcesAreNotGiven() throws Exception {
+        when(availabilityService.findFreeSlots(isNull(), isNull(), isNull(), anyInt()))
+            .thenThrow(new ServiceException("Service exception", new IllegalArgumentException()));
+
+        mockMvc.perform(get("/availability/free-slots"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnError500WhenThereIsRepositoryError() throws Exception {
+        when(availabilityService.findFreeSlots(isNull(), eq(Arrays.asList(1)), isNull(), anyInt()))
+            .thenThrow(new ServiceException("Service exception", new RepositoryException()));
+
+        mockMvc.perform(get("/availability/free-slots").param("group-id", "1"))
+            .andExpect(status().isInternalServerError());
+    }
+}
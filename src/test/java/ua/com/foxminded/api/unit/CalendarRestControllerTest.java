@@ -0,0 +1,81 @@
+package ua.com.foxminded.api.unit;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import ua.com.foxminded.api.CalendarRestController;
+import ua.com.foxminded.api.aspects.GeneralRestControllerAspect;
+import ua.com.foxminded.service.CalendarService;
+import ua.com.foxminded.service.calendar.CalendarFeed;
+import ua.com.foxminded.service.exceptions.NotFoundEntityException;
+import ua.com.foxminded.service.exceptions.ServiceException;
+
+@WebMvcTest(CalendarRestController.class)
+@Import({AopAutoConfiguration.class, GeneralRestControllerAspect.class})
+class CalendarRestControllerTest {
+    private final String calendar = "BEGIN:VCALENDAR\r\nVERSION:2.0\r\nEND:VCALENDAR\r\n";
+    private final CalendarFeed feed = new CalendarFeed(calendar.getBytes(StandardCharsets.UTF_8), "\"abc\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CalendarService calendarService;
+
+    @Test
+    void shouldGetGroupCalendarWithETag() throws Exception {
+        when(calendarService.getGroupCalendar(1)).thenReturn(feed);
+
+        mockMvc.perform(get("/calendars/groups/{id}.ics", 1))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/calendar;charset=UTF-8"))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+            .andExpect(content().string(calendar));
+
+        verify(calendarService).getGroupCalendar(1);
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenLecturerCalendarHasNotChanged() throws Exception {
+        when(calendarService.getLecturerCalendar(2)).thenReturn(feed);
+
+        mockMvc.perform(get("/calendars/lecturers/{id}.ics", 2)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldReturnError400WhenIllegalArgumentExceptionWhileGetGroupCalendar() throws Exception {
+        when(calendarService.getGroupCalendar(0))
+            .thenThrow(new ServiceException("Service exception", new IllegalArgumentException()));
+
+        mockMvc.perform(get("/calendars/groups/{id}.ics", 0))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldReturnError404WhenEntityIsNotFoundWhileGetLecturerCalendar() throws Exception {
+        when(calendarService.getLecturerCalendar(9))
+            .thenThrow(new ServiceException("Service exception", new NotFoundEntityException()));
+
+        mockMvc.perform(get("/calendars/lecturers/{id}.ics", 9))
+            .andExpect(status().isNotFound());
+    }
+}
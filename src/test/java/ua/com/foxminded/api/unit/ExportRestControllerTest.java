@@ -0,0 +1,102 @@
+package ua.com.foxminded.api.unit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ua.com.foxminded.api.ExportRestController;
+import ua.com.foxminded.api.aspects.GeneralRestControllerAspect;
+import ua.com.foxminded.domain.Faculty;
+import ua.com.foxminded.domain.Gender;
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Student;
+import ua.com.foxminded.repositories.exceptions.RepositoryException;
+import ua.com.foxminded.service.exceptions.ServiceException;
+import ua.com.foxminded.service.export.EntityExporter;
+
+@WebMvcTest(ExportRestController.class)
+@Import({AopAutoConfiguration.class, GeneralRestControllerAspect.class})
+class ExportRestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private EntityExporter entityExporter;
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldWriteEveryStudentOnItsOwnLine() throws Exception {
+        Group group = new Group();
+        group.setId(1);
+        group.setName("Group");
+        group.setFaculty(new Faculty());
+
+        Student firstStudent = new Student();
+        firstStudent.setId(1);
+        firstStudent.setFirstName("Ivan");
+        firstStudent.setLastName("Ivanov");
+        firstStudent.setGender(Gender.MALE);
+        firstStudent.setGroup(group);
+
+        Student secondStudent = new Student();
+        secondStudent.setId(2);
+        secondStudent.setFirstName("Vasyl");
+        secondStudent.setLastName("Vasyliev");
+        secondStudent.setGender(Gender.MALE);
+        secondStudent.setGroup(group);
+
+        when(entityExporter.exportStudents(any())).thenAnswer(invocation -> {
+            Consumer<Student> consumer = invocation.getArgument(0);
+            consumer.accept(firstStudent);
+            consumer.accept(secondStudent);
+            return 2L;
+        });
+
+        String expectedResult = objectMapper.writeValueAsString(firstStudent) + "\n"
+                + objectMapper.writeValueAsString(secondStudent) + "\n";
+
+        mockMvc.perform(get("/export/students"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+            .andExpect(content().string(expectedResult));
+
+        verify(entityExporter).exportStudents(any());
+    }
+
+    @Test
+    void shouldWriteEmptyBodyWhenThereAreNotAnyLecturers() throws Exception {
+        when(entityExporter.exportLecturers(any())).thenReturn(0L);
+
+        mockMvc.perform(get("/export/lecturers"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldReturnError500WhenServiceExceptionWhileExportLessons() throws Exception {
+        when(entityExporter.exportLessons(any()))
+            .thenThrow(new ServiceException("Service exception", new RepositoryException()));
+
+        mockMvc.perform(get("/export/lessons"))
+            .andExpect(status().isInternalServerError());
+    }
+}
@@ -0,0 +1,93 @@
+package ua.com.foxminded.api.unit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import ua.com.foxminded.api.ScheduleEventsRestController;
+import ua.com.foxminded.api.aspects.GeneralRestControllerAspect;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.service.cache.ScheduleOwner;
+import ua.com.foxminded.service.events.ScheduleChange;
+import ua.com.foxminded.service.events.ScheduleChangeTopic;
+import ua.com.foxminded.service.events.ScheduleSubscriber;
+import ua.com.foxminded.service.events.ScheduleSubscription;
+import ua.com.foxminded.service.exceptions.ServiceException;
+
+@WebMvcTest(ScheduleEventsRestController.class)
+@Import({AopAutoConfiguration.class, GeneralRestControllerAspect.class})
+class ScheduleEventsRestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ScheduleChangeTopic scheduleChangeTopic;
+
+    @Test
+    void shouldSendChangesOfGroupScheduleAsEvents() throws Exception {
+        ArgumentCaptor<ScheduleSubscriber> subscriber = ArgumentCaptor.forClass(ScheduleSubscriber.class);
+        when(scheduleChangeTopic.subscribe(eq(ScheduleOwner.GROUP), eq(1), subscriber.capture()))
+            .thenReturn(mock(ScheduleSubscription.class));
+        Lesson lesson = new Lesson();
+        lesson.setId(5);
+        lesson.setName("Lesson-1");
+
+        MvcResult result = mockMvc.perform(get("/schedule-events/groups/{id}", 1))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        subscriber.getValue().onChange(ScheduleChange.created(lesson));
+        subscriber.getValue().onChange(ScheduleChange.removed(6));
+        subscriber.getValue().onHeartbeat();
+
+        String events = result.getResponse().getContentAsString();
+        assertTrue(events.contains("event:lesson-created\ndata:{\"type\":\"CREATED\",\"lessonId\":5,\"lesson\":{"));
+        assertTrue(events.contains("event:lesson-removed\ndata:{\"type\":\"REMOVED\",\"lessonId\":6}\n\n"));
+        assertTrue(events.contains(":heartbeat\n\n"));
+    }
+
+    @Test
+    void shouldCancelSubscriptionWhenSubscriberIsDropped() throws Exception {
+        ArgumentCaptor<ScheduleSubscriber> subscriber = ArgumentCaptor.forClass(ScheduleSubscriber.class);
+        ScheduleSubscription subscription = mock(ScheduleSubscription.class);
+        when(scheduleChangeTopic.subscribe(eq(ScheduleOwner.LECTURER), eq(2), subscriber.capture()))
+            .thenReturn(subscription);
+
+        MvcResult result = mockMvc.perform(get("/schedule-events/lecturers/{id}", 2))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        subscriber.getValue().onDropped();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/event-stream"));
+        verify(subscription).cancel();
+    }
+
+    @Test
+    void shouldReturnError400WhenOwnerIdIsIncorrect() throws Exception {
+        when(scheduleChangeTopic.subscribe(eq(ScheduleOwner.GROUP), eq(0), any(ScheduleSubscriber.class)))
+            .thenThrow(new ServiceException("Service exception", new IllegalArgumentException()));
+
+        mockMvc.perform(get("/schedule-events/groups/{id}", 0))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -8,6 +8,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.DayOfWeek;
@@ -17,6 +18,7 @@ import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -44,11 +46,15 @@ import ua.com.foxminded.domain.Group;
 import ua.com.foxminded.domain.Lecturer;
 import ua.com.foxminded.domain.Lesson;
 import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.domain.LessonView;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
 import ua.com.foxminded.service.GroupService;
 import ua.com.foxminded.service.LecturerService;
 import ua.com.foxminded.service.LessonService;
 import ua.com.foxminded.service.LessonTimeService;
+import ua.com.foxminded.service.conflicts.ConflictResource;
+import ua.com.foxminded.service.conflicts.LessonConflict;
+import ua.com.foxminded.service.exceptions.LessonConflictException;
 import ua.com.foxminded.service.exceptions.ServiceException;
 
 @WebMvcTest(ScheduleRestController.class)
@@ -181,9 +187,9 @@ class ScheduleRestControllerTest {
         secondLesson.setDay(DayOfWeek.WEDNESDAY);
         secondLesson.setLessonTime(secondLessonTime);
 
-        Map<DayOfWeek, List<Lesson>> lecturerWeekLessons = new HashMap<>();
-        lecturerWeekLessons.put(firstLesson.getDay(), Arrays.asList(firstLesson));
-        lecturerWeekLessons.put(secondLesson.getDay(), Arrays.asList(secondLesson));
+        Map<DayOfWeek, List<LessonView>> lecturerWeekLessons = new HashMap<>();
+        lecturerWeekLessons.put(firstLesson.getDay(), Arrays.asList(createLessonView(firstLesson)));
+        lecturerWeekLessons.put(secondLesson.getDay(), Arrays.asList(createLessonView(secondLesson)));
         
         String expectedResult = objectMapper.writeValueAsString(lecturerWeekLessons);
 
@@ -253,16 +259,16 @@ class ScheduleRestControllerTest {
         secondLesson.setDay(DayOfWeek.FRIDAY);
         secondLesson.setLessonTime(secondLessonTime);
 
-        Map<LocalDate, List<Lesson>> lecturerMonthLessons = new HashMap<>();
+        Map<LocalDate, List<LessonView>> lecturerMonthLessons = new HashMap<>();
         YearMonth month = YearMonth.of(2021, 3);
 
         for (int i = 1; i <= 31; i++) {
             if (month.atDay(i).getDayOfWeek().equals(firstLesson.getDay())) {
                 lecturerMonthLessons.put(LocalDate.of(month.getYear(), month.getMonthValue(), i),
-                        Arrays.asList(firstLesson));
+                        Arrays.asList(createLessonView(firstLesson)));
             } else if (month.atDay(i).getDayOfWeek().equals(secondLesson.getDay())) {
                 lecturerMonthLessons.put(LocalDate.of(month.getYear(), month.getMonthValue(), i),
-                        Arrays.asList(secondLesson));
+                        Arrays.asList(createLessonView(secondLesson)));
             }
         }
         
@@ -338,9 +344,9 @@ class ScheduleRestControllerTest {
         secondLesson.setDay(DayOfWeek.THURSDAY);
         secondLesson.setLessonTime(secondLessonTime);
 
-        Map<DayOfWeek, List<Lesson>> groupWeekLessons = new HashMap<>();
-        groupWeekLessons.put(firstLesson.getDay(), Arrays.asList(firstLesson));
-        groupWeekLessons.put(secondLesson.getDay(), Arrays.asList(secondLesson));
+        Map<DayOfWeek, List<LessonView>> groupWeekLessons = new HashMap<>();
+        groupWeekLessons.put(firstLesson.getDay(), Arrays.asList(createLessonView(firstLesson)));
+        groupWeekLessons.put(secondLesson.getDay(), Arrays.asList(createLessonView(secondLesson)));
 
         when(lessonService.getGroupWeekLessons(groupId)).thenReturn(groupWeekLessons);
         
@@ -415,16 +421,16 @@ class ScheduleRestControllerTest {
 
         when(groupService.getById(groupId)).thenReturn(group);
 
-        Map<LocalDate, List<Lesson>> groupMonthLessons = new HashMap<>();
+        Map<LocalDate, List<LessonView>> groupMonthLessons = new HashMap<>();
         YearMonth month = YearMonth.of(2021, 2);
 
         for (int i = 1; i <= 28; i++) {
             if (month.atDay(i).getDayOfWeek().equals(firstLesson.getDay())) {
                 groupMonthLessons.put(LocalDate.of(month.getYear(), month.getMonthValue(), i),
-                        Arrays.asList(firstLesson));
+                        Arrays.asList(createLessonView(firstLesson)));
             } else if (month.atDay(i).getDayOfWeek().equals(secondLesson.getDay())) {
                 groupMonthLessons.put(LocalDate.of(month.getYear(), month.getMonthValue(), i),
-                        Arrays.asList(secondLesson));
+                        Arrays.asList(createLessonView(secondLesson)));
             }
         }
         
@@ -545,6 +551,44 @@ class ScheduleRestControllerTest {
         verify(lessonService).create(expectedLesson);
 
     }
+
+    @Test
+    void shouldCreateLessons() throws Exception {
+        List<Lesson> expectedLessons = new ArrayList<>();
+        List<LessonTime> lessonTimes = new ArrayList<>(Arrays.asList(lessonTime, anotherLessonTime));
+        for (int i = 0; i < lessonTimes.size(); i++) {
+            Lesson lesson = new Lesson();
+            lesson.setName("Test lesson " + i);
+            lesson.setAudience("101");
+            lesson.setDay(DayOfWeek.WEDNESDAY);
+            lesson.setGroup(group);
+            lesson.setLecturer(lecturer);
+            lesson.setLessonTime(lessonTimes.get(i));
+            expectedLessons.add(lesson);
+        }
+
+        String testJson = objectMapper.writeValueAsString(expectedLessons);
+        String expectedJson = objectMapper.writeValueAsString(expectedLessons);
+
+        when(lessonTimeService.getAllById(new HashSet<>(Arrays.asList(lessonTime.getId(), anotherLessonTime.getId()))))
+                .thenReturn(lessonTimes);
+        when(groupService.getAllById(new HashSet<>(Arrays.asList(group.getId()))))
+                .thenReturn(new ArrayList<>(Arrays.asList(group)));
+        when(lecturerService.getAllById(new HashSet<>(Arrays.asList(lecturer.getId()))))
+                .thenReturn(new ArrayList<>(Arrays.asList(lecturer)));
+
+        mockMvc.perform(post("/lessons/batch")
+                .content(testJson)
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(expectedJson));
+
+        verify(lessonTimeService).getAllById(new HashSet<>(Arrays.asList(lessonTime.getId(), anotherLessonTime.getId())));
+        verify(groupService).getAllById(new HashSet<>(Arrays.asList(group.getId())));
+        verify(lecturerService).getAllById(new HashSet<>(Arrays.asList(lecturer.getId())));
+        verify(lessonService).createAll(expectedLessons);
+    }
     
     @Test
     void shouldUpdateLesson() throws Exception {
@@ -642,6 +686,95 @@ class ScheduleRestControllerTest {
         
         verify(lessonService).getGroupMonthLessons(groupId, month);
     }
+
+    @Test
+    void shouldGetAudienceWeekLessons() throws Exception {
+        int audienceId = 3;
+
+        Lesson firstLesson = new Lesson();
+        firstLesson.setId(1);
+        firstLesson.setName("Lesson-1");
+        firstLesson.setAudience("103");
+        firstLesson.setLecturer(lecturer);
+        firstLesson.setGroup(group);
+        firstLesson.setDay(DayOfWeek.MONDAY);
+        firstLesson.setLessonTime(lessonTime);
+
+        Lesson secondLesson = new Lesson();
+        secondLesson.setId(2);
+        secondLesson.setName("Lesson-2");
+        secondLesson.setAudience("103");
+        secondLesson.setLecturer(anotherLecturer);
+        secondLesson.setGroup(anotherGroup);
+        secondLesson.setDay(DayOfWeek.MONDAY);
+        secondLesson.setLessonTime(anotherLessonTime);
+
+        Map<DayOfWeek, List<LessonView>> audienceWeekLessons = new HashMap<>();
+        audienceWeekLessons.put(DayOfWeek.MONDAY, Arrays.asList(createLessonView(firstLesson), createLessonView(secondLesson)));
+
+        when(lessonService.getAudienceWeekLessons(audienceId)).thenReturn(audienceWeekLessons);
+
+        String expectedResult = objectMapper.writeValueAsString(audienceWeekLessons);
+
+        mockMvc.perform(get("/week-lessons/find-for-audience")
+                .param("audience-id", Integer.toString(audienceId))
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(expectedResult));
+
+        verify(lessonService).getAudienceWeekLessons(audienceId);
+    }
+
+    @Test
+    void shouldGetAudienceMonthLessons() throws Exception {
+        int audienceId = 3;
+
+        Lesson lesson = new Lesson();
+        lesson.setId(1);
+        lesson.setName("Lesson-1");
+        lesson.setAudience("103");
+        lesson.setLecturer(lecturer);
+        lesson.setGroup(group);
+        lesson.setDay(DayOfWeek.FRIDAY);
+        lesson.setLessonTime(lessonTime);
+
+        YearMonth month = YearMonth.of(2021, 9);
+        Map<LocalDate, List<LessonView>> audienceMonthLessons = new HashMap<>();
+        for (int i = 1; i <= month.lengthOfMonth(); i++) {
+            if (month.atDay(i).getDayOfWeek().equals(lesson.getDay())) {
+                audienceMonthLessons.put(month.atDay(i), Arrays.asList(createLessonView(lesson)));
+            }
+        }
+
+        when(lessonService.getAudienceMonthLessons(audienceId, month)).thenReturn(audienceMonthLessons);
+
+        String expectedResult = objectMapper.writeValueAsString(audienceMonthLessons);
+
+        mockMvc.perform(get("/month-lessons/find-for-audience")
+                .param("audience-id", Integer.toString(audienceId))
+                .param("month-value", month.toString())
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(expectedResult));
+
+        verify(lessonService).getAudienceMonthLessons(audienceId, month);
+    }
+
+    @Test
+    void shouldReturnError400WhenIllegalArgumentExceptionWhileGetAudienceWeekLessons() throws Exception {
+        int audienceId = 0;
+        when(lessonService.getAudienceWeekLessons(audienceId))
+                .thenThrow(new ServiceException("Service exception", new IllegalArgumentException()));
+
+        mockMvc.perform(get("/week-lessons/find-for-audience")
+                .param("audience-id", Integer.toString(audienceId))
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+
+        verify(lessonService).getAudienceWeekLessons(audienceId);
+    }
     
     @Test
     void shouldReturnError500WhenRepositoryExceptionWhileCreateLessonTime() throws Exception {
@@ -949,6 +1082,41 @@ class ScheduleRestControllerTest {
         verify(lessonTimeService).getById(lessonTime.getId());
     }
     
+    @Test
+    void shouldReturnError409WithConflictsWhenLessonConflictExceptionWhileCreateLesson() throws Exception {
+        Lesson lesson = new Lesson();
+        lesson.setName("Test lesson");
+        lesson.setAudience("104");
+        lesson.setDay(DayOfWeek.THURSDAY);
+        lesson.setGroup(group);
+        lesson.setLecturer(lecturer);
+        lesson.setLessonTime(lessonTime);
+
+        when(groupService.getById(group.getId())).thenReturn(group);
+        when(lecturerService.getById(lecturer.getId())).thenReturn(lecturer);
+        when(lessonTimeService.getById(lessonTime.getId())).thenReturn(lessonTime);
+
+        LessonConflict conflict = new LessonConflict(ConflictResource.AUDIENCE, 5, "Busy lesson", DayOfWeek.THURSDAY,
+                lessonTime.getStartTime(), lessonTime.getEndTime());
+        doThrow(new ServiceException("Service exception",
+                new LessonConflictException("Conflict", Arrays.asList(conflict)))).when(lessonService).create(lesson);
+
+        String testJson = objectMapper.writeValueAsString(lesson);
+
+        mockMvc.perform(post("/lessons")
+                .content(testJson)
+                .param("lesson-time-id", Integer.toString(lessonTime.getId()))
+                .param("group-id", Integer.toString(group.getId()))
+                .param("lecturer-id", Integer.toString(lecturer.getId()))
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("Conflict"))
+            .andExpect(jsonPath("$.conflicts[0].resource").value("AUDIENCE"))
+            .andExpect(jsonPath("$.conflicts[0].lessonId").value(5));
+
+        verify(lessonService).create(lesson);
+    }
+
     @Test
     void shouldReturnError500WhenRepositoryExceptionWhileUpdateLesson() throws Exception {
         int lessonId = 3;
@@ -1109,4 +1277,11 @@ class ScheduleRestControllerTest {
         
         verify(lessonService).deleteById(testId);
     }
+
+    private LessonView createLessonView(Lesson lesson) {
+        return new LessonView(lesson.getId(), lesson.getName(), lesson.getDay(), lesson.getLessonTime().getId(),
+                lesson.getLessonTime().getStartTime(), lesson.getLessonTime().getEndTime(), lesson.getAudience(),
+                lesson.getLecturer().getId(), lesson.getLecturer().getFirstName(), lesson.getLecturer().getLastName(),
+                lesson.getGroup().getId(), lesson.getGroup().getName());
+    }
 }
@@ -8,6 +8,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.ArrayList;
@@ -22,6 +23,8 @@ import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
@@ -114,6 +117,82 @@ class StudentsRestControllerTest {
         verify(studentService).getAll();
     }
 
+    @Test
+    void shouldGetPageOfStudents() throws Exception {
+        Student student = new Student();
+        student.setId(3);
+        student.setFirstName("Ivan");
+        student.setLastName("Ivanov");
+        student.setGender(Gender.MALE);
+        student.setGroup(group);
+
+        when(studentService.getPage(1, 2)).thenReturn(new PageImpl<>(new ArrayList<>(Arrays.asList(student)),
+                PageRequest.of(1, 2), 5));
+
+        mockMvc.perform(get("/students")
+                .param("page", "1")
+                .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].id").value(3))
+            .andExpect(jsonPath("$.page").value(1))
+            .andExpect(jsonPath("$.totalElements").value(5))
+            .andExpect(jsonPath("$.totalPages").value(3))
+            .andExpect(jsonPath("$.next").value("http://localhost/students?page=2&size=2"))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(studentService).getPage(1, 2);
+    }
+
+    @Test
+    void shouldGetStudentsAfterCursor() throws Exception {
+        Student firstStudent = new Student();
+        firstStudent.setId(11);
+        firstStudent.setGroup(group);
+
+        Student secondStudent = new Student();
+        secondStudent.setId(14);
+        secondStudent.setGroup(group);
+
+        when(studentService.getAfter(10, 2)).thenReturn(new ArrayList<>(Arrays.asList(firstStudent, secondStudent)));
+
+        mockMvc.perform(get("/students")
+                .param("after", "10")
+                .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.nextCursor").value(14))
+            .andExpect(jsonPath("$.next").value("http://localhost/students?after=14&size=2"))
+            .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(studentService).getAfter(10, 2);
+    }
+
+    @Test
+    void shouldNotGiveNextCursorWhenLastSliceOfStudents() throws Exception {
+        Student student = new Student();
+        student.setId(11);
+        student.setGroup(group);
+
+        when(studentService.getAfter(10, 50)).thenReturn(new ArrayList<>(Arrays.asList(student)));
+
+        mockMvc.perform(get("/students")
+                .param("after", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.size").value(50))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist())
+            .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    void shouldReturnError400WhenIllegalArgumentExceptionWhileGetPageOfStudents() throws Exception {
+        when(studentService.getPage(0, 1000)).thenThrow(new ServiceException("Service exception", new IllegalArgumentException()));
+        mockMvc.perform(get("/students")
+                .param("page", "0")
+                .param("size", "1000"))
+            .andExpect(status().isBadRequest());
+        verify(studentService).getPage(0, 1000);
+    }
+
     @Test
     void shouldGetStudent() throws Exception {
         int id = 2;
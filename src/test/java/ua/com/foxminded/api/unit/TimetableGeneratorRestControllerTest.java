@@ -0,0 +1,142 @@
+package ua.com.foxminded.api.unit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import ua.com.foxminded.api.TimetableGeneratorRestController;
+import ua.com.foxminded.api.aspects.GeneralRestControllerAspect;
+import ua.com.foxminded.domain.Faculty;
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.service.GroupService;
+import ua.com.foxminded.service.LecturerService;
+import ua.com.foxminded.service.LessonTimeService;
+import ua.com.foxminded.service.exceptions.ServiceException;
+import ua.com.foxminded.service.generator.CurriculumItem;
+import ua.com.foxminded.service.generator.GeneratedTimetable;
+import ua.com.foxminded.service.generator.TimetableDemand;
+import ua.com.foxminded.service.generator.TimetableGenerator;
+
+@WebMvcTest(TimetableGeneratorRestController.class)
+@Import({AopAutoConfiguration.class, GeneralRestControllerAspect.class})
+class TimetableGeneratorRestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TimetableGenerator timetableGenerator;
+
+    @MockBean
+    private GroupService groupService;
+
+    @MockBean
+    private LecturerService lecturerService;
+
+    @MockBean
+    private LessonTimeService lessonTimeService;
+
+    private Group group;
+    private Lecturer lecturer;
+    private LessonTime lessonTime;
+    private String demandJson;
+
+    @BeforeEach
+    void init() {
+        group = new Group();
+        group.setId(1);
+        group.setName("Test group");
+        group.setFaculty(new Faculty());
+
+        lecturer = new Lecturer();
+        lecturer.setId(2);
+        lecturer.setFirstName("Nataliia");
+        lecturer.setLastName("Khodorkovska");
+
+        lessonTime = new LessonTime();
+        lessonTime.setId(3);
+        lessonTime.setStartTime(LocalTime.of(9, 0));
+        lessonTime.setEndTime(LocalTime.of(10, 30));
+
+        demandJson = "{\"curriculum\": [{\"group\": {\"id\": 1}, \"lecturer\": {\"id\": 2}, \"subject\": \"Math\", "
+                + "\"lessonsPerWeek\": 1}], \"days\": [\"MONDAY\"], \"audiences\": [\"101\"]}";
+    }
+
+    @Test
+    void shouldGenerateTimetableForResolvedCurriculum() throws Exception {
+        Lesson lesson = new Lesson();
+        lesson.setName("Math");
+        lesson.setAudience("101");
+        lesson.setDay(DayOfWeek.MONDAY);
+        lesson.setGroup(group);
+        lesson.setLecturer(lecturer);
+        lesson.setLessonTime(lessonTime);
+        GeneratedTimetable timetable = new GeneratedTimetable(new ArrayList<>(Arrays.asList(lesson)),
+                new ArrayList<>(), 0, 100, 5);
+
+        TimetableDemand expectedDemand = new TimetableDemand(
+                new ArrayList<>(Arrays.asList(new CurriculumItem(group, lecturer, "Math", 1))),
+                new ArrayList<>(Arrays.asList(lessonTime)), new ArrayList<>(Arrays.asList(DayOfWeek.MONDAY)),
+                new ArrayList<>(Arrays.asList("101")));
+
+        when(groupService.getAllById(new HashSet<>(Arrays.asList(1)))).thenReturn(new ArrayList<>(Arrays.asList(group)));
+        when(lecturerService.getAllById(new HashSet<>(Arrays.asList(2))))
+                .thenReturn(new ArrayList<>(Arrays.asList(lecturer)));
+        when(lessonTimeService.getAll()).thenReturn(new ArrayList<>(Arrays.asList(lessonTime)));
+        when(timetableGenerator.generate(any(TimetableDemand.class), eq(Duration.ofSeconds(2)))).thenReturn(timetable);
+
+        mockMvc.perform(post("/timetable/generation")
+                .content(demandJson)
+                .param("time-budget-seconds", "2")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.lessons[0].name").value("Math"))
+            .andExpect(jsonPath("$.lessons[0].group.id").value(1))
+            .andExpect(jsonPath("$.gaps").value(0));
+
+        verify(timetableGenerator).generate(
+                argThat(demand -> demand.getCurriculum().equals(expectedDemand.getCurriculum())
+                        && demand.getLessonTimes().equals(expectedDemand.getLessonTimes())),
+                eq(Duration.ofSeconds(2)));
+    }
+
+    @Test
+    void shouldReturnError400WhenIllegalArgumentExceptionWhileGenerateTimetable() throws Exception {
+        when(groupService.getAllById(any())).thenReturn(new ArrayList<>());
+        when(lecturerService.getAllById(any())).thenReturn(new ArrayList<>(Arrays.asList(lecturer)));
+        when(lessonTimeService.getAll()).thenReturn(new ArrayList<>(Arrays.asList(lessonTime)));
+        when(timetableGenerator.generate(any(TimetableDemand.class), any(Duration.class)))
+                .thenThrow(new ServiceException("A given demand isn't legal when generate a timetable.",
+                        new IllegalArgumentException()));
+
+        mockMvc.perform(post("/timetable/generation")
+                .content(demandJson)
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,54 @@
+package ua.com.foxminded.api.unit;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import ua.com.foxminded.api.TracesRestController;
+import ua.com.foxminded.api.aspects.GeneralRestControllerAspect;
+import ua.com.foxminded.tracing.Span;
+import ua.com.foxminded.tracing.SpanRecorder;
+
+@WebMvcTest(TracesRestController.class)
+@Import({AopAutoConfiguration.class, GeneralRestControllerAspect.class})
+class TracesRestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SpanRecorder spanRecorder;
+
+    @Test
+    void shouldGetLastSpans() throws Exception {
+        Span span = new Span(7, "GroupRepository.findById", 1634000000000L, 52000, "http-nio-8080-exec-1", null);
+        when(spanRecorder.getLastSpans(100)).thenReturn(new ArrayList<>(Arrays.asList(span)));
+
+        mockMvc.perform(get("/admin/traces"))
+            .andExpect(status().isOk())
+            .andExpect(content().json("[{\"sequence\":7,\"operation\":\"GroupRepository.findById\","
+                    + "\"startEpochMillis\":1634000000000,\"durationNanos\":52000,"
+                    + "\"thread\":\"http-nio-8080-exec-1\",\"error\":null}]"));
+
+        verify(spanRecorder).getLastSpans(100);
+    }
+
+    @Test
+    void shouldReturnError400WhenLimitIsNotPositive() throws Exception {
+        mockMvc.perform(get("/admin/traces").param("limit", "0"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -50,6 +50,7 @@ import ua.com.foxminded.domain.Group;
 import ua.com.foxminded.domain.Lecturer;
 import ua.com.foxminded.domain.Lesson;
 import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.domain.LessonView;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
 import ua.com.foxminded.service.GroupService;
 import ua.com.foxminded.service.LecturerService;
@@ -247,9 +248,9 @@ class ScheduleControllerTest {
 
         when(lecturerService.getById(lecturerId)).thenReturn(lecturer);
 
-        Map<DayOfWeek, List<Lesson>> lecturerWeekLessons = new HashMap<>();
-        lecturerWeekLessons.put(firstLesson.getDay(), Arrays.asList(firstLesson));
-        lecturerWeekLessons.put(secondLesson.getDay(), Arrays.asList(secondLesson));
+        Map<DayOfWeek, List<LessonView>> lecturerWeekLessons = new HashMap<>();
+        lecturerWeekLessons.put(firstLesson.getDay(), Arrays.asList(createLessonView(firstLesson)));
+        lecturerWeekLessons.put(secondLesson.getDay(), Arrays.asList(createLessonView(secondLesson)));
 
         when(lessonService.getLecturerWeekLessons(lecturerId)).thenReturn(lecturerWeekLessons);
 
@@ -322,16 +323,16 @@ class ScheduleControllerTest {
 
         when(lecturerService.getById(lecturerId)).thenReturn(lecturer);
 
-        Map<LocalDate, List<Lesson>> lecturerMonthLessons = new HashMap<>();
+        Map<LocalDate, List<LessonView>> lecturerMonthLessons = new HashMap<>();
         YearMonth month = YearMonth.of(2021, 3);
 
         for (int i = 1; i <= 31; i++) {
             if (month.atDay(i).getDayOfWeek().equals(firstLesson.getDay())) {
                 lecturerMonthLessons.put(LocalDate.of(month.getYear(), month.getMonthValue(), i),
-                        Arrays.asList(firstLesson));
+                        Arrays.asList(createLessonView(firstLesson)));
             } else if (month.atDay(i).getDayOfWeek().equals(secondLesson.getDay())) {
                 lecturerMonthLessons.put(LocalDate.of(month.getYear(), month.getMonthValue(), i),
-                        Arrays.asList(secondLesson));
+                        Arrays.asList(createLessonView(secondLesson)));
             }
         }
 
@@ -413,9 +414,9 @@ class ScheduleControllerTest {
 
         when(groupService.getById(groupId)).thenReturn(group);
 
-        Map<DayOfWeek, List<Lesson>> groupWeekLessons = new HashMap<>();
-        groupWeekLessons.put(firstLesson.getDay(), Arrays.asList(firstLesson));
-        groupWeekLessons.put(secondLesson.getDay(), Arrays.asList(secondLesson));
+        Map<DayOfWeek, List<LessonView>> groupWeekLessons = new HashMap<>();
+        groupWeekLessons.put(firstLesson.getDay(), Arrays.asList(createLessonView(firstLesson)));
+        groupWeekLessons.put(secondLesson.getDay(), Arrays.asList(createLessonView(secondLesson)));
 
         when(lessonService.getGroupWeekLessons(groupId)).thenReturn(groupWeekLessons);
 
@@ -490,16 +491,16 @@ class ScheduleControllerTest {
 
         when(groupService.getById(groupId)).thenReturn(group);
 
-        Map<LocalDate, List<Lesson>> groupMonthLessons = new HashMap<>();
+        Map<LocalDate, List<LessonView>> groupMonthLessons = new HashMap<>();
         YearMonth month = YearMonth.of(2021, 2);
 
         for (int i = 1; i <= 28; i++) {
             if (month.atDay(i).getDayOfWeek().equals(firstLesson.getDay())) {
                 groupMonthLessons.put(LocalDate.of(month.getYear(), month.getMonthValue(), i),
-                        Arrays.asList(firstLesson));
+                        Arrays.asList(createLessonView(firstLesson)));
             } else if (month.atDay(i).getDayOfWeek().equals(secondLesson.getDay())) {
                 groupMonthLessons.put(LocalDate.of(month.getYear(), month.getMonthValue(), i),
-                        Arrays.asList(secondLesson));
+                        Arrays.asList(createLessonView(secondLesson)));
             }
         }
 
@@ -1301,4 +1302,11 @@ class ScheduleControllerTest {
         
         verify(lessonService).deleteById(testId);
     }
+
+    private LessonView createLessonView(Lesson lesson) {
+        return new LessonView(lesson.getId(), lesson.getName(), lesson.getDay(), lesson.getLessonTime().getId(),
+                lesson.getLessonTime().getStartTime(), lesson.getLessonTime().getEndTime(), lesson.getAudience(),
+                lesson.getLecturer().getId(), lesson.getLecturer().getFirstName(), lesson.getLecturer().getLastName(),
+                lesson.getGroup().getId(), lesson.getGroup().getName());
+    }
 }
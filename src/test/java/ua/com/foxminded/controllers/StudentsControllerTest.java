@@ -1,6 +1,7 @@
 package ua.com.foxminded.controllers;
 
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasProperty;
@@ -13,6 +14,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
@@ -29,6 +31,8 @@ import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -119,6 +123,34 @@ class StudentsControllerTest {
         verify(studentService).getAll();
     }
 
+    @Test
+    void shouldAddToModelPageWhenGetStudentsPage() throws Exception {
+        Student student = new Student();
+        student.setId(51);
+        student.setFirstName("Ivan");
+        student.setLastName("Ivanov");
+        student.setGender(Gender.MALE);
+        student.setGroup(group);
+
+        when(studentService.getPage(1, 50)).thenReturn(new PageImpl<>(Arrays.asList(student), PageRequest.of(1, 50), 120));
+
+        mockMvc.perform(get("/students").param("page", "1")).andExpect(status().isOk())
+        .andExpect(view().name("students/students"))
+        .andExpect(model().attribute("pageTitle", equalTo("Students")))
+        .andExpect(model().attribute("students", hasItem(hasProperty("id", is(51)))))
+        .andExpect(model().attribute("studentsPage", hasProperty("totalPages", is(3))))
+        .andExpect(content().string(containsString("/students?page=2&amp;size=50")));
+
+        verify(studentService).getPage(1, 50);
+    }
+
+    @Test
+    void shouldReturnError400WhenIllegalArgumentExceptionWhileGetStudentsPage() throws Exception {
+        when(studentService.getPage(-1, 50)).thenThrow(new ServiceException("Service exception", new IllegalArgumentException()));
+        mockMvc.perform(get("/students").param("page", "-1")).andExpect(status().isBadRequest());
+        verify(studentService).getPage(-1, 50);
+    }
+
     @Test
     void shouldAddToModelFoundedEntityWhenGetStudent() throws Exception {
         int id = 2;
@@ -0,0 +1,66 @@
+package ua.com.foxminded.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import ua.com.foxminded.domain.Faculty;
+
+class LogSummaryTest {
+
+    @Test
+    void shouldDescribeListBySizeAndIds() {
+        List<Faculty> faculties = Arrays.asList(createFaculty(1), createFaculty(2), createFaculty(3));
+
+        assertEquals("3 objects with ids [1, 2, 3]", LogSummary.of(faculties).toString());
+    }
+
+    @Test
+    void shouldCountObjectsOfAllMapValuesAndKeepDistinctIds() {
+        Map<DayOfWeek, List<Faculty>> weekFaculties = new EnumMap<>(DayOfWeek.class);
+        weekFaculties.put(DayOfWeek.MONDAY, Arrays.asList(createFaculty(1), createFaculty(2)));
+        weekFaculties.put(DayOfWeek.TUESDAY, Arrays.asList(createFaculty(2)));
+
+        assertEquals("2 entries of 3 objects with ids [1, 2]", LogSummary.of(weekFaculties).toString());
+    }
+
+    @Test
+    void shouldLimitNumberOfIds() {
+        List<Faculty> faculties = new ArrayList<>();
+        for (int i = 1; i <= LogSummary.MAX_IDS + 5; i++) {
+            faculties.add(createFaculty(i));
+        }
+
+        String summary = LogSummary.of(faculties).toString();
+
+        assertEquals((LogSummary.MAX_IDS + 5) + " objects with ids [1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, "
+                + "15, 16, 17, 18, 19, 20, ...]", summary);
+    }
+
+    @Test
+    void shouldDescribeObjectsWithoutIdsBySize() {
+        assertEquals("2 objects", LogSummary.of(Arrays.asList("first", "second")).toString());
+    }
+
+    @Test
+    void shouldDescribeOtherResultsAsThemselves() {
+        Faculty faculty = createFaculty(1);
+
+        assertEquals(faculty.toString(), LogSummary.of(faculty).toString());
+        assertEquals("null", LogSummary.of(null).toString());
+    }
+
+    private Faculty createFaculty(int id) {
+        Faculty faculty = new Faculty();
+        faculty.setId(id);
+        faculty.setName("Faculty-" + id);
+        return faculty;
+    }
+}
@@ -0,0 +1,140 @@
+package ua.com.foxminded.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ua.com.foxminded.settings.TestAppender;
+
+class WarningRateLimiterTest {
+    private static final String EMPTY_RESULT = "There are not any objects for an id {}.";
+    private static final String OTHER_EMPTY_RESULT = "There are not any other objects for an id {}.";
+
+    private Logger siteLogger = (Logger) LoggerFactory.getLogger("ua.com.foxminded.logging.site");
+    private Logger otherSiteLogger = (Logger) LoggerFactory.getLogger("ua.com.foxminded.logging.otherSite");
+    private TestAppender testAppender = new TestAppender();
+    private AtomicLong nanos;
+    private WarningRateLimiter warningRateLimiter;
+
+    @BeforeEach
+    void init() {
+        nanos = new AtomicLong();
+        warningRateLimiter = new WarningRateLimiter(2, 3, nanos::get);
+
+        siteLogger.setLevel(Level.WARN);
+        siteLogger.addAppender(testAppender);
+        otherSiteLogger.setLevel(Level.WARN);
+        otherSiteLogger.addAppender(testAppender);
+        testAppender.cleanEventList();
+        testAppender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        siteLogger.detachAppender(testAppender);
+        otherSiteLogger.detachAppender(testAppender);
+        testAppender.cleanEventList();
+    }
+
+    @Test
+    void shouldWriteBurstOfWarningsAndSuppressRest() {
+        for (int i = 0; i < 5; i++) {
+            warningRateLimiter.warn(siteLogger, EMPTY_RESULT, i);
+        }
+
+        assertEquals(3, testAppender.getEvents().size());
+        assertEquals("There are not any objects for an id 2.", testAppender.getEvents().get(2).getFormattedMessage());
+    }
+
+    @Test
+    void shouldRefillTokensWithGivenRate() {
+        for (int i = 0; i < 3; i++) {
+            warningRateLimiter.warn(siteLogger, EMPTY_RESULT, i);
+        }
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        warningRateLimiter.warn(siteLogger, EMPTY_RESULT, 3);
+        warningRateLimiter.warn(siteLogger, EMPTY_RESULT, 4);
+
+        assertEquals(4, testAppender.getEvents().size());
+    }
+
+    @Test
+    void shouldLimitEveryCallSiteSeparately() {
+        for (int i = 0; i < 5; i++) {
+            warningRateLimiter.warn(siteLogger, EMPTY_RESULT, i);
+            warningRateLimiter.warn(siteLogger, OTHER_EMPTY_RESULT, i);
+        }
+
+        assertEquals(6, testAppender.getEvents().size());
+    }
+
+    @Test
+    void shouldFlushNumberOfSuppressedWarnings() {
+        for (int i = 0; i < 5; i++) {
+            warningRateLimiter.warn(siteLogger, EMPTY_RESULT, i);
+        }
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        testAppender.cleanEventList();
+
+        warningRateLimiter.flush();
+        warningRateLimiter.flush();
+
+        assertEquals(1, testAppender.getEvents().size());
+        ILoggingEvent event = testAppender.getEvents().get(0);
+        assertEquals(Level.WARN, event.getLevel());
+        assertEquals(siteLogger.getName(), event.getLoggerName());
+        assertEquals("2 warnings were suppressed in the last 60 seconds: \"" + EMPTY_RESULT + "\".",
+                event.getFormattedMessage());
+    }
+
+    @Test
+    void shouldLimitAndFlushSamePatternOfEveryLoggerSeparately() {
+        for (int i = 0; i < 4; i++) {
+            warningRateLimiter.warn(siteLogger, EMPTY_RESULT, i);
+            warningRateLimiter.warn(otherSiteLogger, EMPTY_RESULT, i);
+        }
+        warningRateLimiter.warn(otherSiteLogger, EMPTY_RESULT, 4);
+        assertEquals(6, testAppender.getEvents().size());
+        testAppender.cleanEventList();
+
+        warningRateLimiter.flush();
+
+        Map<String, String> messages = testAppender.getEvents().stream()
+                .collect(Collectors.toMap(ILoggingEvent::getLoggerName, ILoggingEvent::getFormattedMessage));
+        assertEquals(2, messages.size());
+        assertEquals("1 warnings were suppressed in the last 0 seconds: \"" + EMPTY_RESULT + "\".",
+                messages.get(siteLogger.getName()));
+        assertEquals("2 warnings were suppressed in the last 0 seconds: \"" + EMPTY_RESULT + "\".",
+                messages.get(otherSiteLogger.getName()));
+    }
+
+    @Test
+    void shouldNotCountWarningsWhenLevelIsDisabled() {
+        siteLogger.setLevel(Level.ERROR);
+
+        for (int i = 0; i < 5; i++) {
+            warningRateLimiter.warn(siteLogger, EMPTY_RESULT, i);
+        }
+        warningRateLimiter.flush();
+
+        assertEquals(0, testAppender.getEvents().size());
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenRateIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new WarningRateLimiter(0, 3, nanos::get));
+    }
+}
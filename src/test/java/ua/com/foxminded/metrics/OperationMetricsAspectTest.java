@@ -0,0 +1,98 @@
+package ua.com.foxminded.metrics;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import ua.com.foxminded.service.GroupService;
+import ua.com.foxminded.service.exceptions.ServiceException;
+
+@SpringBootTest
+@AutoConfigureMetrics
+@TestPropertySource("/application-test.properties")
+@DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD)
+class OperationMetricsAspectTest {
+    private final String testData = "/Test data.sql";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private GroupService groupService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldRecordLatencyOfEveryLayerWhenGetGroups() throws Exception {
+        mockMvc.perform(get("/groups")).andExpect(status().isOk());
+
+        assertEquals(1, findSuccessTimerCount("api", "GroupsRestController", "getGroups"));
+        assertEquals(1, findSuccessTimerCount("service", "GroupService", "getAll"));
+        assertEquals(1, findSuccessTimerCount("repository", "GroupRepository", "findAll"));
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldRecordResultSizeWhenGetAll() {
+        groupService.getAll();
+
+        assertEquals(3, meterRegistry.get(OperationMetricsAspect.RESULT_SIZE_SUMMARY)
+                .tags("layer", "service", "component", "GroupService", "operation", "getAll")
+                .summary().totalAmount());
+    }
+
+    @Test
+    void shouldCountErrorsByExceptionType() {
+        assertThrows(ServiceException.class, () -> groupService.getById(0));
+
+        assertEquals(1, meterRegistry.get(OperationMetricsAspect.ERROR_COUNTER)
+                .tags("layer", "service", "component", "GroupService", "operation", "getById", "exception",
+                        "ServiceException")
+                .counter().count());
+        assertEquals(1, meterRegistry.get(OperationMetricsAspect.OPERATION_TIMER)
+                .tags("layer", "service", "component", "GroupService", "operation", "getById", "outcome", "error")
+                .timer().count());
+    }
+
+    @Test
+    void shouldExposeMetricsInPrometheusFormat() throws Exception {
+        groupService.getAll();
+
+        mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("timetable_operation_seconds_bucket{component=\"GroupService\"")))
+            .andExpect(content().string(containsString("quantile=\"0.99\"")));
+    }
+
+    private long findSuccessTimerCount(String layer, String component, String operation) {
+        return meterRegistry.get(OperationMetricsAspect.OPERATION_TIMER)
+                .tags("layer", layer, "component", component, "operation", operation, "outcome", "success")
+                .timer().count();
+    }
+}
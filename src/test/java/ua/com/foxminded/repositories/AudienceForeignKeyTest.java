@@ -0,0 +1,77 @@
+package ua.com.foxminded.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import ua.com.foxminded.domain.Audience;
+import ua.com.foxminded.service.AudienceService;
+
+/**
+ * Writes audiences on the schema built by the migrations, where lessons refer
+ * to audiences by a foreign key with cascades. A schema built from the
+ * entities has no such key, so other tests can't see how it treats writes.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(AudienceService.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url = jdbc:h2:mem:audience-keys;MODE=PostgreSQL",
+        "spring.jpa.database-platform = org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled = true",
+        "spring.jpa.hibernate.ddl-auto = validate" })
+@DirtiesContext(classMode = ClassMode.BEFORE_EACH_TEST_METHOD)
+class AudienceForeignKeyTest {
+    private final String testData = "/Test data.sql";
+
+    @Autowired
+    private AudienceService audienceService;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Sql(testData)
+    void shouldMoveLessonsToNewNameWhenRenameAudience() {
+        Audience audience = new Audience();
+        audience.setId(findAudienceId("103"));
+        audience.setName("103a");
+        audience.setCapacity(120);
+
+        audienceService.update(audience);
+        testEntityManager.flush();
+
+        assertEquals(Arrays.asList("101", "102", "103a", "103a"),
+                jdbcTemplate.queryForList("SELECT audience FROM lessons ORDER BY id", String.class));
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldDeleteLessonsWithAudience() {
+        audienceService.deleteById(findAudienceId("103"));
+        testEntityManager.flush();
+
+        assertEquals(Arrays.asList("101", "102"),
+                jdbcTemplate.queryForList("SELECT audience FROM lessons ORDER BY id", String.class));
+    }
+
+    private int findAudienceId(String name) {
+        return jdbcTemplate.queryForObject("SELECT id FROM audiences WHERE name = ?", Integer.class, name);
+    }
+}
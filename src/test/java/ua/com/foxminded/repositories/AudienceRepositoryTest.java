@@ -0,0 +1,58 @@
+package ua.com.foxminded.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import ua.com.foxminded.domain.Audience;
+import ua.com.foxminded.repositories.aspects.AudienceRepositoryAspect;
+import ua.com.foxminded.repositories.exceptions.RepositoryException;
+import ua.com.foxminded.repositories.interfaces.AudienceRepository;
+
+@DataJpaTest(showSql = true)
+@Import({AopAutoConfiguration.class, AudienceRepositoryAspect.class})
+@TestPropertySource("/application-test.properties")
+@DirtiesContext(classMode = ClassMode.BEFORE_EACH_TEST_METHOD)
+class AudienceRepositoryTest {
+    private final String testData = "/Test data.sql";
+
+    @Autowired
+    private AudienceRepository audienceRepository;
+
+    @Test
+    @Sql(testData)
+    void shouldInsertOnlyAbsentAudiences() {
+        audienceRepository.insertAllIfAbsent(new ArrayList<>(Arrays.asList("101", "104", "105")));
+        audienceRepository.insertAllIfAbsent(new ArrayList<>(Arrays.asList("104")));
+
+        List<Audience> audiences = audienceRepository.findAll();
+
+        assertEquals(Arrays.asList("101", "102", "103", "104", "105"),
+                audiences.stream().map(Audience::getName).sorted().collect(Collectors.toList()));
+        assertEquals(Integer.valueOf(30), audienceRepository.findByNameIn(Arrays.asList("101")).get(0).getCapacity());
+    }
+
+    @Test
+    void shouldThrowRepositoryExceptionWhenDataAccessExceptionWhileInsertAllIfAbsent() {
+        List<String> names = new ArrayList<>(Arrays.asList((String) null));
+
+        RuntimeException exception = assertThrows(RepositoryException.class,
+                () -> audienceRepository.insertAllIfAbsent(names));
+
+        assertEquals("Can't add audiences.", exception.getMessage());
+    }
+}
@@ -0,0 +1,99 @@
+package ua.com.foxminded.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.TestPropertySource;
+
+import ua.com.foxminded.domain.Gender;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.Student;
+
+/**
+ * Builds the schema as schema.sql did, with enum columns for genders and week
+ * days, and lets Flyway baseline and migrate it as it does in the application.
+ * The context only starts when Hibernate accepts the migrated columns.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url = jdbc:h2:mem:enum-schema;MODE=PostgreSQL",
+        "spring.jpa.database-platform = org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled = true",
+        "spring.flyway.baseline-on-migrate = true",
+        "spring.flyway.baseline-version = 1",
+        "spring.jpa.hibernate.ddl-auto = validate" })
+class EnumSchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldBaselineOldSchemaAndApplyLaterMigrations() {
+        assertEquals("5", flyway.info().current().getVersion().getVersion());
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    void shouldConvertEnumColumnsToStrings() {
+        assertEquals(Arrays.asList("VARCHAR", "VARCHAR"), jdbcTemplate.queryForList(
+                "SELECT type_name FROM information_schema.columns WHERE (table_name, column_name) "
+                        + "IN (('PEOPLE', 'GENDER'), ('LESSONS', 'WEEK_DAY')) ORDER BY table_name",
+                String.class));
+    }
+
+    @Test
+    void shouldKeepValuesOfEnumColumns() {
+        Student student = testEntityManager.getEntityManager()
+                .createQuery("SELECT student FROM Student student", Student.class).getSingleResult();
+        Lesson lesson = testEntityManager.getEntityManager()
+                .createQuery("SELECT lesson FROM Lesson lesson", Lesson.class).getSingleResult();
+
+        assertEquals(Gender.FEMALE, student.getGender());
+        assertEquals(DayOfWeek.MONDAY, lesson.getDay());
+    }
+
+    @Test
+    void shouldCheckValuesOfConvertedColumns() {
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "UPDATE people SET gender = 'UNKNOWN' WHERE role = 'Lecturer'"));
+        assertThrows(DataIntegrityViolationException.class, () -> jdbcTemplate.update(
+                "UPDATE lessons SET week_day = 'FUNDAY'"));
+    }
+
+    @TestConfiguration
+    static class OldSchema {
+
+        @Bean
+        FlywayMigrationStrategy migrateOldSchema() {
+            return flyway -> {
+                new ResourceDatabasePopulator(new ClassPathResource("Enum schema.sql"))
+                    .execute(flyway.getConfiguration().getDataSource());
+                flyway.migrate();
+            };
+        }
+    }
+}
@@ -2,12 +2,18 @@ package ua.com.foxminded.repositories;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.PersistenceException;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +22,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.annotation.DirtiesContext;
@@ -32,12 +39,17 @@ import ch.qos.logback.classic.spi.LoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import ua.com.foxminded.domain.Faculty;
 import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.logging.WarningRateLimiter;
 import ua.com.foxminded.repositories.aspects.GeneralRepositoryAspect;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
 import ua.com.foxminded.repositories.interfaces.GroupRepository;
+import ua.com.foxminded.tracing.Span;
+import ua.com.foxminded.tracing.SpanRecorder;
+import ua.com.foxminded.tracing.TraceHook;
 
 @DataJpaTest(showSql = true)
-@Import({AopAutoConfiguration.class, GeneralRepositoryAspect.class})
+@Import({AopAutoConfiguration.class, GeneralRepositoryAspect.class, WarningRateLimiter.class, SpanRecorder.class})
 @TestPropertySource("/application-test.properties")
 @DirtiesContext(classMode = ClassMode.BEFORE_EACH_TEST_METHOD)
 class GroupRepositoryTest {
@@ -50,6 +62,12 @@ class GroupRepositoryTest {
     
     @Autowired
     private TestEntityManager testEntityManager;
+
+    @Autowired
+    private SpanRecorder spanRecorder;
+
+    @MockBean(name = "traceHook")
+    private TraceHook traceHook;
     
     @Autowired
     @SpyBean
@@ -151,6 +169,37 @@ class GroupRepositoryTest {
         assertThat(afterDeletingGroup).isNull();
     }
 
+    @Test
+    @Sql(testData)
+    void shouldTakeStudentPlacesUntilGroupIsFull() {
+        int groupId = 3;
+        for (int i = 0; i < Group.MAX_STUDENTS; i++) {
+            assertEquals(1, groupRepository.takeStudentPlace(groupId));
+        }
+
+        assertEquals(0, groupRepository.takeStudentPlace(groupId));
+        testEntityManager.clear();
+        assertEquals(Group.MAX_STUDENTS, testEntityManager.find(Group.class, groupId).getStudentCount());
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldReleaseStudentPlacesUntilGroupIsEmpty() {
+        int groupId = 2;
+        assertEquals(1, groupRepository.releaseStudentPlace(groupId));
+        assertEquals(0, groupRepository.releaseStudentPlace(groupId));
+
+        testEntityManager.clear();
+        assertEquals(0, testEntityManager.find(Group.class, groupId).getStudentCount());
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldRejectStudentCountWhichIsOverCapacity() {
+        assertThrows(PersistenceException.class, () -> testEntityManager.getEntityManager()
+                .createNativeQuery("UPDATE groups SET student_count = 33 WHERE id = 1").executeUpdate());
+    }
+
     @Test
     void shouldThrowRepositoryExceptionWhenDataAccessExceptionWhileSave() {
         Group group = null;
@@ -179,6 +228,36 @@ class GroupRepositoryTest {
         assertEquals(message, exception.getMessage());
     }
 
+    @Test
+    @Sql(testData)
+    void shouldRecordSpanWhenFindById() {
+        groupRepository.findById(2);
+
+        List<Span> spans = spanRecorder.getLastSpans(1);
+        assertEquals(1, spans.size());
+        assertEquals("GroupRepository.findById", spans.get(0).getOperation());
+        assertNull(spans.get(0).getError());
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldRecordSpanAlongWithOtherTraceHookWhenFindById() {
+        groupRepository.findById(2);
+
+        verify(traceHook).record(eq("GroupRepository.findById"), anyLong(), isNull());
+        assertEquals(1, spanRecorder.getLastSpans(1).size());
+    }
+
+    @Test
+    void shouldRecordSpanWithErrorWhenDataAccessExceptionWhileFindById() {
+        assertThrows(RepositoryException.class, () -> groupRepository.findById(null));
+
+        List<Span> spans = spanRecorder.getLastSpans(1);
+        assertEquals(1, spans.size());
+        assertEquals("GroupRepository.findById", spans.get(0).getOperation());
+        assertNotNull(spans.get(0).getError());
+    }
+
     @Test
     void shouldThrowRepositoryExceptionWhenDataAccessExceptionWhileDeleteById() {
         Integer testId = null;
@@ -281,7 +360,7 @@ class GroupRepositoryTest {
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(
-                Arrays.asList("Try to find all objects.", "The result is: " + expectedGroups + "."));
+                Arrays.asList("Try to find all objects.", "The result is: " + LogSummary.of(expectedGroups) + "."));
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
             expectedLogs.get(i).setMessage(expectedMessages.get(i));
@@ -302,11 +381,10 @@ class GroupRepositoryTest {
     @Sql(testData)
     void shouldGenerateLogsWhenFindById() {
         int testId = 2;
-        Optional<Group> expectedGroup = expectedGroups.stream().filter(group -> group.getId() == testId).findFirst();
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(Arrays.asList("Try to find an object by id: " + testId + ".",
-                "The result object with id " + testId + " is " + expectedGroup + "."));
+                "The result object with id " + testId + " is found."));
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
             expectedLogs.get(i).setMessage(expectedMessages.get(i));
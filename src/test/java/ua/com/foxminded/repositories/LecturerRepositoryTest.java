@@ -32,12 +32,15 @@ import ch.qos.logback.classic.spi.LoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import ua.com.foxminded.domain.Gender;
 import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.logging.WarningRateLimiter;
 import ua.com.foxminded.repositories.aspects.GeneralRepositoryAspect;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
 import ua.com.foxminded.repositories.interfaces.LecturerRepository;
+import ua.com.foxminded.tracing.SpanRecorder;
 
 @DataJpaTest(showSql = true)
-@Import({AopAutoConfiguration.class, GeneralRepositoryAspect.class})
+@Import({AopAutoConfiguration.class, GeneralRepositoryAspect.class, WarningRateLimiter.class, SpanRecorder.class})
 @TestPropertySource("/application-test.properties")
 @DirtiesContext(classMode = ClassMode.BEFORE_EACH_TEST_METHOD)
 class LecturerRepositoryTest {
@@ -280,7 +283,7 @@ private final String testData = "/Test data.sql";
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(
-                Arrays.asList("Try to find all objects.", "The result is: " + expectedLecturers + "."));
+                Arrays.asList("Try to find all objects.", "The result is: " + LogSummary.of(expectedLecturers) + "."));
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
             expectedLogs.get(i).setMessage(expectedMessages.get(i));
@@ -300,12 +303,10 @@ private final String testData = "/Test data.sql";
     @Sql(testData)
     void shouldGenerateLogsWhenFindById() {
         int testId = 4;
-        Optional<Lecturer> expectedLecturer = expectedLecturers.stream().filter(lecturer -> lecturer.getId() == testId)
-                .findFirst();
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(Arrays.asList("Try to find an object by id: " + testId + ".",
-                "The result object with id " + testId + " is " + expectedLecturer + "."));
+                "The result object with id " + testId + " is found."));
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
             expectedLogs.get(i).setMessage(expectedMessages.get(i));
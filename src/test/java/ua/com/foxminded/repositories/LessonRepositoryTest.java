@@ -11,6 +11,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,13 +42,18 @@ import ua.com.foxminded.domain.Group;
 import ua.com.foxminded.domain.Lecturer;
 import ua.com.foxminded.domain.Lesson;
 import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.domain.LessonView;
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.logging.WarningRateLimiter;
 import ua.com.foxminded.repositories.aspects.GeneralRepositoryAspect;
 import ua.com.foxminded.repositories.aspects.LessonRepositoryAspect;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
 import ua.com.foxminded.repositories.interfaces.LessonRepository;
+import ua.com.foxminded.tracing.SpanRecorder;
 
 @DataJpaTest(showSql = true)
-@Import({AopAutoConfiguration.class, GeneralRepositoryAspect.class, LessonRepositoryAspect.class})
+@Import({AopAutoConfiguration.class, GeneralRepositoryAspect.class, LessonRepositoryAspect.class,
+        WarningRateLimiter.class, SpanRecorder.class})
 @TestPropertySource("/application-test.properties")
 @DirtiesContext(classMode = ClassMode.BEFORE_EACH_TEST_METHOD)
 class LessonRepositoryTest {
@@ -266,6 +274,78 @@ private final String testData = "/Test data.sql";
         assertTrue(expectedLessons.containsAll(actualLessons) && actualLessons.containsAll(expectedLessons));
     }
 
+    @Test
+    @Sql(testData)
+    void shouldFindWeekLessonsForGroup() {
+        int groupId = 1;
+        expectedLessons = new ArrayList<>(Arrays.asList(expectedLessons.get(0), expectedLessons.get(2)));
+
+        List<LessonView> actualLessons = lessonRepository.findWeekLessonsForGroup(groupId);
+
+        assertEquals(createLessonViews(expectedLessons), actualLessons);
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldFindWeekLessonsForLecturer() {
+        int lecturerId = 6;
+        expectedLessons = new ArrayList<>(Arrays.asList(expectedLessons.get(3), expectedLessons.get(2)));
+
+        List<LessonView> actualLessons = lessonRepository.findWeekLessonsForLecturer(lecturerId);
+
+        assertEquals(createLessonViews(expectedLessons), actualLessons);
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldFindWeekLessonsForAudience() {
+        int audienceId = 3;
+        expectedLessons = new ArrayList<>(Arrays.asList(expectedLessons.get(3), expectedLessons.get(2)));
+
+        List<LessonView> actualLessons = lessonRepository.findWeekLessonsForAudience(audienceId);
+
+        assertEquals(createLessonViews(expectedLessons), actualLessons);
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldExecuteOneStatementWhenFindWeekLessonsForGroupRegardlessOfLessonsCount() {
+        int groupId = 1;
+        Statistics statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        testEntityManager.clear();
+        statistics.clear();
+        List<LessonView> fewLessons = lessonRepository.findWeekLessonsForGroup(groupId);
+        long fewLessonsStatements = statistics.getPrepareStatementCount();
+
+        Group group = testEntityManager.find(Group.class, groupId);
+        Lecturer lecturer = testEntityManager.find(Lecturer.class, 5);
+        LessonTime lessonTime = testEntityManager.find(LessonTime.class, 2);
+        for (int i = 0; i < 30; i++) {
+            Lesson lesson = new Lesson();
+            lesson.setName("Lesson-" + i);
+            lesson.setAudience("2" + i);
+            lesson.setDay(DayOfWeek.of(i % 5 + 1));
+            lesson.setGroup(group);
+            lesson.setLecturer(lecturer);
+            lesson.setLessonTime(lessonTime);
+            testEntityManager.persist(lesson);
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics.clear();
+        List<LessonView> manyLessons = lessonRepository.findWeekLessonsForGroup(groupId);
+        long manyLessonsStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(2, fewLessons.size());
+        assertEquals(32, manyLessons.size());
+        assertEquals(1, fewLessonsStatements);
+        assertEquals(fewLessonsStatements, manyLessonsStatements);
+    }
+
     @Test
     @Sql(testData)
     void shouldGenerateLogsWhenSave() {
@@ -409,7 +489,7 @@ private final String testData = "/Test data.sql";
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(
-                Arrays.asList("Try to find all objects.", "The result is: " + expectedLessons + "."));
+                Arrays.asList("Try to find all objects.", "The result is: " + LogSummary.of(expectedLessons) + "."));
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
             expectedLogs.get(i).setMessage(expectedMessages.get(i));
@@ -430,11 +510,10 @@ private final String testData = "/Test data.sql";
     @Sql(testData)
     void shouldGenerateLogsWhenFindById() {
         int testId = 2;
-        Optional<Lesson> expectedLesson = expectedLessons.stream().filter(lesson -> lesson.getId() == testId).findFirst();
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(Arrays.asList("Try to find an object by id: " + testId + ".",
-                "The result object with id " + testId + " is " + expectedLesson + "."));
+                "The result object with id " + testId + " is found."));
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
             expectedLogs.get(i).setMessage(expectedMessages.get(i));
@@ -602,7 +681,7 @@ private final String testData = "/Test data.sql";
         List<String> expectedMessages = new ArrayList<>(Arrays.asList(
                 "Try to get all lessons for a group with id " + groupId + " which is on a day " + weekDay + ".",
                 "For the group with id " + groupId + " on a day " + weekDay + " there are lessons: "
-                        + expectedGroupLessons + "."));
+                        + LogSummary.of(expectedGroupLessons) + "."));
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
             expectedLogs.get(i).setMessage(expectedMessages.get(i));
@@ -660,7 +739,7 @@ private final String testData = "/Test data.sql";
         List<String> expectedMessages = new ArrayList<>(Arrays.asList(
                 "Try to get all lessons for a lecturer with id " + lecturerId + " on a day " + weekDay + ".",
                 "For the lecturer with id " + lecturerId + " on a day " + weekDay + " there are lessons: "
-                        + expectedLecturerLessons + "."));
+                        + LogSummary.of(expectedLecturerLessons) + "."));
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
             expectedLogs.get(i).setMessage(expectedMessages.get(i));
@@ -676,4 +755,126 @@ private final String testData = "/Test data.sql";
             assertEquals(expectedLogs.get(i).getFormattedMessage(), actualLogs.get(i).getFormattedMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldGenerateLogsWhenFindWeekLessonsForGroupIsEmpty() {
+        int groupId = 2;
+
+        List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
+        List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.WARN));
+        List<String> expectedMessages = new ArrayList<>(Arrays.asList(
+                "Try to get all week lessons for a group with id " + groupId + ".",
+                "There are not any week lessons for the group with id " + groupId + "."));
+        for (int i = 0; i < expectedLogs.size(); i++) {
+            expectedLogs.get(i).setLevel(expectedLevels.get(i));
+            expectedLogs.get(i).setMessage(expectedMessages.get(i));
+        }
+
+        lessonRepository.findWeekLessonsForGroup(groupId);
+
+        List<ILoggingEvent> actualLogs = testAppender.list;
+
+        assertEquals(expectedLogs.size(), actualLogs.size());
+        for (int i = 0; i < actualLogs.size(); i++) {
+            assertEquals(expectedLogs.get(i).getLevel(), actualLogs.get(i).getLevel());
+            assertEquals(expectedLogs.get(i).getFormattedMessage(), actualLogs.get(i).getFormattedMessage());
+        }
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldGenerateLogsWhenFindWeekLessonsForLecturerHasResult() {
+        int lecturerId = 4;
+        List<LessonView> expectedLecturerLessons = createLessonViews(Arrays.asList(expectedLessons.get(0)));
+
+        List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
+        List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
+        List<String> expectedMessages = new ArrayList<>(Arrays.asList(
+                "Try to get all week lessons for a lecturer with id " + lecturerId + ".",
+                "For the lecturer with id " + lecturerId + " there are week lessons: "
+                        + LogSummary.of(expectedLecturerLessons) + "."));
+        for (int i = 0; i < expectedLogs.size(); i++) {
+            expectedLogs.get(i).setLevel(expectedLevels.get(i));
+            expectedLogs.get(i).setMessage(expectedMessages.get(i));
+        }
+
+        lessonRepository.findWeekLessonsForLecturer(lecturerId);
+
+        List<ILoggingEvent> actualLogs = testAppender.list;
+
+        assertEquals(expectedLogs.size(), actualLogs.size());
+        for (int i = 0; i < actualLogs.size(); i++) {
+            assertEquals(expectedLogs.get(i).getLevel(), actualLogs.get(i).getLevel());
+            assertEquals(expectedLogs.get(i).getFormattedMessage(), actualLogs.get(i).getFormattedMessage());
+        }
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldInsertAllLessonsAndSetTheirIds() {
+        Group group = testEntityManager.find(Group.class, 1);
+        Hibernate.initialize(group.getFaculty());
+
+        List<Lesson> testLessons = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Lesson lesson = new Lesson();
+            lesson.setName("Batch lesson " + i);
+            lesson.setAudience("20" + i);
+            lesson.setDay(DayOfWeek.FRIDAY);
+            lesson.setGroup(group);
+            lesson.setLecturer(testEntityManager.find(Lecturer.class, 4));
+            lesson.setLessonTime(testEntityManager.find(LessonTime.class, i + 1));
+            testLessons.add(lesson);
+        }
+
+        lessonRepository.insertAll(testLessons);
+        testEntityManager.clear();
+
+        List<Integer> expectedIds = new ArrayList<>(Arrays.asList(5, 6, 7));
+        assertEquals(expectedIds, testLessons.stream().map(Lesson::getId).collect(Collectors.toList()));
+        for (Lesson testLesson : testLessons) {
+            assertEquals(testLesson, lessonRepository.findById(testLesson.getId()).get());
+        }
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldGenerateLogsWhenInsertAll() {
+        Lesson testLesson = new Lesson();
+        testLesson.setName("Batch lesson");
+        testLesson.setAudience("201");
+        testLesson.setDay(DayOfWeek.FRIDAY);
+        testLesson.setGroup(testEntityManager.find(Group.class, 1));
+        testLesson.setLecturer(testEntityManager.find(Lecturer.class, 4));
+        testLesson.setLessonTime(testEntityManager.find(LessonTime.class, 1));
+
+        List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
+        List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
+        List<String> expectedMessages = new ArrayList<>(
+                Arrays.asList("Try to insert 1 lessons.", "1 lessons were inserted."));
+        for (int i = 0; i < expectedLogs.size(); i++) {
+            expectedLogs.get(i).setLevel(expectedLevels.get(i));
+            expectedLogs.get(i).setMessage(expectedMessages.get(i));
+        }
+
+        lessonRepository.insertAll(new ArrayList<>(Arrays.asList(testLesson)));
+
+        List<ILoggingEvent> actualLogs = testAppender.list;
+
+        assertEquals(expectedLogs.size(), actualLogs.size());
+        for (int i = 0; i < actualLogs.size(); i++) {
+            assertEquals(expectedLogs.get(i).getLevel(), actualLogs.get(i).getLevel());
+            assertEquals(expectedLogs.get(i).getFormattedMessage(), actualLogs.get(i).getFormattedMessage());
+        }
+    }
+
+    private List<LessonView> createLessonViews(List<Lesson> lessons) {
+        return lessons.stream()
+                .map(lesson -> new LessonView(lesson.getId(), lesson.getName(), lesson.getDay(),
+                        lesson.getLessonTime().getId(), lesson.getLessonTime().getStartTime(),
+                        lesson.getLessonTime().getEndTime(), lesson.getAudience(), lesson.getLecturer().getId(),
+                        lesson.getLecturer().getFirstName(), lesson.getLecturer().getLastName(),
+                        lesson.getGroup().getId(), lesson.getGroup().getName()))
+                .collect(Collectors.toList());
+    }
+}
@@ -32,12 +32,15 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.spi.LoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.logging.WarningRateLimiter;
 import ua.com.foxminded.repositories.aspects.GeneralRepositoryAspect;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
 import ua.com.foxminded.repositories.interfaces.LessonTimeRepository;
+import ua.com.foxminded.tracing.SpanRecorder;
 
 @DataJpaTest(showSql = true)
-@Import({AopAutoConfiguration.class, GeneralRepositoryAspect.class})
+@Import({AopAutoConfiguration.class, GeneralRepositoryAspect.class, WarningRateLimiter.class, SpanRecorder.class})
 @TestPropertySource("/application-test.properties")
 @DirtiesContext(classMode = ClassMode.BEFORE_EACH_TEST_METHOD)
 class LessonTimeRepositoryTest {
@@ -287,7 +290,8 @@ private final String testData = "/Test data.sql";
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(
-                Arrays.asList("Try to find all objects.", "The result is: " + expectedLessonTimes + "."));
+                Arrays.asList("Try to find all objects.",
+                        "The result is: " + LogSummary.of(expectedLessonTimes) + "."));
 
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
@@ -309,12 +313,10 @@ private final String testData = "/Test data.sql";
     @Sql(testData)
     void shouldGenerateLogsWhenFindById() {
         int testId = 2;
-        Optional<LessonTime> expectedLessonTime = expectedLessonTimes.stream().filter(lessonTime -> lessonTime.getId() == testId)
-                .findFirst();
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(Arrays.asList("Try to find an object by id: " + testId + ".",
-                "The result object with id " + testId + " is " + expectedLessonTime + "."));
+                "The result object with id " + testId + " is found."));
 
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
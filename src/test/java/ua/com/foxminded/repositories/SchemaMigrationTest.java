@@ -0,0 +1,174 @@
+package ua.com.foxminded.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.flywaydb.core.Flyway;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import ua.com.foxminded.repositories.interfaces.LessonRepository;
+
+/**
+ * Builds the schema with the migrations on H2 in PostgreSQL mode, runs the
+ * lesson and student lookups and explains the SQL which Hibernate has sent
+ * for them. A lookup which stops reading the table through the index created
+ * for it by the migrations fails the test. PostgreSQL doesn't index foreign
+ * keys, while H2 does and prefers its own indexes, so the foreign keys are
+ * dropped before the lookups.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url = jdbc:h2:mem:migrations;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.database-platform = org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled = true",
+        "spring.jpa.hibernate.ddl-auto = validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector = "
+                + "ua.com.foxminded.repositories.SchemaMigrationTest$LastStatement" })
+class SchemaMigrationTest {
+    private static final Pattern TABLE_ACCESS = Pattern
+            .compile("\"PUBLIC\"\\.\"(\\w+)\" \"?\\w+\"?\\s+/\\* PUBLIC\\.([\\w.]+)");
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @BeforeEach
+    void dropForeignKeys() {
+        jdbcTemplate.queryForList("SELECT table_name, constraint_name FROM information_schema.constraints "
+                + "WHERE constraint_type = 'REFERENTIAL'")
+            .forEach(constraint -> jdbcTemplate.execute("ALTER TABLE " + constraint.get("TABLE_NAME")
+                    + " DROP CONSTRAINT " + constraint.get("CONSTRAINT_NAME")));
+    }
+
+    @Test
+    void shouldApplyAllMigrations() {
+        assertEquals("5", flyway.info().current().getVersion().getVersion());
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    void shouldCreateIndexesForLessonLookups() {
+        assertEquals(Arrays.asList("GROUP_ID", "WEEK_DAY"), indexColumns("LESSONS_GROUP_ID_WEEK_DAY_IDX"));
+        assertEquals(Arrays.asList("LECTURER_ID", "WEEK_DAY"), indexColumns("LESSONS_LECTURER_ID_WEEK_DAY_IDX"));
+        assertEquals(Arrays.asList("AUDIENCE", "WEEK_DAY"), indexColumns("LESSONS_AUDIENCE_WEEK_DAY_IDX"));
+        assertEquals(Collections.singletonList("STUDENT_GROUP_ID"), indexColumns("PEOPLE_STUDENT_GROUP_ID_IDX"));
+    }
+
+    @Test
+    void shouldUseGroupIndexWhenFindDayLessonsForGroup() {
+        testEntityManager.getEntityManager()
+                .createQuery("SELECT lesson FROM Lesson lesson WHERE lesson.group.id = :groupId AND lesson.day = :day")
+                .setParameter("groupId", 1).setParameter("day", DayOfWeek.MONDAY).getResultList();
+        String plan = explainLastStatement(1, "MONDAY");
+
+        assertEquals("LESSONS_GROUP_ID_WEEK_DAY_IDX", accessOf(plan, "LESSONS"));
+    }
+
+    @Test
+    void shouldUseLecturerIndexWhenFindDayLessonsForLecturer() {
+        testEntityManager.getEntityManager()
+                .createQuery("SELECT lesson FROM Lesson lesson WHERE lesson.lecturer.id = :lecturerId "
+                        + "AND lesson.day = :day")
+                .setParameter("lecturerId", 4).setParameter("day", DayOfWeek.MONDAY).getResultList();
+        String plan = explainLastStatement(4, "MONDAY");
+
+        assertEquals("LESSONS_LECTURER_ID_WEEK_DAY_IDX", accessOf(plan, "LESSONS"));
+    }
+
+    @Test
+    void shouldUseGroupIndexWhenFindWeekLessonsForGroup() {
+        lessonRepository.findWeekLessonsForGroup(1);
+        String plan = explainLastStatement(1);
+
+        assertEquals("LESSONS_GROUP_ID_WEEK_DAY_IDX", accessOf(plan, "LESSONS"));
+    }
+
+    @Test
+    void shouldUseLecturerIndexWhenFindWeekLessonsForLecturer() {
+        lessonRepository.findWeekLessonsForLecturer(4);
+        String plan = explainLastStatement(4);
+
+        assertEquals("LESSONS_LECTURER_ID_WEEK_DAY_IDX", accessOf(plan, "LESSONS"));
+    }
+
+    @Test
+    void shouldUseAudienceIndexWhenFindWeekLessonsForAudience() {
+        lessonRepository.findWeekLessonsForAudience(1);
+        String plan = explainLastStatement(1);
+
+        assertEquals("LESSONS_AUDIENCE_WEEK_DAY_IDX", accessOf(plan, "LESSONS"));
+    }
+
+    @Test
+    void shouldUseStudentGroupIndexWhenFindStudentsOfGroup() {
+        testEntityManager.getEntityManager()
+                .createQuery("SELECT student FROM Student student WHERE student.group.id = :groupId")
+                .setParameter("groupId", 1).getResultList();
+        String plan = explainLastStatement(1);
+
+        assertEquals("PEOPLE_STUDENT_GROUP_ID_IDX", accessOf(plan, "PEOPLE"));
+    }
+
+    private String explainLastStatement(Object... parameters) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + LastStatement.sql, String.class, parameters);
+    }
+
+    /**
+     * @return a name of an index which is used to read the table, or
+     *         {@code "TABLE.tableScan"} when the whole table is read.
+     */
+    private String accessOf(String plan, String table) {
+        Matcher matcher = TABLE_ACCESS.matcher(plan);
+        while (matcher.find()) {
+            if (matcher.group(1).equals(table)) {
+                return matcher.group(2);
+            }
+        }
+        throw new AssertionError("The plan doesn't read " + table + ": " + plan);
+    }
+
+    private List<String> indexColumns(String index) {
+        List<String> columns = jdbcTemplate.queryForList("SELECT column_name FROM information_schema.indexes "
+                + "WHERE index_name = ? ORDER BY ordinal_position", String.class, index);
+        assertTrue(!columns.isEmpty(), index + " isn't an index");
+        return columns;
+    }
+
+    /**
+     * Keeps the last SQL statement which Hibernate has prepared.
+     */
+    public static class LastStatement implements StatementInspector {
+        private static volatile String sql;
+
+        @Override
+        public String inspect(String sql) {
+            LastStatement.sql = sql;
+            return sql;
+        }
+    }
+}
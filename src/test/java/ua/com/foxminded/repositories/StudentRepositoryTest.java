@@ -18,6 +18,9 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.annotation.DirtiesContext.ClassMode;
 import org.springframework.test.context.TestPropertySource;
@@ -35,12 +38,15 @@ import ua.com.foxminded.domain.Gender;
 import ua.com.foxminded.domain.Group;
 import ua.com.foxminded.domain.Person;
 import ua.com.foxminded.domain.Student;
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.logging.WarningRateLimiter;
 import ua.com.foxminded.repositories.aspects.GeneralRepositoryAspect;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
 import ua.com.foxminded.repositories.interfaces.StudentRepository;
+import ua.com.foxminded.tracing.SpanRecorder;
 
 @DataJpaTest(showSql = true)
-@Import({AopAutoConfiguration.class, GeneralRepositoryAspect.class})
+@Import({AopAutoConfiguration.class, GeneralRepositoryAspect.class, WarningRateLimiter.class, SpanRecorder.class})
 @TestPropertySource("/application-test.properties")
 @DirtiesContext(classMode = ClassMode.BEFORE_EACH_TEST_METHOD)
 class StudentRepositoryTest {
@@ -153,6 +159,23 @@ class StudentRepositoryTest {
         assertTrue(expectedStudents.containsAll(actualStudents) && actualStudents.containsAll(expectedStudents));
     }
 
+    @Test
+    @Sql(testData)
+    void shouldFindPageOfStudents() {
+        Page<Student> actualPage = studentRepository.findAll(PageRequest.of(1, 2, Sort.by("id")));
+
+        assertEquals(3, actualPage.getTotalElements());
+        assertEquals(2, actualPage.getTotalPages());
+        assertEquals(new ArrayList<>(Arrays.asList(expectedStudents.get(2))), actualPage.getContent());
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldFindStudentsAfterId() {
+        List<Student> actualStudents = studentRepository.findByIdGreaterThan(1, PageRequest.of(0, 5, Sort.by("id")));
+        assertEquals(new ArrayList<>(Arrays.asList(expectedStudents.get(1), expectedStudents.get(2))), actualStudents);
+    }
+
     @Test
     @Sql(testData)
     void shouldFindStudentById() {
@@ -322,7 +345,7 @@ class StudentRepositoryTest {
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(
-                Arrays.asList("Try to find all objects.", "The result is: " + expectedStudents + "."));
+                Arrays.asList("Try to find all objects.", "The result is: " + LogSummary.of(expectedStudents) + "."));
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
             expectedLogs.get(i).setMessage(expectedMessages.get(i));
@@ -343,12 +366,10 @@ class StudentRepositoryTest {
     @Sql(testData)
     void shouldGenerateLogsWhenFindById() {
         int testId = 2;
-        Optional<Student> expectedStudent = expectedStudents.stream().filter(student -> student.getId() == testId).findFirst();
-
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(Arrays.asList("Try to find an object by id: " + testId + ".",
-                "The result object with id " + testId + " is " + expectedStudent + "."));
+                "The result object with id " + testId + " is found."));
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
             expectedLogs.get(i).setMessage(expectedMessages.get(i));
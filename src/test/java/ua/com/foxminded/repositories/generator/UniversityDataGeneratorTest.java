@@ -0,0 +1,149 @@
+package ua.com.foxminded.repositories.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import ua.com.foxminded.repositories.aspects.UniversityDataGeneratorAspect;
+import ua.com.foxminded.repositories.exceptions.RepositoryException;
+
+@DataJpaTest
+@Import({AopAutoConfiguration.class, UniversityDataGenerator.class, UniversityDataGeneratorAspect.class})
+@TestPropertySource("/application-test.properties")
+@DirtiesContext(classMode = ClassMode.BEFORE_EACH_TEST_METHOD)
+class UniversityDataGeneratorTest {
+    private final String testData = "/Test data.sql";
+
+    private ListAppender<ILoggingEvent> testAppender;
+
+    @Autowired
+    private UniversityDataGeneratorAspect universityDataGeneratorAspect;
+
+    @Autowired
+    private UniversityDataGenerator universityDataGenerator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Logger logger = (Logger) ReflectionTestUtils.getField(universityDataGeneratorAspect, "logger");
+        testAppender = new ListAppender<>();
+        testAppender.setContext((LoggerContext) LoggerFactory.getILoggerFactory());
+        testAppender.start();
+        logger.addAppender(testAppender);
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldGenerateUniversityOfGivenSizeAfterExistingRows() {
+        UniversitySize size = new UniversitySize(3, 4, 10, 20, 20, 12, 5);
+
+        GeneratedUniversity university = universityDataGenerator.generate(size);
+
+        assertEquals(6, JdbcTestUtils.countRowsInTable(jdbcTemplate, "faculties"));
+        assertEquals(15, JdbcTestUtils.countRowsInTable(jdbcTemplate, "groups"));
+        assertEquals(9, JdbcTestUtils.countRowsInTable(jdbcTemplate, "lesson_times"));
+        assertEquals(123, JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, "people", "role = 'Student'"));
+        assertEquals(23, JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, "people", "role = 'Lecturer'"));
+        assertEquals(148, JdbcTestUtils.countRowsInTable(jdbcTemplate, "lessons"));
+        assertEquals(20, JdbcTestUtils.countRowsInTable(jdbcTemplate, "audiences"));
+        assertEquals(0, JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, "lessons",
+                "audience NOT IN (SELECT name FROM audiences)"));
+
+        assertEquals(12, university.getGroupIds().size());
+        assertEquals(4, university.getGroupIds().get(0));
+        assertEquals(20, university.getLecturerIds().size());
+        assertEquals(7, university.getLecturerIds().get(0));
+        assertEquals(120, university.getStudents());
+        assertEquals(144, university.getLessons());
+        assertEquals(0, university.getSkippedLessons());
+    }
+
+    @Test
+    void shouldGenerateLessonsWhichDoNotDoubleBookAnybody() {
+        UniversitySize size = new UniversitySize(2, 10, 32, 20, 20, 30, 11);
+
+        GeneratedUniversity university = universityDataGenerator.generate(size);
+
+        assertEquals(600, university.getLessons() + university.getSkippedLessons());
+        assertEquals(0, countDoubleBookings("group_id"));
+        assertEquals(0, countDoubleBookings("lecturer_id"));
+        assertEquals(0, countDoubleBookings("audience"));
+        assertEquals(0, JdbcTestUtils.countRowsInTableWhere(jdbcTemplate, "lessons", "week_day = 'SUNDAY'"));
+        assertEquals(0, (int) jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT student_group_id FROM people "
+                + "WHERE role = 'Student' GROUP BY student_group_id HAVING COUNT(*) > 32)", Integer.class));
+    }
+
+    @Test
+    void shouldGenerateSameUniversityForSameSeed() {
+        UniversitySize size = new UniversitySize(2, 3, 5, 6, 4, 10, 42);
+        universityDataGenerator.generate(size);
+        List<Map<String, Object>> expectedRows = findLessonRows();
+
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "lessons", "people", "groups", "faculties", "lesson_times");
+        universityDataGenerator.generate(size);
+
+        assertEquals(expectedRows, findLessonRows());
+    }
+
+    @Test
+    void shouldThrowRepositoryExceptionWhenGroupHasTooManyStudents() {
+        UniversitySize size = new UniversitySize(1, 1, 33, 1, 1, 1, 1);
+
+        RepositoryException exception = assertThrows(RepositoryException.class,
+                () -> universityDataGenerator.generate(size));
+
+        assertEquals("A given size isn't legal when generate a university.", exception.getMessage());
+        assertEquals(0, JdbcTestUtils.countRowsInTable(jdbcTemplate, "faculties"));
+    }
+
+    @Test
+    void shouldGenerateWarnLogWhenLessonsAreSkipped() {
+        UniversitySize size = new UniversitySize(1, 3, 1, 1, 5, 30, 3);
+
+        GeneratedUniversity university = universityDataGenerator.generate(size);
+
+        assertEquals(30, university.getLessons());
+        assertEquals(60, university.getSkippedLessons());
+        ILoggingEvent lastLog = testAppender.list.get(testAppender.list.size() - 1);
+        assertEquals(Level.WARN, lastLog.getLevel());
+        assertTrue(lastLog.getFormattedMessage().startsWith("The generated university misses 60 lessons"));
+    }
+
+    private int countDoubleBookings(String column) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT " + column
+                + " FROM lessons GROUP BY " + column + ", week_day, lesson_time_id HAVING COUNT(*) > 1)",
+                Integer.class);
+    }
+
+    private List<Map<String, Object>> findLessonRows() {
+        return jdbcTemplate.queryForList("SELECT l.name, g.name AS group_name, p.email, p.phone_number, l.audience, "
+                + "l.week_day, t.start_time FROM lessons l JOIN groups g ON g.id = l.group_id "
+                + "JOIN people p ON p.id = l.lecturer_id JOIN lesson_times t ON t.id = l.lesson_time_id "
+                + "ORDER BY l.id");
+    }
+}
@@ -0,0 +1,149 @@
+package ua.com.foxminded.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import ua.com.foxminded.domain.Audience;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.repositories.interfaces.AudienceRepository;
+import ua.com.foxminded.repositories.interfaces.LessonRepository;
+import ua.com.foxminded.service.availability.OccupancyIndex;
+import ua.com.foxminded.service.cache.ScheduleCache;
+import ua.com.foxminded.service.conflicts.LessonConflictIndex;
+import ua.com.foxminded.service.exceptions.ServiceException;
+import ua.com.foxminded.settings.SpringTestConfiguration;
+
+@ExtendWith(SpringExtension.class)
+@WebAppConfiguration
+@ContextConfiguration(classes = SpringTestConfiguration.class)
+class AudienceServiceTest {
+
+    @Autowired
+    private AudienceService audienceService;
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    private ScheduleCache scheduleCache;
+
+    @Autowired
+    private LessonConflictIndex lessonConflictIndex;
+
+    @Autowired
+    private OccupancyIndex occupancyIndex;
+
+    @MockBean
+    private AudienceRepository audienceRepository;
+
+    @MockBean
+    private LessonRepository lessonRepository;
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(audienceService, "audienceRepository", audienceRepository);
+        ReflectionTestUtils.setField(lessonService, "audienceRepository", audienceRepository);
+        ReflectionTestUtils.setField(lessonService, "lessonRepository", lessonRepository);
+        scheduleCache.invalidateAll();
+        lessonConflictIndex.invalidate();
+        occupancyIndex.invalidate();
+    }
+
+    @Test
+    void shouldCreate() {
+        Audience audience = createAudience(0, "104", 40);
+
+        audienceService.create(audience);
+
+        verify(audienceRepository).save(audience);
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenAudienceIdIsNotZeroWhileCreate() {
+        Audience audience = createAudience(4, "104", 40);
+
+        RuntimeException exception = assertThrows(ServiceException.class, () -> audienceService.create(audience));
+
+        assertEquals("A given audience isn't legal when create.", exception.getMessage());
+    }
+
+    @Test
+    void shouldRenameOnlyAudienceWhenUpdateName() {
+        Audience updatedAudience = createAudience(3, "103a", 120);
+
+        audienceService.update(updatedAudience);
+
+        verify(audienceRepository).save(updatedAudience);
+        verifyNoInteractions(lessonRepository);
+    }
+
+    @Test
+    void shouldDeleteOnlyAudienceWhenDeleteById() {
+        audienceService.deleteById(2);
+
+        verify(audienceRepository).deleteById(2);
+        verifyNoInteractions(lessonRepository);
+    }
+
+    @Test
+    void shouldGetAudienceWeekLessons() {
+        when(lessonRepository.findWeekLessonsForAudience(2)).thenReturn(Collections.emptyList());
+
+        assertEquals(7, lessonService.getAudienceWeekLessons(2).size());
+        verify(lessonRepository).findWeekLessonsForAudience(2);
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenAudienceIdIsLessThanOneWhileGetAudienceWeekLessons() {
+        assertThrows(ServiceException.class, () -> lessonService.getAudienceWeekLessons(0));
+        assertThrows(ServiceException.class, () -> lessonService.getAudienceMonthLessons(0, YearMonth.of(2021, 9)));
+    }
+
+    @Test
+    void shouldRegisterOnlyNewAudiencesOfLessons() {
+        when(audienceRepository.findByNameIn(new HashSet<>(Arrays.asList("101", "105"))))
+                .thenReturn(Collections.singletonList(createAudience(1, "101", 30)));
+
+        LessonService lessonServiceTarget = AopTestUtils.getTargetObject(lessonService);
+        ReflectionTestUtils.invokeMethod(lessonServiceTarget, "registerAudiences",
+                Arrays.asList(createLesson("101"), createLesson("105"), createLesson("105 ")));
+
+        verify(audienceRepository).insertAllIfAbsent(new HashSet<>(Arrays.asList("105")));
+        verify(audienceRepository, never()).save(any(Audience.class));
+    }
+
+    private Audience createAudience(int id, String name, Integer capacity) {
+        Audience audience = new Audience();
+        audience.setId(id);
+        audience.setName(name);
+        audience.setCapacity(capacity);
+        return audience;
+    }
+
+    private Lesson createLesson(String audience) {
+        Lesson lesson = new Lesson();
+        lesson.setAudience(audience);
+        return lesson;
+    }
+}
@@ -0,0 +1,148 @@
+package ua.com.foxminded.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import ua.com.foxminded.domain.Faculty;
+import ua.com.foxminded.domain.Gender;
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.repositories.exceptions.RepositoryException;
+import ua.com.foxminded.repositories.interfaces.LessonRepository;
+import ua.com.foxminded.repositories.interfaces.LessonTimeRepository;
+import ua.com.foxminded.service.availability.AvailableSlot;
+import ua.com.foxminded.service.availability.OccupancyIndex;
+import ua.com.foxminded.service.cache.ScheduleCache;
+import ua.com.foxminded.service.conflicts.LessonConflictIndex;
+import ua.com.foxminded.service.exceptions.ServiceException;
+import ua.com.foxminded.settings.SpringTestConfiguration;
+
+@ExtendWith(SpringExtension.class)
+@WebAppConfiguration
+@ContextConfiguration(classes = SpringTestConfiguration.class)
+class AvailabilityServiceTest {
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    private OccupancyIndex occupancyIndex;
+
+    @Autowired
+    private ScheduleCache scheduleCache;
+
+    @Autowired
+    private LessonConflictIndex lessonConflictIndex;
+
+    @MockBean
+    private LessonRepository lessonRepository;
+
+    @MockBean
+    private LessonTimeRepository lessonTimeRepository;
+
+    private LessonTime lessonTime;
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(lessonService, "lessonRepository", lessonRepository);
+        ReflectionTestUtils.setField(occupancyIndex, "lessonRepository", lessonRepository);
+        ReflectionTestUtils.setField(occupancyIndex, "lessonTimeRepository", lessonTimeRepository);
+        scheduleCache.invalidateAll();
+        lessonConflictIndex.invalidate();
+        occupancyIndex.invalidate();
+
+        lessonTime = new LessonTime();
+        lessonTime.setId(1);
+        lessonTime.setStartTime(LocalTime.of(9, 0));
+        lessonTime.setEndTime(LocalTime.of(10, 30));
+        when(lessonTimeRepository.findAll()).thenReturn(Arrays.asList(lessonTime));
+    }
+
+    @Test
+    void shouldNotOfferSlotOfCreatedLesson() {
+        when(lessonRepository.findAll()).thenReturn(new ArrayList<>());
+        assertEquals(6, availabilityService.findFreeSlots(Arrays.asList(1), null, null, 10).size());
+
+        Lecturer lecturer = new Lecturer();
+        lecturer.setId(1);
+        lecturer.setFirstName("Roman");
+        lecturer.setLastName("Dudchenko");
+        lecturer.setGender(Gender.MALE);
+        lecturer.setEmail("dudchenko@gmail.com");
+        lecturer.setPhoneNumber("+380123456789");
+        Faculty faculty = new Faculty();
+        faculty.setId(1);
+        faculty.setName("Faculty-1");
+        Group group = new Group();
+        group.setId(1);
+        group.setName("Group-1");
+        group.setFaculty(faculty);
+        Lesson lesson = new Lesson();
+        lesson.setName("Lesson");
+        lesson.setLecturer(lecturer);
+        lesson.setGroup(group);
+        lesson.setAudience("101");
+        lesson.setDay(DayOfWeek.MONDAY);
+        lesson.setLessonTime(lessonTime);
+        Lesson createdLesson = new Lesson();
+        createdLesson.setId(1);
+        createdLesson.setName(lesson.getName());
+        createdLesson.setLecturer(lecturer);
+        createdLesson.setGroup(group);
+        createdLesson.setAudience(lesson.getAudience());
+        createdLesson.setDay(lesson.getDay());
+        createdLesson.setLessonTime(lessonTime);
+        when(lessonRepository.save(lesson)).thenReturn(createdLesson);
+        lessonService.create(lesson);
+
+        List<AvailableSlot> slots = availabilityService.findFreeSlots(null, null, Arrays.asList("101"), 10);
+        assertEquals(5, slots.size());
+        assertFalse(slots.contains(new AvailableSlot(DayOfWeek.MONDAY, lessonTime, 0)));
+        assertTrue(slots.contains(new AvailableSlot(DayOfWeek.TUESDAY, lessonTime, 0)));
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenResourcesAreNotGiven() {
+        assertThrows(ServiceException.class,
+                () -> availabilityService.findFreeSlots(null, Collections.emptyList(), null, 10));
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenResourcesAreIncorrect() {
+        assertThrows(ServiceException.class, () -> availabilityService.findFreeSlots(Arrays.asList(0), null, null, 10));
+        assertThrows(ServiceException.class, () -> availabilityService.findFreeSlots(null, null, Arrays.asList(" "), 10));
+        assertThrows(ServiceException.class, () -> availabilityService.findFreeSlots(null, Arrays.asList(1), null, 0));
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenRepositoryExceptionWhileFindFreeSlots() {
+        when(lessonRepository.findAll()).thenThrow(RepositoryException.class);
+
+        assertThrows(ServiceException.class, () -> availabilityService.findFreeSlots(Arrays.asList(1), null, null, 10));
+    }
+}
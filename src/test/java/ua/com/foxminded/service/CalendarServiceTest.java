@@ -0,0 +1,173 @@
+package ua.com.foxminded.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import ua.com.foxminded.domain.Faculty;
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.domain.LessonView;
+import ua.com.foxminded.repositories.interfaces.GroupRepository;
+import ua.com.foxminded.repositories.interfaces.LessonRepository;
+import ua.com.foxminded.service.cache.ScheduleCache;
+import ua.com.foxminded.service.calendar.CalendarFeed;
+import ua.com.foxminded.service.exceptions.ServiceException;
+import ua.com.foxminded.settings.SpringTestConfiguration;
+
+@ExtendWith(SpringExtension.class)
+@WebAppConfiguration
+@ContextConfiguration(classes = SpringTestConfiguration.class)
+class CalendarServiceTest {
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private ScheduleCache scheduleCache;
+
+    @MockBean
+    private LessonRepository lessonRepository;
+
+    @MockBean
+    private GroupRepository groupRepository;
+
+    private Group group;
+    private Lesson lesson;
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(lessonService, "lessonRepository", lessonRepository);
+        ReflectionTestUtils.setField(groupService, "groupRepository", groupRepository);
+        scheduleCache.invalidateAll();
+
+        Faculty faculty = new Faculty();
+        faculty.setId(1);
+        group = new Group();
+        group.setId(4);
+        group.setName("AB-01");
+        group.setFaculty(faculty);
+
+        Lecturer lecturer = new Lecturer();
+        lecturer.setId(1);
+        lecturer.setFirstName("Ivan");
+        lecturer.setLastName("Ivanov");
+
+        LessonTime lessonTime = new LessonTime();
+        lessonTime.setId(1);
+        lessonTime.setStartTime(LocalTime.of(9, 0));
+        lessonTime.setEndTime(LocalTime.of(10, 30));
+
+        lesson = new Lesson();
+        lesson.setId(1);
+        lesson.setName("Math");
+        lesson.setAudience("101");
+        lesson.setDay(DayOfWeek.MONDAY);
+        lesson.setGroup(group);
+        lesson.setLecturer(lecturer);
+        lesson.setLessonTime(lessonTime);
+
+        when(groupRepository.findById(group.getId())).thenReturn(Optional.of(group));
+        when(lessonRepository.findWeekLessonsForGroup(group.getId()))
+            .thenReturn(new ArrayList<>(Arrays.asList(createLessonView(lesson))));
+    }
+
+    @Test
+    void shouldWriteGroupCalendarWithItsLessons() {
+        CalendarFeed feed = calendarService.getGroupCalendar(group.getId());
+
+        String calendar = new String(feed.getContent(), StandardCharsets.UTF_8);
+        assertTrue(calendar.contains("X-WR-CALNAME:Group AB-01\r\n"));
+        assertTrue(calendar.contains("UID:lesson-1@university-timetable\r\n"));
+        assertTrue(feed.getETag().matches("\"[0-9a-f]{32}\""));
+    }
+
+    @Test
+    void shouldReuseFeedWhileWeekScheduleIsCached() {
+        CalendarFeed feed = calendarService.getGroupCalendar(group.getId());
+
+        assertSame(feed, calendarService.getGroupCalendar(group.getId()));
+        verify(lessonRepository, times(1)).findWeekLessonsForGroup(group.getId());
+        verify(groupRepository, never()).findById(group.getId());
+    }
+
+    @Test
+    void shouldTakeGroupNameFromRepositoryWhenGroupHasNoLessons() {
+        when(lessonRepository.findWeekLessonsForGroup(group.getId())).thenReturn(new ArrayList<>());
+
+        CalendarFeed feed = calendarService.getGroupCalendar(group.getId());
+
+        assertTrue(new String(feed.getContent(), StandardCharsets.UTF_8).contains("X-WR-CALNAME:Group AB-01\r\n"));
+        verify(groupRepository, times(1)).findById(group.getId());
+    }
+
+    @Test
+    void shouldKeepETagWhenScheduleIsReloadedWithoutChanges() {
+        CalendarFeed feed = calendarService.getGroupCalendar(group.getId());
+
+        scheduleCache.invalidateAll();
+
+        assertEquals(feed.getETag(), calendarService.getGroupCalendar(group.getId()).getETag());
+        verify(lessonRepository, times(2)).findWeekLessonsForGroup(group.getId());
+    }
+
+    @Test
+    void shouldChangeETagWhenChangedLessonIsInvalidated() {
+        CalendarFeed feed = calendarService.getGroupCalendar(group.getId());
+
+        lesson.setAudience("202");
+        when(lessonRepository.findWeekLessonsForGroup(group.getId()))
+            .thenReturn(new ArrayList<>(Arrays.asList(createLessonView(lesson))));
+        scheduleCache.invalidateLesson(lesson);
+
+        CalendarFeed updatedFeed = calendarService.getGroupCalendar(group.getId());
+        assertNotEquals(feed.getETag(), updatedFeed.getETag());
+        assertTrue(new String(updatedFeed.getContent(), StandardCharsets.UTF_8).contains("LOCATION:202\r\n"));
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenIdIsNotPositive() {
+        RuntimeException exception = assertThrows(ServiceException.class, () -> calendarService.getLecturerCalendar(0));
+
+        String message = "A given id is incorrect when get a calendar.";
+        assertEquals(message, exception.getMessage());
+    }
+
+    private LessonView createLessonView(Lesson lesson) {
+        return new LessonView(lesson.getId(), lesson.getName(), lesson.getDay(), lesson.getLessonTime().getId(),
+                lesson.getLessonTime().getStartTime(), lesson.getLessonTime().getEndTime(), lesson.getAudience(),
+                lesson.getLecturer().getId(), lesson.getLecturer().getFirstName(), lesson.getLecturer().getLastName(),
+                lesson.getGroup().getId(), lesson.getGroup().getName());
+    }
+}
@@ -1,7 +1,9 @@
 package ua.com.foxminded.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doThrow;
@@ -30,9 +32,12 @@ import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.spi.LoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import ua.com.foxminded.domain.Faculty;
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.logging.WarningRateLimiter;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
 import ua.com.foxminded.repositories.interfaces.FacultyRepository;
 import ua.com.foxminded.service.aspects.FacultyAspect;
+import ua.com.foxminded.service.cache.ReferenceDataCache;
 import ua.com.foxminded.service.aspects.GeneralServiceAspect;
 import ua.com.foxminded.service.exceptions.ServiceException;
 import ua.com.foxminded.settings.SpringTestConfiguration;
@@ -52,12 +57,20 @@ class FacultyServiceTest {
     @Autowired
     private FacultyService facultyService;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private WarningRateLimiter warningRateLimiter;
+
     @MockBean
     private FacultyRepository facultyRepository;
 
     @BeforeEach
     void init() {
         ReflectionTestUtils.setField(facultyService, "facultyRepository", facultyRepository);
+        warningRateLimiter.reset();
+        referenceDataCache.invalidateAll();
         LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
         Logger generalLogger = (Logger) ReflectionTestUtils.getField(generalServiceAspect, "logger");
         Logger facultyLogger = (Logger) ReflectionTestUtils.getField(facultyAspect, "logger");
@@ -90,6 +103,25 @@ class FacultyServiceTest {
         verify(facultyRepository).findAll();
     }
 
+    @Test
+    void shouldTakeAllFacultiesFromCacheWhenGetThemAgain() {
+        List<Faculty> firstFaculties = facultyService.getAll();
+        List<Faculty> secondFaculties = facultyService.getAll();
+
+        verify(facultyRepository, times(1)).findAll();
+        assertSame(firstFaculties, secondFaculties);
+        assertThrows(UnsupportedOperationException.class, () -> firstFaculties.add(new Faculty()));
+    }
+
+    @Test
+    void shouldReloadAllFacultiesWhenFacultyIsDeleted() {
+        facultyService.getAll();
+        facultyService.deleteById(1);
+        facultyService.getAll();
+
+        verify(facultyRepository, times(2)).findAll();
+    }
+
     @Test
     void shouldGetFacultyById() {
         int facultyId = 5;
@@ -500,7 +532,7 @@ class FacultyServiceTest {
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(
-                Arrays.asList("Try to get all objects.", "The result is: " + expectedFaculties + "."));
+                Arrays.asList("Try to get all objects.", "The result is: " + LogSummary.of(expectedFaculties) + "."));
 
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
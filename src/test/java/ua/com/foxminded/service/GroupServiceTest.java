@@ -1,6 +1,7 @@
 package ua.com.foxminded.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doThrow;
@@ -32,10 +33,16 @@ import ua.com.foxminded.domain.Faculty;
 import ua.com.foxminded.domain.Gender;
 import ua.com.foxminded.domain.Group;
 import ua.com.foxminded.domain.Student;
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.logging.WarningRateLimiter;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
 import ua.com.foxminded.repositories.interfaces.GroupRepository;
 import ua.com.foxminded.service.aspects.GeneralServiceAspect;
 import ua.com.foxminded.service.aspects.GroupAspect;
+import ua.com.foxminded.service.cache.ReferenceDataCache;
+import ua.com.foxminded.service.cache.ScheduleOwner;
+import ua.com.foxminded.service.cache.ScheduleVersion;
+import ua.com.foxminded.service.cache.ScheduleVersions;
 import ua.com.foxminded.service.exceptions.ServiceException;
 import ua.com.foxminded.settings.SpringTestConfiguration;
 
@@ -54,12 +61,23 @@ class GroupServiceTest {
     @Autowired
     private GroupService groupService;
 
+    @Autowired
+    private ScheduleVersions scheduleVersions;
+
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private WarningRateLimiter warningRateLimiter;
+
     @MockBean
     private GroupRepository groupRepository;
 
     @BeforeEach
     void init() {
         ReflectionTestUtils.setField(groupService, "groupRepository", groupRepository);
+        warningRateLimiter.reset();
+        referenceDataCache.invalidateAll();
         LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
         Logger generalLogger = (Logger) ReflectionTestUtils.getField(generalServiceAspect, "logger");
         Logger groupLogger = (Logger) ReflectionTestUtils.getField(groupAspect, "logger");
@@ -96,6 +114,25 @@ class GroupServiceTest {
         verify(groupRepository).findAll();
     }
 
+    @Test
+    void shouldTakeAllGroupsFromCacheWhenGetThemAgain() {
+        List<Group> firstGroups = groupService.getAll();
+        List<Group> secondGroups = groupService.getAll();
+
+        verify(groupRepository, times(1)).findAll();
+        assertSame(firstGroups, secondGroups);
+        assertThrows(UnsupportedOperationException.class, () -> firstGroups.add(new Group()));
+    }
+
+    @Test
+    void shouldReloadAllGroupsWhenGroupIsDeleted() {
+        groupService.getAll();
+        groupService.deleteById(100);
+        groupService.getAll();
+
+        verify(groupRepository, times(2)).findAll();
+    }
+
     @Test
     void shouldGetGroupById() {
         int testGroupId = 1;
@@ -130,6 +167,22 @@ class GroupServiceTest {
         verify(groupRepository).save(group);
     }
 
+    @Test
+    void shouldChangeVersionsOfAllSchedulesWhenUpdateGroup() {
+        Faculty faculty = new Faculty();
+        faculty.setId(2);
+        faculty.setName("Faculty");
+        Group group = new Group();
+        group.setId(3);
+        group.setName("Group");
+        group.setFaculty(faculty);
+        ScheduleVersion lecturerVersion = scheduleVersions.get(ScheduleOwner.LECTURER, 1);
+
+        groupService.update(group);
+
+        assertNotEquals(lecturerVersion.getETag(), scheduleVersions.get(ScheduleOwner.LECTURER, 1).getETag());
+    }
+
     @Test
     void shouldDeleteById() {
         int groupId = 100;
@@ -629,7 +682,7 @@ class GroupServiceTest {
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(
-                Arrays.asList("Try to get all objects.", "The result is: " + expectedGroups + "."));
+                Arrays.asList("Try to get all objects.", "The result is: " + LogSummary.of(expectedGroups) + "."));
 
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
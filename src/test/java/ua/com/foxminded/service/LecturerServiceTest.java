@@ -1,7 +1,9 @@
 package ua.com.foxminded.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
@@ -31,11 +33,14 @@ import ch.qos.logback.classic.spi.LoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
 import ua.com.foxminded.domain.Gender;
 import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.logging.WarningRateLimiter;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
 import ua.com.foxminded.repositories.interfaces.LecturerRepository;
 import ua.com.foxminded.service.aspects.GeneralServiceAspect;
 import ua.com.foxminded.service.aspects.LecturerAspect;
 import ua.com.foxminded.service.aspects.PersonAspect;
+import ua.com.foxminded.service.cache.ReferenceDataCache;
 import ua.com.foxminded.service.exceptions.ServiceException;
 import ua.com.foxminded.settings.SpringTestConfiguration;
 
@@ -57,12 +62,20 @@ class LecturerServiceTest {
     @Autowired
     private LecturerService lecturerService;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private WarningRateLimiter warningRateLimiter;
+
     @MockBean
     private LecturerRepository lecturerRepository;
 
     @BeforeEach
     void init() {
         ReflectionTestUtils.setField(lecturerService, "lecturerRepository", lecturerRepository);
+        warningRateLimiter.reset();
+        referenceDataCache.invalidateAll();
         LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
         Logger generalLogger = (Logger) ReflectionTestUtils.getField(generalServiceAspect, "logger");
         Logger lecturerLogger = (Logger) ReflectionTestUtils.getField(lecturerAspect, "logger");
@@ -100,6 +113,25 @@ class LecturerServiceTest {
         verify(lecturerRepository).findAll();
     }
 
+    @Test
+    void shouldTakeAllLecturersFromCacheWhenGetThemAgain() {
+        List<Lecturer> firstLecturers = lecturerService.getAll();
+        List<Lecturer> secondLecturers = lecturerService.getAll();
+
+        verify(lecturerRepository, times(1)).findAll();
+        assertSame(firstLecturers, secondLecturers);
+        assertThrows(UnsupportedOperationException.class, () -> firstLecturers.add(new Lecturer()));
+    }
+
+    @Test
+    void shouldReloadAllLecturersWhenLecturerIsDeleted() {
+        lecturerService.getAll();
+        lecturerService.deleteById(5);
+        lecturerService.getAll();
+
+        verify(lecturerRepository, times(2)).findAll();
+    }
+
     @Test
     void shouldGetLecturerById() {
         int lecturerId = 2;
@@ -674,7 +706,7 @@ class LecturerServiceTest {
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(
-                Arrays.asList("Try to get all objects.", "The result is: " + expectedLecturers + "."));
+                Arrays.asList("Try to get all objects.", "The result is: " + LogSummary.of(expectedLecturers) + "."));
 
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
@@ -4,9 +4,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.any;
 
@@ -21,13 +24,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -48,10 +52,24 @@ import ua.com.foxminded.domain.Group;
 import ua.com.foxminded.domain.Lecturer;
 import ua.com.foxminded.domain.Lesson;
 import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.domain.LessonView;
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.logging.WarningRateLimiter;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
+import ua.com.foxminded.repositories.interfaces.AudienceRepository;
 import ua.com.foxminded.repositories.interfaces.LessonRepository;
 import ua.com.foxminded.service.aspects.GeneralServiceAspect;
 import ua.com.foxminded.service.aspects.LessonAspect;
+import ua.com.foxminded.service.cache.ScheduleCache;
+import ua.com.foxminded.service.cache.ScheduleOwner;
+import ua.com.foxminded.service.cache.ScheduleVersion;
+import ua.com.foxminded.service.cache.ScheduleVersions;
+import ua.com.foxminded.service.conflicts.LessonConflictIndex;
+import ua.com.foxminded.service.events.ScheduleChange;
+import ua.com.foxminded.service.events.ScheduleChangeTopic;
+import ua.com.foxminded.service.events.ScheduleSubscriber;
+import ua.com.foxminded.service.events.ScheduleSubscription;
+import ua.com.foxminded.service.exceptions.LessonConflictException;
 import ua.com.foxminded.service.exceptions.ServiceException;
 import ua.com.foxminded.settings.SpringTestConfiguration;
 
@@ -70,6 +88,24 @@ class LessonServiceTest {
     @Autowired
     private LessonService lessonService;
 
+    @Autowired
+    private ScheduleCache scheduleCache;
+
+    @Autowired
+    private LessonConflictIndex lessonConflictIndex;
+
+    @Autowired
+    private ScheduleVersions scheduleVersions;
+
+    @Autowired
+    private ScheduleChangeTopic scheduleChangeTopic;
+
+    @Autowired
+    private WarningRateLimiter warningRateLimiter;
+
+    @Autowired
+    private AudienceRepository audienceRepository;
+
     @MockBean
     private LessonRepository lessonRepository;
 
@@ -80,14 +116,12 @@ class LessonServiceTest {
     private LessonTime lessonTime1;
     private LessonTime lessonTime2;
 
-    @Captor
-    private ArgumentCaptor<DayOfWeek> dayCaptor;
-    @Captor
-    private ArgumentCaptor<Integer> numberCaptor;
-
     @BeforeEach
     void init() {
         ReflectionTestUtils.setField(lessonService, "lessonRepository", lessonRepository);
+        warningRateLimiter.reset();
+        scheduleCache.invalidateAll();
+        lessonConflictIndex.invalidate();
 
         LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
         Logger generalLogger = (Logger) ReflectionTestUtils.getField(generalServiceAspect, "logger");
@@ -157,6 +191,39 @@ class LessonServiceTest {
         verify(lessonRepository).save(creatingLesson);
     }
 
+    @Test
+    void shouldRegisterTrimmedAudienceWhenCreateLesson() {
+        Lesson creatingLesson = new Lesson();
+        creatingLesson.setName("Lesson-2");
+        creatingLesson.setAudience("Lab-5 ");
+        creatingLesson.setLecturer(lecturer2);
+        creatingLesson.setGroup(group1);
+        creatingLesson.setDay(DayOfWeek.WEDNESDAY);
+        creatingLesson.setLessonTime(lessonTime2);
+
+        lessonService.create(creatingLesson);
+
+        assertEquals("Lab-5", creatingLesson.getAudience());
+        assertEquals(1, audienceRepository.findByNameIn(Arrays.asList("Lab-5", "Lab-5 ")).size());
+        verify(lessonRepository).save(creatingLesson);
+    }
+
+    @Test
+    void shouldNotRegisterAudienceWhenRepositoryExceptionWhileCreate() {
+        Lesson lesson = new Lesson();
+        lesson.setName("Lesson-18");
+        lesson.setAudience("Lab-6");
+        lesson.setLecturer(lecturer1);
+        lesson.setGroup(group1);
+        lesson.setDay(DayOfWeek.THURSDAY);
+        lesson.setLessonTime(lessonTime2);
+
+        doThrow(RepositoryException.class).when(lessonRepository).save(lesson);
+
+        assertThrows(ServiceException.class, () -> lessonService.create(lesson));
+        assertTrue(audienceRepository.findByNameIn(Arrays.asList("Lab-6")).isEmpty());
+    }
+
     @Test
     void shouldGetAllLessons() {
         lessonService.getAll();
@@ -207,9 +274,8 @@ class LessonServiceTest {
     void shouldGetWeekLessonsForGroup() {
         int groupId = 2;
         lessonService.getGroupWeekLessons(groupId);
-        for (int i = 1; i <= DayOfWeek.values().length; i++) {
-            verify(lessonRepository).findByGroupIdAndDay(groupId, DayOfWeek.of(i));
-        }
+        verify(lessonRepository).findWeekLessonsForGroup(groupId);
+        verify(lessonRepository, never()).findByGroupIdAndDay(anyInt(), any(DayOfWeek.class));
     }
 
     @Test
@@ -217,36 +283,40 @@ class LessonServiceTest {
         int groupId = 1;
         YearMonth month = YearMonth.of(2021, Month.FEBRUARY);
         int monthLength = 28;
-        List<DayOfWeek> expectedDays = new ArrayList<>();
-        expectedDays.addAll(Arrays.asList(DayOfWeek.values()));
-        expectedDays.addAll(Arrays.asList(DayOfWeek.values()));
-        expectedDays.addAll(Arrays.asList(DayOfWeek.values()));
-        expectedDays.addAll(Arrays.asList(DayOfWeek.values()));
-        lessonService.getGroupMonthLessons(groupId, month);
-        verify(lessonRepository, times(monthLength)).findByGroupIdAndDay(numberCaptor.capture(), dayCaptor.capture());
+        LessonView lesson = createLessonView(1, DayOfWeek.MONDAY);
+        when(lessonRepository.findWeekLessonsForGroup(groupId)).thenReturn(new ArrayList<>(Arrays.asList(lesson)));
+
+        Map<LocalDate, List<LessonView>> monthLessons = lessonService.getGroupMonthLessons(groupId, month);
+        verify(lessonRepository, times(1)).findWeekLessonsForGroup(groupId);
+        verify(lessonRepository, never()).findByGroupIdAndDay(anyInt(), any(DayOfWeek.class));
 
-        List<DayOfWeek> actualDays = dayCaptor.getAllValues();
-        List<Integer> actualGroupIndexes = numberCaptor.getAllValues();
+        assertEquals(monthLength, monthLessons.size());
+        for (int i = 1; i <= monthLength; i++) {
+            LocalDate day = month.atDay(i);
+            assertSame(monthLessons.get(month.atDay((i - 1) % 7 + 1)), monthLessons.get(day));
 
-        for (int i = 0; i < monthLength; i++) {
-            assertEquals(expectedDays.get(i), actualDays.get(i));
-            assertSame(groupId, actualGroupIndexes.get(i));
+            if (day.getDayOfWeek() == DayOfWeek.MONDAY) {
+                assertEquals(Arrays.asList(lesson), monthLessons.get(day));
+            } else {
+                assertTrue(monthLessons.get(day).isEmpty());
+            }
         }
     }
 
     @Test
     void shouldGetWeekLessonsForLecturer() {
         int lecturerId = 3;
-        Lesson lesson1 = new Lesson();
-        lesson1.setId(1);
-        Lesson lesson2 = new Lesson();
-        lesson2.setId(2);
-        when(lessonRepository.findByLecturerIdAndDay(lecturerId, DayOfWeek.FRIDAY))
-                .thenReturn(new ArrayList<Lesson>(Arrays.asList(lesson1, lesson2)));
-        lessonService.getLecturerWeekLessons(lecturerId);
-        for (int i = 1; i <= DayOfWeek.values().length; i++) {
-            verify(lessonRepository).findByLecturerIdAndDay(lecturerId, DayOfWeek.of(i));
-        }
+        LessonView lesson1 = createLessonView(1, DayOfWeek.FRIDAY);
+        LessonView lesson2 = createLessonView(2, DayOfWeek.FRIDAY);
+        when(lessonRepository.findWeekLessonsForLecturer(lecturerId))
+                .thenReturn(new ArrayList<LessonView>(Arrays.asList(lesson1, lesson2)));
+        Map<DayOfWeek, List<LessonView>> weekLessons = lessonService.getLecturerWeekLessons(lecturerId);
+        verify(lessonRepository).findWeekLessonsForLecturer(lecturerId);
+        verify(lessonRepository, never()).findByLecturerIdAndDay(anyInt(), any(DayOfWeek.class));
+
+        assertEquals(DayOfWeek.values().length, weekLessons.size());
+        assertEquals(Arrays.asList(lesson1, lesson2), weekLessons.get(DayOfWeek.FRIDAY));
+        assertTrue(weekLessons.get(DayOfWeek.MONDAY).isEmpty());
     }
 
     @Test
@@ -254,25 +324,321 @@ class LessonServiceTest {
         int lecturerId = 3;
         YearMonth month = YearMonth.of(2020, Month.DECEMBER);
         int monthLength = 31;
-        List<DayOfWeek> expectedDays = new ArrayList<>();
-        expectedDays.addAll(Arrays.asList(DayOfWeek.of(2), DayOfWeek.of(3), DayOfWeek.of(4), DayOfWeek.of(5),
-                DayOfWeek.of(6), DayOfWeek.of(7)));
-        expectedDays.addAll(Arrays.asList(DayOfWeek.values()));
-        expectedDays.addAll(Arrays.asList(DayOfWeek.values()));
-        expectedDays.addAll(Arrays.asList(DayOfWeek.values()));
-        expectedDays.addAll(Arrays.asList(DayOfWeek.of(1), DayOfWeek.of(2), DayOfWeek.of(3), DayOfWeek.of(4)));
-        lessonService.getLecturerMonthLessons(lecturerId, month);
-        verify(lessonRepository, times(monthLength)).findByLecturerIdAndDay(numberCaptor.capture(), dayCaptor.capture());
+        LessonView lesson = createLessonView(1, DayOfWeek.TUESDAY);
+        when(lessonRepository.findWeekLessonsForLecturer(lecturerId)).thenReturn(new ArrayList<>(Arrays.asList(lesson)));
+
+        Map<LocalDate, List<LessonView>> monthLessons = lessonService.getLecturerMonthLessons(lecturerId, month);
+        verify(lessonRepository, times(1)).findWeekLessonsForLecturer(lecturerId);
+        verify(lessonRepository, never()).findByLecturerIdAndDay(anyInt(), any(DayOfWeek.class));
 
-        List<DayOfWeek> actualDays = dayCaptor.getAllValues();
-        List<Integer> actualLecturerIndexes = numberCaptor.getAllValues();
+        assertEquals(monthLength, monthLessons.size());
+        for (int i = 1; i <= monthLength; i++) {
+            LocalDate day = month.atDay(i);
+            assertSame(monthLessons.get(month.atDay((i - 1) % 7 + 1)), monthLessons.get(day));
 
-        for (int i = 0; i < monthLength; i++) {
-            assertEquals(expectedDays.get(i), actualDays.get(i));
-            assertSame(lecturerId, actualLecturerIndexes.get(i));
+            if (day.getDayOfWeek() == DayOfWeek.TUESDAY) {
+                assertEquals(Arrays.asList(lesson), monthLessons.get(day));
+            } else {
+                assertTrue(monthLessons.get(day).isEmpty());
+            }
         }
     }
 
+    @Test
+    void shouldShareImmutableDayListsWhenGetMonthLessonsForGroup() {
+        int groupId = 5;
+        YearMonth month = YearMonth.of(2021, Month.MARCH);
+        Map<LocalDate, List<LessonView>> monthLessons = lessonService.getGroupMonthLessons(groupId, month);
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> monthLessons.get(month.atDay(1)).add(createLessonView(1, DayOfWeek.MONDAY)));
+    }
+
+    @Test
+    void shouldTakeWeekLessonsFromCacheWhenGetThemAgain() {
+        int groupId = 3;
+        LessonView lesson = createLessonView(1, DayOfWeek.THURSDAY);
+        when(lessonRepository.findWeekLessonsForGroup(groupId)).thenReturn(new ArrayList<>(Arrays.asList(lesson)));
+
+        Map<DayOfWeek, List<LessonView>> firstWeekLessons = lessonService.getGroupWeekLessons(groupId);
+        Map<DayOfWeek, List<LessonView>> secondWeekLessons = lessonService.getGroupWeekLessons(groupId);
+
+        verify(lessonRepository, times(1)).findWeekLessonsForGroup(groupId);
+        assertSame(firstWeekLessons, secondWeekLessons);
+        assertEquals(1, scheduleCache.getStatistics().getHits());
+    }
+
+    @Test
+    void shouldReloadWeekLessonsWhenLessonOfScheduleIsUpdated() {
+        Lesson lesson = new Lesson();
+        lesson.setId(5);
+        lesson.setName("Lesson-1");
+        lesson.setAudience("109");
+        lesson.setLecturer(lecturer2);
+        lesson.setGroup(group2);
+        lesson.setDay(DayOfWeek.FRIDAY);
+        lesson.setLessonTime(lessonTime2);
+        when(lessonRepository.findWeekLessonsForLecturer(lecturer2.getId()))
+                .thenReturn(new ArrayList<>(Arrays.asList(createLessonView(lesson))));
+
+        lessonService.getLecturerWeekLessons(lecturer2.getId());
+        lessonService.update(lesson);
+        lessonService.getLecturerWeekLessons(lecturer2.getId());
+
+        verify(lessonRepository, times(2)).findWeekLessonsForLecturer(lecturer2.getId());
+    }
+
+    @Test
+    void shouldReloadWeekLessonsWhenLessonIsCreatedForGroup() {
+        when(lessonRepository.findWeekLessonsForGroup(group1.getId())).thenReturn(new ArrayList<>());
+        lessonService.getGroupWeekLessons(group1.getId());
+
+        Lesson creatingLesson = new Lesson();
+        creatingLesson.setName("Lesson-2");
+        creatingLesson.setAudience("103");
+        creatingLesson.setLecturer(lecturer2);
+        creatingLesson.setGroup(group1);
+        creatingLesson.setDay(DayOfWeek.WEDNESDAY);
+        creatingLesson.setLessonTime(lessonTime2);
+        lessonService.create(creatingLesson);
+        lessonService.getGroupWeekLessons(group1.getId());
+
+        verify(lessonRepository, times(2)).findWeekLessonsForGroup(group1.getId());
+    }
+
+    @Test
+    void shouldKeepOtherSchedulesCachedWhenLessonIsDeleted() {
+        LessonView lesson = createLessonView(8, DayOfWeek.MONDAY);
+        when(lessonRepository.findWeekLessonsForGroup(group1.getId())).thenReturn(new ArrayList<>(Arrays.asList(lesson)));
+        when(lessonRepository.findWeekLessonsForGroup(group2.getId())).thenReturn(new ArrayList<>());
+        lessonService.getGroupWeekLessons(group1.getId());
+        lessonService.getGroupWeekLessons(group2.getId());
+
+        lessonService.deleteById(lesson.getId());
+        lessonService.getGroupWeekLessons(group1.getId());
+        lessonService.getGroupWeekLessons(group2.getId());
+
+        verify(lessonRepository, times(2)).findWeekLessonsForGroup(group1.getId());
+        verify(lessonRepository, times(1)).findWeekLessonsForGroup(group2.getId());
+    }
+
+    @Test
+    void shouldChangeVersionsOfOwnersOnlyWhenLessonIsCreated() {
+        ScheduleVersion group1Version = scheduleVersions.get(ScheduleOwner.GROUP, group1.getId());
+        ScheduleVersion group2Version = scheduleVersions.get(ScheduleOwner.GROUP, group2.getId());
+        ScheduleVersion lecturer2Version = scheduleVersions.get(ScheduleOwner.LECTURER, lecturer2.getId());
+
+        Lesson creatingLesson = new Lesson();
+        creatingLesson.setName("Lesson-2");
+        creatingLesson.setAudience("103");
+        creatingLesson.setLecturer(lecturer2);
+        creatingLesson.setGroup(group1);
+        creatingLesson.setDay(DayOfWeek.WEDNESDAY);
+        creatingLesson.setLessonTime(lessonTime2);
+        lessonService.create(creatingLesson);
+
+        assertNotEquals(group1Version.getETag(), scheduleVersions.get(ScheduleOwner.GROUP, group1.getId()).getETag());
+        assertNotEquals(lecturer2Version.getETag(),
+                scheduleVersions.get(ScheduleOwner.LECTURER, lecturer2.getId()).getETag());
+        assertEquals(group2Version.getETag(), scheduleVersions.get(ScheduleOwner.GROUP, group2.getId()).getETag());
+    }
+
+    @Test
+    void shouldChangeVersionsOfPreviousOwnersWhenLessonIsMoved() {
+        Lesson storedLesson = new Lesson();
+        storedLesson.setId(9);
+        storedLesson.setLecturer(lecturer1);
+        storedLesson.setGroup(group1);
+        when(lessonRepository.findById(storedLesson.getId())).thenReturn(Optional.of(storedLesson));
+        ScheduleVersion group1Version = scheduleVersions.get(ScheduleOwner.GROUP, group1.getId());
+        ScheduleVersion lecturer1Version = scheduleVersions.get(ScheduleOwner.LECTURER, lecturer1.getId());
+        ScheduleVersion group2Version = scheduleVersions.get(ScheduleOwner.GROUP, group2.getId());
+
+        Lesson lesson = new Lesson();
+        lesson.setId(storedLesson.getId());
+        lesson.setName("Lesson-1");
+        lesson.setAudience("109");
+        lesson.setLecturer(lecturer2);
+        lesson.setGroup(group2);
+        lesson.setDay(DayOfWeek.FRIDAY);
+        lesson.setLessonTime(lessonTime2);
+        lessonService.update(lesson);
+
+        assertNotEquals(group1Version.getETag(), scheduleVersions.get(ScheduleOwner.GROUP, group1.getId()).getETag());
+        assertNotEquals(lecturer1Version.getETag(),
+                scheduleVersions.get(ScheduleOwner.LECTURER, lecturer1.getId()).getETag());
+        assertNotEquals(group2Version.getETag(), scheduleVersions.get(ScheduleOwner.GROUP, group2.getId()).getETag());
+    }
+
+    @Test
+    void shouldPublishChangesToPreviousAndNewOwnersWhenLessonIsMoved() throws Exception {
+        Lesson storedLesson = new Lesson();
+        storedLesson.setId(11);
+        storedLesson.setLecturer(lecturer2);
+        storedLesson.setGroup(group1);
+        when(lessonRepository.findById(storedLesson.getId())).thenReturn(Optional.of(storedLesson));
+        BlockingQueue<ScheduleChange> group1Changes = new LinkedBlockingQueue<>();
+        BlockingQueue<ScheduleChange> group2Changes = new LinkedBlockingQueue<>();
+        BlockingQueue<ScheduleChange> lecturer2Changes = new LinkedBlockingQueue<>();
+        List<ScheduleSubscription> subscriptions = Arrays.asList(
+                scheduleChangeTopic.subscribe(ScheduleOwner.GROUP, group1.getId(), queueing(group1Changes)),
+                scheduleChangeTopic.subscribe(ScheduleOwner.GROUP, group2.getId(), queueing(group2Changes)),
+                scheduleChangeTopic.subscribe(ScheduleOwner.LECTURER, lecturer2.getId(), queueing(lecturer2Changes)));
+
+        Lesson lesson = new Lesson();
+        lesson.setId(storedLesson.getId());
+        lesson.setName("Lesson-1");
+        lesson.setAudience("109");
+        lesson.setLecturer(lecturer2);
+        lesson.setGroup(group2);
+        lesson.setDay(DayOfWeek.FRIDAY);
+        lesson.setLessonTime(lessonTime2);
+        try {
+            lessonService.update(lesson);
+
+            assertEquals(ScheduleChange.removed(lesson.getId()), group1Changes.poll(5, TimeUnit.SECONDS));
+            assertEquals(ScheduleChange.updated(lesson), group2Changes.poll(5, TimeUnit.SECONDS));
+            assertEquals(ScheduleChange.updated(lesson), lecturer2Changes.poll(5, TimeUnit.SECONDS));
+            assertTrue(lecturer2Changes.isEmpty());
+        } finally {
+            subscriptions.forEach(ScheduleSubscription::cancel);
+        }
+    }
+
+    @Test
+    void shouldKeepVersionsWhenLessonIsNotDeleted() {
+        int lessonId = 10;
+        Lesson storedLesson = new Lesson();
+        storedLesson.setId(lessonId);
+        storedLesson.setGroup(group1);
+        when(lessonRepository.findById(lessonId)).thenReturn(Optional.of(storedLesson));
+        doThrow(RepositoryException.class).when(lessonRepository).deleteById(lessonId);
+        ScheduleVersion group1Version = scheduleVersions.get(ScheduleOwner.GROUP, group1.getId());
+
+        assertThrows(ServiceException.class, () -> lessonService.deleteById(lessonId));
+
+        assertEquals(group1Version, scheduleVersions.get(ScheduleOwner.GROUP, group1.getId()));
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenLecturerIsBusyWhileCreate() {
+        Lesson existingLesson = new Lesson();
+        existingLesson.setId(3);
+        existingLesson.setName("Lesson-1");
+        existingLesson.setAudience("101");
+        existingLesson.setLecturer(lecturer1);
+        existingLesson.setGroup(group1);
+        existingLesson.setDay(DayOfWeek.MONDAY);
+        existingLesson.setLessonTime(lessonTime1);
+        when(lessonRepository.findAll()).thenReturn(new ArrayList<>(Arrays.asList(existingLesson)));
+
+        Lesson creatingLesson = new Lesson();
+        creatingLesson.setName("Lesson-2");
+        creatingLesson.setAudience("102");
+        creatingLesson.setLecturer(lecturer1);
+        creatingLesson.setGroup(group2);
+        creatingLesson.setDay(DayOfWeek.MONDAY);
+        creatingLesson.setLessonTime(lessonTime1);
+
+        ServiceException exception = assertThrows(ServiceException.class, () -> lessonService.create(creatingLesson));
+
+        assertEquals("A given lesson conflicts with other lessons when create.", exception.getMessage());
+        LessonConflictException conflictException = (LessonConflictException) exception.getException();
+        assertEquals(1, conflictException.getConflicts().size());
+        assertEquals(existingLesson.getId(), conflictException.getConflicts().get(0).getLessonId());
+        verify(lessonRepository, never()).save(creatingLesson);
+    }
+
+    @Test
+    void shouldUpdateLessonWhenItKeepsItsOwnTime() {
+        Lesson lesson = new Lesson();
+        lesson.setId(3);
+        lesson.setName("Lesson-1");
+        lesson.setAudience("101");
+        lesson.setLecturer(lecturer1);
+        lesson.setGroup(group1);
+        lesson.setDay(DayOfWeek.MONDAY);
+        lesson.setLessonTime(lessonTime1);
+        when(lessonRepository.findAll()).thenReturn(new ArrayList<>(Arrays.asList(lesson)));
+
+        lesson.setAudience("105");
+        lessonService.update(lesson);
+
+        verify(lessonRepository).save(lesson);
+    }
+
+    @Test
+    void shouldCreateAllLessons() {
+        Lesson lesson1 = new Lesson();
+        lesson1.setName("Lesson-1");
+        lesson1.setAudience("101");
+        lesson1.setLecturer(lecturer1);
+        lesson1.setGroup(group1);
+        lesson1.setDay(DayOfWeek.MONDAY);
+        lesson1.setLessonTime(lessonTime1);
+        Lesson lesson2 = new Lesson();
+        lesson2.setName("Lesson-2");
+        lesson2.setAudience("101");
+        lesson2.setLecturer(lecturer1);
+        lesson2.setGroup(group1);
+        lesson2.setDay(DayOfWeek.MONDAY);
+        lesson2.setLessonTime(lessonTime2);
+        List<Lesson> lessons = new ArrayList<>(Arrays.asList(lesson1, lesson2));
+
+        lessonService.createAll(lessons);
+        verify(lessonRepository).insertAll(lessons);
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenLessonsConflictWithEachOtherWhileCreateAll() {
+        Lesson lesson1 = new Lesson();
+        lesson1.setName("Lesson-1");
+        lesson1.setAudience("101");
+        lesson1.setLecturer(lecturer1);
+        lesson1.setGroup(group1);
+        lesson1.setDay(DayOfWeek.MONDAY);
+        lesson1.setLessonTime(lessonTime1);
+        Lesson lesson2 = new Lesson();
+        lesson2.setName("Lesson-2");
+        lesson2.setAudience("102");
+        lesson2.setLecturer(lecturer2);
+        lesson2.setGroup(group1);
+        lesson2.setDay(DayOfWeek.MONDAY);
+        lesson2.setLessonTime(lessonTime1);
+        List<Lesson> lessons = new ArrayList<>(Arrays.asList(lesson1, lesson2));
+
+        ServiceException exception = assertThrows(ServiceException.class, () -> lessonService.createAll(lessons));
+
+        assertEquals("Given lessons conflict with other lessons when create.", exception.getMessage());
+        LessonConflictException conflictException = (LessonConflictException) exception.getException();
+        assertEquals(1, conflictException.getConflicts().size());
+        assertEquals("Lesson-1", conflictException.getConflicts().get(0).getLessonName());
+        verify(lessonRepository, never()).insertAll(lessons);
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenOneOfLessonsIsInvalidWhileCreateAll() {
+        Lesson lesson1 = new Lesson();
+        lesson1.setName("Lesson-1");
+        lesson1.setAudience("101");
+        lesson1.setLecturer(lecturer1);
+        lesson1.setGroup(group1);
+        lesson1.setDay(DayOfWeek.MONDAY);
+        lesson1.setLessonTime(lessonTime1);
+        Lesson lesson2 = new Lesson();
+        lesson2.setName("Lesson-2");
+        lesson2.setAudience("102");
+        lesson2.setGroup(group2);
+        lesson2.setDay(DayOfWeek.MONDAY);
+        lesson2.setLessonTime(lessonTime1);
+        List<Lesson> lessons = new ArrayList<>(Arrays.asList(lesson1, lesson2));
+
+        ServiceException exception = assertThrows(ServiceException.class, () -> lessonService.createAll(lessons));
+
+        assertEquals("Given lessons aren't valid when create.", exception.getMessage());
+        verify(lessonRepository, never()).insertAll(lessons);
+    }
+
     @Test
     void shouldThrowServiceExceptionWhenLessonIsNullWhileCreate() {
         Lesson lesson = null;
@@ -645,8 +1011,7 @@ class LessonServiceTest {
     @Test
     void shouldThrowServiceExceptioinWhenRepositoryExceptionWhileGetGroupWeekLessons() {
         int testId = 74;
-        DayOfWeek testDay = DayOfWeek.MONDAY;
-        when(lessonRepository.findByGroupIdAndDay(testId, testDay)).thenThrow(RepositoryException.class);
+        when(lessonRepository.findWeekLessonsForGroup(testId)).thenThrow(RepositoryException.class);
         RuntimeException exception = assertThrows(ServiceException.class, () -> lessonService.getGroupWeekLessons(testId));
     
         String message = "There is some error in repositories layer when get week lessons for a group.";
@@ -667,8 +1032,7 @@ class LessonServiceTest {
     void shouldThrowServiceExceptionWhenRepositoryExceptionWhileGetGroupMonthLessons() {
         int testId = 14;
         YearMonth testMonth = YearMonth.of(2021, 4);
-        DayOfWeek testDay = DayOfWeek.THURSDAY;
-        when(lessonRepository.findByGroupIdAndDay(testId, testDay)).thenThrow(RepositoryException.class);
+        when(lessonRepository.findWeekLessonsForGroup(testId)).thenThrow(RepositoryException.class);
         RuntimeException exception = assertThrows(ServiceException.class, () -> lessonService.getGroupMonthLessons(testId, testMonth));
     
         String message = "There is some error in repositories layer when get month lessons for a group.";
@@ -687,8 +1051,7 @@ class LessonServiceTest {
     @Test
     void shouldThrowServiceExceptioinWhenRepositoryExceptionWhileGetLecturerWeekLessons() {
         int testId = 12;
-        DayOfWeek testDay = DayOfWeek.THURSDAY;
-        when(lessonRepository.findByLecturerIdAndDay(testId, testDay)).thenThrow(RepositoryException.class);
+        when(lessonRepository.findWeekLessonsForLecturer(testId)).thenThrow(RepositoryException.class);
         RuntimeException exception = assertThrows(ServiceException.class, () -> lessonService.getLecturerWeekLessons(testId));
     
         String message = "There is some error in repositories layer when get week lessons for a lecturer.";
@@ -709,8 +1072,7 @@ class LessonServiceTest {
     void shouldThrowServiceExceptionWhenRepositoryExceptionWhileGetLecturerMonthLessons() {
         int testId = 19;
         YearMonth testMonth = YearMonth.of(2021, 2);
-        DayOfWeek testDay = DayOfWeek.FRIDAY;
-        when(lessonRepository.findByLecturerIdAndDay(testId, testDay)).thenThrow(RepositoryException.class);
+        when(lessonRepository.findWeekLessonsForLecturer(testId)).thenThrow(RepositoryException.class);
         RuntimeException exception = assertThrows(ServiceException.class, () -> lessonService.getLecturerMonthLessons(testId, testMonth));
     
         String message = "There is some error in repositories layer when get month lessons for a group.";
@@ -967,7 +1329,7 @@ class LessonServiceTest {
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(
-                Arrays.asList("Try to get all objects.", "The result is: " + expectedLessons + "."));
+                Arrays.asList("Try to get all objects.", "The result is: " + LogSummary.of(expectedLessons) + "."));
 
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
@@ -1399,7 +1761,7 @@ class LessonServiceTest {
     void shouldGenerateLogsWhenRepositoryExceptionWhileGetGroupWeekLessons() {
         int testId = 4;
 
-        when(lessonRepository.findByGroupIdAndDay(anyInt(), any(DayOfWeek.class))).thenThrow(RepositoryException.class);
+        when(lessonRepository.findWeekLessonsForGroup(anyInt())).thenThrow(RepositoryException.class);
 
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.ERROR));
@@ -1449,23 +1811,25 @@ class LessonServiceTest {
             lessons.get(i).setLessonTime(lessonTimes.get(i));
         }
 
-        when(lessonRepository.findByGroupIdAndDay(groupId, DayOfWeek.FRIDAY)).thenReturn(lessons.subList(0, 1));
-        when(lessonRepository.findByGroupIdAndDay(groupId, DayOfWeek.WEDNESDAY)).thenReturn(lessons.subList(2, 3));
+        List<LessonView> lessonViews = createLessonViews(lessons);
+        when(lessonRepository.findWeekLessonsForGroup(groupId))
+                .thenReturn(new ArrayList<>(Arrays.asList(lessonViews.get(0), lessonViews.get(2))));
 
-        Map<DayOfWeek, List<Lesson>> expectedLessons = new TreeMap<>();
+        Map<DayOfWeek, List<LessonView>> expectedLessons = new TreeMap<>();
         expectedLessons.put(DayOfWeek.SUNDAY, new ArrayList<>());
         expectedLessons.put(DayOfWeek.MONDAY, new ArrayList<>());
         expectedLessons.put(DayOfWeek.TUESDAY, new ArrayList<>());
-        expectedLessons.put(DayOfWeek.WEDNESDAY, new ArrayList<>(Arrays.asList(lessons.get(2))));
+        expectedLessons.put(DayOfWeek.WEDNESDAY, new ArrayList<>(Arrays.asList(lessonViews.get(2))));
         expectedLessons.put(DayOfWeek.THURSDAY, new ArrayList<>());
-        expectedLessons.put(DayOfWeek.FRIDAY, new ArrayList<>(Arrays.asList(lessons.get(0))));
+        expectedLessons.put(DayOfWeek.FRIDAY, new ArrayList<>(Arrays.asList(lessonViews.get(0))));
         expectedLessons.put(DayOfWeek.SATURDAY, new ArrayList<>());
 
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(Arrays.asList(
                 "Try to get week lessons for a group with id: " + groupId + ".",
-                "When get week lessons for a group with id " + groupId + " the result is: " + expectedLessons + "."));
+                "When get week lessons for a group with id " + groupId + " the result is: "
+                        + LogSummary.of(expectedLessons) + "."));
 
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
@@ -1549,7 +1913,7 @@ class LessonServiceTest {
         int testId = 1;
         YearMonth testMonth = YearMonth.of(2020, 12);
 
-        when(lessonRepository.findByGroupIdAndDay(anyInt(), any(DayOfWeek.class))).thenThrow(RepositoryException.class);
+        when(lessonRepository.findWeekLessonsForGroup(anyInt())).thenThrow(RepositoryException.class);
 
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.ERROR));
@@ -1603,21 +1967,20 @@ class LessonServiceTest {
             lessons.get(i).setLessonTime(lessonTimes.get(i));
         }
 
-        when(lessonRepository.findByGroupIdAndDay(groupId, DayOfWeek.THURSDAY)).thenReturn(lessons.subList(0, 1));
-        when(lessonRepository.findByGroupIdAndDay(groupId, DayOfWeek.MONDAY)).thenReturn(lessons.subList(1, 2));
-        when(lessonRepository.findByGroupIdAndDay(groupId, DayOfWeek.WEDNESDAY)).thenReturn(lessons.subList(2, 3));
+        List<LessonView> lessonViews = createLessonViews(lessons);
+        when(lessonRepository.findWeekLessonsForGroup(groupId)).thenReturn(lessonViews);
 
-        Map<LocalDate, List<Lesson>> expectedLessons = new TreeMap<>();
+        Map<LocalDate, List<LessonView>> expectedLessons = new TreeMap<>();
 
         for (int i = 1; i <= month.lengthOfMonth(); i++) {
             LocalDate day = month.atDay(i);
 
             if (i % 7 == 3) {
-                expectedLessons.put(day, new ArrayList<Lesson>(Arrays.asList(lessons.get(0))));
+                expectedLessons.put(day, new ArrayList<LessonView>(Arrays.asList(lessonViews.get(0))));
             } else if (i % 7 == 0) {
-                expectedLessons.put(day, new ArrayList<Lesson>(Arrays.asList(lessons.get(1))));
+                expectedLessons.put(day, new ArrayList<LessonView>(Arrays.asList(lessonViews.get(1))));
             } else if (i % 7 == 2) {
-                expectedLessons.put(day, new ArrayList<Lesson>(Arrays.asList(lessons.get(2))));
+                expectedLessons.put(day, new ArrayList<LessonView>(Arrays.asList(lessonViews.get(2))));
             } else {
                 expectedLessons.put(day, new ArrayList<>());
             }
@@ -1629,7 +1992,7 @@ class LessonServiceTest {
                 "Try to get " + month.getMonth() + " month of " + month.getYear()
                         + " year lessons for a group with id: " + groupId + ".",
                 "When get " + month.getMonth() + " month of " + month.getYear() + " year lessons for a group with id "
-                        + groupId + " the result is: " + expectedLessons + "."));
+                        + groupId + " the result is: " + LogSummary.of(expectedLessons) + "."));
 
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
@@ -1706,7 +2069,7 @@ class LessonServiceTest {
     void shouldGenerateLogsWhenRepositoryExceptionWhileGetLecturerWeekLessons() {
         int testId = 10;
 
-        when(lessonRepository.findByLecturerIdAndDay(anyInt(), any(DayOfWeek.class))).thenThrow(RepositoryException.class);
+        when(lessonRepository.findWeekLessonsForLecturer(anyInt())).thenThrow(RepositoryException.class);
 
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.ERROR));
@@ -1756,15 +2119,14 @@ class LessonServiceTest {
             lessons.get(i).setLessonTime(lessonTimes.get(i));
         }
 
-        when(lessonRepository.findByLecturerIdAndDay(lecturerId, DayOfWeek.TUESDAY)).thenReturn(lessons.subList(0, 1));
-        when(lessonRepository.findByLecturerIdAndDay(lecturerId, DayOfWeek.MONDAY)).thenReturn(lessons.subList(1, 2));
-        when(lessonRepository.findByLecturerIdAndDay(lecturerId, DayOfWeek.WEDNESDAY)).thenReturn(lessons.subList(2, 3));
+        List<LessonView> lessonViews = createLessonViews(lessons);
+        when(lessonRepository.findWeekLessonsForLecturer(lecturerId)).thenReturn(lessonViews);
 
-        Map<DayOfWeek, List<Lesson>> expectedLessons = new TreeMap<>();
+        Map<DayOfWeek, List<LessonView>> expectedLessons = new TreeMap<>();
         expectedLessons.put(DayOfWeek.SUNDAY, new ArrayList<>());
-        expectedLessons.put(DayOfWeek.MONDAY, new ArrayList<>(Arrays.asList(lessons.get(1))));
-        expectedLessons.put(DayOfWeek.TUESDAY, new ArrayList<>(Arrays.asList(lessons.get(0))));
-        expectedLessons.put(DayOfWeek.WEDNESDAY, new ArrayList<>(Arrays.asList(lessons.get(2))));
+        expectedLessons.put(DayOfWeek.MONDAY, new ArrayList<>(Arrays.asList(lessonViews.get(1))));
+        expectedLessons.put(DayOfWeek.TUESDAY, new ArrayList<>(Arrays.asList(lessonViews.get(0))));
+        expectedLessons.put(DayOfWeek.WEDNESDAY, new ArrayList<>(Arrays.asList(lessonViews.get(2))));
         expectedLessons.put(DayOfWeek.THURSDAY, new ArrayList<>());
         expectedLessons.put(DayOfWeek.FRIDAY, new ArrayList<>());
         expectedLessons.put(DayOfWeek.SATURDAY, new ArrayList<>());
@@ -1774,7 +2136,7 @@ class LessonServiceTest {
         List<String> expectedMessages = new ArrayList<>(
                 Arrays.asList("Try to get week lessons for a lecturer with id: " + lecturerId + ".",
                         "When get week lessons for a lecturer with id " + lecturerId + " the result is: "
-                                + expectedLessons + "."));
+                                + LogSummary.of(expectedLessons) + "."));
 
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
@@ -1858,7 +2220,7 @@ class LessonServiceTest {
         int testId = 6;
         YearMonth testMonth = YearMonth.of(2020, 9);
 
-        when(lessonRepository.findByLecturerIdAndDay(anyInt(), any(DayOfWeek.class))).thenThrow(RepositoryException.class);
+        when(lessonRepository.findWeekLessonsForLecturer(anyInt())).thenThrow(RepositoryException.class);
 
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.ERROR));
@@ -1911,19 +2273,18 @@ class LessonServiceTest {
             lessons.get(i).setLessonTime(lessonTimes.get(i));
         }
 
-        when(lessonRepository.findByLecturerIdAndDay(lecturerId, DayOfWeek.THURSDAY)).thenReturn(lessons.subList(0, 1));
-        when(lessonRepository.findByLecturerIdAndDay(lecturerId, DayOfWeek.MONDAY)).thenReturn(lessons.subList(1, 2));
-        when(lessonRepository.findByLecturerIdAndDay(lecturerId, DayOfWeek.FRIDAY)).thenReturn(lessons.subList(2, 3));
+        List<LessonView> lessonViews = createLessonViews(lessons);
+        when(lessonRepository.findWeekLessonsForLecturer(lecturerId)).thenReturn(lessonViews);
 
-        Map<LocalDate, List<Lesson>> expectedLessons = new TreeMap<>();
+        Map<LocalDate, List<LessonView>> expectedLessons = new TreeMap<>();
 
         for (int i = 1; i <= month.lengthOfMonth(); i++) {
             if (i % 7 == 1) {
-                expectedLessons.put(month.atDay(i), new ArrayList<Lesson>(Arrays.asList(lessons.get(0))));
+                expectedLessons.put(month.atDay(i), new ArrayList<LessonView>(Arrays.asList(lessonViews.get(0))));
             } else if (i % 7 == 5) {
-                expectedLessons.put(month.atDay(i), new ArrayList<Lesson>(Arrays.asList(lessons.get(1))));
+                expectedLessons.put(month.atDay(i), new ArrayList<LessonView>(Arrays.asList(lessonViews.get(1))));
             } else if (i % 7 == 2) {
-                expectedLessons.put(month.atDay(i), new ArrayList<Lesson>(Arrays.asList(lessons.get(2))));
+                expectedLessons.put(month.atDay(i), new ArrayList<LessonView>(Arrays.asList(lessonViews.get(2))));
             } else {
                 expectedLessons.put(month.atDay(i), new ArrayList<>());
             }
@@ -1935,8 +2296,8 @@ class LessonServiceTest {
                 "Try to get " + month.getMonth() + " month of " + month.getYear()
                         + " year lessons for a lecturer with id: " + lecturerId + ".",
                 "When get " + month.getMonth() + " month of " + month.getYear()
-                        + " year lessons for a lecturer with id " + lecturerId + " the result is: " + expectedLessons
-                        + "."));
+                        + " year lessons for a lecturer with id " + lecturerId + " the result is: "
+                        + LogSummary.of(expectedLessons) + "."));
 
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
@@ -1953,4 +2314,49 @@ class LessonServiceTest {
             assertEquals(expectedLogs.get(i).getFormattedMessage(), actualLogs.get(i).getFormattedMessage());
         }
     }
-}
\ No newline at end of file
+
+    private static ScheduleSubscriber queueing(BlockingQueue<ScheduleChange> changes) {
+        return new ScheduleSubscriber() {
+
+            @Override
+            public void onChange(ScheduleChange change) {
+                changes.add(change);
+            }
+
+            @Override
+            public void onHeartbeat() {
+            }
+
+            @Override
+            public void onDropped() {
+            }
+        };
+    }
+
+    private LessonView createLessonView(int id, DayOfWeek day) {
+        Lesson lesson = new Lesson();
+        lesson.setId(id);
+        lesson.setName("Lesson-" + id);
+        lesson.setAudience("10" + id);
+        lesson.setLecturer(lecturer1);
+        lesson.setGroup(group1);
+        lesson.setDay(day);
+        lesson.setLessonTime(lessonTime1);
+        return createLessonView(lesson);
+    }
+
+    private List<LessonView> createLessonViews(List<Lesson> lessons) {
+        List<LessonView> lessonViews = new ArrayList<>();
+        for (Lesson lesson : lessons) {
+            lessonViews.add(createLessonView(lesson));
+        }
+        return lessonViews;
+    }
+
+    private static LessonView createLessonView(Lesson lesson) {
+        return new LessonView(lesson.getId(), lesson.getName(), lesson.getDay(), lesson.getLessonTime().getId(),
+                lesson.getLessonTime().getStartTime(), lesson.getLessonTime().getEndTime(), lesson.getAudience(),
+                lesson.getLecturer().getId(), lesson.getLecturer().getFirstName(), lesson.getLecturer().getLastName(),
+                lesson.getGroup().getId(), lesson.getGroup().getName());
+    }
+}
\ No newline at end of file
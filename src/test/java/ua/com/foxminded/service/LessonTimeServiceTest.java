@@ -1,11 +1,15 @@
 package ua.com.foxminded.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doThrow;
 
+import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -30,11 +34,21 @@ import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.spi.LoggingEvent;
 import ch.qos.logback.core.read.ListAppender;
+import ua.com.foxminded.domain.Faculty;
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.Lesson;
 import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.logging.WarningRateLimiter;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
+import ua.com.foxminded.repositories.interfaces.LessonRepository;
 import ua.com.foxminded.repositories.interfaces.LessonTimeRepository;
 import ua.com.foxminded.service.aspects.GeneralServiceAspect;
 import ua.com.foxminded.service.aspects.LessonTimeAspect;
+import ua.com.foxminded.service.cache.ReferenceDataCache;
+import ua.com.foxminded.service.conflicts.LessonConflictIndex;
+import ua.com.foxminded.service.exceptions.LessonConflictException;
 import ua.com.foxminded.service.exceptions.ServiceException;
 import ua.com.foxminded.settings.SpringTestConfiguration;
 
@@ -53,12 +67,27 @@ class LessonTimeServiceTest {
     @Autowired
     private LessonTimeService lessonTimeService;
 
+    @Autowired
+    private ReferenceDataCache referenceDataCache;
+
+    @Autowired
+    private WarningRateLimiter warningRateLimiter;
+
+    @Autowired
+    private LessonConflictIndex lessonConflictIndex;
+
     @MockBean
     private LessonTimeRepository lessonTimeRepository;
 
+    @MockBean
+    private LessonRepository lessonRepository;
+
     @BeforeEach
     void init() {
         ReflectionTestUtils.setField(lessonTimeService, "lessonTimeRepository", lessonTimeRepository);
+        warningRateLimiter.reset();
+        referenceDataCache.invalidateAll();
+        lessonConflictIndex.invalidate();
         
         LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
         Logger generalLogger = (Logger) ReflectionTestUtils.getField(generalServiceAspect, "logger");
@@ -95,6 +124,25 @@ class LessonTimeServiceTest {
         verify(lessonTimeRepository).findAll();
     }
 
+    @Test
+    void shouldTakeAllLessonTimesFromCacheWhenGetThemAgain() {
+        List<LessonTime> firstLessonTimes = lessonTimeService.getAll();
+        List<LessonTime> secondLessonTimes = lessonTimeService.getAll();
+
+        verify(lessonTimeRepository, times(1)).findAll();
+        assertSame(firstLessonTimes, secondLessonTimes);
+        assertThrows(UnsupportedOperationException.class, () -> firstLessonTimes.add(new LessonTime()));
+    }
+
+    @Test
+    void shouldReloadAllLessonTimesWhenLessonTimeIsDeleted() {
+        lessonTimeService.getAll();
+        lessonTimeService.deleteById(4);
+        lessonTimeService.getAll();
+
+        verify(lessonTimeRepository, times(2)).findAll();
+    }
+
     @Test
     void shouldGetLessonTimeById() {
         int lessonTimeId = 2;
@@ -120,6 +168,52 @@ class LessonTimeServiceTest {
         verify(lessonTimeRepository).save(lessonTime);
     }
 
+    @Test
+    void shouldThrowServiceExceptionWhenLessonsAtUpdatedLessonTimeConflict() {
+        Lecturer lecturer = new Lecturer();
+        lecturer.setId(1);
+        Faculty faculty = new Faculty();
+        faculty.setId(1);
+        LessonTime morningTime = new LessonTime();
+        morningTime.setId(1);
+        morningTime.setStartTime(LocalTime.of(9, 0));
+        morningTime.setEndTime(LocalTime.of(10, 30));
+        LessonTime afternoonTime = new LessonTime();
+        afternoonTime.setId(2);
+        afternoonTime.setStartTime(LocalTime.of(12, 30));
+        afternoonTime.setEndTime(LocalTime.of(14, 0));
+
+        List<Lesson> lessons = new ArrayList<>();
+        for (LessonTime lessonTime : Arrays.asList(morningTime, afternoonTime)) {
+            Group group = new Group();
+            group.setId(lessonTime.getId());
+            group.setFaculty(faculty);
+            Lesson lesson = new Lesson();
+            lesson.setId(lessonTime.getId());
+            lesson.setName("Lesson-" + lessonTime.getId());
+            lesson.setAudience("10" + lessonTime.getId());
+            lesson.setLecturer(lecturer);
+            lesson.setGroup(group);
+            lesson.setDay(DayOfWeek.MONDAY);
+            lesson.setLessonTime(lessonTime);
+            lessons.add(lesson);
+        }
+        when(lessonRepository.findAll()).thenReturn(lessons);
+
+        LessonTime updatedTime = new LessonTime();
+        updatedTime.setId(morningTime.getId());
+        updatedTime.setStartTime(LocalTime.of(13, 0));
+        updatedTime.setEndTime(LocalTime.of(14, 30));
+        ServiceException exception = assertThrows(ServiceException.class, () -> lessonTimeService.update(updatedTime));
+
+        assertEquals("Lessons at a given lesson time conflict with other lessons when update.",
+                exception.getMessage());
+        LessonConflictException conflictException = (LessonConflictException) exception.getException();
+        assertEquals(1, conflictException.getConflicts().size());
+        assertEquals("Lesson-2", conflictException.getConflicts().get(0).getLessonName());
+        verify(lessonTimeRepository, never()).save(updatedTime);
+    }
+
     @Test
     void shouldDeleteLessonTimeById() {
         int lessonTimeId = 4;
@@ -555,7 +649,8 @@ class LessonTimeServiceTest {
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(
-                Arrays.asList("Try to get all objects.", "The result is: " + expectedLessonTimes + "."));
+                Arrays.asList("Try to get all objects.",
+                        "The result is: " + LogSummary.of(expectedLessonTimes) + "."));
 
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
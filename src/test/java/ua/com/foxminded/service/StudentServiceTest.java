@@ -2,6 +2,7 @@ package ua.com.foxminded.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doThrow;
@@ -18,6 +19,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.web.WebAppConfiguration;
@@ -33,7 +36,10 @@ import ua.com.foxminded.domain.Faculty;
 import ua.com.foxminded.domain.Gender;
 import ua.com.foxminded.domain.Group;
 import ua.com.foxminded.domain.Student;
+import ua.com.foxminded.logging.LogSummary;
+import ua.com.foxminded.logging.WarningRateLimiter;
 import ua.com.foxminded.repositories.exceptions.RepositoryException;
+import ua.com.foxminded.repositories.interfaces.GroupRepository;
 import ua.com.foxminded.repositories.interfaces.StudentRepository;
 import ua.com.foxminded.service.aspects.GeneralServiceAspect;
 import ua.com.foxminded.service.aspects.PersonAspect;
@@ -59,15 +65,25 @@ class StudentServiceTest {
     @Autowired
     private StudentService studentService;
 
+    @Autowired
+    private WarningRateLimiter warningRateLimiter;
+
     @MockBean
     private StudentRepository studentRepository;
 
+    @MockBean
+    private GroupRepository groupRepository;
+
     private Group group1;
     private Group group2;
 
     @BeforeEach
     void init() {
         ReflectionTestUtils.setField(studentService, "studentRepository", studentRepository);
+        ReflectionTestUtils.setField(studentService, "groupRepository", groupRepository);
+        when(groupRepository.takeStudentPlace(1)).thenReturn(1);
+        when(groupRepository.takeStudentPlace(2)).thenReturn(1);
+        warningRateLimiter.reset();
 
         LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
         Logger generalLogger = (Logger) ReflectionTestUtils.getField(generalServiceAspect, "logger");
@@ -112,6 +128,7 @@ class StudentServiceTest {
         creatingStudent.setGroup(group2);
 
         studentService.create(creatingStudent);
+        verify(groupRepository).takeStudentPlace(2);
         verify(studentRepository).save(creatingStudent);
     }
 
@@ -121,6 +138,34 @@ class StudentServiceTest {
         verify(studentRepository).findAll();
     }
 
+    @Test
+    void shouldGetPageOfStudents() {
+        studentService.getPage(2, 10);
+        verify(studentRepository).findAll(PageRequest.of(2, 10, Sort.by("id")));
+    }
+
+    @Test
+    void shouldGetStudentsAfterId() {
+        studentService.getAfter(40, 10);
+        verify(studentRepository).findByIdGreaterThan(40, PageRequest.of(0, 10, Sort.by("id")));
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenSizeIsTooBigWhileGetPage() {
+        RuntimeException exception = assertThrows(ServiceException.class, () -> studentService.getPage(0, 501));
+
+        String message = "A given page is incorrect when getPage.";
+        assertEquals(message, exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenIdIsNegativeWhileGetAfter() {
+        RuntimeException exception = assertThrows(ServiceException.class, () -> studentService.getAfter(-1, 10));
+
+        String message = "A given id or size is incorrect when getAfter.";
+        assertEquals(message, exception.getMessage());
+    }
+
     @Test
     void shouldGetStudentById() {
         int studentId = 1;
@@ -162,6 +207,42 @@ class StudentServiceTest {
         verify(studentRepository).save(student);
     }
 
+    @Test
+    void shouldMoveStudentPlaceWhenGroupIsChangedWhileUpdate() {
+        Student student = new Student();
+        student.setId(3);
+        student.setFirstName("Mykyta");
+        student.setLastName("Kozhumiaka");
+        student.setGender(Gender.MALE);
+        student.setPhoneNumber("+380455247985");
+        student.setEmail("kozhumiaka@test.com");
+        student.setGroup(group2);
+        when(studentRepository.findGroupIdById(3)).thenReturn(Optional.of(1));
+
+        studentService.update(student);
+        verify(groupRepository).takeStudentPlace(2);
+        verify(groupRepository).releaseStudentPlace(1);
+        verify(studentRepository).save(student);
+    }
+
+    @Test
+    void shouldNotMoveStudentPlaceWhenGroupIsNotChangedWhileUpdate() {
+        Student student = new Student();
+        student.setId(3);
+        student.setFirstName("Mykyta");
+        student.setLastName("Kozhumiaka");
+        student.setGender(Gender.MALE);
+        student.setPhoneNumber("+380455247985");
+        student.setEmail("kozhumiaka@test.com");
+        student.setGroup(group2);
+        when(studentRepository.findGroupIdById(3)).thenReturn(Optional.of(2));
+
+        studentService.update(student);
+        verify(groupRepository, never()).takeStudentPlace(2);
+        verify(groupRepository, never()).releaseStudentPlace(2);
+        verify(studentRepository).save(student);
+    }
+
     @Test
     void shouldDeleteStudentById() {
         int testId = 1;
@@ -169,6 +250,16 @@ class StudentServiceTest {
         verify(studentRepository).deleteById(testId);
     }
 
+    @Test
+    void shouldReleaseStudentPlaceWhenDeleteById() {
+        int testId = 1;
+        when(studentRepository.findGroupIdById(testId)).thenReturn(Optional.of(2));
+
+        studentService.deleteById(testId);
+        verify(groupRepository).releaseStudentPlace(2);
+        verify(studentRepository).deleteById(testId);
+    }
+
     @Test
     void shouldThrowServiceExceptionWhenStudentIsNullWhileCreate() {
         Student student = null;
@@ -398,6 +489,44 @@ class StudentServiceTest {
         assertEquals(message, exception.getMessage());
     }
 
+    @Test
+    void shouldThrowServiceExceptionWhenGroupIsFullWhileCreate() {
+        Student student = new Student();
+        student.setFirstName("Viacheslav");
+        student.setLastName("Iaremenko");
+        student.setGender(Gender.MALE);
+        student.setPhoneNumber("+380961234567");
+        student.setEmail("VIaremenko@gmail.com");
+        student.setGroup(group1);
+        when(groupRepository.takeStudentPlace(1)).thenReturn(0);
+
+        ServiceException exception = assertThrows(ServiceException.class, () -> studentService.create(student));
+
+        assertEquals("A given student can't be placed in the group when create.", exception.getMessage());
+        assertEquals(IllegalArgumentException.class, exception.getException().getClass());
+        verify(studentRepository, never()).save(student);
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenGroupIsFullWhileUpdate() {
+        Student student = new Student();
+        student.setId(3);
+        student.setFirstName("Viacheslav");
+        student.setLastName("Iaremenko");
+        student.setGender(Gender.MALE);
+        student.setPhoneNumber("+380961234567");
+        student.setEmail("VIaremenko@gmail.com");
+        student.setGroup(group1);
+        when(studentRepository.findGroupIdById(3)).thenReturn(Optional.of(2));
+        when(groupRepository.takeStudentPlace(1)).thenReturn(0);
+
+        ServiceException exception = assertThrows(ServiceException.class, () -> studentService.update(student));
+
+        assertEquals("A given student can't be placed in the group when update.", exception.getMessage());
+        verify(groupRepository, never()).releaseStudentPlace(2);
+        verify(studentRepository, never()).save(student);
+    }
+
     @Test
     void shouldThrowServiceExceptionWhenRepositoryExceptionWhileCreate() {
         Student student = new Student();
@@ -757,7 +886,7 @@ class StudentServiceTest {
         List<LoggingEvent> expectedLogs = new ArrayList<>(Arrays.asList(new LoggingEvent(), new LoggingEvent()));
         List<Level> expectedLevels = new ArrayList<>(Arrays.asList(Level.DEBUG, Level.DEBUG));
         List<String> expectedMessages = new ArrayList<>(
-                Arrays.asList("Try to get all objects.", "The result is: " + expectedStudents + "."));
+                Arrays.asList("Try to get all objects.", "The result is: " + LogSummary.of(expectedStudents) + "."));
 
         for (int i = 0; i < expectedLogs.size(); i++) {
             expectedLogs.get(i).setLevel(expectedLevels.get(i));
@@ -0,0 +1,177 @@
+package ua.com.foxminded.service.availability;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.repositories.interfaces.LessonRepository;
+import ua.com.foxminded.repositories.interfaces.LessonTimeRepository;
+
+class OccupancyIndexTest {
+    private static final int SLOTS_IN_WEEK = 6 * 3;
+
+    private LessonRepository lessonRepository;
+    private LessonTimeRepository lessonTimeRepository;
+    private OccupancyIndex occupancyIndex;
+    private List<LessonTime> lessonTimes;
+
+    @BeforeEach
+    void init() {
+        lessonRepository = mock(LessonRepository.class);
+        lessonTimeRepository = mock(LessonTimeRepository.class);
+        occupancyIndex = new OccupancyIndex(lessonRepository, lessonTimeRepository);
+
+        lessonTimes = new ArrayList<>(Arrays.asList(
+                lessonTime(2, LocalTime.of(10, 0), LocalTime.of(11, 30)),
+                lessonTime(1, LocalTime.of(8, 0), LocalTime.of(9, 30)),
+                lessonTime(3, LocalTime.of(12, 0), LocalTime.of(13, 30))));
+        when(lessonTimeRepository.findAll()).thenReturn(lessonTimes);
+    }
+
+    @Test
+    void shouldFindAllWorkingSlotsInWeekOrderWhenResourcesHaveNoLessons() {
+        when(lessonRepository.findAll()).thenReturn(Collections.emptyList());
+
+        List<AvailableSlot> slots = occupancyIndex.findFreeSlots(Arrays.asList(1), Arrays.asList(1),
+                Arrays.asList("101"), 100);
+
+        assertEquals(SLOTS_IN_WEEK, slots.size());
+        assertEquals(new AvailableSlot(DayOfWeek.MONDAY, lessonTimes.get(1), 0), slots.get(0));
+        assertEquals(new AvailableSlot(DayOfWeek.MONDAY, lessonTimes.get(0), 0), slots.get(1));
+        assertEquals(new AvailableSlot(DayOfWeek.SATURDAY, lessonTimes.get(2), 0), slots.get(SLOTS_IN_WEEK - 1));
+    }
+
+    @Test
+    void shouldExcludeSlotsWhereAnyResourceIsBusy() {
+        when(lessonRepository.findAll()).thenReturn(Arrays.asList(
+                lesson(1, DayOfWeek.MONDAY, lessonTimes.get(1), 1, 1, "101"),
+                lesson(2, DayOfWeek.TUESDAY, lessonTimes.get(0), 2, 2, "102"),
+                lesson(3, DayOfWeek.WEDNESDAY, lessonTimes.get(2), 3, 3, " 103 ")));
+
+        List<AvailableSlot> slots = occupancyIndex.findFreeSlots(Arrays.asList(1), Arrays.asList(2),
+                Arrays.asList("103"), 100);
+
+        assertEquals(SLOTS_IN_WEEK - 3, slots.size());
+        assertFalse(slots.contains(new AvailableSlot(DayOfWeek.MONDAY, lessonTimes.get(1), 0)));
+        assertTrue(slots.stream().noneMatch(slot -> slot.getDay() == DayOfWeek.TUESDAY
+                && slot.getLessonTime().equals(lessonTimes.get(0))));
+        assertTrue(slots.stream().noneMatch(slot -> slot.getDay() == DayOfWeek.WEDNESDAY
+                && slot.getLessonTime().equals(lessonTimes.get(2))));
+    }
+
+    @Test
+    void shouldBlockEveryLessonTimeOverlappedByLesson() {
+        LessonTime longTime = lessonTime(4, LocalTime.of(9, 0), LocalTime.of(10, 30));
+        lessonTimes.add(longTime);
+        when(lessonRepository.findAll()).thenReturn(Arrays.asList(
+                lesson(1, DayOfWeek.MONDAY, longTime, 1, 1, "101")));
+
+        List<AvailableSlot> slots = occupancyIndex.findFreeSlots(Arrays.asList(1), null, null, 100);
+
+        assertEquals(6 * 4 - 3, slots.size());
+        assertTrue(slots.stream().noneMatch(slot -> slot.getDay() == DayOfWeek.MONDAY
+                && slot.getLessonTime().getId() != 3));
+    }
+
+    @Test
+    void shouldRankSlotsNextToLessonsOfResourcesFirst() {
+        when(lessonRepository.findAll()).thenReturn(Arrays.asList(
+                lesson(1, DayOfWeek.THURSDAY, lessonTimes.get(0), 1, 1, "101"),
+                lesson(2, DayOfWeek.FRIDAY, lessonTimes.get(1), 2, 2, "102")));
+
+        List<AvailableSlot> slots = occupancyIndex.findFreeSlots(Arrays.asList(1), Arrays.asList(2), null, 3);
+
+        assertEquals(Arrays.asList(
+                new AvailableSlot(DayOfWeek.THURSDAY, lessonTimes.get(1), 1),
+                new AvailableSlot(DayOfWeek.THURSDAY, lessonTimes.get(2), 1),
+                new AvailableSlot(DayOfWeek.FRIDAY, lessonTimes.get(0), 1)), slots);
+    }
+
+    @Test
+    void shouldIgnoreLessonsOnSunday() {
+        when(lessonRepository.findAll()).thenReturn(Arrays.asList(
+                lesson(1, DayOfWeek.SUNDAY, lessonTimes.get(0), 1, 1, "101")));
+
+        assertEquals(SLOTS_IN_WEEK, occupancyIndex.findFreeSlots(Arrays.asList(1), null, null, 100).size());
+    }
+
+    @Test
+    void shouldFollowPutAndRemovedLessons() {
+        when(lessonRepository.findAll()).thenReturn(Collections.emptyList());
+        occupancyIndex.findFreeSlots(Arrays.asList(1), null, null, 100);
+
+        occupancyIndex.put(lesson(1, DayOfWeek.MONDAY, lessonTimes.get(1), 1, 1, "101"));
+        occupancyIndex.putAll(Arrays.asList(lesson(2, DayOfWeek.MONDAY, lessonTimes.get(0), 1, 2, "102")));
+        assertEquals(SLOTS_IN_WEEK - 2, occupancyIndex.findFreeSlots(Arrays.asList(1), null, null, 100).size());
+
+        occupancyIndex.put(lesson(1, DayOfWeek.TUESDAY, lessonTimes.get(1), 1, 1, "101"));
+        List<AvailableSlot> slots = occupancyIndex.findFreeSlots(null, null, Arrays.asList("101"), 100);
+        assertTrue(slots.contains(new AvailableSlot(DayOfWeek.MONDAY, lessonTimes.get(1), 0)));
+        assertFalse(slots.stream().anyMatch(slot -> slot.getDay() == DayOfWeek.TUESDAY
+                && slot.getLessonTime().equals(lessonTimes.get(1))));
+
+        occupancyIndex.remove(1);
+        occupancyIndex.remove(2);
+        assertEquals(SLOTS_IN_WEEK, occupancyIndex.findFreeSlots(Arrays.asList(1), null, null, 100).size());
+        verify(lessonRepository, times(1)).findAll();
+    }
+
+    @Test
+    void shouldLoadIndexAgainWhenItIsInvalidatedOrLessonTimeIsUnknown() {
+        when(lessonRepository.findAll()).thenReturn(Collections.emptyList());
+        occupancyIndex.findFreeSlots(Arrays.asList(1), null, null, 100);
+
+        occupancyIndex.invalidate();
+        occupancyIndex.findFreeSlots(Arrays.asList(1), null, null, 100);
+        occupancyIndex.put(lesson(1, DayOfWeek.MONDAY, lessonTime(5, LocalTime.of(15, 0), LocalTime.of(16, 30)),
+                1, 1, "101"));
+        occupancyIndex.findFreeSlots(Arrays.asList(1), null, null, 100);
+
+        verify(lessonRepository, times(3)).findAll();
+        verify(lessonTimeRepository, times(3)).findAll();
+    }
+
+    private static LessonTime lessonTime(int id, LocalTime startTime, LocalTime endTime) {
+        LessonTime lessonTime = new LessonTime();
+        lessonTime.setId(id);
+        lessonTime.setStartTime(startTime);
+        lessonTime.setEndTime(endTime);
+        return lessonTime;
+    }
+
+    private static Lesson lesson(int id, DayOfWeek day, LessonTime lessonTime, int lecturerId, int groupId,
+            String audience) {
+        Lecturer lecturer = new Lecturer();
+        lecturer.setId(lecturerId);
+        Group group = new Group();
+        group.setId(groupId);
+
+        Lesson lesson = new Lesson();
+        lesson.setId(id);
+        lesson.setName("Lesson-" + id);
+        lesson.setDay(day);
+        lesson.setLessonTime(lessonTime);
+        lesson.setLecturer(lecturer);
+        lesson.setGroup(group);
+        lesson.setAudience(audience);
+        return lesson;
+    }
+}
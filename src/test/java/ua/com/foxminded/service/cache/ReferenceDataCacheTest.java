@@ -0,0 +1,73 @@
+package ua.com.foxminded.service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ua.com.foxminded.domain.Faculty;
+import ua.com.foxminded.domain.Group;
+
+class ReferenceDataCacheTest {
+    private ReferenceDataCache referenceDataCache;
+    private Faculty faculty;
+
+    @BeforeEach
+    void init() {
+        referenceDataCache = new ReferenceDataCache();
+
+        faculty = new Faculty();
+        faculty.setId(1);
+        faculty.setName("Faculty-1");
+    }
+
+    @Test
+    void shouldReturnUnmodifiableSnapshotOfPutList() {
+        List<Faculty> faculties = new ArrayList<>(Arrays.asList(faculty));
+
+        List<Faculty> snapshot = referenceDataCache.put(Faculty.class, faculties, referenceDataCache.getVersion());
+        faculties.clear();
+
+        assertEquals(Arrays.asList(faculty), snapshot);
+        assertEquals(snapshot, referenceDataCache.get(Faculty.class));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.remove(faculty));
+    }
+
+    @Test
+    void shouldInvalidateOnlyGivenTypes() {
+        referenceDataCache.put(Faculty.class, Arrays.asList(faculty), referenceDataCache.getVersion());
+        referenceDataCache.put(Group.class, new ArrayList<>(), referenceDataCache.getVersion());
+
+        referenceDataCache.invalidate(Group.class);
+
+        assertNotNull(referenceDataCache.get(Faculty.class));
+        assertNull(referenceDataCache.get(Group.class));
+    }
+
+    @Test
+    void shouldNotCacheListLoadedBeforeInvalidation() {
+        long version = referenceDataCache.getVersion();
+        referenceDataCache.invalidate(Faculty.class);
+
+        List<Faculty> snapshot = referenceDataCache.put(Faculty.class, Arrays.asList(faculty), version);
+
+        assertEquals(Arrays.asList(faculty), snapshot);
+        assertNull(referenceDataCache.get(Faculty.class));
+    }
+
+    @Test
+    void shouldInvalidateAll() {
+        referenceDataCache.put(Faculty.class, Arrays.asList(faculty), referenceDataCache.getVersion());
+
+        referenceDataCache.invalidateAll();
+
+        assertNull(referenceDataCache.get(Faculty.class));
+    }
+}
@@ -0,0 +1,161 @@
+package ua.com.foxminded.service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.domain.LessonView;
+
+class ScheduleCacheTest {
+    private ScheduleCache scheduleCache;
+    private Lesson lesson;
+    private Group group;
+    private Lecturer lecturer;
+    private LessonTime lessonTime;
+
+    @BeforeEach
+    void init() {
+        scheduleCache = new ScheduleCache(2);
+
+        group = new Group();
+        group.setId(1);
+        lecturer = new Lecturer();
+        lecturer.setId(1);
+        lessonTime = new LessonTime();
+        lessonTime.setId(1);
+
+        lesson = new Lesson();
+        lesson.setId(1);
+        lesson.setGroup(group);
+        lesson.setLecturer(lecturer);
+        lesson.setLessonTime(lessonTime);
+        lesson.setDay(DayOfWeek.MONDAY);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenMaximumSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ScheduleCache(0));
+    }
+
+    @Test
+    void shouldReturnCachedSchedule() {
+        ScheduleKey key = ScheduleKey.forWeek(ScheduleOwner.GROUP, group.getId());
+        Map<DayOfWeek, List<LessonView>> schedule = scheduleCache.put(key, weekSchedule(lesson),
+                scheduleCache.getVersion());
+
+        assertEquals(schedule, scheduleCache.get(key));
+        assertNull(scheduleCache.get(ScheduleKey.forMonth(ScheduleOwner.GROUP, group.getId(), YearMonth.of(2021, 3))));
+        assertThrows(UnsupportedOperationException.class, () -> schedule.remove(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedScheduleWhenCacheIsFull() {
+        ScheduleKey firstKey = ScheduleKey.forWeek(ScheduleOwner.GROUP, 1);
+        ScheduleKey secondKey = ScheduleKey.forWeek(ScheduleOwner.GROUP, 2);
+        ScheduleKey thirdKey = ScheduleKey.forWeek(ScheduleOwner.GROUP, 3);
+        scheduleCache.put(firstKey, weekSchedule(), scheduleCache.getVersion());
+        scheduleCache.put(secondKey, weekSchedule(), scheduleCache.getVersion());
+        scheduleCache.get(firstKey);
+
+        scheduleCache.put(thirdKey, weekSchedule(), scheduleCache.getVersion());
+
+        assertNotNull(scheduleCache.get(firstKey));
+        assertNull(scheduleCache.get(secondKey));
+        assertNotNull(scheduleCache.get(thirdKey));
+        assertEquals(1, scheduleCache.getStatistics().getEvictions());
+    }
+
+    @Test
+    void shouldInvalidateOnlySchedulesShowingLesson() {
+        ScheduleKey lecturerKey = ScheduleKey.forWeek(ScheduleOwner.LECTURER, lecturer.getId());
+        ScheduleKey otherGroupKey = ScheduleKey.forWeek(ScheduleOwner.GROUP, 2);
+        scheduleCache.put(lecturerKey, weekSchedule(lesson), scheduleCache.getVersion());
+        scheduleCache.put(otherGroupKey, weekSchedule(), scheduleCache.getVersion());
+
+        scheduleCache.invalidateLessonById(lesson.getId());
+
+        assertNull(scheduleCache.get(lecturerKey));
+        assertNotNull(scheduleCache.get(otherGroupKey));
+        assertEquals(1, scheduleCache.getStatistics().getInvalidations());
+    }
+
+    @Test
+    void shouldInvalidateOwnerSchedulesWhenLessonIsMovedToThem() {
+        ScheduleKey groupKey = ScheduleKey.forWeek(ScheduleOwner.GROUP, 2);
+        scheduleCache.put(groupKey, weekSchedule(), scheduleCache.getVersion());
+        Group otherGroup = new Group();
+        otherGroup.setId(2);
+        lesson.setGroup(otherGroup);
+
+        scheduleCache.invalidateLesson(lesson);
+
+        assertNull(scheduleCache.get(groupKey));
+    }
+
+    @Test
+    void shouldInvalidateSchedulesReferringToLessonTime() {
+        ScheduleKey key = ScheduleKey.forMonth(ScheduleOwner.LECTURER, lecturer.getId(), YearMonth.of(2021, 3));
+        scheduleCache.put(key, weekSchedule(lesson), scheduleCache.getVersion());
+
+        scheduleCache.invalidateReferences(LessonTime.class, lessonTime.getId());
+
+        assertNull(scheduleCache.get(key));
+    }
+
+    @Test
+    void shouldNotCacheScheduleLoadedBeforeInvalidation() {
+        ScheduleKey key = ScheduleKey.forWeek(ScheduleOwner.GROUP, group.getId());
+        long version = scheduleCache.getVersion();
+        scheduleCache.invalidateOwner(ScheduleOwner.GROUP, group.getId());
+
+        Map<DayOfWeek, List<LessonView>> schedule = scheduleCache.put(key, weekSchedule(lesson), version);
+
+        assertNotNull(schedule);
+        assertNull(scheduleCache.get(key));
+        assertEquals(0, scheduleCache.getStatistics().getSize());
+    }
+
+    @Test
+    void shouldCountHitsAndMisses() {
+        ScheduleKey key = ScheduleKey.forWeek(ScheduleOwner.GROUP, group.getId());
+        scheduleCache.get(key);
+        scheduleCache.put(key, weekSchedule(lesson), scheduleCache.getVersion());
+        scheduleCache.get(key);
+        scheduleCache.get(key);
+
+        ScheduleCacheStatistics statistics = scheduleCache.getStatistics();
+        assertEquals(2, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+        assertEquals(2.0 / 3, statistics.getHitRate());
+    }
+
+    private Map<DayOfWeek, List<LessonView>> weekSchedule(Lesson... lessons) {
+        Map<DayOfWeek, List<LessonView>> schedule = new TreeMap<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            schedule.put(day, new ArrayList<>());
+        }
+        for (Lesson scheduleLesson : Arrays.asList(lessons)) {
+            schedule.get(scheduleLesson.getDay()).add(new LessonView(scheduleLesson.getId(), scheduleLesson.getName(),
+                    scheduleLesson.getDay(), scheduleLesson.getLessonTime().getId(), null, null,
+                    scheduleLesson.getAudience(), scheduleLesson.getLecturer().getId(), null, null,
+                    scheduleLesson.getGroup().getId(), null));
+        }
+        return schedule;
+    }
+}
@@ -0,0 +1,83 @@
+package ua.com.foxminded.service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ScheduleVersionsTest {
+    private final Instant start = Instant.parse("2021-09-01T08:00:00Z");
+    private final Instant groupWrite = Instant.parse("2021-09-02T08:00:00Z");
+    private final Instant timetableWrite = Instant.parse("2021-09-03T08:00:00Z");
+
+    private ScheduleVersions scheduleVersions;
+
+    @BeforeEach
+    void init() {
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(start, groupWrite, timetableWrite);
+        scheduleVersions = new ScheduleVersions(clock);
+    }
+
+    @Test
+    void shouldGiveStrongETagAndStartTimeWhenScheduleIsNotChanged() {
+        ScheduleVersion version = scheduleVersions.get(ScheduleOwner.GROUP, 1);
+
+        assertTrue(version.getETag().matches("\"[0-9a-z]+-0-0\""));
+        assertEquals(start.toEpochMilli(), version.getLastModified());
+        assertEquals(version, scheduleVersions.get(ScheduleOwner.GROUP, 1));
+    }
+
+    @Test
+    void shouldChangeOnlyVersionOfTouchedOwner() {
+        ScheduleVersion groupVersion = scheduleVersions.get(ScheduleOwner.GROUP, 1);
+        ScheduleVersion lecturerVersion = scheduleVersions.get(ScheduleOwner.LECTURER, 1);
+        ScheduleVersion otherGroupVersion = scheduleVersions.get(ScheduleOwner.GROUP, 2);
+
+        scheduleVersions.touchOwner(ScheduleOwner.GROUP, 1);
+
+        ScheduleVersion changedVersion = scheduleVersions.get(ScheduleOwner.GROUP, 1);
+        assertNotEquals(groupVersion.getETag(), changedVersion.getETag());
+        assertEquals(groupWrite.toEpochMilli(), changedVersion.getLastModified());
+        assertEquals(lecturerVersion, scheduleVersions.get(ScheduleOwner.LECTURER, 1));
+        assertEquals(otherGroupVersion, scheduleVersions.get(ScheduleOwner.GROUP, 2));
+    }
+
+    @Test
+    void shouldChangeVersionsOfAllOwnersWhenTimetableIsTouched() {
+        scheduleVersions.touchOwner(ScheduleOwner.GROUP, 1);
+        ScheduleVersion groupVersion = scheduleVersions.get(ScheduleOwner.GROUP, 1);
+        ScheduleVersion lecturerVersion = scheduleVersions.get(ScheduleOwner.LECTURER, 1);
+
+        scheduleVersions.touchTimetable();
+
+        assertNotEquals(groupVersion.getETag(), scheduleVersions.get(ScheduleOwner.GROUP, 1).getETag());
+        assertNotEquals(lecturerVersion.getETag(), scheduleVersions.get(ScheduleOwner.LECTURER, 1).getETag());
+        assertEquals(timetableWrite.toEpochMilli(), scheduleVersions.get(ScheduleOwner.GROUP, 1).getLastModified());
+    }
+
+    @Test
+    void shouldGiveWholeSecondsAndChangeLastModifiedWhenScheduleIsChangedInSameSecond() {
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.parse("2021-09-01T08:00:00.200Z"),
+                Instant.parse("2021-09-01T08:00:00.400Z"), Instant.parse("2021-09-01T08:00:00.600Z"));
+        scheduleVersions = new ScheduleVersions(clock);
+        ScheduleVersion startVersion = scheduleVersions.get(ScheduleOwner.GROUP, 1);
+
+        scheduleVersions.touchOwner(ScheduleOwner.GROUP, 1);
+        ScheduleVersion firstVersion = scheduleVersions.get(ScheduleOwner.GROUP, 1);
+        scheduleVersions.touchTimetable();
+        ScheduleVersion secondVersion = scheduleVersions.get(ScheduleOwner.GROUP, 1);
+
+        assertEquals(Instant.parse("2021-09-01T08:00:01Z").toEpochMilli(), startVersion.getLastModified());
+        assertEquals(Instant.parse("2021-09-01T08:00:02Z").toEpochMilli(), firstVersion.getLastModified());
+        assertEquals(Instant.parse("2021-09-01T08:00:03Z").toEpochMilli(), secondVersion.getLastModified());
+    }
+}
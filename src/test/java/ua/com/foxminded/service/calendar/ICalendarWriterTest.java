@@ -0,0 +1,136 @@
+package ua.com.foxminded.service.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.domain.LessonView;
+
+class ICalendarWriterTest {
+    private final Instant stamp = Instant.parse("2021-10-01T08:00:00Z");
+
+    private ICalendarWriter calendarWriter;
+    private Lesson lesson;
+
+    @BeforeEach
+    void init() {
+        calendarWriter = new ICalendarWriter(ZoneId.of("Europe/Kiev"), LocalDate.of(2021, 9, 1));
+
+        Group group = new Group();
+        group.setId(1);
+        group.setName("AB-01");
+
+        Lecturer lecturer = new Lecturer();
+        lecturer.setId(2);
+        lecturer.setFirstName("Ivan");
+        lecturer.setLastName("Ivanov");
+
+        LessonTime lessonTime = new LessonTime();
+        lessonTime.setId(1);
+        lessonTime.setStartTime(LocalTime.of(9, 0));
+        lessonTime.setEndTime(LocalTime.of(10, 30));
+
+        lesson = new Lesson();
+        lesson.setId(7);
+        lesson.setName("Math; algebra, part 1");
+        lesson.setAudience("101");
+        lesson.setDay(DayOfWeek.MONDAY);
+        lesson.setGroup(group);
+        lesson.setLecturer(lecturer);
+        lesson.setLessonTime(lessonTime);
+    }
+
+    @Test
+    void shouldWriteWeeklyRecurringEventFromFirstLessonDayAfterStartDate() {
+        String calendar = write("Group AB-01");
+
+        assertTrue(calendar.startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n"));
+        assertTrue(calendar.endsWith("END:VCALENDAR\r\n"));
+        assertTrue(calendar.contains("BEGIN:VEVENT\r\n"
+                + "UID:lesson-7@university-timetable\r\n"
+                + "DTSTAMP:20211001T080000Z\r\n"
+                + "DTSTART;TZID=Europe/Kiev:20210906T090000\r\n"
+                + "DTEND;TZID=Europe/Kiev:20210906T103000\r\n"
+                + "RRULE:FREQ=WEEKLY\r\n"
+                + "SUMMARY:Math\\; algebra\\, part 1\r\n"
+                + "LOCATION:101\r\n"
+                + "DESCRIPTION:Lecturer: Ivan Ivanov\\nGroup: AB-01\r\n"
+                + "END:VEVENT\r\n"));
+    }
+
+    @Test
+    void shouldDescribeDaylightSavingTimeOfTimeZone() {
+        String calendar = write("Group AB-01");
+
+        assertTrue(calendar.contains("BEGIN:DAYLIGHT\r\n"
+                + "DTSTART:19700329T030000\r\n"
+                + "RRULE:FREQ=YEARLY;BYMONTH=3;BYDAY=-1SU\r\n"
+                + "TZOFFSETFROM:+0200\r\n"
+                + "TZOFFSETTO:+0300\r\n"
+                + "END:DAYLIGHT\r\n"));
+        assertTrue(calendar.contains("BEGIN:STANDARD\r\n"
+                + "DTSTART:19701025T040000\r\n"
+                + "RRULE:FREQ=YEARLY;BYMONTH=10;BYDAY=-1SU\r\n"
+                + "TZOFFSETFROM:+0300\r\n"
+                + "TZOFFSETTO:+0200\r\n"
+                + "END:STANDARD\r\n"));
+    }
+
+    @Test
+    void shouldDescribeTimeZoneWithoutTransitions() {
+        calendarWriter = new ICalendarWriter(ZoneId.of("UTC"), LocalDate.of(2021, 9, 1));
+
+        assertTrue(write("Group AB-01").contains("BEGIN:VTIMEZONE\r\n"
+                + "TZID:UTC\r\n"
+                + "BEGIN:STANDARD\r\n"
+                + "DTSTART:19700101T000000\r\n"
+                + "TZOFFSETFROM:+0000\r\n"
+                + "TZOFFSETTO:+0000\r\n"
+                + "END:STANDARD\r\n"
+                + "END:VTIMEZONE\r\n"));
+    }
+
+    @Test
+    void shouldFoldLinesLongerThan75OctetsWithoutSplittingCharacters() {
+        lesson.setName("Історія української культури та мистецтва від найдавніших часів до сьогодення");
+
+        String calendar = write("Group AB-01");
+
+        for (String line : calendar.split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+        }
+        assertFalse(calendar.contains("\uFFFD"));
+        assertTrue(calendar.replace("\r\n ", "").contains("SUMMARY:" + lesson.getName() + "\r\n"));
+    }
+
+    @Test
+    void shouldWriteSameBytesForSameLessonsAndStamp() {
+        assertEquals(write("Group AB-01"), write("Group AB-01"));
+    }
+
+    private String write(String calendarName) {
+        LessonView lessonView = new LessonView(lesson.getId(), lesson.getName(), lesson.getDay(),
+                lesson.getLessonTime().getId(), lesson.getLessonTime().getStartTime(),
+                lesson.getLessonTime().getEndTime(), lesson.getAudience(), lesson.getLecturer().getId(),
+                lesson.getLecturer().getFirstName(), lesson.getLecturer().getLastName(), lesson.getGroup().getId(),
+                lesson.getGroup().getName());
+        return new String(calendarWriter.write(calendarName, new ArrayList<>(Arrays.asList(lessonView)), stamp),
+                StandardCharsets.UTF_8);
+    }
+}
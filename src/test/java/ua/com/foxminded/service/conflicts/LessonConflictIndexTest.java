@@ -0,0 +1,194 @@
+package ua.com.foxminded.service.conflicts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ua.com.foxminded.domain.Faculty;
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.repositories.interfaces.LessonRepository;
+
+class LessonConflictIndexTest {
+    private LessonRepository lessonRepository;
+    private LessonConflictIndex lessonConflictIndex;
+    private LessonTime morningTime;
+    private LessonTime overlappingTime;
+    private LessonTime afternoonTime;
+    private Lesson storedLesson;
+
+    @BeforeEach
+    void init() {
+        lessonRepository = mock(LessonRepository.class);
+        lessonConflictIndex = new LessonConflictIndex(lessonRepository);
+
+        morningTime = createLessonTime(1, LocalTime.of(9, 0), LocalTime.of(10, 30));
+        overlappingTime = createLessonTime(2, LocalTime.of(10, 0), LocalTime.of(11, 30));
+        afternoonTime = createLessonTime(3, LocalTime.of(12, 30), LocalTime.of(14, 0));
+
+        storedLesson = createLesson(1, 1, 1, "101", DayOfWeek.MONDAY, morningTime);
+        when(lessonRepository.findAll()).thenReturn(new ArrayList<>(Arrays.asList(storedLesson)));
+    }
+
+    @Test
+    void shouldFindConflictWhenLecturerIsBusy() {
+        Lesson lesson = createLesson(0, 1, 2, "202", DayOfWeek.MONDAY, overlappingTime);
+
+        List<LessonConflict> expectedConflicts = Arrays.asList(new LessonConflict(ConflictResource.LECTURER, 1,
+                "Lesson-1", DayOfWeek.MONDAY, morningTime.getStartTime(), morningTime.getEndTime()));
+        assertEquals(expectedConflicts, lessonConflictIndex.findConflicts(lesson));
+    }
+
+    @Test
+    void shouldFindConflictsForEveryBusyResource() {
+        Lesson lesson = createLesson(0, 1, 1, " 101 ", DayOfWeek.MONDAY, morningTime);
+
+        List<LessonConflict> conflicts = lessonConflictIndex.findConflicts(lesson);
+
+        assertEquals(3, conflicts.size());
+        assertEquals(ConflictResource.LECTURER, conflicts.get(0).getResource());
+        assertEquals(ConflictResource.GROUP, conflicts.get(1).getResource());
+        assertEquals(ConflictResource.AUDIENCE, conflicts.get(2).getResource());
+    }
+
+    @Test
+    void shouldNotFindConflictsWhenTimeOrDayIsDifferent() {
+        assertTrue(lessonConflictIndex.findConflicts(createLesson(0, 1, 1, "101", DayOfWeek.MONDAY, afternoonTime))
+                .isEmpty());
+        assertTrue(lessonConflictIndex.findConflicts(createLesson(0, 1, 1, "101", DayOfWeek.TUESDAY, morningTime))
+                .isEmpty());
+    }
+
+    @Test
+    void shouldNotReportLessonAsConflictWithItself() {
+        Lesson updatedLesson = createLesson(1, 1, 1, "101", DayOfWeek.MONDAY, overlappingTime);
+
+        assertTrue(lessonConflictIndex.findConflicts(updatedLesson).isEmpty());
+    }
+
+    @Test
+    void shouldUpdateIndexIncrementallyWhenLessonsAreSaved() {
+        Lesson lesson = createLesson(2, 2, 2, "202", DayOfWeek.FRIDAY, afternoonTime);
+        Lesson candidate = createLesson(0, 2, 3, "303", DayOfWeek.FRIDAY, afternoonTime);
+        lessonConflictIndex.findConflicts(candidate);
+
+        lessonConflictIndex.put(lesson);
+        assertEquals(1, lessonConflictIndex.findConflicts(candidate).size());
+
+        lessonConflictIndex.remove(lesson.getId());
+        assertTrue(lessonConflictIndex.findConflicts(candidate).isEmpty());
+        verify(lessonRepository, times(1)).findAll();
+    }
+
+    @Test
+    void shouldMoveLessonsWhenLessonTimeIsUpdated() {
+        Lesson candidate = createLesson(0, 1, 2, "202", DayOfWeek.MONDAY, afternoonTime);
+        assertTrue(lessonConflictIndex.findConflicts(candidate).isEmpty());
+
+        lessonConflictIndex.updateLessonTime(createLessonTime(morningTime.getId(), LocalTime.of(13, 0),
+                LocalTime.of(14, 30)));
+
+        assertEquals(1, lessonConflictIndex.findConflicts(candidate).size());
+    }
+
+    @Test
+    void shouldFindConflictsOfLessonsAtUpdatedLessonTime() {
+        when(lessonRepository.findAll()).thenReturn(new ArrayList<>(Arrays.asList(storedLesson,
+                createLesson(2, 1, 2, "202", DayOfWeek.MONDAY, afternoonTime))));
+
+        List<LessonConflict> expectedConflicts = Arrays.asList(new LessonConflict(ConflictResource.LECTURER, 2,
+                "Lesson-2", DayOfWeek.MONDAY, afternoonTime.getStartTime(), afternoonTime.getEndTime()));
+        assertEquals(expectedConflicts, lessonConflictIndex.findConflicts(createLessonTime(morningTime.getId(),
+                LocalTime.of(13, 0), LocalTime.of(14, 30))));
+    }
+
+    @Test
+    void shouldNotCheckLessonsOfUpdatedLessonTimeAgainstEachOther() {
+        when(lessonRepository.findAll()).thenReturn(new ArrayList<>(Arrays.asList(storedLesson,
+                createLesson(2, 1, 2, "202", DayOfWeek.MONDAY, morningTime))));
+
+        assertTrue(lessonConflictIndex.findConflicts(createLessonTime(morningTime.getId(), LocalTime.of(10, 0),
+                LocalTime.of(11, 30))).isEmpty());
+    }
+
+    @Test
+    void shouldRemoveLessonsOfDeletedGroup() {
+        Lesson candidate = createLesson(0, 1, 1, "101", DayOfWeek.MONDAY, morningTime);
+        assertEquals(3, lessonConflictIndex.findConflicts(candidate).size());
+
+        lessonConflictIndex.removeLessonsOfGroup(1);
+
+        assertTrue(lessonConflictIndex.findConflicts(candidate).isEmpty());
+    }
+
+    @Test
+    void shouldCheckConflictsQuicklyWhenThereAreManyLessons() {
+        List<Lesson> lessons = new ArrayList<>();
+        List<LessonTime> lessonTimes = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            LocalTime startTime = LocalTime.of(8, 0).plusMinutes(90L * i);
+            lessonTimes.add(createLessonTime(i + 1, startTime, startTime.plusMinutes(80)));
+        }
+
+        int lessonsCount = 100_000;
+        for (int i = 1; i <= lessonsCount; i++) {
+            int slot = i % 40;
+            lessons.add(createLesson(i, i % 2500 + 1, i / 40 + 1, "A-" + (i / 40), DayOfWeek.of(slot / 8 + 1),
+                    lessonTimes.get(slot % 8)));
+        }
+        when(lessonRepository.findAll()).thenReturn(lessons);
+        assertEquals(lessonsCount, lessonConflictIndex.size());
+
+        int checksCount = 10_000;
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < checksCount; i++) {
+            lessonConflictIndex.findConflicts(lessons.get(i * 10));
+        }
+        long averageNanos = (System.nanoTime() - startNanos) / checksCount;
+
+        assertTrue(averageNanos < 1_000_000, "A conflict check took " + averageNanos + " ns.");
+    }
+
+    private LessonTime createLessonTime(int id, LocalTime startTime, LocalTime endTime) {
+        LessonTime lessonTime = new LessonTime();
+        lessonTime.setId(id);
+        lessonTime.setStartTime(startTime);
+        lessonTime.setEndTime(endTime);
+        return lessonTime;
+    }
+
+    private Lesson createLesson(int id, int lecturerId, int groupId, String audience, DayOfWeek day,
+            LessonTime lessonTime) {
+        Lecturer lecturer = new Lecturer();
+        lecturer.setId(lecturerId);
+        Faculty faculty = new Faculty();
+        faculty.setId(1);
+        Group group = new Group();
+        group.setId(groupId);
+        group.setFaculty(faculty);
+
+        Lesson lesson = new Lesson();
+        lesson.setId(id);
+        lesson.setName("Lesson-" + id);
+        lesson.setLecturer(lecturer);
+        lesson.setGroup(group);
+        lesson.setAudience(audience);
+        lesson.setDay(day);
+        lesson.setLessonTime(lessonTime);
+        return lesson;
+    }
+}
@@ -0,0 +1,148 @@
+package ua.com.foxminded.service.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.service.cache.ScheduleOwner;
+
+class ScheduleChangeTopicTest {
+    private List<Runnable> tasks;
+    private ScheduleChangeTopic scheduleChangeTopic;
+    private Lesson lesson;
+
+    @BeforeEach
+    void init() {
+        tasks = new ArrayList<>();
+        scheduleChangeTopic = new ScheduleChangeTopic(tasks::add, 2);
+        lesson = new Lesson();
+        lesson.setId(1);
+    }
+
+    @Test
+    void shouldSendChangesOnlyToSubscribersOfTheSchedule() {
+        RecordingSubscriber groupSubscriber = new RecordingSubscriber();
+        RecordingSubscriber otherGroupSubscriber = new RecordingSubscriber();
+        RecordingSubscriber lecturerSubscriber = new RecordingSubscriber();
+        scheduleChangeTopic.subscribe(ScheduleOwner.GROUP, 1, groupSubscriber);
+        scheduleChangeTopic.subscribe(ScheduleOwner.GROUP, 2, otherGroupSubscriber);
+        scheduleChangeTopic.subscribe(ScheduleOwner.LECTURER, 1, lecturerSubscriber);
+
+        scheduleChangeTopic.publish(ScheduleOwner.GROUP, 1, ScheduleChange.created(lesson));
+        scheduleChangeTopic.publish(ScheduleOwner.GROUP, 1, ScheduleChange.deleted(1));
+        runTasks();
+
+        assertEquals(Arrays.asList(ScheduleChange.created(lesson), ScheduleChange.deleted(1)), groupSubscriber.changes);
+        assertTrue(otherGroupSubscriber.changes.isEmpty());
+        assertTrue(lecturerSubscriber.changes.isEmpty());
+    }
+
+    @Test
+    void shouldDrainQueueOfSubscriberByOneTask() {
+        scheduleChangeTopic.subscribe(ScheduleOwner.GROUP, 1, new RecordingSubscriber());
+
+        scheduleChangeTopic.publish(ScheduleOwner.GROUP, 1, ScheduleChange.created(lesson));
+        scheduleChangeTopic.publish(ScheduleOwner.GROUP, 1, ScheduleChange.updated(lesson));
+
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    void shouldDropSubscriberWhenItsQueueIsFull() {
+        RecordingSubscriber slowSubscriber = new RecordingSubscriber();
+        ScheduleSubscription subscription = scheduleChangeTopic.subscribe(ScheduleOwner.LECTURER, 3, slowSubscriber);
+
+        for (int i = 0; i < 3; i++) {
+            scheduleChangeTopic.publish(ScheduleOwner.LECTURER, 3, ScheduleChange.removed(i));
+        }
+        runTasks();
+
+        assertTrue(subscription.isCancelled());
+        assertEquals(1, slowSubscriber.droppings);
+        assertTrue(slowSubscriber.changes.isEmpty());
+        assertEquals(0, scheduleChangeTopic.getSubscriberCount());
+    }
+
+    @Test
+    void shouldDropSubscriberWhenItFailsToTakeChange() {
+        RecordingSubscriber brokenSubscriber = new RecordingSubscriber();
+        brokenSubscriber.broken = true;
+        scheduleChangeTopic.subscribe(ScheduleOwner.GROUP, 1, brokenSubscriber);
+
+        scheduleChangeTopic.publish(ScheduleOwner.GROUP, 1, ScheduleChange.created(lesson));
+        runTasks();
+
+        assertEquals(1, brokenSubscriber.droppings);
+        assertEquals(0, scheduleChangeTopic.getSubscriberCount());
+    }
+
+    @Test
+    void shouldSendNothingWhenSubscriptionIsCancelled() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        ScheduleSubscription subscription = scheduleChangeTopic.subscribe(ScheduleOwner.GROUP, 1, subscriber);
+
+        scheduleChangeTopic.publish(ScheduleOwner.GROUP, 1, ScheduleChange.created(lesson));
+        subscription.cancel();
+        runTasks();
+
+        assertTrue(subscriber.changes.isEmpty());
+        assertEquals(0, subscriber.droppings);
+        assertEquals(0, scheduleChangeTopic.getSubscriberCount());
+    }
+
+    @Test
+    void shouldSendHeartbeatsToIdleSubscribers() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        scheduleChangeTopic.subscribe(ScheduleOwner.LECTURER, 2, subscriber);
+
+        scheduleChangeTopic.sendHeartbeats();
+        runTasks();
+
+        assertEquals(1, subscriber.heartbeats);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenQueueCapacityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ScheduleChangeTopic(Runnable::run, 0));
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static class RecordingSubscriber implements ScheduleSubscriber {
+        private final List<ScheduleChange> changes = new ArrayList<>();
+        private int heartbeats;
+        private int droppings;
+        private boolean broken;
+
+        @Override
+        public void onChange(ScheduleChange change) throws IOException {
+            if (broken) {
+                throw new IOException("A connection is closed.");
+            }
+            changes.add(change);
+        }
+
+        @Override
+        public void onHeartbeat() {
+            heartbeats++;
+        }
+
+        @Override
+        public void onDropped() {
+            droppings++;
+        }
+    }
+}
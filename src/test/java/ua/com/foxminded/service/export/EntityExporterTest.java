@@ -0,0 +1,121 @@
+package ua.com.foxminded.service.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.Student;
+import ua.com.foxminded.logging.WarningRateLimiter;
+import ua.com.foxminded.repositories.aspects.GeneralRepositoryAspect;
+import ua.com.foxminded.service.aspects.EntityExporterAspect;
+import ua.com.foxminded.service.exceptions.ServiceException;
+import ua.com.foxminded.tracing.SpanRecorder;
+
+@DataJpaTest
+@Import({AopAutoConfiguration.class, EntityExporter.class, EntityExporterAspect.class, GeneralRepositoryAspect.class,
+        WarningRateLimiter.class, SpanRecorder.class})
+@TestPropertySource("/application-test.properties")
+@DirtiesContext(classMode = ClassMode.BEFORE_EACH_TEST_METHOD)
+class EntityExporterTest {
+    private final String testData = "/Test data.sql";
+
+    private ListAppender<ILoggingEvent> testAppender;
+
+    @Autowired
+    private EntityExporterAspect entityExporterAspect;
+
+    @Autowired
+    private EntityExporter entityExporter;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @BeforeEach
+    void setUp() {
+        Logger logger = (Logger) ReflectionTestUtils.getField(entityExporterAspect, "logger");
+        testAppender = new ListAppender<>();
+        testAppender.setContext((LoggerContext) LoggerFactory.getILoggerFactory());
+        testAppender.start();
+        logger.addAppender(testAppender);
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldExportStudentsOrderedByIdAndDetachThem() {
+        List<Student> students = new ArrayList<>();
+
+        long count = entityExporter.exportStudents(students::add);
+
+        assertEquals(3, count);
+        List<Integer> ids = new ArrayList<>();
+        for (Student student : students) {
+            ids.add(student.getId());
+            assertFalse(testEntityManager.getEntityManager().contains(student));
+        }
+        assertEquals(new ArrayList<>(Arrays.asList(1, 2, 3)), ids);
+        assertEquals("Daria", students.get(0).getFirstName());
+        assertEquals(1, students.get(0).getGroup().getId());
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldExportLessonsWithTheirAssociations() {
+        List<Lesson> lessons = new ArrayList<>();
+
+        assertEquals(4, entityExporter.exportLessons(lessons::add));
+        for (Lesson lesson : lessons) {
+            assertTrue(lesson.getGroup().getFaculty() != null && lesson.getLecturer() != null
+                    && lesson.getLessonTime() != null);
+        }
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldExportLecturers() {
+        assertEquals(3, entityExporter.exportLecturers(lecturer -> {
+        }));
+    }
+
+    @Test
+    void shouldLogWarningWhenThereAreNotAnyObjectsWhileExport() {
+        assertEquals(0, entityExporter.exportStudents(student -> {
+        }));
+
+        ILoggingEvent event = testAppender.list.get(testAppender.list.size() - 1);
+        assertEquals(Level.WARN, event.getLevel());
+        assertEquals("There are not any objects when exportStudents.", event.getFormattedMessage());
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenConsumerIsNullWhileExport() {
+        RuntimeException exception = assertThrows(ServiceException.class, () -> entityExporter.exportLessons(null));
+
+        String message = "A given consumer isn't legal when export.";
+        assertEquals(message, exception.getMessage());
+    }
+}
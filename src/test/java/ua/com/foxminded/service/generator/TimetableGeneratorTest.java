@@ -0,0 +1,272 @@
+package ua.com.foxminded.service.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.web.WebAppConfiguration;
+
+import ua.com.foxminded.domain.Faculty;
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonTime;
+import ua.com.foxminded.repositories.interfaces.LessonRepository;
+import ua.com.foxminded.service.conflicts.LessonConflictIndex;
+import ua.com.foxminded.service.exceptions.ServiceException;
+import ua.com.foxminded.settings.SpringTestConfiguration;
+
+@ExtendWith(SpringExtension.class)
+@WebAppConfiguration
+@ContextConfiguration(classes = SpringTestConfiguration.class)
+class TimetableGeneratorTest {
+
+    @Autowired
+    private TimetableGenerator timetableGenerator;
+
+    private List<LessonTime> lessonTimes;
+    private List<String> audiences;
+
+    @BeforeEach
+    void init() {
+        lessonTimes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            lessonTimes.add(createLessonTime(i + 1, LocalTime.of(9 + 2 * i, 0), LocalTime.of(10 + 2 * i, 30)));
+        }
+        audiences = new ArrayList<>(Arrays.asList("101", "102"));
+    }
+
+    @Test
+    void shouldPlaceEveryLessonWithoutConflicts() {
+        Lecturer lecturer1 = createLecturer(1);
+        Lecturer lecturer2 = createLecturer(2);
+        List<CurriculumItem> curriculum = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Group group = createGroup(i);
+            curriculum.add(new CurriculumItem(group, lecturer1, "Math", 2));
+            curriculum.add(new CurriculumItem(group, lecturer2, "Music", 1));
+        }
+        TimetableDemand demand = new TimetableDemand(curriculum, lessonTimes,
+                new ArrayList<>(Arrays.asList(DayOfWeek.MONDAY, DayOfWeek.TUESDAY)), audiences);
+
+        GeneratedTimetable timetable = timetableGenerator.generate(demand, Duration.ofMillis(500));
+
+        assertEquals(9, timetable.getLessons().size());
+        assertTrue(timetable.getUnplacedItems().isEmpty());
+        assertEquals(0, countConflicts(timetable.getLessons()));
+    }
+
+    @Test
+    void shouldNotPlaceLessonsOnDaysOff() {
+        List<CurriculumItem> curriculum = new ArrayList<>(
+                Arrays.asList(new CurriculumItem(createGroup(1), createLecturer(1), "Math", 3)));
+        TimetableDemand demand = new TimetableDemand(curriculum, lessonTimes,
+                new ArrayList<>(Arrays.asList(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY)), audiences);
+
+        GeneratedTimetable timetable = timetableGenerator.generate(demand, Duration.ofMillis(200));
+
+        assertEquals(3, timetable.getLessons().size());
+        for (Lesson lesson : timetable.getLessons()) {
+            assertEquals(DayOfWeek.SATURDAY, lesson.getDay());
+        }
+    }
+
+    @Test
+    void shouldPlaceLessonsOfGroupWithoutGaps() {
+        Group group = createGroup(1);
+        List<CurriculumItem> curriculum = new ArrayList<>(Arrays.asList(
+                new CurriculumItem(group, createLecturer(1), "Math", 2),
+                new CurriculumItem(group, createLecturer(2), "Music", 1)));
+        TimetableDemand demand = new TimetableDemand(curriculum, lessonTimes,
+                new ArrayList<>(Arrays.asList(DayOfWeek.MONDAY)), audiences);
+
+        GeneratedTimetable timetable = timetableGenerator.generate(demand, Duration.ofMillis(500));
+
+        assertEquals(0, timetable.getGaps());
+        Set<Integer> lessonTimeIds = new HashSet<>();
+        for (Lesson lesson : timetable.getLessons()) {
+            lessonTimeIds.add(lesson.getLessonTime().getId());
+        }
+        int firstId = lessonTimeIds.stream().min(Integer::compare).get();
+        assertEquals(new HashSet<>(Arrays.asList(firstId, firstId + 1, firstId + 2)), lessonTimeIds);
+    }
+
+    @Test
+    void shouldReturnUnplacedItemsWhenGroupHasNoFreeTime() {
+        CurriculumItem item = new CurriculumItem(createGroup(1), createLecturer(1), "Math", 5);
+        TimetableDemand demand = new TimetableDemand(new ArrayList<>(Arrays.asList(item)), lessonTimes,
+                new ArrayList<>(Arrays.asList(DayOfWeek.MONDAY)), audiences);
+
+        GeneratedTimetable timetable = timetableGenerator.generate(demand, Duration.ofMillis(200));
+
+        assertEquals(4, timetable.getLessons().size());
+        assertEquals(new ArrayList<>(Arrays.asList(item)), timetable.getUnplacedItems());
+        assertEquals(0, countConflicts(timetable.getLessons()));
+    }
+
+    @Test
+    void shouldReportProgressWhenGenerationIsFinished() {
+        CurriculumItem item = new CurriculumItem(createGroup(1), createLecturer(1), "Math", 5);
+        TimetableDemand demand = new TimetableDemand(new ArrayList<>(Arrays.asList(item)), lessonTimes,
+                new ArrayList<>(Arrays.asList(DayOfWeek.MONDAY)), audiences);
+        List<GenerationProgress> reports = new ArrayList<>();
+
+        timetableGenerator.generate(demand, Duration.ofMillis(1200), reports::add);
+
+        GenerationProgress lastReport = reports.get(reports.size() - 1);
+        assertTrue(reports.size() > 1);
+        assertTrue(lastReport.isFinished());
+        assertEquals(1, lastReport.getUnplacedLessons());
+        assertTrue(lastReport.getIterations() > 0);
+    }
+
+    @Test
+    void shouldNotBookSameAudienceTwiceWhenItsNameIsRepeated() {
+        List<CurriculumItem> curriculum = new ArrayList<>(Arrays.asList(
+                new CurriculumItem(createGroup(1), createLecturer(1), "Math", 1),
+                new CurriculumItem(createGroup(2), createLecturer(2), "Music", 1)));
+        TimetableDemand demand = new TimetableDemand(curriculum, lessonTimes.subList(0, 1),
+                new ArrayList<>(Arrays.asList(DayOfWeek.MONDAY)),
+                new ArrayList<>(Arrays.asList("A101", "A101", " A101 ")));
+
+        GeneratedTimetable timetable = timetableGenerator.generate(demand, Duration.ofMillis(200));
+
+        assertEquals(1, timetable.getLessons().size());
+        assertEquals(1, timetable.getUnplacedItems().size());
+        assertEquals("A101", timetable.getLessons().get(0).getAudience());
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenTimeBudgetIsTooLong() {
+        List<CurriculumItem> curriculum = new ArrayList<>(
+                Arrays.asList(new CurriculumItem(createGroup(1), createLecturer(1), "Math", 1)));
+        TimetableDemand demand = new TimetableDemand(curriculum, lessonTimes,
+                new ArrayList<>(Arrays.asList(DayOfWeek.MONDAY)), audiences);
+
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> timetableGenerator.generate(demand, Duration.ofDays(1)));
+
+        assertEquals("A given demand isn't legal when generate a timetable.", exception.getMessage());
+        assertEquals(IllegalArgumentException.class, exception.getException().getClass());
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenCurriculumIsEmpty() {
+        TimetableDemand demand = new TimetableDemand(new ArrayList<>(), lessonTimes,
+                new ArrayList<>(Arrays.asList(DayOfWeek.MONDAY)), audiences);
+
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> timetableGenerator.generate(demand, Duration.ofMillis(200)));
+
+        assertEquals("A given demand isn't legal when generate a timetable.", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowServiceExceptionWhenThereAreOnlyDaysOff() {
+        List<CurriculumItem> curriculum = new ArrayList<>(
+                Arrays.asList(new CurriculumItem(createGroup(1), createLecturer(1), "Math", 1)));
+        TimetableDemand demand = new TimetableDemand(curriculum, lessonTimes,
+                new ArrayList<>(Arrays.asList(DayOfWeek.SUNDAY)), audiences);
+
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> timetableGenerator.generate(demand, Duration.ofMillis(200)));
+
+        assertEquals("A given demand isn't legal when generate a timetable.", exception.getMessage());
+    }
+
+    /**
+     * A synthetic university: 200 groups of 10 faculties, 20 lessons a week
+     * for every group, 200 lecturers and 150 audiences, 5 days of 6 lesson
+     * times.
+     */
+    @Test
+    void shouldGenerateTimetableForTwoHundredGroupsWithinTimeBudget() {
+        List<LessonTime> dayTimes = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            dayTimes.add(createLessonTime(i + 1, LocalTime.of(8, 0).plusMinutes(95L * i),
+                    LocalTime.of(9, 20).plusMinutes(95L * i)));
+        }
+        List<String> universityAudiences = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            universityAudiences.add(Integer.toString(100 + i));
+        }
+        List<Lecturer> lecturers = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            lecturers.add(createLecturer(i));
+        }
+        List<CurriculumItem> curriculum = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            Group group = createGroup(i);
+            group.getFaculty().setId(i % 10 + 1);
+
+            for (int subject = 0; subject < 10; subject++) {
+                Lecturer lecturer = lecturers.get((i * 7 + subject * 31) % lecturers.size());
+                curriculum.add(new CurriculumItem(group, lecturer, "Subject-" + subject, 2));
+            }
+        }
+        TimetableDemand demand = new TimetableDemand(curriculum, dayTimes,
+                new ArrayList<>(EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)), universityAudiences);
+
+        long startTime = System.nanoTime();
+        GeneratedTimetable timetable = timetableGenerator.generate(demand, Duration.ofSeconds(3));
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        LoggerFactory.getLogger(TimetableGeneratorTest.class).info(
+                "200 groups: {} lessons, {} unplaced, {} gaps, {} moves in {} ms.", timetable.getLessons().size(),
+                timetable.getUnplacedItems().size(), timetable.getGaps(), timetable.getIterations(), elapsedMillis);
+        assertEquals(4000, timetable.getLessons().size());
+        assertEquals(0, countConflicts(timetable.getLessons()));
+        assertTrue(elapsedMillis < 5000);
+    }
+
+    private int countConflicts(List<Lesson> lessons) {
+        LessonConflictIndex lessonConflictIndex = new LessonConflictIndex(mock(LessonRepository.class));
+        return lessonConflictIndex.findConflicts(lessons).size();
+    }
+
+    private LessonTime createLessonTime(int id, LocalTime startTime, LocalTime endTime) {
+        LessonTime lessonTime = new LessonTime();
+        lessonTime.setId(id);
+        lessonTime.setStartTime(startTime);
+        lessonTime.setEndTime(endTime);
+        return lessonTime;
+    }
+
+    private Group createGroup(int id) {
+        Faculty faculty = new Faculty();
+        faculty.setId(1);
+        faculty.setName("Faculty-1");
+
+        Group group = new Group();
+        group.setId(id);
+        group.setName("Group-" + id);
+        group.setFaculty(faculty);
+        return group;
+    }
+
+    private Lecturer createLecturer(int id) {
+        Lecturer lecturer = new Lecturer();
+        lecturer.setId(id);
+        lecturer.setFirstName("Lecturer");
+        lecturer.setLastName("Number-" + id);
+        return lecturer;
+    }
+}
@@ -0,0 +1,132 @@
+package ua.com.foxminded.service.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.validation.ConstraintViolation;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import ua.com.foxminded.domain.Faculty;
+import ua.com.foxminded.domain.Group;
+import ua.com.foxminded.domain.Lecturer;
+import ua.com.foxminded.domain.Lesson;
+import ua.com.foxminded.domain.LessonTime;
+
+@DataJpaTest
+@Import({ValidationAutoConfiguration.class, EntityValidator.class})
+@TestPropertySource("/application-test.properties")
+@DirtiesContext(classMode = ClassMode.BEFORE_EACH_TEST_METHOD)
+class EntityValidatorTest {
+    private final String testData = "/Test data.sql";
+    private final String groupNameMessage = "Group name must have at least two symbols and start with non-white space";
+
+    @Autowired
+    private EntityValidator entityValidator;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Test
+    @Sql(testData)
+    void shouldValidateLessonWithManagedReferences() {
+        Lesson lesson = createLesson(testEntityManager.find(Group.class, 1));
+
+        assertTrue(entityValidator.validate(lesson).isEmpty());
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldCascadeIntoNewReferences() {
+        Group group = new Group();
+        group.setName("x");
+        group.setFaculty(testEntityManager.find(Faculty.class, 1));
+        Lesson lesson = createLesson(group);
+
+        assertEquals(Arrays.asList(groupNameMessage), messagesOf(entityValidator.validate(lesson)));
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldNotCascadeIntoManagedAndUnchangedReferences() {
+        testEntityManager.getEntityManager().createNativeQuery("UPDATE groups SET name = 'x' WHERE id = 1")
+                .executeUpdate();
+        testEntityManager.clear();
+        Lesson lesson = createLesson(testEntityManager.find(Group.class, 1));
+
+        assertTrue(entityValidator.validate(lesson).isEmpty());
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldCascadeIntoChangedManagedReferences() {
+        Group group = testEntityManager.find(Group.class, 1);
+        group.setName("x");
+        Lesson lesson = createLesson(group);
+
+        assertEquals(Arrays.asList(groupNameMessage), messagesOf(entityValidator.validate(lesson)));
+    }
+
+    @Test
+    @Sql(testData)
+    void shouldValidateAllLessonsAndReportSharedReferenceOnce() {
+        Group group = new Group();
+        group.setName("x");
+        group.setFaculty(testEntityManager.find(Faculty.class, 1));
+        Lesson firstLesson = createLesson(group);
+        Lesson secondLesson = createLesson(testEntityManager.find(Group.class, 2));
+        Lesson thirdLesson = createLesson(group);
+        thirdLesson.setName(null);
+
+        Map<Integer, Set<ConstraintViolation<Lesson>>> violations = entityValidator
+                .validateAll(Arrays.asList(firstLesson, secondLesson, thirdLesson));
+
+        assertEquals(Arrays.asList(0, 2), violations.keySet().stream().collect(Collectors.toList()));
+        assertEquals(Arrays.asList(groupNameMessage), messagesOf(violations.get(0)));
+        assertEquals(Arrays.asList("Lesson name can't be null"), messagesOf(violations.get(2)));
+    }
+
+    @Test
+    void shouldJoinMessagesOfViolations() {
+        Lesson lesson = new Lesson();
+        lesson.setName("Music");
+        lesson.setAudience("101");
+        lesson.setDay(DayOfWeek.MONDAY);
+
+        Set<ConstraintViolation<Lesson>> violations = entityValidator.validate(lesson);
+
+        assertEquals(3, violations.size());
+        assertEquals(3, EntityValidator.messagesOf(violations).toString().split("; ").length);
+    }
+
+    private Lesson createLesson(Group group) {
+        Lesson lesson = new Lesson();
+        lesson.setName("Music");
+        lesson.setLecturer(testEntityManager.find(Lecturer.class, 4));
+        lesson.setGroup(group);
+        lesson.setAudience("101");
+        lesson.setDay(DayOfWeek.MONDAY);
+        lesson.setLessonTime(testEntityManager.find(LessonTime.class, 1));
+        return lesson;
+    }
+
+    private List<String> messagesOf(Set<ConstraintViolation<Lesson>> violations) {
+        return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,71 @@
+package ua.com.foxminded.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SpanRecorderTest {
+
+    @Test
+    void shouldRoundCapacityUpToPowerOfTwo() {
+        assertEquals(8, new SpanRecorder(5).getCapacity());
+        assertEquals(8, new SpanRecorder(8).getCapacity());
+    }
+
+    @Test
+    void shouldGetLastSpansNewestFirst() {
+        SpanRecorder spanRecorder = new SpanRecorder(4);
+
+        spanRecorder.record("GroupRepository.findById", 1000, null);
+        spanRecorder.record("LecturerRepository.findById", 2000, new IllegalStateException());
+
+        List<Span> spans = spanRecorder.getLastSpans(10);
+
+        assertEquals(2, spans.size());
+        assertEquals(1, spans.get(0).getSequence());
+        assertEquals("LecturerRepository.findById", spans.get(0).getOperation());
+        assertEquals(2000, spans.get(0).getDurationNanos());
+        assertEquals("IllegalStateException", spans.get(0).getError());
+        assertEquals(Thread.currentThread().getName(), spans.get(0).getThread());
+        assertNull(spans.get(1).getError());
+    }
+
+    @Test
+    void shouldOverwriteOldestSpansWhenBufferIsFull() {
+        SpanRecorder spanRecorder = new SpanRecorder(4);
+
+        for (int i = 0; i < 6; i++) {
+            spanRecorder.record("GroupRepository.findById", i, null);
+        }
+
+        List<Span> spans = spanRecorder.getLastSpans(10);
+
+        assertEquals(6, spanRecorder.getRecordedCount());
+        assertEquals(4, spans.size());
+        assertEquals(5, spans.get(0).getSequence());
+        assertEquals(2, spans.get(3).getSequence());
+    }
+
+    @Test
+    void shouldLimitNumberOfSpans() {
+        SpanRecorder spanRecorder = new SpanRecorder(4);
+
+        for (int i = 0; i < 3; i++) {
+            spanRecorder.record("GroupRepository.findById", i, null);
+        }
+
+        List<Span> spans = spanRecorder.getLastSpans(2);
+
+        assertEquals(2, spans.size());
+        assertEquals(2, spans.get(0).getSequence());
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenCapacityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new SpanRecorder(0));
+    }
+}
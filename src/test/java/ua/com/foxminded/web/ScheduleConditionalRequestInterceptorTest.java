@@ -0,0 +1,141 @@
+package ua.com.foxminded.web;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import ua.com.foxminded.api.ScheduleRestController;
+import ua.com.foxminded.controllers.ScheduleController;
+import ua.com.foxminded.domain.LessonView;
+import ua.com.foxminded.service.GroupService;
+import ua.com.foxminded.service.LecturerService;
+import ua.com.foxminded.service.LessonService;
+import ua.com.foxminded.service.LessonTimeService;
+import ua.com.foxminded.service.cache.ScheduleOwner;
+import ua.com.foxminded.service.cache.ScheduleVersion;
+import ua.com.foxminded.service.cache.ScheduleVersions;
+
+@WebMvcTest({ScheduleRestController.class, ScheduleController.class})
+@Import(ScheduleVersions.class)
+class ScheduleConditionalRequestInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ScheduleVersions scheduleVersions;
+
+    @MockBean
+    private LessonService lessonService;
+
+    @MockBean
+    private LecturerService lecturerService;
+
+    @MockBean
+    private GroupService groupService;
+
+    @MockBean
+    private LessonTimeService lessonTimeService;
+
+    @Test
+    void shouldSendValidatorsWithGroupWeekSchedule() throws Exception {
+        when(lessonService.getGroupWeekLessons(1)).thenReturn(new TreeMap<DayOfWeek, List<LessonView>>());
+        ScheduleVersion version = scheduleVersions.get(ScheduleOwner.GROUP, 1);
+
+        mockMvc.perform(get("/week-lessons/find-for-group").queryParam("group-id", "1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, version.getETag()))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andExpect(content().json("{}"));
+
+        verify(lessonService).getGroupWeekLessons(1);
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWithoutServiceCallsWhenETagMatches() throws Exception {
+        ScheduleVersion version = scheduleVersions.get(ScheduleOwner.LECTURER, 2);
+
+        mockMvc.perform(get("/month-lessons/find-for-lecturer").queryParam("lecturer-id", "2")
+                .queryParam("month-value", "2021-10")
+                .header(HttpHeaders.IF_NONE_MATCH, version.getETag()))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, version.getETag()))
+            .andExpect(content().string(""));
+
+        verifyNoInteractions(lessonService);
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWithoutServiceCallsWhenScheduleIsNotModifiedSince() throws Exception {
+        ScheduleVersion version = scheduleVersions.get(ScheduleOwner.GROUP, 3);
+        String lastModified = DateTimeFormatter.RFC_1123_DATE_TIME
+                .format(Instant.ofEpochMilli(version.getLastModified()).plusSeconds(1).atOffset(ZoneOffset.UTC));
+
+        mockMvc.perform(get("/week-lessons/find-for-group").queryParam("group-id", "3")
+                .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+            .andExpect(status().isNotModified());
+
+        verifyNoInteractions(lessonService);
+    }
+
+    @Test
+    void shouldSendScheduleWhenItWasChangedAfterETag() throws Exception {
+        when(lessonService.getGroupWeekLessons(4)).thenReturn(new TreeMap<DayOfWeek, List<LessonView>>());
+        ScheduleVersion version = scheduleVersions.get(ScheduleOwner.GROUP, 4);
+        scheduleVersions.touchOwner(ScheduleOwner.GROUP, 4);
+
+        mockMvc.perform(get("/week-lessons/find-for-group").queryParam("group-id", "4")
+                .header(HttpHeaders.IF_NONE_MATCH, version.getETag()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, scheduleVersions.get(ScheduleOwner.GROUP, 4).getETag()));
+
+        verify(lessonService).getGroupWeekLessons(4);
+    }
+
+    @Test
+    void shouldSendScheduleWhenItWasChangedInSameSecondAsLastModified() throws Exception {
+        when(lessonService.getGroupWeekLessons(6)).thenReturn(new TreeMap<DayOfWeek, List<LessonView>>());
+        scheduleVersions.touchOwner(ScheduleOwner.GROUP, 6);
+        String lastModified = DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant
+                .ofEpochMilli(scheduleVersions.get(ScheduleOwner.GROUP, 6).getLastModified()).atOffset(ZoneOffset.UTC));
+        scheduleVersions.touchOwner(ScheduleOwner.GROUP, 6);
+
+        mockMvc.perform(get("/week-lessons/find-for-group").queryParam("group-id", "6")
+                .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+            .andExpect(status().isOk());
+
+        verify(lessonService).getGroupWeekLessons(6);
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWithoutServiceCallsWhenSchedulePageIsNotChanged() throws Exception {
+        ScheduleVersion version = scheduleVersions.get(ScheduleOwner.LECTURER, 5);
+
+        mockMvc.perform(get("/lessons").queryParam("people-role-radio", "lecturer")
+                .queryParam("lecturer-value", "5")
+                .queryParam("period-radio", "week")
+                .header(HttpHeaders.IF_NONE_MATCH, version.getETag()))
+            .andExpect(status().isNotModified());
+
+        verifyNoInteractions(lecturerService, lessonService);
+    }
+}
@@ -3,5 +3,6 @@ DROP TABLE IF EXISTS
     groups,
     faculties,
     lessons,
-    lesson_times
+    lesson_times,
+    audiences
     CASCADE;
\ No newline at end of file
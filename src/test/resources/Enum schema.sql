@@ -0,0 +1,65 @@
+-- The schema as schema.sql built it before the migrations, with the enum
+-- types written as H2 enum columns, and a few rows in it.
+
+CREATE TABLE faculties (
+    id serial NOT NULL,
+    name character varying NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (name)
+);
+
+CREATE TABLE groups (
+    id serial NOT NULL,
+    name character varying NOT NULL,
+    faculty_id integer,
+    PRIMARY KEY (id),
+    FOREIGN KEY (faculty_id) REFERENCES public.faculties (id) ON DELETE CASCADE,
+    UNIQUE (name)
+);
+
+CREATE TABLE people (
+    id serial NOT NULL,
+    role character varying NOT NULL,
+    first_name character varying NOT NULL,
+    last_name character varying NOT NULL,
+    gender ENUM('MALE', 'FEMALE') NOT NULL,
+    phone_number character varying,
+    email character varying,
+    student_group_id integer,
+    PRIMARY KEY (id),
+    FOREIGN KEY (student_group_id) REFERENCES public.groups (id) ON DELETE CASCADE,
+    UNIQUE (phone_number),
+    UNIQUE (email)
+);
+
+CREATE TABLE lesson_times (
+    id serial NOT NULL,
+    start_time time without time zone NOT NULL,
+    end_time time without time zone NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (start_time, end_time)
+);
+
+CREATE TABLE lessons (
+    id serial NOT NULL,
+    name character varying NOT NULL,
+    lecturer_id integer,
+    group_id integer,
+    audience character varying NOT NULL,
+    week_day ENUM('SUNDAY', 'MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY') NOT NULL,
+    lesson_time_id integer,
+    PRIMARY KEY (id),
+    FOREIGN KEY (lecturer_id) REFERENCES public.people (id) ON DELETE CASCADE,
+    FOREIGN KEY (group_id) REFERENCES public.groups (id) ON DELETE CASCADE,
+    FOREIGN KEY (lesson_time_id) REFERENCES public.lesson_times (id) ON DELETE CASCADE
+);
+
+INSERT INTO faculties (name) VALUES ('TestFaculty1');
+INSERT INTO groups (name, faculty_id) VALUES ('TestGroup1', 1);
+INSERT INTO lesson_times (start_time, end_time) VALUES ('09:00:00', '10:30:00');
+INSERT INTO people (role, first_name, last_name, gender, student_group_id)
+    VALUES ('Student', 'Daria', 'Hrynchuk', 'FEMALE', 1);
+INSERT INTO people (role, first_name, last_name, gender)
+    VALUES ('Lecturer', 'Victor', 'Doroshenko', 'MALE');
+INSERT INTO lessons (name, lecturer_id, group_id, audience, week_day, lesson_time_id)
+    VALUES ('Math', 2, 1, '101', 'MONDAY', 1);
@@ -2,13 +2,17 @@ INSERT INTO faculties (name) VALUES ('TestFaculty1');
 INSERT INTO faculties (name) VALUES ('TestFaculty2');
 INSERT INTO faculties (name) VALUES ('TestFaculty3');
 
-INSERT INTO groups (name, faculty_id) VALUES ('TestGroup1', 1);
-INSERT INTO groups (name, faculty_id) VALUES ('TestGroup2', 2);
-INSERT INTO groups (name, faculty_id) VALUES ('TestGroup3', 1);
+INSERT INTO groups (name, faculty_id, student_count) VALUES ('TestGroup1', 1, 2);
+INSERT INTO groups (name, faculty_id, student_count) VALUES ('TestGroup2', 2, 1);
+INSERT INTO groups (name, faculty_id, student_count) VALUES ('TestGroup3', 1, 0);
 
 INSERT INTO lesson_times (start_time, end_time) VALUES ('09:00:00', '10:30:00');
 INSERT INTO lesson_times (start_time, end_time) VALUES ('10:45:00', '12:15:00');
 INSERT INTO lesson_times (start_time, end_time) VALUES ('12:30:00', '14:00:00');
+
+INSERT INTO audiences (name, capacity) VALUES ('101', 30);
+INSERT INTO audiences (name, capacity) VALUES ('102', 60);
+INSERT INTO audiences (name, capacity) VALUES ('103', 120);
     
 -- Students
 INSERT INTO people (role, first_name, last_name, gender, phone_number, email, student_group_id)